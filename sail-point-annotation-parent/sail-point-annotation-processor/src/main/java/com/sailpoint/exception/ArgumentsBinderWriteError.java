@@ -0,0 +1,25 @@
+package com.sailpoint.exception;
+
+import java.text.MessageFormat;
+
+/**
+ * Exception of writing generated arguments binder source
+ */
+public class ArgumentsBinderWriteError extends AnnotationProcessorException {
+
+    /**
+     * Error message of writing binder source. Parameters:
+     * 0 - arguments container name
+     */
+    private static final String BINDER_WRITE_ERROR = "Arguments binder for container:[{0}] can not be written";
+
+    /**
+     * Constructor with parameters:
+     *
+     * @param containerName - arguments container name
+     * @param cause         - real exception
+     */
+    public ArgumentsBinderWriteError(String containerName, Throwable cause) {
+        super(MessageFormat.format(BINDER_WRITE_ERROR, containerName), cause);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sailpoint.exception;
+
+import java.text.MessageFormat;
+
+/**
+ * Exception of writing generated rule index
+ */
+public class RuleIndexWriteError extends AnnotationProcessorException {
+
+    /**
+     * Error message of writing rule index. Parameters:
+     * 0 - rule index name
+     */
+    private static final String RULE_INDEX_WRITE_ERROR = "Rule index:[{0}] can not be written";
+
+    /**
+     * Constructor with parameters:
+     *
+     * @param indexName - rule index name
+     * @param cause     - real exception
+     */
+    public RuleIndexWriteError(String indexName, Throwable cause) {
+        super(MessageFormat.format(RULE_INDEX_WRITE_ERROR, indexName), cause);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sailpoint.processor;
+
+import com.google.auto.service.AutoService;
+import com.sailpoint.annotation.common.ArgumentsBinder;
+import com.sailpoint.annotation.common.ArgumentsContainer;
+import com.sailpoint.exception.ArgumentsBinderWriteError;
+import com.sailpoint.processor.builder.ArgumentsBinderBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.MessageFormat;
+import java.util.Set;
+
+/**
+ * Generates {@link ArgumentsBinder} implementation for each class marked by {@link ArgumentsContainer}.
+ * Containers which can not be bound (e.g. without constructor with all arguments) are skipped with note.
+ */
+@Slf4j
+@AutoService(Processor.class)
+@SupportedAnnotationTypes("com.sailpoint.annotation.common.ArgumentsContainer")
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public class ArgumentsBinderAnnotationProcessor extends AbstractProcessor {
+
+    /**
+     * Skipped container note message. Parameters:
+     * 0 - arguments container name
+     */
+    public static final String SKIPPED_CONTAINER_MESSAGE = "Arguments binder is not generated for:[{0}]";
+
+    /**
+     * Arguments binder source builder
+     */
+    protected ArgumentsBinderBuilder argumentsBinderBuilder;
+
+    /**
+     * Processing elements with {@link ArgumentsContainer} annotation for generating binders
+     *
+     * @param annotations - all sets of annotations for binder generation
+     * @param roundEnv    - current environment for getting container classes
+     * @return return to complete handling {@link ArgumentsContainer} annotations
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        log.debug("Get all arguments containers");
+        Set<? extends Element> containerElements = roundEnv.getElementsAnnotatedWith(ArgumentsContainer.class);
+        log.debug("Arguments containers count:[{}]", containerElements.size());
+        log.trace("Arguments containers:[{}]", containerElements);
+
+        for (Element containerElement : containerElements) {
+            TypeElement containerType = (TypeElement) containerElement;
+            String containerName = containerType.getQualifiedName().toString();
+            if (!argumentsBinderBuilder.isBindable(containerType)) {
+                log.debug("Container:[{}] can not be bound", containerName);
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        MessageFormat.format(SKIPPED_CONTAINER_MESSAGE, containerName), containerElement);
+                continue;
+            }
+            String packageName = argumentsBinderBuilder.getPackageName(containerType);
+            String binderName = argumentsBinderBuilder.getBinderSimpleName(containerType);
+            String binderQualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+            log.debug("Generate binder:[{}] for container:[{}]", binderQualifiedName, containerName);
+            try (Writer writer = processingEnv.getFiler().createSourceFile(binderQualifiedName, containerElement)
+                    .openWriter()) {
+                writer.write(argumentsBinderBuilder.buildBinderSource(containerType));
+            } catch (IOException ex) {
+                log.debug("Error while writing binder:[{}]", ex.getMessage());
+                throw new ArgumentsBinderWriteError(containerName, ex);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Init arguments binder builder
+     *
+     * @param processingEnv - current environment
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.argumentsBinderBuilder = new ArgumentsBinderBuilder(processingEnv);
+    }
+}
@@ -2,7 +2,10 @@ package com.sailpoint.processor;
 
 import com.google.auto.service.AutoService;
 import com.sailpoint.annotation.Rule;
+import com.sailpoint.annotation.common.RuleIndex;
+import com.sailpoint.exception.RuleIndexWriteError;
 import com.sailpoint.exception.RuleXmlObjectWriteError;
+import com.sailpoint.processor.builder.RuleIndexBuilder;
 import com.sailpoint.processor.builder.SignatureBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
@@ -17,12 +20,26 @@ import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import javax.tools.FileObject;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
+/**
+ * Generates rule xml for each class marked by {@link Rule} and {@link RuleIndex} of all rules which can be created
+ * without reflection. Generated indexes are registered in {@link RuleIndex#SERVICES_FILE}, indexes of existing
+ * services file of output (e.g. of previous incremental build) are kept if their classes are still available.
+ */
 @Slf4j
 @AutoService(Processor.class)
 @SupportedOptions({SailPointAnnotationProcessorDictionary.GENERATION_PATH})
@@ -40,10 +57,24 @@ public class RuleAnnotationProcessor extends AbstractSailPointAnnotationProcesso
      * 2 - rule file name
      */
     public static final String RULE_PATH_XML_GENERATION_PATTERN = "{0}/Rule/{1}";
+    /**
+     * Not indexed rule note message. Parameters:
+     * 0 - rule class name
+     */
+    public static final String NOT_INDEXED_RULE_MESSAGE = "Rule:[{0}] is not added to rule index: "
+            + "it must be public not abstract class with public constructor without parameters";
     /**
      * Signature builder
      */
     protected SignatureBuilder signatureBuilder;
+    /**
+     * Rule index builder
+     */
+    protected RuleIndexBuilder ruleIndexBuilder;
+    /**
+     * Qualified names of rule indexes generated in previous rounds
+     */
+    private final List<String> generatedIndexes = new ArrayList<>();
 
     /**
      * Processing elements with rule annotations for generating rule xml
@@ -54,12 +85,23 @@ public class RuleAnnotationProcessor extends AbstractSailPointAnnotationProcesso
      */
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeRuleIndexServices();
+            return true;
+        }
         log.debug("Get all annotated rules");
         Set<? extends Element> ruleElements = roundEnv.getElementsAnnotatedWith(Rule.class);
         log.debug("Annotated rules count:[{}]", ruleElements.size());
         log.trace("Annotated rules objects:[{}]", ruleElements);
 
+        List<TypeElement> indexedRules = new ArrayList<>();
         for (Element ruleElement : ruleElements) {
+            if (ruleIndexBuilder.isIndexable(ruleElement)) {
+                indexedRules.add((TypeElement) ruleElement);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        MessageFormat.format(NOT_INDEXED_RULE_MESSAGE, ruleElement), ruleElement);
+            }
             log.debug("Start generating rule for class:[{}]", ruleElement.getSimpleName());
             sailpoint.object.Rule rule = new sailpoint.object.Rule();
 
@@ -104,11 +146,90 @@ public class RuleAnnotationProcessor extends AbstractSailPointAnnotationProcesso
                 throw new RuleXmlObjectWriteError(rule.getName(), ex);
             }
         }
+        if (!indexedRules.isEmpty()) {
+            writeRuleIndex(indexedRules);
+        }
         return true;
     }
 
     /**
-     * Init signature builder
+     * Write rule index source for rules of current round. Index is placed to common package of rules, name of index
+     * contains hash of rule sources, so each round and each module gets own index class
+     *
+     * @param indexedRules - rules to index
+     */
+    protected void writeRuleIndex(List<TypeElement> indexedRules) {
+        String packageName = ruleIndexBuilder.getIndexPackage(indexedRules);
+        String indexName = ruleIndexBuilder.getIndexName(indexedRules);
+        String indexQualifiedName = packageName.isEmpty() ? indexName : packageName + "." + indexName;
+        log.debug("Write rule index:[{}] for:[{}] rules", indexQualifiedName, indexedRules.size());
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(indexQualifiedName, indexedRules.toArray(new Element[0])).openWriter()) {
+            writer.write(ruleIndexBuilder.buildIndexSource(packageName, indexName, indexedRules));
+        } catch (IOException ex) {
+            log.debug("Error while writing rule index:[{}]", ex.getMessage());
+            throw new RuleIndexWriteError(indexQualifiedName, ex);
+        }
+        generatedIndexes.add(indexQualifiedName);
+    }
+
+    /**
+     * Write services file with all generated rule indexes and available indexes of existing services file.
+     * Generated indexes are written first, so their rules override rules of existing indexes
+     */
+    protected void writeRuleIndexServices() {
+        if (generatedIndexes.isEmpty()) {
+            log.debug("There are no generated rule indexes");
+            return;
+        }
+        Set<String> indexes = new LinkedHashSet<>(generatedIndexes);
+        indexes.addAll(readExistingIndexes());
+        log.debug("Write rule index services:[{}]", indexes);
+        try (Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", RuleIndex.SERVICES_FILE).openWriter()) {
+            for (String index : indexes) {
+                writer.write(index);
+                writer.write(System.lineSeparator());
+            }
+        } catch (IOException ex) {
+            log.debug("Error while writing rule index services:[{}]", ex.getMessage());
+            throw new RuleIndexWriteError(RuleIndex.SERVICES_FILE, ex);
+        }
+    }
+
+    /**
+     * Read indexes of existing services file of output. Indexes which classes are not available are skipped
+     *
+     * @return available existing indexes or empty list if there is no services file
+     */
+    protected List<String> readExistingIndexes() {
+        List<String> existingIndexes = new ArrayList<>();
+        try {
+            FileObject servicesFile = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", RuleIndex.SERVICES_FILE);
+            try (Reader reader = servicesFile.openReader(true);
+                 BufferedReader bufferedReader = new BufferedReader(reader)) {
+                String line;
+                while ((line = bufferedReader.readLine()) != null) {
+                    String index = line.trim();
+                    if (index.isEmpty() || index.startsWith("#")) {
+                        continue;
+                    }
+                    if (processingEnv.getElementUtils().getTypeElement(index) == null) {
+                        log.debug("Existing rule index:[{}] is not available", index);
+                    } else {
+                        existingIndexes.add(index);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            log.debug("There is no existing rule index services:[{}]", ex.getMessage());
+        }
+        return existingIndexes;
+    }
+
+    /**
+     * Init signature and rule index builders
      *
      * @param processingEnv - current environment
      */
@@ -116,5 +237,6 @@ public class RuleAnnotationProcessor extends AbstractSailPointAnnotationProcesso
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
         this.signatureBuilder = new SignatureBuilder(javaDocsStorageProvider, processingEnv);
+        this.ruleIndexBuilder = new RuleIndexBuilder(processingEnv);
     }
 }
@@ -0,0 +1,398 @@
+package com.sailpoint.processor.builder;
+
+import com.sailpoint.annotation.common.Argument;
+import com.sailpoint.annotation.common.ArgumentsBinder;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.tools.Util;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class for building source code of {@link ArgumentsBinder} implementation for arguments container.
+ * Generated binder fills container in one pass over arguments map, without builder and optional instances.
+ * Container is created via constructor with all arguments (e.g. lombok builder constructor), so generated binder is
+ * placed to the same package as container. For mutable container binder also refills existing instance via setters,
+ * for immutable container refill binds new instance.
+ */
+@Slf4j
+public class ArgumentsBinderBuilder {
+
+    /**
+     * Lombok builder annotation name. Builder generates package-private constructor with all fields
+     */
+    public static final String LOMBOK_BUILDER_ANNOTATION = "lombok.Builder";
+
+    /**
+     * Prefix of local variable name for argument value
+     */
+    private static final String VALUE_VARIABLE_PREFIX = "value";
+
+    /**
+     * Processing environmental
+     */
+    private final ProcessingEnvironment processingEnvironment;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param processingEnvironment - processing environment
+     */
+    public ArgumentsBinderBuilder(ProcessingEnvironment processingEnvironment) {
+        this.processingEnvironment = processingEnvironment;
+    }
+
+    /**
+     * Check is binder can be generated for container:
+     * - container is not abstract and not private class
+     * - all instance fields are marked by {@link Argument}
+     * - container has lombok builder or not private constructor with all fields
+     *
+     * @param containerElement - arguments container element
+     * @return true - binder can be generated
+     */
+    public boolean isBindable(TypeElement containerElement) {
+        if (!ElementKind.CLASS.equals(containerElement.getKind())
+                || containerElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            log.debug("Container:[{}] is not a class or abstract", containerElement);
+            return false;
+        }
+        for (Element element = containerElement; element instanceof TypeElement;
+             element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                log.debug("Container:[{}] is not accessible from package", containerElement);
+                return false;
+            }
+        }
+        List<VariableElement> fields = getContainerFields(containerElement);
+        for (VariableElement field : fields) {
+            if (field.getAnnotation(Argument.class) == null) {
+                log.debug("Container:[{}] contains not argument field:[{}]", containerElement, field);
+                return false;
+            }
+        }
+        return hasLombokBuilder(containerElement) || ElementFilter
+                .constructorsIn(containerElement.getEnclosedElements()).stream()
+                .filter(constructor -> !constructor.getModifiers().contains(Modifier.PRIVATE))
+                .anyMatch(constructor -> constructor.getParameters().size() == fields.size());
+    }
+
+    /**
+     * Get binder class simple name for container
+     *
+     * @param containerElement - arguments container element
+     * @return simple name of binder class
+     */
+    public String getBinderSimpleName(TypeElement containerElement) {
+        String packageName = getPackageName(containerElement);
+        String flatName = containerElement.getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            flatName = flatName.substring(packageName.length() + 1);
+        }
+        return MessageFormat.format(ArgumentsBinder.BINDER_CLASS_NAME_PATTERN, flatName.replace('.', '_'));
+    }
+
+    /**
+     * Get package name of container
+     *
+     * @param containerElement - arguments container element
+     * @return package name. Empty for default package
+     */
+    public String getPackageName(TypeElement containerElement) {
+        return processingEnvironment.getElementUtils().getPackageOf(containerElement).getQualifiedName().toString();
+    }
+
+    /**
+     * Build source code of binder for container
+     *
+     * @param containerElement - arguments container element
+     * @return source code of binder class
+     */
+    public String buildBinderSource(TypeElement containerElement) {
+        String packageName = getPackageName(containerElement);
+        String binderName = getBinderSimpleName(containerElement);
+        String containerName = containerElement.getQualifiedName().toString();
+        List<VariableElement> fields = getContainerFields(containerElement);
+        log.debug("Build binder:[{}] for container:[{}], fields:[{}]", binderName, containerName, fields);
+
+        Map<String, List<Integer>> argumentFields = new LinkedHashMap<>();
+        for (int index = 0; index < fields.size(); index++) {
+            argumentFields.computeIfAbsent(getArgumentName(fields.get(index)), name -> new ArrayList<>()).add(index);
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Arguments binder for {@link ").append(containerName).append("}.\n")
+                .append(" * Generated by ").append(getClass().getName()).append(", do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(binderName)
+                .append("\n        implements ").append(ArgumentsBinder.class.getName())
+                .append("<").append(containerName).append("> {\n\n");
+
+        source.append("    /**\n     * Binder instance\n     */\n")
+                .append("    public static final ").append(binderName).append(" INSTANCE = new ")
+                .append(binderName).append("();\n\n");
+
+        source.append("    /**\n     * Names of all bound arguments\n     */\n")
+                .append("    private static final java.util.Set<String> ARGUMENT_NAMES = java.util.Collections")
+                .append(".unmodifiableSet(new java.util.LinkedHashSet<>(java.util.Arrays.<String>asList(");
+        source.append(String.join(", ", argumentFields.keySet().stream().map(this::literal)
+                .toArray(String[]::new)));
+        source.append(")));\n\n");
+
+        source.append("    /**\n     * Only instance usage\n     */\n")
+                .append("    private ").append(binderName).append("() {\n    }\n\n");
+
+        source.append("    /**\n     * {@inheritDoc}\n     */\n")
+                .append("    @Override\n")
+                .append("    public java.util.Set<String> getArgumentNames() {\n")
+                .append("        return ARGUMENT_NAMES;\n    }\n\n");
+
+        source.append("    /**\n     * {@inheritDoc}\n     */\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    public ").append(containerName)
+                .append(" bind(java.util.Map<String, Object> arguments,")
+                .append(" java.util.Collection<String> noneNullArguments)")
+                .append("\n            throws sailpoint.tools.GeneralException {\n");
+        appendArgumentValues(source, fields, argumentFields);
+        source.append("        return new ").append(containerName).append("(");
+        for (int index = 0; index < fields.size(); index++) {
+            source.append(index == 0 ? "\n                " : ",\n                ")
+                    .append(buildValueExpression(fields.get(index).asType(), valueVariable(index)));
+        }
+        source.append(");\n    }\n");
+
+        boolean refillable = isRefillable(containerElement);
+        source.append("\n    /**\n     * {@inheritDoc}\n     */\n")
+                .append("    @Override\n")
+                .append("    public boolean isRefillable() {\n")
+                .append("        return ").append(refillable).append(";\n    }\n\n");
+
+        source.append("    /**\n     * {@inheritDoc}\n     */\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    public ").append(containerName).append(" refill(").append(containerName)
+                .append(" containerArguments,\n")
+                .append("            java.util.Map<String, Object> arguments, java.util.Collection<String> ")
+                .append("noneNullArguments)\n            throws sailpoint.tools.GeneralException {\n");
+        if (refillable) {
+            appendArgumentValues(source, fields, argumentFields);
+            for (int index = 0; index < fields.size(); index++) {
+                source.append("        containerArguments.").append(getSetterName(fields.get(index))).append("(")
+                        .append(buildValueExpression(fields.get(index).asType(), valueVariable(index)))
+                        .append(");\n");
+            }
+            source.append("        return containerArguments;\n    }\n");
+        } else {
+            source.append("        return bind(arguments, noneNullArguments);\n    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Check is container can be refilled by binder: all instance fields are not final, so they are set by setters
+     * (e.g. lombok setters with package access). Binder of immutable container binds new instance on refill
+     *
+     * @param containerElement - arguments container element
+     * @return true - container is refilled in place
+     */
+    public boolean isRefillable(TypeElement containerElement) {
+        List<VariableElement> fields = getContainerFields(containerElement);
+        return !fields.isEmpty()
+                && fields.stream().noneMatch(field -> field.getModifiers().contains(Modifier.FINAL));
+    }
+
+    /**
+     * Append source of reading argument values to local variables in one pass over arguments map and none-null
+     * checks of read values
+     *
+     * @param source         - source of binder method
+     * @param fields         - container fields
+     * @param argumentFields - map of argument name to indexes of fields
+     */
+    private void appendArgumentValues(StringBuilder source, List<VariableElement> fields,
+                                      Map<String, List<Integer>> argumentFields) {
+        for (int index = 0; index < fields.size(); index++) {
+            source.append("        Object ").append(valueVariable(index)).append(" = null;\n");
+        }
+        if (!fields.isEmpty()) {
+            source.append("        if (arguments != null) {\n")
+                    .append("            for (java.util.Map.Entry<String, Object> argument : arguments.entrySet()) {\n")
+                    .append("                String name = argument.getKey();\n")
+                    .append("                if (name == null) {\n                    continue;\n                }\n")
+                    .append("                switch (name) {\n");
+            for (Map.Entry<String, List<Integer>> argumentField : argumentFields.entrySet()) {
+                source.append("                    case ").append(literal(argumentField.getKey())).append(":\n");
+                for (Integer index : argumentField.getValue()) {
+                    source.append("                        ").append(valueVariable(index))
+                            .append(" = argument.getValue();\n");
+                }
+                source.append("                        break;\n");
+            }
+            source.append("                    default:\n                        break;\n")
+                    .append("                }\n            }\n        }\n");
+
+            source.append("        if (noneNullArguments != null && !noneNullArguments.isEmpty()) {\n");
+            for (Map.Entry<String, List<Integer>> argumentField : argumentFields.entrySet()) {
+                String nameLiteral = literal(argumentField.getKey());
+                source.append("            if (").append(valueVariable(argumentField.getValue().get(0)))
+                        .append(" == null && noneNullArguments.contains(").append(nameLiteral).append(")) {\n")
+                        .append("                throw new sailpoint.tools.GeneralException(java.text.MessageFormat")
+                        .append(".format(NOT_NULL_ARGUMENT_ERROR_MESSAGE, ").append(nameLiteral).append("));\n")
+                        .append("            }\n");
+            }
+            source.append("        }\n");
+        }
+    }
+
+    /**
+     * Get setter name of field by lombok convention: 'is' prefix of primitive boolean field is not included
+     *
+     * @param field - container field
+     * @return setter name
+     */
+    private String getSetterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && name.length() > 2 && name.startsWith("is")
+                && Character.isUpperCase(name.charAt(2))) {
+            name = name.substring(2);
+        }
+        return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Get argument name from annotation or from field name if annotation contains empty name
+     *
+     * @param field - argument field
+     * @return argument name
+     */
+    private String getArgumentName(VariableElement field) {
+        Argument argument = field.getAnnotation(Argument.class);
+        return Util.isEmpty(argument.name()) ? field.getSimpleName().toString() : argument.name();
+    }
+
+    /**
+     * Build expression of converting raw argument value to field type:
+     * - primitive: default value for null or unboxing
+     * - enum: valueOf for string values or cast
+     * - others: just cast
+     *
+     * @param type     - field type
+     * @param variable - variable name with raw value
+     * @return expression of field value
+     */
+    private String buildValueExpression(TypeMirror type, String variable) {
+        if (type.getKind().isPrimitive()) {
+            String boxedType = processingEnvironment.getTypeUtils().boxedClass((PrimitiveType) type)
+                    .getQualifiedName().toString();
+            return variable + " == null ? " + getDefaultValue(type.getKind()) + " : (" + boxedType + ") " + variable;
+        }
+        TypeMirror erasedType = processingEnvironment.getTypeUtils().erasure(type);
+        if (Object.class.getName().equals(erasedType.toString())) {
+            return variable;
+        }
+        Element typeElement = processingEnvironment.getTypeUtils().asElement(type);
+        if (typeElement != null && ElementKind.ENUM.equals(typeElement.getKind())) {
+            return variable + " instanceof String ? Enum.valueOf(" + erasedType + ".class, (String) " + variable
+                    + ") : (" + type + ") " + variable;
+        }
+        return "(" + type + ") " + variable;
+    }
+
+    /**
+     * Get default value literal of primitive type
+     *
+     * @param kind - primitive type kind
+     * @return default value
+     */
+    private String getDefaultValue(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "'\\0'";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0F";
+            case DOUBLE:
+                return "0D";
+            case BYTE:
+                return "(byte) 0";
+            case SHORT:
+                return "(short) 0";
+            default:
+                return "0";
+        }
+    }
+
+    /**
+     * Get all instance fields of container in declaration order
+     *
+     * @param containerElement - arguments container element
+     * @return instance fields
+     */
+    private List<VariableElement> getContainerFields(TypeElement containerElement) {
+        List<VariableElement> result = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(containerElement.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check is container marked by lombok builder
+     *
+     * @param containerElement - arguments container element
+     * @return true - container has lombok builder
+     */
+    private boolean hasLombokBuilder(TypeElement containerElement) {
+        for (AnnotationMirror annotationMirror : containerElement.getAnnotationMirrors()) {
+            if (LOMBOK_BUILDER_ANNOTATION.equals(annotationMirror.getAnnotationType().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build java string literal
+     *
+     * @param value - string value
+     * @return string literal
+     */
+    private String literal(String value) {
+        return processingEnvironment.getElementUtils().getConstantExpression(value);
+    }
+
+    /**
+     * Build name of local variable for field value
+     *
+     * @param index - field index
+     * @return local variable name
+     */
+    private String valueVariable(int index) {
+        return VALUE_VARIABLE_PREFIX + index;
+    }
+}
@@ -0,0 +1,173 @@
+package com.sailpoint.processor.builder;
+
+import com.sailpoint.annotation.common.RuleIndex;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Class for building source code of {@link RuleIndex} implementation for rules of one compilation round.
+ * Index contains factories of rules as constructor references, so rules are instantiated without reflection.
+ */
+@Slf4j
+public class RuleIndexBuilder {
+
+    /**
+     * Processing environmental
+     */
+    private final ProcessingEnvironment processingEnvironment;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param processingEnvironment - processing environment
+     */
+    public RuleIndexBuilder(ProcessingEnvironment processingEnvironment) {
+        this.processingEnvironment = processingEnvironment;
+    }
+
+    /**
+     * Check is rule can be created by constructor reference from other package:
+     * - rule is not abstract class
+     * - rule and all enclosing classes are public, nested classes are static
+     * - rule has public constructor without parameters
+     *
+     * @param ruleElement - rule element
+     * @return true - rule can be indexed
+     */
+    public boolean isIndexable(Element ruleElement) {
+        if (!ElementKind.CLASS.equals(ruleElement.getKind())
+                || ruleElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            log.debug("Rule:[{}] is not a class or abstract", ruleElement);
+            return false;
+        }
+        for (Element element = ruleElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            boolean nested = element.getEnclosingElement() instanceof TypeElement;
+            if (!element.getModifiers().contains(Modifier.PUBLIC)
+                    || (nested && !element.getModifiers().contains(Modifier.STATIC))) {
+                log.debug("Rule:[{}] is not accessible from other package", ruleElement);
+                return false;
+            }
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(ruleElement.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty()) {
+                return true;
+            }
+        }
+        log.debug("Rule:[{}] has no public constructor without parameters", ruleElement);
+        return false;
+    }
+
+    /**
+     * Get rule source: binary name of rule class, which is used by java rule runner to find rule class
+     *
+     * @param ruleElement - rule element
+     * @return rule source
+     */
+    public String getRuleSource(TypeElement ruleElement) {
+        return processingEnvironment.getElementUtils().getBinaryName(ruleElement).toString();
+    }
+
+    /**
+     * Get package of index: common package of all rules
+     *
+     * @param ruleElements - indexed rules
+     * @return package name. Empty for default package
+     */
+    public String getIndexPackage(Collection<TypeElement> ruleElements) {
+        List<String> commonPackage = null;
+        for (TypeElement ruleElement : ruleElements) {
+            String packageName = processingEnvironment.getElementUtils().getPackageOf(ruleElement)
+                    .getQualifiedName().toString();
+            List<String> packageParts = packageName.isEmpty()
+                    ? new ArrayList<>() : new ArrayList<>(Arrays.asList(packageName.split("\\.")));
+            if (commonPackage == null) {
+                commonPackage = packageParts;
+            } else {
+                int commonSize = 0;
+                while (commonSize < commonPackage.size() && commonSize < packageParts.size()
+                        && commonPackage.get(commonSize).equals(packageParts.get(commonSize))) {
+                    commonSize++;
+                }
+                commonPackage = new ArrayList<>(commonPackage.subList(0, commonSize));
+            }
+        }
+        return commonPackage == null ? "" : String.join(".", commonPackage);
+    }
+
+    /**
+     * Get simple name of index: {@link RuleIndex#INDEX_CLASS_NAME} with hash of sources of indexed rules, so indexes
+     * of different modules with the same common package have different names
+     *
+     * @param ruleElements - indexed rules
+     * @return simple name of index class
+     */
+    public String getIndexName(Collection<TypeElement> ruleElements) {
+        return buildIndexName(ruleElements.stream().map(this::getRuleSource).collect(Collectors.toList()));
+    }
+
+    /**
+     * Build simple name of index by sources of indexed rules. Name does not depend on order of sources
+     *
+     * @param ruleSources - sources of indexed rules
+     * @return simple name of index class
+     */
+    public static String buildIndexName(Collection<String> ruleSources) {
+        String sortedSources = ruleSources.stream().sorted().collect(Collectors.joining(","));
+        return RuleIndex.INDEX_CLASS_NAME + "_" + Integer.toHexString(sortedSources.hashCode());
+    }
+
+    /**
+     * Build source code of rule index
+     *
+     * @param packageName  - package of index
+     * @param indexName    - simple name of index class
+     * @param ruleElements - indexed rules
+     * @return source code of index class
+     */
+    public String buildIndexSource(String packageName, String indexName, Collection<TypeElement> ruleElements) {
+        log.debug("Build rule index:[{}.{}] for rules:[{}]", packageName, indexName, ruleElements);
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Index of java rules.\n")
+                .append(" * Generated by ").append(getClass().getName()).append(", do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(indexName)
+                .append(" implements ").append(RuleIndex.class.getName()).append(" {\n\n");
+
+        source.append("    /**\n     * Rule factories. Key - rule source\n     */\n")
+                .append("    private static final java.util.Map<String, java.util.function.Supplier<Object>> ")
+                .append("RULE_FACTORIES;\n\n");
+
+        source.append("    static {\n")
+                .append("        java.util.Map<String, java.util.function.Supplier<Object>> ruleFactories =\n")
+                .append("                new java.util.LinkedHashMap<>();\n");
+        for (TypeElement ruleElement : ruleElements) {
+            source.append("        ruleFactories.put(")
+                    .append(processingEnvironment.getElementUtils().getConstantExpression(getRuleSource(ruleElement)))
+                    .append(", ").append(ruleElement.getQualifiedName()).append("::new);\n");
+        }
+        source.append("        RULE_FACTORIES = java.util.Collections.unmodifiableMap(ruleFactories);\n")
+                .append("    }\n\n");
+
+        source.append("    /**\n     * {@inheritDoc}\n     */\n")
+                .append("    @Override\n")
+                .append("    public java.util.Map<String, java.util.function.Supplier<Object>> getRuleFactories() {\n")
+                .append("        return RULE_FACTORIES;\n    }\n}\n");
+        return source.toString();
+    }
+}
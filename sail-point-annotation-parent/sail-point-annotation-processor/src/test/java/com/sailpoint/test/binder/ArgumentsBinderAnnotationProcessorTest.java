@@ -0,0 +1,118 @@
+package com.sailpoint.test.binder;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import com.sailpoint.processor.ArgumentsBinderAnnotationProcessor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Test for {@link ArgumentsBinderAnnotationProcessor} class
+ */
+public class ArgumentsBinderAnnotationProcessorTest {
+
+    /**
+     * Path to test rule with arguments containers
+     */
+    private static final String PATH_TO_CONTAINER_RULE = "binder/ArgumentsContainerRuleForTest.java";
+    /**
+     * Generated binder name of test container
+     */
+    private static final String TEST_CONTAINER_BINDER = "binder.ArgumentsContainerRuleForTest_TestRuleArgumentsBinder";
+    /**
+     * Generated binder name of refillable container
+     */
+    private static final String REFILLABLE_CONTAINER_BINDER =
+            "binder.ArgumentsContainerRuleForTest_RefillableRuleArgumentsBinder";
+    /**
+     * Generated binder name of not bindable container
+     */
+    private static final String NOT_BINDABLE_CONTAINER_BINDER =
+            "binder.ArgumentsContainerRuleForTest_NotBindableRuleArgumentsBinder";
+
+    /**
+     * Compilation result of test rule
+     */
+    private Compilation compilation;
+
+    /**
+     * Compile test rule with arguments binder processor
+     */
+    @Before
+    public void init() {
+        compilation = javac().withProcessors(new ArgumentsBinderAnnotationProcessor())
+                .compile(JavaFileObjects
+                        .forResource(getClass().getClassLoader().getResource(PATH_TO_CONTAINER_RULE)));
+        assertThat(compilation).succeededWithoutWarnings();
+    }
+
+    /**
+     * Test of generated binder for container
+     * Input:
+     * - container with enum, primitive, generic and unnamed arguments
+     * Output:
+     * - generated and compiled binder
+     * Expectation:
+     * - all arguments are bound by names in one switch
+     * - enum is converted from string
+     * - primitive has default value
+     * - none-null check for each argument
+     * - binder is not refillable, refill binds new instance
+     */
+    @Test
+    public void generatedBinderTest() {
+        assertThat(compilation).generatedSourceFile(TEST_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("case \"source\":");
+        assertThat(compilation).generatedSourceFile(TEST_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("case \"value\":");
+        assertThat(compilation).generatedSourceFile(TEST_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("Enum.valueOf(binder.ArgumentsContainerRuleForTest.Source.class");
+        assertThat(compilation).generatedSourceFile(TEST_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("value1 == null ? false : (java.lang.Boolean) value1");
+        assertThat(compilation).generatedSourceFile(TEST_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("noneNullArguments.contains(\"state\")");
+        assertThat(compilation).generatedSourceFile(TEST_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("        return false;");
+        assertThat(compilation).generatedSourceFile(TEST_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("        return bind(arguments, noneNullArguments);");
+    }
+
+    /**
+     * Test of generated binder for mutable container
+     * Input:
+     * - container with not final fields and package-private setters
+     * Output:
+     * - generated and compiled binder with refill method
+     * Expectation:
+     * - binder is refillable
+     * - fields are set by setters named by lombok convention
+     */
+    @Test
+    public void generatedRefillTest() {
+        assertThat(compilation).generatedSourceFile(REFILLABLE_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("        return true;");
+        assertThat(compilation).generatedSourceFile(REFILLABLE_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("containerArguments.setGroup(value0 == null ? false : (java.lang.Boolean) value0);");
+        assertThat(compilation).generatedSourceFile(REFILLABLE_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("containerArguments.setState((java.util.Map<java.lang.String,java.lang.Object>) value1);");
+        assertThat(compilation).generatedSourceFile(REFILLABLE_CONTAINER_BINDER).contentsAsUtf8String()
+                .contains("        return containerArguments;");
+    }
+
+    /**
+     * Test of not bindable container
+     * Input:
+     * - container with not argument field and without constructor with all arguments
+     * Output:
+     * - binder is not generated
+     */
+    @Test
+    public void notBindableContainerTest() {
+        assertFalse("Binder for not bindable container must not be generated",
+                compilation.generatedSourceFile(NOT_BINDABLE_CONTAINER_BINDER).isPresent());
+    }
+}
@@ -0,0 +1,122 @@
+package com.sailpoint.test.rule;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.sailpoint.annotation.common.RuleIndex;
+import com.sailpoint.processor.RuleAnnotationProcessor;
+import com.sailpoint.processor.builder.RuleIndexBuilder;
+import org.junit.Test;
+
+import javax.tools.StandardLocation;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Test generation of {@link RuleIndex} by {@link RuleAnnotationProcessor}
+ */
+public class RuleIndexGenerationTest extends AbstractRuleAnnotationProcessorTest {
+
+    /**
+     * Path to indexed rule for current test
+     */
+    private static final String PATH_TO_INDEXED_RULE = "rules/EmptyPromptRuleForTest.java";
+    /**
+     * Path to not indexed rule for current test
+     */
+    private static final String PATH_TO_NOT_INDEXED_RULE = "rules/NotIndexedRuleForTest.java";
+    /**
+     * Qualified name of generated rule index
+     */
+    private static final String RULE_INDEX_NAME = "rules."
+            + RuleIndexBuilder.buildIndexName(Collections.singletonList("rules.EmptyPromptRuleForTest"));
+
+    /**
+     * Compilation result of test rules
+     */
+    private Compilation compilation;
+
+    /**
+     * Compile indexed and not indexed rules
+     *
+     * @param compiler - compile instance
+     * @return compilation instance from compile
+     */
+    @Override
+    protected Compilation compile(Compiler compiler) {
+        compilation = compiler.compile(
+                JavaFileObjects.forResource(getClass().getClassLoader().getResource(PATH_TO_INDEXED_RULE)),
+                JavaFileObjects.forResource(getClass().getClassLoader().getResource(PATH_TO_NOT_INDEXED_RULE)));
+        return compilation;
+    }
+
+    /**
+     * Return current rule file path
+     *
+     * @return rule path
+     */
+    @Override
+    protected String getJavaClassFilePathName() {
+        return PATH_TO_INDEXED_RULE;
+    }
+
+    /**
+     * Test of generated rule index
+     * Input:
+     * - rule with default constructor
+     * - rule without constructor without parameters
+     * Output:
+     * - generated and compiled rule index
+     * Expectation:
+     * - rule with default constructor is created via constructor reference
+     * - rule without constructor without parameters is not indexed and reported by note
+     */
+    @Test
+    public void generatedRuleIndexTest() {
+        assertThat(compilation).generatedSourceFile(RULE_INDEX_NAME).contentsAsUtf8String()
+                .contains("ruleFactories.put(\"rules.EmptyPromptRuleForTest\", rules.EmptyPromptRuleForTest::new);");
+        assertThat(compilation).generatedSourceFile(RULE_INDEX_NAME).contentsAsUtf8String()
+                .doesNotContain("rules.NotIndexedRuleForTest");
+        assertThat(compilation).hadNoteContaining("Rule:[rules.NotIndexedRuleForTest] is not added to rule index");
+    }
+
+    /**
+     * Test of rule index services file
+     * Input:
+     * - rules of one compilation
+     * Output:
+     * - services file
+     * Expectation:
+     * - services file contains generated rule index
+     */
+    @Test
+    public void ruleIndexServicesTest() {
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, RuleIndex.SERVICES_FILE)
+                .contentsAsUtf8String().contains(RULE_INDEX_NAME);
+    }
+
+    /**
+     * Test of rule index name
+     * Input:
+     * - the same rule sources in different order
+     * - other rule sources
+     * Output:
+     * - index names
+     * Expectation:
+     * - name does not depend on order of sources
+     * - names of different sources are different
+     */
+    @Test
+    public void ruleIndexNameTest() {
+        assertEquals("Index names of the same rules are not match",
+                RuleIndexBuilder.buildIndexName(Arrays.asList("rules.A", "rules.B")),
+                RuleIndexBuilder.buildIndexName(Arrays.asList("rules.B", "rules.A")));
+        assertNotEquals("Index names of different rules are match",
+                RuleIndexBuilder.buildIndexName(Collections.singletonList("rules.A")),
+                RuleIndexBuilder.buildIndexName(Collections.singletonList("rules.B")));
+    }
+}
@@ -0,0 +1,106 @@
+package binder;
+
+import com.sailpoint.annotation.common.Argument;
+import com.sailpoint.annotation.common.ArgumentsContainer;
+
+import java.util.Map;
+
+/**
+ * Test rule class with arguments containers
+ */
+public class ArgumentsContainerRuleForTest {
+
+    /**
+     * Test enum for argument
+     */
+    public enum Source {
+        UI, TASK
+    }
+
+    /**
+     * Test container with all supported field types
+     */
+    @ArgumentsContainer
+    public static class TestRuleArguments {
+        /**
+         * Enum argument
+         */
+        @Argument(name = "source")
+        private final Source source;
+        /**
+         * Primitive argument
+         */
+        @Argument(name = "isGroup")
+        private final boolean isGroup;
+        /**
+         * Generic argument
+         */
+        @Argument(name = "state")
+        private final Map<String, Object> state;
+        /**
+         * Argument with name from field
+         */
+        @Argument
+        private final Object value;
+
+        /**
+         * Constructor with all arguments
+         */
+        TestRuleArguments(Source source, boolean isGroup, Map<String, Object> state, Object value) {
+            this.source = source;
+            this.isGroup = isGroup;
+            this.state = state;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Test mutable container with package-private setters
+     */
+    @ArgumentsContainer
+    public static class RefillableRuleArguments {
+        /**
+         * Primitive argument
+         */
+        @Argument(name = "isGroup")
+        private boolean isGroup;
+        /**
+         * Generic argument
+         */
+        @Argument(name = "state")
+        private Map<String, Object> state;
+
+        /**
+         * Constructor with all arguments
+         */
+        RefillableRuleArguments(boolean isGroup, Map<String, Object> state) {
+            this.isGroup = isGroup;
+            this.state = state;
+        }
+
+        /**
+         * Set primitive argument
+         */
+        void setGroup(boolean isGroup) {
+            this.isGroup = isGroup;
+        }
+
+        /**
+         * Set generic argument
+         */
+        void setState(Map<String, Object> state) {
+            this.state = state;
+        }
+    }
+
+    /**
+     * Test container without constructor with all arguments
+     */
+    @ArgumentsContainer
+    public static class NotBindableRuleArguments {
+        /**
+         * Not argument field
+         */
+        private final Object field = null;
+    }
+}
@@ -0,0 +1,18 @@
+package rules;
+
+import com.sailpoint.annotation.Rule;
+
+/**
+ * Java rule without public constructor for test of rule index
+ */
+@Rule
+public class NotIndexedRuleForTest {
+
+    /**
+     * Rule is created only with parameters
+     *
+     * @param value - any value
+     */
+    public NotIndexedRuleForTest(String value) {
+    }
+}
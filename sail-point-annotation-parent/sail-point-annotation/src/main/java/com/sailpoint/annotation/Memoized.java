@@ -0,0 +1,50 @@
+package com.sailpoint.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation for pure java rules: rule result depends only on key arguments, so result can be cached.
+ * Results are cached in bounded LRU cache with optional time to live. Cached result is shared between callers,
+ * so it must not be modified. Sailpoint object results are cached by id and loaded by context of caller.
+ */
+@Inherited
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Memoized {
+
+    /**
+     * Names of arguments (arguments container fields) which are used as cache key. Values of key arguments must be
+     * immutable: strings, numbers, booleans, characters, enums or saved sailpoint objects. Sailpoint objects are
+     * compared by class, id and modification time. Result of call with not saved sailpoint object or other key value
+     * is not cached.
+     *
+     * @return names of key arguments
+     */
+    String[] arguments();
+
+    /**
+     * Max count of cached results. Default - 1000
+     *
+     * @return max size of cache
+     */
+    int maxSize() default 1000;
+
+    /**
+     * Time to live of cached result. If default value (0) - results are not expired
+     *
+     * @return time to live
+     */
+    long ttl() default 0;
+
+    /**
+     * Time unit of time to live. Default - seconds
+     *
+     * @return time unit of time to live
+     */
+    TimeUnit ttlUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,20 @@
+package com.sailpoint.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for per-record java rules which reuse arguments container: one container instance per thread is
+ * refilled on each call instead of creating new one. Container is valid only during current call, so rule must not
+ * keep it or return it. Applied only for rules which binder supports container refilling, see
+ * {@link com.sailpoint.annotation.common.ArgumentsBinder#isRefillable()} (e.g. BuildMap, JDBCBuildMap,
+ * Transformation), for others it is ignored.
+ */
+@Inherited
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReusableArguments {
+}
@@ -0,0 +1,50 @@
+package com.sailpoint.annotation;
+
+import com.sailpoint.annotation.common.ExecutorScope;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation for java rules with state (scratch buffers, not thread-safe helpers): defines how java rule runner
+ * shares rule executor instances between threads. Rules without annotation are singletons.
+ */
+@Inherited
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RuleScope {
+
+    /**
+     * Scope of rule executor instances. Default - singleton
+     *
+     * @return executor scope
+     */
+    ExecutorScope value() default ExecutorScope.SINGLETON;
+
+    /**
+     * Max count of instances for {@link ExecutorScope#POOLED} scope. Callers wait for free instance if all
+     * instances are in use. Default - 8
+     *
+     * @return max size of pool
+     */
+    int poolSize() default 8;
+
+    /**
+     * Max time of waiting for free instance of {@link ExecutorScope#POOLED} scope, error is thrown on expiry (e.g.
+     * instance is not released or rule calls itself). Default - 60
+     *
+     * @return max waiting time
+     */
+    long poolTimeout() default 60;
+
+    /**
+     * Time unit of waiting for free instance. Default - seconds
+     *
+     * @return time unit of max waiting time
+     */
+    TimeUnit poolTimeoutUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,67 @@
+package com.sailpoint.annotation.common;
+
+import sailpoint.tools.GeneralException;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binder of raw rule arguments to {@link ArgumentsContainer} instance.
+ * Implementations are generated by annotation processor for each arguments container class.
+ *
+ * @param <C> - type of arguments container
+ */
+public interface ArgumentsBinder<C> {
+
+    /**
+     * Argument not null check error message. Parameters:
+     * 0 - argument name
+     */
+    String NOT_NULL_ARGUMENT_ERROR_MESSAGE = "Argument:[{0}] is null in rule context";
+
+    /**
+     * Pattern of generated binder class name. Parameters:
+     * 0 - flat name of arguments container (nested classes are separated by '_')
+     */
+    String BINDER_CLASS_NAME_PATTERN = "{0}Binder";
+
+    /**
+     * Fill arguments container from raw arguments in one pass. Checks none-null arguments at the same pass.
+     *
+     * @param arguments         - raw rule arguments. Can be null.
+     * @param noneNullArguments - names of arguments which must not be null. Can be null.
+     * @return new instance of arguments container
+     * @throws GeneralException - one of none-null arguments is null
+     */
+    C bind(Map<String, Object> arguments, Collection<String> noneNullArguments) throws GeneralException;
+
+    /**
+     * Check is binder refills existing container instance by {@link #refill}. Binder of immutable container (e.g. with
+     * final fields) builds new instance on refill, so container can not be reused
+     *
+     * @return true - container is mutable and is refilled in place
+     */
+    boolean isRefillable();
+
+    /**
+     * Refill arguments container from raw arguments in one pass. Checks none-null arguments at the same pass.
+     * Mutable container is refilled in place: all fields are replaced, missing arguments are set to null (default
+     * value for primitives). Immutable container is not changed, new instance is bound instead.
+     *
+     * @param containerArguments - arguments container to refill
+     * @param arguments          - raw rule arguments. Can be null.
+     * @param noneNullArguments  - names of arguments which must not be null. Can be null.
+     * @return refilled container or new instance for immutable container
+     * @throws GeneralException - one of none-null arguments is null
+     */
+    C refill(C containerArguments, Map<String, Object> arguments, Collection<String> noneNullArguments)
+            throws GeneralException;
+
+    /**
+     * Get names of all arguments which are bound by current binder
+     *
+     * @return argument names
+     */
+    Set<String> getArgumentNames();
+}
@@ -0,0 +1,22 @@
+package com.sailpoint.annotation.common;
+
+/**
+ * Scope of java rule executor instances
+ */
+public enum ExecutorScope {
+    /**
+     * One instance is shared by all threads
+     */
+    SINGLETON,
+
+    /**
+     * Own instance for each thread
+     */
+    THREAD,
+
+    /**
+     * Bounded pool of instances, each instance is used by one call at a time
+     */
+    POOLED
+
+}
@@ -0,0 +1,29 @@
+package com.sailpoint.annotation.common;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Index of java rules of one module. Implementations are generated by annotation processor for all classes
+ * marked by {@link com.sailpoint.annotation.Rule} and registered as {@link java.util.ServiceLoader} services,
+ * so all indexes of classpath can be loaded without scanning.
+ */
+public interface RuleIndex {
+
+    /**
+     * Prefix of simple name of generated index class. Name is completed by hash of indexed rules
+     */
+    String INDEX_CLASS_NAME = "SailPointRuleIndex";
+
+    /**
+     * Services file of rule indexes
+     */
+    String SERVICES_FILE = "META-INF/services/com.sailpoint.annotation.common.RuleIndex";
+
+    /**
+     * Get rule factories. Factories create rule instances without reflection
+     *
+     * @return rule factories. Key - rule source (rule class name), value - rule instance factory
+     */
+    Map<String, Supplier<Object>> getRuleFactories();
+}
@@ -0,0 +1,178 @@
+package com.sailpoint.benchmark;
+
+import com.sailpoint.annotation.common.Argument;
+import com.sailpoint.annotation.common.ArgumentsBinder;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.GenericConstraint;
+import sailpoint.object.Identity;
+import sailpoint.tools.Util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builder of rule arguments for benchmarks. Arguments are built from fields of arguments container:
+ * - string and object: test string
+ * - list, set, map and collection: new mutable instance with test values
+ * - primitives and wrappers: not default value
+ * - enum: first constant
+ * - interface: stub which returns default values
+ * - abstract class: instance of known concrete subclass
+ * - concrete class: instance created by default constructor
+ * Value of other abstract class or class without default constructor is null
+ */
+@Slf4j
+public final class BenchmarkArguments {
+
+    /**
+     * Test string value
+     */
+    public static final String TEST_VALUE = "benchmark";
+
+    /**
+     * Known concrete classes for abstract argument types
+     */
+    private static final List<Class<?>> ABSTRACT_TYPE_SUBSTITUTES = Arrays.asList(
+            Identity.class,
+            GenericConstraint.class
+    );
+
+    /**
+     * Utility class
+     */
+    private BenchmarkArguments() {
+    }
+
+    /**
+     * Build arguments for container which is bound by binder
+     *
+     * @param argumentsBinder - arguments binder of rule
+     * @return arguments map
+     */
+    public static Map<String, Object> build(ArgumentsBinder<?> argumentsBinder) {
+        Class<?> containerClass = getContainerClass(argumentsBinder);
+        log.debug("Build arguments for container:[{}]", containerClass);
+        Map<String, Object> arguments = new HashMap<>();
+        for (Field field : containerClass.getDeclaredFields()) {
+            Argument argument = field.getAnnotation(Argument.class);
+            if (argument == null || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            String name = Util.isEmpty(argument.name()) ? field.getName() : argument.name();
+            arguments.put(name, buildValue(field.getType()));
+        }
+        log.trace("Container:[{}], arguments:[{}]", containerClass, arguments);
+        return arguments;
+    }
+
+    /**
+     * Get default value of type: 0 or false for primitives, null for others
+     *
+     * @param type - value type
+     * @return default value
+     */
+    public static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || void.class.equals(type)) {
+            return null;
+        }
+        if (boolean.class.equals(type)) {
+            return false;
+        }
+        if (char.class.equals(type)) {
+            return '\0';
+        }
+        if (long.class.equals(type)) {
+            return 0L;
+        }
+        if (float.class.equals(type)) {
+            return 0F;
+        }
+        if (double.class.equals(type)) {
+            return 0D;
+        }
+        if (byte.class.equals(type)) {
+            return (byte) 0;
+        }
+        if (short.class.equals(type)) {
+            return (short) 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Build test value of type
+     *
+     * @param type - value type
+     * @return test value or null
+     */
+    private static Object buildValue(Class<?> type) {
+        if (String.class.equals(type) || Object.class.equals(type)) {
+            return TEST_VALUE;
+        }
+        if (List.class.equals(type) || Collection.class.equals(type)) {
+            return new ArrayList<>(Arrays.asList(TEST_VALUE, TEST_VALUE));
+        }
+        if (Set.class.equals(type)) {
+            return new HashSet<>(Arrays.asList(TEST_VALUE));
+        }
+        if (Map.class.equals(type)) {
+            Map<String, Object> value = new HashMap<>();
+            value.put(TEST_VALUE, TEST_VALUE);
+            return value;
+        }
+        if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return Boolean.TRUE;
+        }
+        if (Integer.class.equals(type) || int.class.equals(type)) {
+            return 1;
+        }
+        if (Long.class.equals(type) || long.class.equals(type)) {
+            return 1L;
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants().length == 0 ? null : type.getEnumConstants()[0];
+        }
+        if (type.isInterface()) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> defaultValue(method.getReturnType()));
+        }
+        Class<?> concreteType = type;
+        if (Modifier.isAbstract(type.getModifiers())) {
+            concreteType = ABSTRACT_TYPE_SUBSTITUTES.stream().filter(type::isAssignableFrom).findFirst().orElse(null);
+            if (concreteType == null) {
+                log.debug("Value of abstract type:[{}] is null", type);
+                return null;
+            }
+        }
+        try {
+            return concreteType.newInstance();
+        } catch (Exception | LinkageError ex) {
+            log.debug("Value of type:[{}] can not be created:[{}]", type, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get arguments container class of binder. Binder has bridge method with object result, so
+     * the most specific bind method is used
+     *
+     * @param argumentsBinder - arguments binder
+     * @return container class
+     */
+    private static Class<?> getContainerClass(ArgumentsBinder<?> argumentsBinder) {
+        try {
+            return argumentsBinder.getClass().getMethod("bind", Map.class, Collection.class).getReturnType();
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.sailpoint.benchmark;
+
+import com.sailpoint.annotation.Custom;
+import com.sailpoint.annotation.common.Attribute;
+import com.sailpoint.improved.custom.AbstractCustomObject;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom object for load and save benchmarks
+ */
+@Data
+@Custom(BenchmarkCustomObject.NAME)
+public class BenchmarkCustomObject extends AbstractCustomObject {
+
+    /**
+     * Name of custom object
+     */
+    public static final String NAME = "Benchmark custom object";
+
+    /**
+     * String value
+     */
+    @Attribute
+    private String stringValue;
+    /**
+     * Boolean value
+     */
+    @Attribute
+    private Boolean booleanValue;
+    /**
+     * Long value
+     */
+    @Attribute
+    private Long longValue;
+    /**
+     * List of strings value
+     */
+    @Attribute
+    private List<String> listValue;
+    /**
+     * Map value
+     */
+    @Attribute(name = "mapAttribute")
+    private Map<String, Object> mapValue;
+}
@@ -0,0 +1,435 @@
+package com.sailpoint.benchmark;
+
+import com.sailpoint.improved.rule.activity.ActivityTransformerRule;
+import com.sailpoint.improved.rule.aggregation.CorrelationRule;
+import com.sailpoint.improved.rule.alert.AlertCreationRule;
+import com.sailpoint.improved.rule.certification.CertificationExclusionRule;
+import com.sailpoint.improved.rule.connector.BuildMapRule;
+import com.sailpoint.improved.rule.form.FieldValueRule;
+import com.sailpoint.improved.rule.logical.CompositeAccountRule;
+import com.sailpoint.improved.rule.login.SSOAuthenticationRule;
+import com.sailpoint.improved.rule.mapping.IdentityAttributeRule;
+import com.sailpoint.improved.rule.miscellaneous.RiskScoreRule;
+import com.sailpoint.improved.rule.notification.EmailRecipientRule;
+import com.sailpoint.improved.rule.owner.GroupOwnerRule;
+import com.sailpoint.improved.rule.policy.PolicyRule;
+import com.sailpoint.improved.rule.provisioning.BeforeProvisioningRule;
+import com.sailpoint.improved.rule.report.ReportCustomizerRule;
+import com.sailpoint.improved.rule.scoping.ScopeCorrelationRule;
+import com.sailpoint.improved.rule.unstructured.TargetCreationRule;
+import com.sailpoint.improved.rule.workflow.WorkflowRule;
+import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.Alert;
+import sailpoint.object.ApplicationActivity;
+import sailpoint.object.Identity;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.object.Link;
+import sailpoint.object.PolicyViolation;
+import sailpoint.object.Scope;
+import sailpoint.object.Target;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark implementations of rules: one rule per rule family. Implementations do nothing, so benchmarks measure
+ * only common rule execution path: validation and arguments container building
+ */
+@Slf4j
+public final class BenchmarkRules {
+
+    /**
+     * Utility class
+     */
+    private BenchmarkRules() {
+    }
+
+    /**
+     * Rule families with benchmark rule implementation
+     */
+    public enum RuleFamily {
+        /**
+         * {@link BuildMapRule} rule family
+         */
+        CONNECTOR(BenchmarkBuildMapRule::new),
+        /**
+         * {@link CorrelationRule} rule family
+         */
+        AGGREGATION(BenchmarkCorrelationRule::new),
+        /**
+         * {@link CertificationExclusionRule} rule family
+         */
+        CERTIFICATION(BenchmarkCertificationExclusionRule::new),
+        /**
+         * {@link BeforeProvisioningRule} rule family
+         */
+        PROVISIONING(BenchmarkBeforeProvisioningRule::new),
+        /**
+         * {@link EmailRecipientRule} rule family
+         */
+        NOTIFICATION(BenchmarkEmailRecipientRule::new),
+        /**
+         * {@link GroupOwnerRule} rule family
+         */
+        OWNER(BenchmarkGroupOwnerRule::new),
+        /**
+         * {@link ScopeCorrelationRule} rule family
+         */
+        SCOPING(BenchmarkScopeCorrelationRule::new),
+        /**
+         * {@link IdentityAttributeRule} rule family
+         */
+        MAPPING(BenchmarkIdentityAttributeRule::new),
+        /**
+         * {@link FieldValueRule} rule family
+         */
+        FORM(BenchmarkFieldValueRule::new),
+        /**
+         * {@link WorkflowRule} rule family
+         */
+        WORKFLOW(BenchmarkWorkflowRule::new),
+        /**
+         * {@link PolicyRule} rule family
+         */
+        POLICY(BenchmarkPolicyRule::new),
+        /**
+         * {@link SSOAuthenticationRule} rule family
+         */
+        LOGIN(BenchmarkSSOAuthenticationRule::new),
+        /**
+         * {@link CompositeAccountRule} rule family
+         */
+        LOGICAL(BenchmarkCompositeAccountRule::new),
+        /**
+         * {@link TargetCreationRule} rule family
+         */
+        UNSTRUCTURED(BenchmarkTargetCreationRule::new),
+        /**
+         * {@link AlertCreationRule} rule family
+         */
+        ALERT(BenchmarkAlertCreationRule::new),
+        /**
+         * {@link ActivityTransformerRule} rule family
+         */
+        ACTIVITY(BenchmarkActivityTransformerRule::new),
+        /**
+         * {@link ReportCustomizerRule} rule family
+         */
+        REPORT(BenchmarkReportCustomizerRule::new),
+        /**
+         * {@link RiskScoreRule} rule family
+         */
+        MISCELLANEOUS(BenchmarkRiskScoreRule::new);
+
+        /**
+         * Benchmark rule factory
+         */
+        private final Supplier<AbstractJavaRuleExecutor<?, ?>> ruleFactory;
+
+        /**
+         * Constructor with rule factory
+         *
+         * @param ruleFactory - benchmark rule factory
+         */
+        RuleFamily(Supplier<AbstractJavaRuleExecutor<?, ?>> ruleFactory) {
+            this.ruleFactory = ruleFactory;
+        }
+
+        /**
+         * Create new benchmark rule of family
+         *
+         * @return benchmark rule
+         */
+        public AbstractJavaRuleExecutor<?, ?> createRule() {
+            return ruleFactory.get();
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link BuildMapRule}: returns null
+     */
+    public static class BenchmarkBuildMapRule extends BuildMapRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      BuildMapRule.BuildMapRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link CorrelationRule}: returns null
+     */
+    public static class BenchmarkCorrelationRule extends CorrelationRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      CorrelationRule.CorrelationRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link CertificationExclusionRule}: returns null
+     */
+    public static class BenchmarkCertificationExclusionRule extends CertificationExclusionRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected String internalExecute(JavaRuleContext javaRuleContext,
+                                         CertificationExclusionRule.CertificationExclusionRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link BeforeProvisioningRule}: does nothing
+     */
+    public static class BenchmarkBeforeProvisioningRule extends BeforeProvisioningRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void internalExecuteNoneOutput(JavaRuleContext javaRuleContext,
+                                                 BeforeProvisioningRule.BeforeProvisioningRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link EmailRecipientRule}: returns null
+     */
+    public static class BenchmarkEmailRecipientRule extends EmailRecipientRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected List<String> internalExecute(JavaRuleContext javaRuleContext,
+                                               EmailRecipientRule.EmailRecipientRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link GroupOwnerRule}: returns null
+     */
+    public static class BenchmarkGroupOwnerRule extends GroupOwnerRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Identity internalExecute(JavaRuleContext javaRuleContext,
+                                           GroupOwnerRule.GroupOwnerRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link ScopeCorrelationRule}: returns null
+     */
+    public static class BenchmarkScopeCorrelationRule extends ScopeCorrelationRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected List<Scope> internalExecute(JavaRuleContext javaRuleContext,
+                                              ScopeCorrelationRule.ScopeCorrelationRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link IdentityAttributeRule}: returns null
+     */
+    public static class BenchmarkIdentityAttributeRule extends IdentityAttributeRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext,
+                                         IdentityAttributeRule.IdentityAttributeRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link FieldValueRule}: returns null
+     */
+    public static class BenchmarkFieldValueRule extends FieldValueRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext,
+                                         FieldValueRule.FieldValueRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link WorkflowRule}: returns null
+     */
+    public static class BenchmarkWorkflowRule extends WorkflowRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext,
+                                         WorkflowRule.WorkflowRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link PolicyRule}: returns null
+     */
+    public static class BenchmarkPolicyRule extends PolicyRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected PolicyViolation internalExecute(JavaRuleContext javaRuleContext,
+                                                  PolicyRule.PolicyRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link SSOAuthenticationRule}: returns null
+     */
+    public static class BenchmarkSSOAuthenticationRule extends SSOAuthenticationRule<Object> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext,
+                                         SSOAuthenticationRule.SSOAuthenticationRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link CompositeAccountRule}: returns null
+     */
+    public static class BenchmarkCompositeAccountRule extends CompositeAccountRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected List<Link> internalExecute(JavaRuleContext javaRuleContext,
+                                             CompositeAccountRule.CompositeAccountRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link TargetCreationRule}: returns null
+     */
+    public static class BenchmarkTargetCreationRule extends TargetCreationRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Target internalExecute(JavaRuleContext javaRuleContext,
+                                         TargetCreationRule.TargetCreationRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link AlertCreationRule}: returns null
+     */
+    public static class BenchmarkAlertCreationRule extends AlertCreationRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Alert internalExecute(JavaRuleContext javaRuleContext,
+                                        AlertCreationRule.AlertCreationRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link ActivityTransformerRule}: returns null
+     */
+    public static class BenchmarkActivityTransformerRule extends ActivityTransformerRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected ApplicationActivity internalExecute(
+                JavaRuleContext javaRuleContext, ActivityTransformerRule.ActivityTransformerRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link ReportCustomizerRule}: does nothing
+     */
+    public static class BenchmarkReportCustomizerRule extends ReportCustomizerRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void internalExecuteNoneOutput(JavaRuleContext javaRuleContext,
+                                                 ReportCustomizerRule.ReportCustomizerRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+        }
+    }
+
+    /**
+     * Benchmark implementation of {@link RiskScoreRule}: returns null
+     */
+    public static class BenchmarkRiskScoreRule extends RiskScoreRule {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Integer internalExecute(JavaRuleContext javaRuleContext,
+                                          RiskScoreRule.RiskScoreRuleArguments arguments) {
+            log.trace("Benchmark rule:[{}] is executed", getRuleType());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sailpoint.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Entry point of benchmarks jar. Runs benchmarks with GC profiler, so both throughput and allocation rate
+ * (gc.alloc.rate.norm - bytes per operation) are reported. All standard JMH command line options are supported,
+ * options from command line override defaults, e.g.:
+ * java -jar benchmarks.jar RuleExecutorBenchmark -p family=CONNECTOR -rf json -rff result.json
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Default count of forks
+     */
+    private static final int FORKS = 2;
+    /**
+     * Default count of warmup and measurement iterations
+     */
+    private static final int ITERATIONS = 5;
+    /**
+     * Default duration of warmup and measurement iteration
+     */
+    private static final TimeValue ITERATION_TIME = TimeValue.seconds(2);
+
+    /**
+     * Utility class
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Run benchmarks
+     *
+     * @param args - JMH command line options
+     * @throws CommandLineOptionException - invalid command line options
+     * @throws RunnerException            - benchmark run error
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder optionsBuilder = new OptionsBuilder();
+        optionsBuilder.parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            optionsBuilder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+        }
+        if (!commandLineOptions.getForkCount().hasValue()) {
+            optionsBuilder.forks(FORKS);
+        }
+        if (!commandLineOptions.getWarmupIterations().hasValue()) {
+            optionsBuilder.warmupIterations(ITERATIONS);
+        }
+        if (!commandLineOptions.getWarmupTime().hasValue()) {
+            optionsBuilder.warmupTime(ITERATION_TIME);
+        }
+        if (!commandLineOptions.getMeasurementIterations().hasValue()) {
+            optionsBuilder.measurementIterations(ITERATIONS);
+        }
+        if (!commandLineOptions.getMeasurementTime().hasValue()) {
+            optionsBuilder.measurementTime(ITERATION_TIME);
+        }
+        if (commandLineOptions.getProfilers().stream()
+                .noneMatch(profiler -> GCProfiler.class.getName().equals(profiler.getKlass()))) {
+            optionsBuilder.addProfiler(GCProfiler.class);
+        }
+        new Runner(optionsBuilder.build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.sailpoint.benchmark;
+
+import com.sailpoint.improved.custom.AbstractCustomObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sailpoint.api.SailPointContext;
+import sailpoint.tools.GeneralException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link AbstractCustomObject#load(SailPointContext)} and
+ * {@link AbstractCustomObject#save(SailPointContext)} with stub sailpoint context
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomObjectBenchmark {
+
+    /**
+     * Stub sailpoint context with saved custom object
+     */
+    private SailPointContext sailPointContext;
+    /**
+     * Custom object to save
+     */
+    private BenchmarkCustomObject customObject;
+
+    /**
+     * Create and save custom object to stub context
+     *
+     * @throws GeneralException - custom object saving error
+     */
+    @Setup
+    public void setup() throws GeneralException {
+        sailPointContext = StubSailPointContext.create();
+        customObject = new BenchmarkCustomObject();
+        customObject.setStringValue(BenchmarkArguments.TEST_VALUE);
+        customObject.setBooleanValue(Boolean.TRUE);
+        customObject.setLongValue(1L);
+        customObject.setListValue(Arrays.asList(BenchmarkArguments.TEST_VALUE, BenchmarkArguments.TEST_VALUE));
+        customObject.setMapValue(
+                Collections.singletonMap(BenchmarkArguments.TEST_VALUE, BenchmarkArguments.TEST_VALUE));
+        customObject.save(sailPointContext);
+    }
+
+    /**
+     * Load new custom object from stub context
+     *
+     * @return loaded custom object
+     * @throws GeneralException - custom object loading error
+     */
+    @Benchmark
+    public AbstractCustomObject load() throws GeneralException {
+        BenchmarkCustomObject loadedObject = new BenchmarkCustomObject();
+        loadedObject.load(sailPointContext);
+        return loadedObject;
+    }
+
+    /**
+     * Save custom object to stub context
+     *
+     * @return saved custom object
+     * @throws GeneralException - custom object saving error
+     */
+    @Benchmark
+    public AbstractCustomObject save() throws GeneralException {
+        customObject.save(sailPointContext);
+        return customObject;
+    }
+}
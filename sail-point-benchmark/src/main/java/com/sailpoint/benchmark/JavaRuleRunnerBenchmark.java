@@ -0,0 +1,87 @@
+package com.sailpoint.benchmark;
+
+import com.sailpoint.improved.rule.runner.JavaRuleRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import sailpoint.api.SailPointFactory;
+import sailpoint.object.JavaRuleExecutor;
+import sailpoint.object.Rule;
+import sailpoint.tools.GeneralException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link JavaRuleRunner#runJavaRule(Rule, Map, List)}: rule executor lookup, rule context creation
+ * and rule execution
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JavaRuleRunnerBenchmark {
+
+    /**
+     * Rule family to benchmark
+     */
+    @Param({"CONNECTOR", "CERTIFICATION", "PROVISIONING"})
+    private BenchmarkRules.RuleFamily family;
+
+    /**
+     * Java rule runner
+     */
+    private JavaRuleRunner<JavaRuleExecutor> javaRuleRunner;
+    /**
+     * Rule with benchmark rule class as source
+     */
+    private Rule rule;
+    /**
+     * Rule parameters
+     */
+    private Map<String, Object> parameters;
+
+    /**
+     * Set stub sailpoint context as current context of benchmark thread, create runner and rule.
+     * Rule is run once, so rule executor is already in runner storage
+     *
+     * @throws GeneralException - rule execution error
+     */
+    @Setup
+    public void setup() throws GeneralException {
+        SailPointFactory.setContext(StubSailPointContext.create());
+        javaRuleRunner = new JavaRuleRunner<>();
+        Class<?> ruleClass = family.createRule().getClass();
+        rule = new Rule();
+        rule.setName(ruleClass.getSimpleName());
+        rule.setSource(ruleClass.getName());
+        parameters = BenchmarkArguments.build(family.createRule().getArgumentsBinder());
+        javaRuleRunner.runJavaRule(rule, parameters, Collections.emptyList());
+    }
+
+    /**
+     * Run rule via java rule runner
+     *
+     * @return rule result
+     * @throws GeneralException - rule execution error
+     */
+    @Benchmark
+    public Object runJavaRule() throws GeneralException {
+        return javaRuleRunner.runJavaRule(rule, parameters, Collections.emptyList());
+    }
+
+    /**
+     * Clear current context of benchmark thread, so worker thread does not keep stub sailpoint context
+     */
+    @TearDown
+    public void tearDown() {
+        SailPointFactory.setContext(null);
+    }
+}
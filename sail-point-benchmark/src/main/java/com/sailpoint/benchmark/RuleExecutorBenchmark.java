@@ -0,0 +1,97 @@
+package com.sailpoint.benchmark;
+
+import com.sailpoint.annotation.common.ArgumentsBinder;
+import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.tools.GeneralException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link AbstractJavaRuleExecutor#execute(JavaRuleContext)} and arguments container building
+ * for each rule family
+ */
+@Slf4j
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RuleExecutorBenchmark {
+
+    /**
+     * Rule family to benchmark
+     */
+    @Param({"CONNECTOR", "AGGREGATION", "CERTIFICATION", "PROVISIONING", "NOTIFICATION", "OWNER",
+            "SCOPING", "MAPPING", "FORM", "WORKFLOW", "POLICY", "LOGIN", "LOGICAL", "UNSTRUCTURED", "ALERT",
+            "ACTIVITY", "REPORT", "MISCELLANEOUS"})
+    private BenchmarkRules.RuleFamily family;
+
+    /**
+     * Benchmark rule of family
+     */
+    private AbstractJavaRuleExecutor<?, ?> rule;
+    /**
+     * Arguments binder of rule
+     */
+    private ArgumentsBinder<?> argumentsBinder;
+    /**
+     * None-null arguments of rule
+     */
+    private List<String> noneNullArguments;
+    /**
+     * Rule arguments
+     */
+    private Map<String, Object> arguments;
+    /**
+     * Rule context with stub sailpoint context
+     */
+    private JavaRuleContext javaRuleContext;
+
+    /**
+     * Create rule and its arguments. Rule is executed once to check arguments
+     *
+     * @throws GeneralException - arguments are not valid for rule
+     */
+    @Setup
+    public void setup() throws GeneralException {
+        rule = family.createRule();
+        argumentsBinder = rule.getArgumentsBinder();
+        noneNullArguments = rule.getNoneNullArguments();
+        arguments = BenchmarkArguments.build(argumentsBinder);
+        javaRuleContext = new JavaRuleContext(StubSailPointContext.create(), arguments);
+        log.debug("Check rule family:[{}] execution", family);
+        rule.execute(javaRuleContext);
+    }
+
+    /**
+     * Whole rule execution: validation, arguments container building and empty internal execution
+     *
+     * @return rule result
+     * @throws GeneralException - rule execution error
+     */
+    @Benchmark
+    public Object execute() throws GeneralException {
+        return rule.execute(javaRuleContext);
+    }
+
+    /**
+     * Arguments container building with none-null checks, the same as default buildContainerArguments
+     *
+     * @return arguments container
+     * @throws GeneralException - none-null argument is null
+     */
+    @Benchmark
+    public Object buildContainerArguments() throws GeneralException {
+        return argumentsBinder.bind(arguments, noneNullArguments);
+    }
+}
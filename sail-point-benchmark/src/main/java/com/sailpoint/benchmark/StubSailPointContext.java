@@ -0,0 +1,92 @@
+package com.sailpoint.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.SailPointObject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory stub of {@link SailPointContext} for benchmarks. Supports:
+ * - getObjectByName: object from storage by class and name
+ * - saveObject: put object to storage by class and name
+ * All other methods return default value of return type.
+ * Storage is not thread-safe, so each benchmark thread must use own context.
+ */
+@Slf4j
+public class StubSailPointContext implements InvocationHandler {
+
+    /**
+     * Name of get object by name method
+     */
+    private static final String GET_OBJECT_BY_NAME_METHOD = "getObjectByName";
+    /**
+     * Name of save object method
+     */
+    private static final String SAVE_OBJECT_METHOD = "saveObject";
+
+    /**
+     * Objects storage. Key - object class and name
+     */
+    private final Map<String, SailPointObject> storage = new HashMap<>();
+
+    /**
+     * Create new stub context
+     *
+     * @return stub sailpoint context
+     */
+    public static SailPointContext create() {
+        return (SailPointContext) Proxy.newProxyInstance(StubSailPointContext.class.getClassLoader(),
+                new Class<?>[]{SailPointContext.class}, new StubSailPointContext());
+    }
+
+    /**
+     * Invoke stub method
+     *
+     * @param proxy  - proxy instance
+     * @param method - called method
+     * @param args   - method arguments
+     * @return stub result
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String methodName = method.getName();
+        if (GET_OBJECT_BY_NAME_METHOD.equals(methodName) && args != null && args.length == 2
+                && args[0] instanceof Class) {
+            return storage.get(buildKey((Class<?>) args[0], String.valueOf(args[1])));
+        }
+        if (SAVE_OBJECT_METHOD.equals(methodName) && args != null && args.length == 1
+                && args[0] instanceof SailPointObject) {
+            SailPointObject object = (SailPointObject) args[0];
+            storage.put(buildKey(object.getClass(), object.getName()), object);
+            return null;
+        }
+        if (Object.class.equals(method.getDeclaringClass())) {
+            switch (methodName) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return StubSailPointContext.class.getSimpleName();
+            }
+        }
+        log.trace("Stub method:[{}] is called", methodName);
+        return BenchmarkArguments.defaultValue(method.getReturnType());
+    }
+
+    /**
+     * Build storage key
+     *
+     * @param objectClass - object class
+     * @param name        - object name
+     * @return storage key
+     */
+    private String buildKey(Class<?> objectClass, String name) {
+        return objectClass.getName() + ':' + name;
+    }
+}
@@ -1,15 +1,28 @@
 package com.sailpoint.improved.rule;
 
+import com.sailpoint.annotation.Memoized;
+import com.sailpoint.annotation.ReusableArguments;
+import com.sailpoint.annotation.common.ArgumentsBinder;
+import com.sailpoint.improved.rule.cache.RuleResultCache;
+import com.sailpoint.improved.rule.metrics.RuleExecutionMetrics;
+import com.sailpoint.improved.rule.metrics.RuleMetricsRegistry;
 import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import sailpoint.api.SailPointContext;
 import sailpoint.object.JavaRuleContext;
 import sailpoint.object.JavaRuleExecutor;
 import sailpoint.tools.GeneralException;
 import sailpoint.tools.Util;
 
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Abstract class for java rule executor,
@@ -23,6 +36,22 @@ public abstract class AbstractJavaRuleExecutor<T extends Object, C> implements J
      */
     public static final String VALIDATION_CONTEXT_ERROR_MESSAGE = "SailPoint context is null";
 
+    /**
+     * Missing arguments binder error message. Parameters:
+     * 0 - rule type
+     */
+    public static final String ARGUMENTS_BINDER_NOT_FOUND_ERROR_MESSAGE =
+            "Rule:[{0}] has no arguments binder, buildContainerArguments must be overridden";
+
+    /**
+     * Batch execution result size error message. Parameters:
+     * 0 - rule type
+     * 1 - batch size
+     * 2 - result size
+     */
+    public static final String BATCH_RESULT_SIZE_ERROR_MESSAGE =
+            "Rule:[{0}], batch size:[{1}] does not match result size:[{2}]";
+
     /**
      * Current rule type
      */
@@ -31,6 +60,30 @@ public abstract class AbstractJavaRuleExecutor<T extends Object, C> implements J
      * List of none-null check attributes
      */
     private final List<String> noneNullArguments;
+    /**
+     * Binder of arguments container. Can be null
+     */
+    private final ArgumentsBinder<C> argumentsBinder;
+    /**
+     * List of none-null check attributes which are not checked by {@link AbstractJavaRuleExecutor#argumentsBinder}
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<String> unboundNoneNullArguments;
+    /**
+     * Execution metrics recorder. Resolved on first call
+     */
+    @Getter(AccessLevel.NONE)
+    private RuleExecutionMetrics executionMetrics;
+    /**
+     * Results cache of rule marked by {@link Memoized}. Null for not memoized rules
+     */
+    private final RuleResultCache<T> resultCache;
+    /**
+     * Thread-confined reusable arguments containers of rule marked by {@link ReusableArguments}.
+     * Null for rules without reusable containers or with immutable arguments container
+     */
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<ReusableContainer<C>> reusableContainers;
 
     /**
      * Default constructor for all rules
@@ -39,12 +92,42 @@ public abstract class AbstractJavaRuleExecutor<T extends Object, C> implements J
      * @param noneNullArguments - list of arguments for none null checking
      */
     protected AbstractJavaRuleExecutor(String ruleType, List<String> noneNullArguments) {
+        this(ruleType, noneNullArguments, null);
+    }
+
+    /**
+     * Constructor for rules with generated arguments binder. None-null checks of bound arguments are done by binder
+     * while building arguments container.
+     *
+     * @param ruleType          - current rule type value
+     * @param noneNullArguments - list of arguments for none null checking
+     * @param argumentsBinder   - arguments container binder
+     */
+    protected AbstractJavaRuleExecutor(String ruleType, List<String> noneNullArguments,
+                                       ArgumentsBinder<C> argumentsBinder) {
         this.ruleType = ruleType;
         this.noneNullArguments = noneNullArguments;
+        this.argumentsBinder = argumentsBinder;
+        if (argumentsBinder == null || Util.isEmpty(noneNullArguments)) {
+            this.unboundNoneNullArguments = noneNullArguments;
+        } else {
+            this.unboundNoneNullArguments = noneNullArguments.stream()
+                    .filter(argument -> !argumentsBinder.getArgumentNames().contains(argument))
+                    .collect(Collectors.toList());
+        }
+        this.resultCache = RuleResultCache.forRule(getClass());
+        this.reusableContainers = getClass().isAnnotationPresent(ReusableArguments.class)
+                && argumentsBinder != null && argumentsBinder.isRefillable()
+                ? ThreadLocal.withInitial(ReusableContainer::new) : null;
     }
 
     /**
-     * Common call of java rule executor
+     * Common call of java rule executor. Latency of validation, arguments container building and internal execution
+     * stages, calls and errors are recorded to {@link RuleMetricsRegistry}.
+     * For rules marked by {@link Memoized} cached result is returned after validation, without building arguments
+     * container and internal execution.
+     * For rules marked by {@link ReusableArguments} arguments container of current thread is refilled instead of
+     * building new one, container is cleared after the call.
      *
      * @param javaRuleContext - current rule context
      * @return rule execution result
@@ -52,31 +135,181 @@ public abstract class AbstractJavaRuleExecutor<T extends Object, C> implements J
      */
     @Override
     public T execute(JavaRuleContext javaRuleContext) throws GeneralException {
-        log.debug("Rule:[{}], stage: validate rule context", ruleType);
-        validate(javaRuleContext);
-        log.debug("Rule:[{}], validation rule context passed", ruleType);
+        RuleExecutionMetrics metrics = getExecutionMetrics();
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        ReusableContainer<C> reusableContainer = null;
+        try {
+            log.debug("Rule:[{}], stage: validate rule context", ruleType);
+            validate(javaRuleContext);
+            log.debug("Rule:[{}], validation rule context passed", ruleType);
 
-        log.debug("Rule:[{}], stage: validate rule context arguments", ruleType);
-        validateArguments(javaRuleContext);
-        log.debug("Rule:[{}], validation rule context arguments passed", ruleType);
+            log.debug("Rule:[{}], stage: validate rule context arguments", ruleType);
+            validateArguments(javaRuleContext);
+            log.debug("Rule:[{}], validation rule context arguments passed", ruleType);
+            long stageTime = System.nanoTime();
+            if (metrics != null) {
+                metrics.recordValidation(stageTime - startTime);
+            }
+
+            Object cacheKey = resultCache == null ? null : resultCache.buildKey(javaRuleContext.getArguments());
+            if (cacheKey != null) {
+                RuleResultCache.CachedResult<T> cachedResult = resultCache.get(cacheKey);
+                T cachedValue = cachedResult == null ? null : cachedResult.load(javaRuleContext.getContext());
+                if (cachedResult != null && (cachedValue != null || !cachedResult.isSailPointObject())) {
+                    log.debug("Rule:[{}], cached result is found", ruleType);
+                    failed = false;
+                    return cachedValue;
+                }
+            }
+
+            log.trace("Rule:[{}], raw parameters:[{}]", ruleType, javaRuleContext.getArguments());
+            log.debug("Rule:[{}], stage: start rule arguments container building", ruleType);
+            reusableContainer = acquireReusableContainer();
+            C containerArguments = reusableContainer == null
+                    ? buildContainerArguments(javaRuleContext)
+                    : refillReusableContainer(javaRuleContext, reusableContainer);
+            log.trace("Rule:[{}], arguments container:[{}]", ruleType, containerArguments);
+            long containerTime = System.nanoTime();
+            if (metrics != null) {
+                metrics.recordContainerBuild(containerTime - stageTime);
+            }
+
+            log.trace("Rule:[{}], stage: execute rule", ruleType);
+            T result = internalExecute(javaRuleContext, containerArguments);
+            if (metrics != null) {
+                metrics.recordExecution(System.nanoTime() - containerTime);
+            }
+            if (cacheKey != null) {
+                log.trace("Rule:[{}], put result to cache", ruleType);
+                resultCache.put(cacheKey, result);
+            }
+            failed = false;
+            return result;
+        } finally {
+            if (reusableContainer != null) {
+                releaseReusableContainer(reusableContainer);
+            }
+            if (metrics != null) {
+                metrics.recordCall(System.nanoTime() - startTime, failed);
+            }
+        }
+    }
+
+    /**
+     * Warm up framework code of rule without calling rule logic: empty arguments are bound by arguments binder, so
+     * generated binder and arguments container classes are loaded and initialized. Rule validation and execution are
+     * not called and metrics are not recorded
+     *
+     * @throws GeneralException - arguments can not be bound
+     */
+    public void warmUp() throws GeneralException {
+        if (argumentsBinder == null) {
+            log.trace("Rule:[{}] has no arguments binder to warm up", ruleType);
+            return;
+        }
+        log.trace("Rule:[{}], warm up arguments binder", ruleType);
+        argumentsBinder.getArgumentNames();
+        argumentsBinder.bind(Collections.emptyMap(), null);
+    }
+
+    /**
+     * Batch call of java rule executor for per-record rules. Sailpoint context is validated only once per batch
+     * (by rule context of the first arguments), arguments of each record are validated and bound to container,
+     * then all containers are passed to {@link AbstractJavaRuleExecutor#internalExecuteBatch(List, List)}.
+     * Whole batch is recorded to {@link RuleMetricsRegistry} as one call. Results cache of {@link Memoized} rules
+     * is not used for batch: batch-aware rules share lookups in {@link AbstractJavaRuleExecutor#internalExecuteBatch}.
+     * Containers of {@link ReusableArguments} rules are not reused for batch: each record has own container.
+     *
+     * @param sailPointContext - sailpoint context for all records
+     * @param argumentsBatch   - arguments of records
+     * @return results of records in the same order as arguments
+     * @throws GeneralException - validation or execution error of any record
+     */
+    public List<T> executeBatch(SailPointContext sailPointContext, List<Map<String, Object>> argumentsBatch)
+            throws GeneralException {
+        if (Util.isEmpty(argumentsBatch)) {
+            log.debug("Rule:[{}], batch is empty", ruleType);
+            return new ArrayList<>();
+        }
+        RuleExecutionMetrics metrics = getExecutionMetrics();
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            log.debug("Rule:[{}], stage: validate rule context once for batch of:[{}]", ruleType,
+                    argumentsBatch.size());
+            validate(new JavaRuleContext(sailPointContext, argumentsBatch.get(0)));
+            long validationTime = System.nanoTime() - startTime;
+            long containerTime = 0L;
 
-        log.trace("Rule:[{}], raw parameters:[{}]", ruleType, javaRuleContext.getArguments());
-        log.debug("Rule:[{}], stage: start rule arguments container building", ruleType);
-        C containerArguments = buildContainerArguments(javaRuleContext);
-        log.trace("Rule:[{}], arguments container:[{}]", ruleType, containerArguments);
+            log.debug("Rule:[{}], stage: validate arguments and build arguments containers", ruleType);
+            List<JavaRuleContext> javaRuleContexts = new ArrayList<>(argumentsBatch.size());
+            List<C> containersArguments = new ArrayList<>(argumentsBatch.size());
+            for (Map<String, Object> arguments : argumentsBatch) {
+                JavaRuleContext javaRuleContext = new JavaRuleContext(sailPointContext, arguments);
+                long recordStartTime = System.nanoTime();
+                validateArguments(javaRuleContext);
+                long recordValidatedTime = System.nanoTime();
+                containersArguments.add(buildContainerArguments(javaRuleContext));
+                validationTime += recordValidatedTime - recordStartTime;
+                containerTime += System.nanoTime() - recordValidatedTime;
+                javaRuleContexts.add(javaRuleContext);
+            }
+            if (metrics != null) {
+                metrics.recordValidation(validationTime);
+                metrics.recordContainerBuild(containerTime);
+            }
 
-        log.trace("Rule:[{}], stage: execute rule", ruleType);
+            log.debug("Rule:[{}], stage: execute rule batch", ruleType);
+            long executionStartTime = System.nanoTime();
+            List<T> results = internalExecuteBatch(javaRuleContexts, containersArguments);
+            if (results == null || results.size() != argumentsBatch.size()) {
+                throw new GeneralException(MessageFormat.format(BATCH_RESULT_SIZE_ERROR_MESSAGE, ruleType,
+                        argumentsBatch.size(), results == null ? null : results.size()));
+            }
+            if (metrics != null) {
+                metrics.recordExecution(System.nanoTime() - executionStartTime);
+            }
+            failed = false;
+            return results;
+        } finally {
+            if (metrics != null) {
+                metrics.recordCall(System.nanoTime() - startTime, failed);
+            }
+        }
+    }
 
-        return internalExecute(javaRuleContext, containerArguments);
+    /**
+     * Get execution metrics recorder of current rule executor. Recorder is resolved once from
+     * {@link RuleMetricsRegistry} by rule executor class and rule type
+     *
+     * @return metrics recorder or null if metrics are disabled
+     */
+    protected RuleExecutionMetrics getExecutionMetrics() {
+        RuleMetricsRegistry registry = RuleMetricsRegistry.getInstance();
+        if (!registry.isEnabled()) {
+            return null;
+        }
+        if (executionMetrics == null) {
+            executionMetrics = registry.getExecutionMetrics(getClass().getName(), ruleType);
+        }
+        return executionMetrics;
     }
 
     /**
-     * Build container arguments for current rule
+     * Build container arguments for current rule.
+     * Default: bind arguments by {@link AbstractJavaRuleExecutor#argumentsBinder} with none-null checks
      *
      * @param javaRuleContext - current rule context
      * @return container arguments instance
+     * @throws GeneralException - none-null argument is null or rule has no arguments binder
      */
-    protected abstract C buildContainerArguments(JavaRuleContext javaRuleContext);
+    protected C buildContainerArguments(JavaRuleContext javaRuleContext) throws GeneralException {
+        if (argumentsBinder == null) {
+            throw new GeneralException(MessageFormat.format(ARGUMENTS_BINDER_NOT_FOUND_ERROR_MESSAGE, ruleType));
+        }
+        return argumentsBinder.bind(javaRuleContext.getArguments(), noneNullArguments);
+    }
 
     /**
      * Internal execution of java rule
@@ -89,6 +322,80 @@ public abstract class AbstractJavaRuleExecutor<T extends Object, C> implements J
     protected abstract T internalExecute(JavaRuleContext javaRuleContext, C containerArguments)
             throws GeneralException;
 
+    /**
+     * Internal batch execution of java rule. Override it to share lookups between records of one batch.
+     * Default: call {@link AbstractJavaRuleExecutor#internalExecute(JavaRuleContext, Object)} for each record
+     *
+     * @param javaRuleContexts    - java rule contexts of records
+     * @param containersArguments - arguments containers of records, in the same order as contexts
+     * @return results of records in the same order as contexts
+     * @throws GeneralException - execution error
+     */
+    protected List<T> internalExecuteBatch(List<JavaRuleContext> javaRuleContexts, List<C> containersArguments)
+            throws GeneralException {
+        List<T> results = new ArrayList<>(javaRuleContexts.size());
+        for (int index = 0; index < javaRuleContexts.size(); index++) {
+            log.trace("Rule:[{}], execute record:[{}]", ruleType, index);
+            results.add(internalExecute(javaRuleContexts.get(index), containersArguments.get(index)));
+        }
+        return results;
+    }
+
+    /**
+     * Acquire reusable arguments container of current thread. Container is not given for nested call of the same
+     * rule in the same thread, because it is used by outer call
+     *
+     * @return reusable container or null if container can not be reused
+     */
+    private ReusableContainer<C> acquireReusableContainer() {
+        if (reusableContainers == null) {
+            return null;
+        }
+        ReusableContainer<C> reusableContainer = reusableContainers.get();
+        if (reusableContainer.inUse) {
+            log.trace("Rule:[{}], arguments container is used by outer call", ruleType);
+            return null;
+        }
+        reusableContainer.inUse = true;
+        return reusableContainer;
+    }
+
+    /**
+     * Refill reusable container by arguments binder with none-null checks of bound arguments. Container is created
+     * by the first call of current thread
+     *
+     * @param javaRuleContext   - current rule context
+     * @param reusableContainer - acquired reusable container
+     * @return refilled arguments container
+     * @throws GeneralException - none-null argument is null
+     */
+    private C refillReusableContainer(JavaRuleContext javaRuleContext, ReusableContainer<C> reusableContainer)
+            throws GeneralException {
+        if (reusableContainer.containerArguments == null) {
+            reusableContainer.containerArguments = buildContainerArguments(javaRuleContext);
+        } else {
+            reusableContainer.containerArguments = argumentsBinder.refill(reusableContainer.containerArguments,
+                    javaRuleContext.getArguments(), noneNullArguments);
+        }
+        return reusableContainer.containerArguments;
+    }
+
+    /**
+     * Clear reusable container, so it does not keep arguments of the last call, and release it
+     *
+     * @param reusableContainer - acquired reusable container
+     * @throws GeneralException - container can not be cleared
+     */
+    private void releaseReusableContainer(ReusableContainer<C> reusableContainer) throws GeneralException {
+        try {
+            if (reusableContainer.containerArguments != null) {
+                argumentsBinder.refill(reusableContainer.containerArguments, null, null);
+            }
+        } finally {
+            reusableContainer.inUse = false;
+        }
+    }
+
     /**
      * Validation rule context:
      * 1 - validate sailpoint context
@@ -105,13 +412,14 @@ public abstract class AbstractJavaRuleExecutor<T extends Object, C> implements J
 
     /**
      * Validation rule context arguments. Runs none-null checks for all {@link AbstractJavaRuleExecutor#noneNullArguments) values
+     * which are not checked by {@link AbstractJavaRuleExecutor#argumentsBinder}
      *
      * @param javaRuleContext - current rule context
      */
     protected void validateArguments(JavaRuleContext javaRuleContext) throws GeneralException {
-        log.debug("Rule:[{}], none-null arguments:[{}]", ruleType, noneNullArguments);
-        if (!Util.isEmpty(noneNullArguments)) {
-            for (String noneNullArgument : noneNullArguments) {
+        log.debug("Rule:[{}], none-null arguments:[{}]", ruleType, unboundNoneNullArguments);
+        if (!Util.isEmpty(unboundNoneNullArguments)) {
+            for (String noneNullArgument : unboundNoneNullArguments) {
                 log.debug("Rule:[{}], stage: none-null check for argument:[{}]", ruleType, noneNullArgument);
                 JavaRuleExecutorUtil.notNullArgumentValidation(javaRuleContext, noneNullArgument);
             }
@@ -141,4 +449,21 @@ public abstract class AbstractJavaRuleExecutor<T extends Object, C> implements J
     protected void internalValidateArguments(JavaRuleContext javaRuleContext) throws GeneralException {
         log.trace("Call default (empty) implementation of arguments validation");
     }
+
+    /**
+     * Reusable arguments container of one thread
+     *
+     * @param <C> - type of arguments container
+     */
+    private static final class ReusableContainer<C> {
+
+        /**
+         * Arguments container. Null until the first call of current thread
+         */
+        private C containerArguments;
+        /**
+         * Container is used by current call
+         */
+        private boolean inUse;
+    }
 }
@@ -1,5 +1,6 @@
 package com.sailpoint.improved.rule;
 
+import com.sailpoint.annotation.common.ArgumentsBinder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.JavaRuleContext;
@@ -24,6 +25,18 @@ public abstract class AbstractNoneOutputJavaRuleExecutor<C> extends AbstractJava
         super(ruleType, noneNullArguments);
     }
 
+    /**
+     * Constructor for rules without output with generated arguments binder
+     *
+     * @param ruleType          - current rule type value
+     * @param noneNullArguments - list of arguments for none null checking
+     * @param argumentsBinder   - arguments container binder
+     */
+    protected AbstractNoneOutputJavaRuleExecutor(String ruleType, List<String> noneNullArguments,
+                                                 ArgumentsBinder<C> argumentsBinder) {
+        super(ruleType, noneNullArguments, argumentsBinder);
+    }
+
     /**
      * Internal execution of java rule
      *
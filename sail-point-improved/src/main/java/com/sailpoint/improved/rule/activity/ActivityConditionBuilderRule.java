@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.activity;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -46,22 +43,8 @@ public abstract class ActivityConditionBuilderRule
      * Default constructor
      */
     public ActivityConditionBuilderRule() {
-        super(Rule.Type.ActivityConditionBuilder.name(), ActivityConditionBuilderRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ActivityConditionBuilderRule.ActivityConditionBuilderRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ActivityConditionBuilderRuleArguments.builder()
-                .config((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ActivityConditionBuilderRule.ARG_CONFIG))
-                .build();
+        super(Rule.Type.ActivityConditionBuilder.name(), ActivityConditionBuilderRule.NONE_NULL_ARGUMENTS_NAME,
+                ActivityConditionBuilderRule_ActivityConditionBuilderRuleArgumentsBinder.INSTANCE);
     }
 
     /**
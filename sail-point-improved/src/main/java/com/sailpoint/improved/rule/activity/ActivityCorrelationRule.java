@@ -3,15 +3,12 @@ package com.sailpoint.improved.rule.activity;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.ActivityDataSource;
 import sailpoint.object.Application;
 import sailpoint.object.ApplicationActivity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.Rule;
 
@@ -56,26 +53,8 @@ public abstract class ActivityCorrelationRule
      * Default constructor
      */
     public ActivityCorrelationRule() {
-        super(Rule.Type.ActivityCorrelation.name(), ActivityCorrelationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ActivityCorrelationRule.ActivityCorrelationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ActivityCorrelationRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ActivityCorrelationRule.ARG_APPLICATION))
-                .dataSource((ActivityDataSource) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ActivityCorrelationRule.ARG_DATA_SOURCE))
-                .activity((ApplicationActivity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ActivityCorrelationRule.ARG_ACTIVITY))
-                .build();
+        super(Rule.Type.ActivityCorrelation.name(), ActivityCorrelationRule.NONE_NULL_ARGUMENTS_NAME,
+                ActivityCorrelationRule_ActivityCorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.activity;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.sql.ResultSet;
@@ -47,22 +44,8 @@ public abstract class ActivityPositionBuilderRule
      * Default constructor
      */
     public ActivityPositionBuilderRule() {
-        super(Rule.Type.ActivityPositionBuilder.name(), ActivityPositionBuilderRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ActivityPositionBuilderRule.ActivityPositionBuilderRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ActivityPositionBuilderRuleArguments.builder()
-                .row((ResultSet) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ActivityPositionBuilderRule.ARG_ROW))
-                .build();
+        super(Rule.Type.ActivityPositionBuilder.name(), ActivityPositionBuilderRule.NONE_NULL_ARGUMENTS_NAME,
+                ActivityPositionBuilderRule_ActivityPositionBuilderRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -4,10 +4,8 @@ import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.ApplicationActivity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Collections;
@@ -28,19 +26,8 @@ public abstract class ActivityTransformerRule
      * Default constructor
      */
     public ActivityTransformerRule() {
-        super(Rule.Type.ActivityTransformer.name(), Collections.emptyList());
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ActivityTransformerRule.ActivityTransformerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ActivityTransformerRuleArguments.builder().build();
+        super(Rule.Type.ActivityTransformer.name(), Collections.emptyList(),
+                ActivityTransformerRule_ActivityTransformerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,12 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Bundle;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningProject;
@@ -113,39 +111,8 @@ public abstract class AccountSelectorRule<T extends Object>
      * Default constructor
      */
     public AccountSelectorRule() {
-        super(Rule.Type.AccountSelector.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected AccountSelectorRule.AccountSelectorRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return AccountSelectorRuleArguments
-                .builder()
-                .source(Source.valueOf((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_SOURCE)))
-                .role((Bundle) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_ROLE))
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_IDENTITY))
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_APPLICATION))
-                .links((List<Link>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_LINKS))
-                .isSecondary((Boolean) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_IS_SECONDARY))
-                .project((ProvisioningProject) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_PROJECT))
-                .accountRequest((ProvisioningPlan.AccountRequest) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_ACCOUNT_REQUEST))
-                .allowCreate((Boolean) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AccountSelectorRule.ARG_ALLOW_CREATE))
-                .build();
+        super(Rule.Type.AccountSelector.name(), NONE_NULL_ARGUMENTS_NAME,
+                AccountSelectorRule_AccountSelectorRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,11 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.Correlator;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.ResourceObject;
 import sailpoint.object.Rule;
@@ -89,29 +87,8 @@ public abstract class CorrelationRule
      * Default constructor
      */
     public CorrelationRule() {
-        super(Rule.Type.Correlation.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CorrelationRule.CorrelationRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return CorrelationRuleArguments
-                .builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, CorrelationRule.ARG_ENVIRONMENT))
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, CorrelationRule.ARG_APPLICATION))
-                .account((ResourceObject) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, CorrelationRule.ARG_ACCOUNT))
-                .link((Link) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, CorrelationRule.ARG_LINK))
-                .build();
+        super(Rule.Type.Correlation.name(), NONE_NULL_ARGUMENTS_NAME,
+                CorrelationRule_CorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,12 +3,10 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ManagedAttribute;
 import sailpoint.object.ResourceObject;
 import sailpoint.object.Rule;
@@ -62,29 +60,8 @@ public abstract class GroupAggregationRefreshRule
      * Default constructor
      */
     public GroupAggregationRefreshRule() {
-        super(Rule.Type.GroupAggregationRefresh.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected GroupAggregationRefreshRule.GroupAggregationRefreshRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return GroupAggregationRefreshRuleArguments
-                .builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, GroupAggregationRefreshRule.ARG_ENVIRONMENT))
-                .object((ResourceObject) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, GroupAggregationRefreshRule.ARG_OBJECT))
-                .accountGroup((ManagedAttribute) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, GroupAggregationRefreshRule.ARG_ACCOUNT_GROUP))
-                .groupApplication((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, GroupAggregationRefreshRule.ARG_GROUP_APPLICATION))
-                .build();
+        super(Rule.Type.GroupAggregationRefresh.name(), NONE_NULL_ARGUMENTS_NAME,
+                GroupAggregationRefreshRule_GroupAggregationRefreshRuleArgumentsBinder.INSTANCE);
     }
 
     /**
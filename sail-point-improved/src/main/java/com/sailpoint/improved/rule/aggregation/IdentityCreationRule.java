@@ -3,13 +3,11 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ResourceObject;
 import sailpoint.object.Rule;
 
@@ -70,29 +68,8 @@ public abstract class IdentityCreationRule
      * Default constructor
      */
     public IdentityCreationRule() {
-        super(Rule.Type.IdentityCreation.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected IdentityCreationRule.IdentityCreationRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return IdentityCreationRuleArguments
-                .builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, IdentityCreationRule.ARG_ENVIRONMENT))
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, IdentityCreationRule.ARG_APPLICATION))
-                .account((ResourceObject) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, IdentityCreationRule.ARG_ACCOUNT))
-                .identity((Identity) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, IdentityCreationRule.ARG_IDENTITY))
-                .build();
+        super(Rule.Type.IdentityCreation.name(), NONE_NULL_ARGUMENTS_NAME,
+                IdentityCreationRule_IdentityCreationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
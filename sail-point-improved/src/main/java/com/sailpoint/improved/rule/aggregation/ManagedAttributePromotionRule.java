@@ -3,12 +3,10 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ManagedAttribute;
 import sailpoint.object.Rule;
 
@@ -64,27 +62,8 @@ public abstract class ManagedAttributePromotionRule
      * Default constructor
      */
     public ManagedAttributePromotionRule() {
-        super(Rule.Type.ManagedAttributePromotion.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ManagedAttributePromotionRule.ManagedAttributePromotionRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return ManagedAttributePromotionRuleArguments
-                .builder()
-                .attribute((ManagedAttribute) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagedAttributePromotionRule.ARG_ATTRIBUTE))
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagedAttributePromotionRule.ARG_APPLICATION))
-                .state((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagedAttributePromotionRule.ARG_STATE))
-                .build();
+        super(Rule.Type.ManagedAttributePromotion.name(), NONE_NULL_ARGUMENTS_NAME,
+                ManagedAttributePromotionRule_ManagedAttributePromotionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
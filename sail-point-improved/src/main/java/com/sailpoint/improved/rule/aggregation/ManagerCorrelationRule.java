@@ -3,14 +3,12 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.Correlator;
 import sailpoint.connector.AbstractConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.Rule;
 
@@ -90,34 +88,8 @@ public abstract class ManagerCorrelationRule
      * Default constructor
      */
     public ManagerCorrelationRule() {
-        super(Rule.Type.ManagerCorrelation.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ManagerCorrelationRule.ManagerCorrelationRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return ManagerCorrelationRuleArguments
-                .builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagerCorrelationRule.ARG_ENVIRONMENT))
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagerCorrelationRule.ARG_APPLICATION))
-                .instance((String) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagerCorrelationRule.ARG_INSTANCE))
-                .connector((AbstractConnector) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagerCorrelationRule.ARG_CONNECTOR))
-                .link((Link) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ManagerCorrelationRule.ARG_LINK))
-                .managerAttributeValue((String) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext,
-                                ManagerCorrelationRule.ARG_MANAGER_ATTRIBUTE_VALUE))
-                .build();
+        super(Rule.Type.ManagerCorrelation.name(), NONE_NULL_ARGUMENTS_NAME,
+                ManagerCorrelationRule_ManagerCorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
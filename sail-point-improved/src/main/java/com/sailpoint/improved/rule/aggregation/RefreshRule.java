@@ -3,12 +3,10 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -58,25 +56,7 @@ public abstract class RefreshRule extends AbstractNoneOutputJavaRuleExecutor<Ref
      * Default constructor
      */
     public RefreshRule() {
-        super(Rule.Type.Refresh.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected RefreshRule.RefreshRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return RefreshRuleArguments
-                .builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, RefreshRule.ARG_ENVIRONMENT))
-                .identity((Identity) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, RefreshRule.ARG_IDENTITY))
-                .build();
+        super(Rule.Type.Refresh.name(), NONE_NULL_ARGUMENTS_NAME, RefreshRule_RefreshRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,11 @@ package com.sailpoint.improved.rule.aggregation;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.AbstractConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ResourceObject;
 import sailpoint.object.Rule;
 
@@ -70,29 +68,8 @@ public abstract class ResourceObjectCustomizationRule
      * Default constructor
      */
     public ResourceObjectCustomizationRule() {
-        super(Rule.Type.ResourceObjectCustomization.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ResourceObjectCustomizationRule.ResourceObjectCustomizationRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return ResourceObjectCustomizationRuleArguments
-                .builder()
-                .object((ResourceObject) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ResourceObjectCustomizationRule.ARG_OBJECT))
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ResourceObjectCustomizationRule.ARG_APPLICATION))
-                .connector((AbstractConnector) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ResourceObjectCustomizationRule.ARG_CONNECTOR))
-                .state((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, ResourceObjectCustomizationRule.ARG_STATE))
-                .build();
+        super(Rule.Type.ResourceObjectCustomization.name(), NONE_NULL_ARGUMENTS_NAME,
+                ResourceObjectCustomizationRule_ResourceObjectCustomizationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.alert;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Alert;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.SailPointObject;
 
@@ -53,24 +50,8 @@ public abstract class AlertCorrelationRule
      * Default constructor
      */
     public AlertCorrelationRule() {
-        super(Rule.Type.AlertCorrelation.name(), AlertCorrelationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected AlertCorrelationRule.AlertCorrelationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return AlertCorrelationRuleArguments.builder()
-                .source((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AlertCorrelationRule.ARG_SOURCE))
-                .alert((Alert) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AlertCorrelationRule.ARG_ALERT))
-                .build();
+        super(Rule.Type.AlertCorrelation.name(), AlertCorrelationRule.NONE_NULL_ARGUMENTS_NAME,
+                AlertCorrelationRule_AlertCorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.alert;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Alert;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -53,24 +50,8 @@ public abstract class AlertCreationRule
      * Default constructor
      */
     public AlertCreationRule() {
-        super(Rule.Type.AlertCreation.name(), AlertCreationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected AlertCreationRule.AlertCreationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return AlertCreationRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AlertCreationRule.ARG_APPLICATION))
-                .alert((Alert) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AlertCreationRule.ARG_ALERT))
-                .build();
+        super(Rule.Type.AlertCreation.name(), AlertCreationRule.NONE_NULL_ARGUMENTS_NAME,
+                AlertCreationRule_AlertCreationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.alert;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Alert;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -43,22 +40,8 @@ public abstract class AlertMatchRule
      * Default constructor
      */
     public AlertMatchRule() {
-        super(Rule.Type.AlertMatch.name(), AlertMatchRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected AlertMatchRule.AlertMatchRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return AlertMatchRuleArguments.builder()
-                .alert((Alert) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AlertMatchRule.ARG_ALERT))
-                .build();
+        super(Rule.Type.AlertMatch.name(), AlertMatchRule.NONE_NULL_ARGUMENTS_NAME,
+                AlertMatchRule_AlertMatchRuleArgumentsBinder.INSTANCE);
     }
 
     /**
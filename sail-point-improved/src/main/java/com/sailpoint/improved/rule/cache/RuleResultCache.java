@@ -0,0 +1,332 @@
+package com.sailpoint.improved.rule.cache;
+
+import com.sailpoint.annotation.Memoized;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.SailPointObject;
+import sailpoint.tools.GeneralException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded LRU cache of rule results with optional time to live. Used for rules marked by {@link Memoized}.
+ * Cache key is built from key arguments, values must be immutable: strings, numbers, booleans, characters, enums or
+ * saved sailpoint objects which are replaced by class name, id and modification time. Result of call with other key
+ * values is not cached. Sailpoint object results are not shared between threads: they are cached by class and id and
+ * loaded by context of caller.
+ *
+ * @param <T> - type of rule result
+ */
+@Slf4j
+public class RuleResultCache<T> {
+
+    /**
+     * Invalid max size error message. Parameters:
+     * 0 - cache name
+     * 1 - max size
+     */
+    public static final String MAX_SIZE_ERROR_MESSAGE = "Rule result cache:[{0}], max size:[{1}] must be positive";
+    /**
+     * No key arguments error message. Parameters:
+     * 0 - cache name
+     */
+    public static final String NO_KEY_ARGUMENTS_ERROR_MESSAGE = "Rule result cache:[{0}] requires key arguments";
+    /**
+     * Immutable types of key values
+     */
+    private static final List<Class<?>> IMMUTABLE_TYPES = Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class);
+
+    /**
+     * Cache name: rule class name
+     */
+    @Getter
+    private final String name;
+    /**
+     * Max count of cached results
+     */
+    @Getter
+    private final int maxSize;
+    /**
+     * Time to live of result in nanoseconds. 0 - results are not expired
+     */
+    private final long ttlNanos;
+    /**
+     * Names of key arguments
+     */
+    private final List<String> keyArguments;
+    /**
+     * Source of current time in nanoseconds
+     */
+    private final LongSupplier ticker;
+    /**
+     * Cached results in access order
+     */
+    private final LinkedHashMap<Object, CachedResult<T>> results;
+    /**
+     * Count of cache hits
+     */
+    private final LongAdder hits = new LongAdder();
+    /**
+     * Count of cache misses
+     */
+    private final LongAdder misses = new LongAdder();
+    /**
+     * Count of evicted and expired results
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor with parameters
+     *
+     * @param name         - cache name
+     * @param maxSize      - max count of cached results
+     * @param ttlNanos     - time to live in nanoseconds, 0 - not expired
+     * @param keyArguments - names of key arguments
+     */
+    public RuleResultCache(String name, int maxSize, long ttlNanos, List<String> keyArguments) {
+        this(name, maxSize, ttlNanos, keyArguments, System::nanoTime);
+    }
+
+    /**
+     * Constructor with parameters and time source
+     *
+     * @param name         - cache name
+     * @param maxSize      - max count of cached results
+     * @param ttlNanos     - time to live in nanoseconds, 0 - not expired
+     * @param keyArguments - names of key arguments
+     * @param ticker       - source of current time in nanoseconds
+     */
+    RuleResultCache(String name, int maxSize, long ttlNanos, List<String> keyArguments, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException(MessageFormat.format(MAX_SIZE_ERROR_MESSAGE, name, maxSize));
+        }
+        if (keyArguments == null || keyArguments.isEmpty()) {
+            throw new IllegalArgumentException(MessageFormat.format(NO_KEY_ARGUMENTS_ERROR_MESSAGE, name));
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = Math.max(ttlNanos, 0L);
+        this.keyArguments = new ArrayList<>(keyArguments);
+        this.ticker = ticker;
+        this.results = new LinkedHashMap<Object, CachedResult<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedResult<T>> eldest) {
+                if (size() > RuleResultCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Create cache for rule class if it is marked by {@link Memoized}
+     *
+     * @param ruleClass - rule class
+     * @param <T>       - type of rule result
+     * @return cache or null if rule is not memoized
+     */
+    public static <T> RuleResultCache<T> forRule(Class<?> ruleClass) {
+        Memoized memoized = ruleClass.getAnnotation(Memoized.class);
+        if (memoized == null) {
+            return null;
+        }
+        log.debug("Rule:[{}] is memoized, key arguments:[{}], max size:[{}], ttl:[{} {}]", ruleClass.getName(),
+                memoized.arguments(), memoized.maxSize(), memoized.ttl(), memoized.ttlUnit());
+        return new RuleResultCache<>(ruleClass.getName(), memoized.maxSize(),
+                memoized.ttlUnit().toNanos(memoized.ttl()), Arrays.asList(memoized.arguments()));
+    }
+
+    /**
+     * Build cache key from key arguments
+     *
+     * @param arguments - raw rule arguments
+     * @return cache key or null if result can not be cached: value of key argument is not immutable or is not saved
+     * sailpoint object
+     */
+    public Object buildKey(Map<String, Object> arguments) {
+        Map<String, Object> safeArguments = arguments == null ? Collections.emptyMap() : arguments;
+        List<Object> key = new ArrayList<>(keyArguments.size());
+        for (String keyArgument : keyArguments) {
+            Object value = safeArguments.get(keyArgument);
+            if (value instanceof SailPointObject) {
+                SailPointObject sailPointObject = (SailPointObject) value;
+                if (sailPointObject.getId() == null) {
+                    log.trace("Cache:[{}], key argument:[{}] is not saved, result is not cached", name, keyArgument);
+                    return null;
+                }
+                Date modified = sailPointObject.getModified();
+                key.add(Arrays.asList(value.getClass().getName(), sailPointObject.getId(),
+                        modified == null ? null : modified.getTime()));
+            } else if (value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass())) {
+                key.add(value);
+            } else {
+                log.trace("Cache:[{}], key argument:[{}] of type:[{}] is not immutable, result is not cached", name,
+                        keyArgument, value.getClass().getName());
+                return null;
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Get cached result by key. Expired result is removed
+     *
+     * @param key - cache key
+     * @return cached result or null if there is no valid result
+     */
+    public CachedResult<T> get(Object key) {
+        CachedResult<T> cachedResult;
+        synchronized (results) {
+            cachedResult = results.get(key);
+            if (cachedResult != null && cachedResult.isExpired(ticker.getAsLong())) {
+                log.trace("Cache:[{}], result of key:[{}] is expired", name, key);
+                results.remove(key);
+                evictions.increment();
+                cachedResult = null;
+            }
+        }
+        if (cachedResult == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return cachedResult;
+    }
+
+    /**
+     * Put result to cache. Sailpoint object result is cached by class and id, not saved sailpoint object is not
+     * cached
+     *
+     * @param key   - cache key
+     * @param value - rule result, can be null
+     */
+    public void put(Object key, T value) {
+        long expireTime = ttlNanos == 0 ? 0L : ticker.getAsLong() + ttlNanos;
+        CachedResult<T> cachedResult;
+        if (value instanceof SailPointObject) {
+            SailPointObject sailPointObject = (SailPointObject) value;
+            if (sailPointObject.getId() == null) {
+                log.trace("Cache:[{}], result of key:[{}] is not saved, it is not cached", name, key);
+                return;
+            }
+            cachedResult = new CachedResult<>(null, sailPointObject.getClass(), sailPointObject.getId(),
+                    expireTime);
+        } else {
+            cachedResult = new CachedResult<>(value, null, null, expireTime);
+        }
+        synchronized (results) {
+            results.put(key, cachedResult);
+        }
+    }
+
+    /**
+     * Remove all cached results. Statistics are not reset
+     */
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+
+    /**
+     * Get current cache statistics
+     *
+     * @return cache statistics
+     */
+    public RuleResultCacheStats getStats() {
+        int size;
+        synchronized (results) {
+            size = results.size();
+        }
+        return new RuleResultCacheStats(name, size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Cached rule result: value or class and id of sailpoint object
+     *
+     * @param <T> - type of rule result
+     */
+    public static final class CachedResult<T> {
+
+        /**
+         * Rule result. Null for sailpoint object result
+         */
+        @Getter
+        private final T value;
+        /**
+         * Class of sailpoint object result
+         */
+        private final Class<? extends SailPointObject> objectClass;
+        /**
+         * Id of sailpoint object result
+         */
+        private final String objectId;
+        /**
+         * Expiration time in nanoseconds. 0 - not expired
+         */
+        private final long expireTime;
+
+        /**
+         * Constructor with parameters
+         *
+         * @param value       - rule result
+         * @param objectClass - class of sailpoint object result
+         * @param objectId    - id of sailpoint object result
+         * @param expireTime  - expiration time in nanoseconds
+         */
+        private CachedResult(T value, Class<? extends SailPointObject> objectClass, String objectId,
+                             long expireTime) {
+            this.value = value;
+            this.objectClass = objectClass;
+            this.objectId = objectId;
+            this.expireTime = expireTime;
+        }
+
+        /**
+         * Check is result sailpoint object which must be loaded by {@link #load(SailPointContext)}
+         *
+         * @return true - result is sailpoint object
+         */
+        public boolean isSailPointObject() {
+            return objectClass != null;
+        }
+
+        /**
+         * Get result: value or sailpoint object loaded by context of caller
+         *
+         * @param sailPointContext - sailpoint context of caller
+         * @return rule result, null if sailpoint object is deleted
+         * @throws GeneralException - sailpoint object can not be loaded
+         */
+        @SuppressWarnings("unchecked")
+        public T load(SailPointContext sailPointContext) throws GeneralException {
+            return objectClass == null ? value : (T) sailPointContext.getObjectById(objectClass, objectId);
+        }
+
+        /**
+         * Check is result expired
+         *
+         * @param now - current time in nanoseconds
+         * @return true - result is expired
+         */
+        private boolean isExpired(long now) {
+            return expireTime != 0 && now - expireTime >= 0;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sailpoint.improved.rule.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Statistics of {@link RuleResultCache}
+ */
+@Data
+@AllArgsConstructor
+public class RuleResultCacheStats {
+
+    /**
+     * Cache name
+     */
+    private final String name;
+    /**
+     * Count of cached results
+     */
+    private final int size;
+    /**
+     * Count of cache hits
+     */
+    private final long hits;
+    /**
+     * Count of cache misses
+     */
+    private final long misses;
+    /**
+     * Count of evicted and expired results
+     */
+    private final long evictions;
+
+    /**
+     * Get ratio of hits to all requests
+     *
+     * @return hit ratio from 0 to 1, 0 if there were no requests
+     */
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0D : (double) hits / requests;
+    }
+}
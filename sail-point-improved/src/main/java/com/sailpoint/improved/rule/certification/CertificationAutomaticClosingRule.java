@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Certification;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -49,22 +46,8 @@ public abstract class CertificationAutomaticClosingRule
      */
     public CertificationAutomaticClosingRule() {
         super(Rule.Type.CertificationAutomaticClosing.name(),
-                CertificationAutomaticClosingRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationAutomaticClosingRule.CertificationAutomaticClosingRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationAutomaticClosingRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationAutomaticClosingRule.ARG_CERTIFICATION))
-                .build();
+                CertificationAutomaticClosingRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationAutomaticClosingRule_CertificationAutomaticClosingRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Certification;
 import sailpoint.object.CertificationEntity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.tools.Message;
 
@@ -68,26 +65,8 @@ public abstract class CertificationEntityCompletionRule<T extends Object>
      */
     public CertificationEntityCompletionRule() {
         super(Rule.Type.CertificationEntityCompletion.name(),
-                CertificationEntityCompletionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationEntityCompletionRule.CertificationEntityCompletionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationEntityCompletionRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationEntityCompletionRule.ARG_CERTIFICATION))
-                .certificationEntity((CertificationEntity) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationEntityCompletionRule.ARG_CERTIFICATION_ENTITY))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationEntityCompletionRule.ARG_STATE))
-                .build();
+                CertificationEntityCompletionRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationEntityCompletionRule_CertificationEntityCompletionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,16 +3,13 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.CertificationContext;
 import sailpoint.object.AbstractCertifiableEntity;
 import sailpoint.object.Certification;
 import sailpoint.object.CertificationEntity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -72,31 +69,8 @@ public abstract class CertificationEntityCustomizationRule
      */
     public CertificationEntityCustomizationRule() {
         super(Rule.Type.CertificationEntityCustomization.name(),
-                CertificationEntityCustomizationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationEntityCustomizationRule.CertificationEntityCustomizationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationEntityCustomizationRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationEntityCustomizationRule.ARG_CERTIFICATION))
-                .certifiableEntity(
-                        (AbstractCertifiableEntity) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                                CertificationEntityCustomizationRule.ARG_CERTIFIABLE_ENTITY))
-                .entity((CertificationEntity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationEntityCustomizationRule.ARG_ENTITY))
-                .certContext((CertificationContext) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationEntityCustomizationRule.ARG_CERT_CONTEXT))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationEntityCustomizationRule.ARG_STATE))
-                .build();
+                CertificationEntityCustomizationRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationEntityCustomizationRule_CertificationEntityCustomizationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -129,7 +103,7 @@ public abstract class CertificationEntityCustomizationRule
         /**
          * CertificationContext being used to build the certification (rarely used in a rule)
          */
-        @Argument(name = CertificationEntityCustomizationRule.ARG_CERTIFIABLE_ENTITY)
+        @Argument(name = CertificationEntityCustomizationRule.ARG_CERT_CONTEXT)
         private final CertificationContext certContext;
         /**
          * Map in which any data can be stored; shared across multiple rules in the certification generation process
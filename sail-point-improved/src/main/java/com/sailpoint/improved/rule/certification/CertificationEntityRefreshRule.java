@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Certification;
 import sailpoint.object.CertificationEntity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -54,24 +51,8 @@ public abstract class CertificationEntityRefreshRule
      */
     public CertificationEntityRefreshRule() {
         super(Rule.Type.CertificationEntityRefresh.name(),
-                CertificationEntityRefreshRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationEntityRefreshRule.CertificationEntityRefreshRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationEntityRefreshRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationEntityRefreshRule.ARG_CERTIFICATION))
-                .certificationEntity((CertificationEntity) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationEntityRefreshRule.ARG_CERTIFICATION_ENTITY))
-                .build();
+                CertificationEntityRefreshRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationEntityRefreshRule_CertificationEntityRefreshRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,16 +3,13 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.CertificationContext;
 import sailpoint.object.AbstractCertifiableEntity;
 import sailpoint.object.Certifiable;
 import sailpoint.object.Certification;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -92,34 +89,8 @@ public abstract class CertificationExclusionRule
      * Default constructor
      */
     public CertificationExclusionRule() {
-        super(Rule.Type.CertificationExclusion.name(), CertificationExclusionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationExclusionRule.CertificationExclusionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationExclusionRuleArguments.builder()
-                .entity((AbstractCertifiableEntity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationExclusionRule.ARG_ENTITY))
-                .certification((Certification) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationExclusionRule.ARG_CERTIFICATION))
-                .certContext((CertificationContext) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationExclusionRule.ARG_CERT_CONTEXT))
-                .items((List<Certifiable>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationExclusionRule.ARG_ITEMS))
-                .itemsToExclude((List<Certifiable>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationExclusionRule.ARG_ITEMS_TO_EXCLUDE))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationExclusionRule.ARG_STATE))
-                .identity((AbstractCertifiableEntity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationExclusionRule.ARG_IDENTITY))
-                .build();
+        super(Rule.Type.CertificationExclusion.name(), CertificationExclusionRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationExclusionRule_CertificationExclusionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Certification;
 import sailpoint.object.CertificationItem;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -65,28 +62,8 @@ public abstract class CertificationItemCompletionRule
      */
     public CertificationItemCompletionRule() {
         super(Rule.Type.CertificationItemCompletion.name(),
-                CertificationItemCompletionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationItemCompletionRule.CertificationItemCompletionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationItemCompletionRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationItemCompletionRule.ARG_CERTIFICATION))
-                .item((CertificationItem) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationItemCompletionRule.ARG_ITEM))
-                .entity((CertificationItem) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationItemCompletionRule.ARG_ENTITY))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationItemCompletionRule.ARG_STATE))
-                .build();
+                CertificationItemCompletionRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationItemCompletionRule_CertificationItemCompletionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
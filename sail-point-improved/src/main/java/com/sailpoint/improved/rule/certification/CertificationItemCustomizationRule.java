@@ -3,17 +3,14 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.CertificationContext;
 import sailpoint.object.AbstractCertifiableEntity;
 import sailpoint.object.Certifiable;
 import sailpoint.object.Certification;
 import sailpoint.object.CertificationItem;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -77,33 +74,8 @@ public abstract class CertificationItemCustomizationRule
      */
     public CertificationItemCustomizationRule() {
         super(Rule.Type.CertificationItemCustomization.name(),
-                CertificationItemCustomizationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationItemCustomizationRule.CertificationItemCustomizationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationItemCustomizationRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationItemCustomizationRule.ARG_CERTIFICATION))
-                .certifiable((Certifiable) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationItemCustomizationRule.ARG_CERTIFIABLE))
-                .certifiableEntity(
-                        (AbstractCertifiableEntity) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                                CertificationItemCustomizationRule.ARG_CERTIFIABLE_ENTITY))
-                .item((CertificationItem) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationItemCustomizationRule.ARG_ITEM))
-                .certContext((CertificationContext) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationItemCustomizationRule.ARG_CERT_CONTEXT))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationItemCustomizationRule.ARG_STATE))
-                .build();
+                CertificationItemCustomizationRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationItemCustomizationRule_CertificationItemCustomizationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -142,7 +114,7 @@ public abstract class CertificationItemCustomizationRule
         /**
          * CertificationContext being used to build the certification (rarely used in a rule)
          */
-        @Argument(name = CertificationItemCustomizationRule.ARG_CERTIFIABLE_ENTITY)
+        @Argument(name = CertificationItemCustomizationRule.ARG_CERT_CONTEXT)
         private final CertificationContext certContext;
         /**
          * A Map that can be used to store and share data between executions of this rule during
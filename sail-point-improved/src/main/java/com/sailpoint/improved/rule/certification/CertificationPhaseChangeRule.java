@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Certification;
 import sailpoint.object.CertificationItem;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -67,28 +64,8 @@ public abstract class CertificationPhaseChangeRule
      */
     public CertificationPhaseChangeRule() {
         super(Rule.Type.CertificationPhaseChange.name(),
-                CertificationPhaseChangeRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationPhaseChangeRule.CertificationPhaseChangeRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationPhaseChangeRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationPhaseChangeRule.ARG_CERTIFICATION))
-                .certificationItem((CertificationItem) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationPhaseChangeRule.ARG_CERTIFICATION_ITEM))
-                .previousPhase((Certification.Phase) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationPhaseChangeRule.ARG_PREVIOUS_PHASE))
-                .nextPhase((Certification.Phase) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationPhaseChangeRule.ARG_NEXT_PHASE))
-                .build();
+                CertificationPhaseChangeRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationPhaseChangeRule_CertificationPhaseChangeRuleArgumentsBinder.INSTANCE);
     }
 
     /**
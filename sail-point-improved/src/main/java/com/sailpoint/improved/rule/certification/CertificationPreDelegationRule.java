@@ -3,16 +3,13 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.CertificationContext;
 import sailpoint.object.Certification;
 import sailpoint.object.CertificationEntity;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.tools.Util;
 
@@ -79,28 +76,8 @@ public abstract class CertificationPreDelegationRule
      * Default constructor
      */
     public CertificationPreDelegationRule() {
-        super(Rule.Type.CertificationPreDelegation.name(), CertificationPreDelegationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationPreDelegationRule.CertificationPreDelegationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationPreDelegationRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationPreDelegationRule.ARG_CERTIFICATION))
-                .entity((CertificationEntity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationPreDelegationRule.ARG_ENTITY))
-                .certContext((CertificationContext) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationPreDelegationRule.ARG_CERT_CONTEXT))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationPreDelegationRule.ARG_STATE))
-                .build();
+        super(Rule.Type.CertificationPreDelegation.name(), CertificationPreDelegationRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationPreDelegationRule_CertificationPreDelegationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Certification;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.workflow.IdentityLibrary;
 
@@ -67,26 +64,8 @@ public abstract class CertificationSignOffApproverRule
      */
     public CertificationSignOffApproverRule() {
         super(Rule.Type.CertificationSignOffApprover.name(),
-                CertificationSignOffApproverRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertificationSignOffApproverRule.CertificationSignOffApproverRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertificationSignOffApproverRuleArguments.builder()
-                .certification((Certification) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationSignOffApproverRule.ARG_CERTIFICATION))
-                .certifier((Identity) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        CertificationSignOffApproverRule.ARG_CERTIFIER))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertificationSignOffApproverRule.ARG_STATE))
-                .build();
+                CertificationSignOffApproverRule.NONE_NULL_ARGUMENTS_NAME,
+                CertificationSignOffApproverRule_CertificationSignOffApproverRuleArgumentsBinder.INSTANCE);
     }
 
     /**
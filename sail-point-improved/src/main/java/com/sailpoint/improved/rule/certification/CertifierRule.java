@@ -3,15 +3,12 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.GroupDefinition;
 import sailpoint.object.GroupFactory;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -66,26 +63,8 @@ public abstract class CertifierRule<T extends Object>
      * Default constructor
      */
     public CertifierRule() {
-        super(Rule.Type.Certifier.name(), CertifierRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CertifierRule.CertifierRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CertifierRuleArguments.builder()
-                .factory((GroupFactory) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertifierRule.ARG_FACTORY))
-                .group((GroupDefinition) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertifierRule.ARG_GROUP))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CertifierRule.ARG_STATE))
-                .build();
+        super(Rule.Type.Certifier.name(), CertifierRule.NONE_NULL_ARGUMENTS_NAME,
+                CertifierRule_CertifierRuleArgumentsBinder.INSTANCE);
     }
 
     /**
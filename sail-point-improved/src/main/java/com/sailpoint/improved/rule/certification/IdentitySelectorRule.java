@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.certification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Collections;
@@ -58,22 +55,8 @@ public abstract class IdentitySelectorRule
      */
     public IdentitySelectorRule() {
         super(Rule.Type.IdentitySelector.name(),
-                IdentitySelectorRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected IdentitySelectorRule.IdentitySelectorRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return IdentitySelectorRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        IdentitySelectorRule.ARG_IDENTITY))
-                .build();
+                IdentitySelectorRule.NONE_NULL_ARGUMENTS_NAME,
+                IdentitySelectorRule_IdentitySelectorRuleArgumentsBinder.INSTANCE);
     }
 
     /**
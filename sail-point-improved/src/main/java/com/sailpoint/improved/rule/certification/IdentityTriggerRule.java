@@ -6,7 +6,6 @@ import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
 import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
 import sailpoint.object.JavaRuleContext;
@@ -59,26 +58,8 @@ public abstract class IdentityTriggerRule
      * Default constructor
      */
     public IdentityTriggerRule() {
-        super(Rule.Type.IdentityTrigger.name(), Collections.emptyList());
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected IdentityTriggerRule.IdentityTriggerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return IdentityTriggerRuleArguments.builder()
-                .newIdentity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityTriggerRule.ARG_NEW_IDENTITY))
-                .previousIdentity(
-                        (Identity) JavaRuleExecutorUtil
-                                .getArgumentValueByName(javaRuleContext,
-                                        IdentityTriggerRule.ARG_PREVIOUS_IDENTITY))
-                .build();
+        super(Rule.Type.IdentityTrigger.name(), Collections.emptyList(),
+                IdentityTriggerRule_IdentityTriggerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
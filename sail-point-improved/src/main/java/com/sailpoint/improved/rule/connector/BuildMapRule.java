@@ -1,16 +1,22 @@
 package com.sailpoint.improved.rule.connector;
 
+import com.sailpoint.annotation.ReusableArguments;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.delta.DeltaAggregation;
+import com.sailpoint.improved.rule.connector.delta.DeltaIndex;
+import com.sailpoint.improved.rule.connector.file.SchemaRecordMapper;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -50,6 +56,14 @@ public abstract class BuildMapRule
      * Name of cols argument name
      */
     public static final String ARG_COLUMNS = "cols";
+    /**
+     * Name of record mapper in state
+     */
+    public static final String STATE_RECORD_MAPPER = "recordMapper";
+    /**
+     * Name of identity of record checked by delta aggregation in state
+     */
+    public static final String STATE_DELTA_IDENTITY = "deltaIdentity";
     /**
      * None nulls arguments
      */
@@ -65,34 +79,99 @@ public abstract class BuildMapRule
      * Default constructor
      */
     public BuildMapRule() {
-        super(Rule.Type.BuildMap.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.BuildMap.name(), NONE_NULL_ARGUMENTS_NAME, BuildMapRule_BuildMapRuleArgumentsBinder.INSTANCE);
     }
 
     /**
-     * Build arguments container for current rule
+     * Execute rule. If execution fails, fingerprint of current record checked by {@link #isUnchangedRecord} is
+     * invalidated, so record is processed again by next delta aggregation
      *
      * @param javaRuleContext - current rule context
-     * @return argument container instance
+     * @return map of current record
+     * @throws GeneralException - validation or execution error
      */
     @Override
-    protected BuildMapRule.BuildMapRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return BuildMapRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, BuildMapRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, BuildMapRule.ARG_SCHEMA))
-                .state((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, BuildMapRule.ARG_STATE))
-                .record((List<String>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, BuildMapRule.ARG_RECORD))
-                .columns((List<String>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, BuildMapRule.ARG_COLUMNS))
-                .build();
+    public Map<String, Object> execute(JavaRuleContext javaRuleContext) throws GeneralException {
+        boolean failed = true;
+        try {
+            Map<String, Object> result = super.execute(javaRuleContext);
+            failed = false;
+            return result;
+        } finally {
+            Map<String, Object> arguments = javaRuleContext.getArguments();
+            Object state = arguments == null ? null : arguments.get(ARG_STATE);
+            if (state instanceof Map && ((Map<?, ?>) state).containsKey(STATE_DELTA_IDENTITY)) {
+                String identity = (String) ((Map<?, ?>) state).remove(STATE_DELTA_IDENTITY);
+                Object application = arguments.get(ARG_APPLICATION);
+                DeltaIndex deltaIndex = application instanceof Application
+                        ? DeltaAggregation.get(((Application) application).getName())
+                        : null;
+                if (failed && deltaIndex != null) {
+                    deltaIndex.invalidate(identity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Build map of current record by record mapper of state, see {@link #getRecordMapper}
+     *
+     * @param containerArguments - argument container for current rule
+     * @return map of current record
+     */
+    protected Map<String, Object> buildMapFromRecord(BuildMapRuleArguments containerArguments) {
+        return getRecordMapper(containerArguments).map(containerArguments.getRecord());
+    }
+
+    /**
+     * Check is current record unchanged since previous delta aggregation of application (see {@link DeltaAggregation}).
+     * Rule can return null for unchanged record to skip it before map building. Record is fingerprinted by value of
+     * identity attribute of schema and all values of record. Identity of changed record is kept in state until the end
+     * of execution, fingerprint is invalidated if execution fails
+     *
+     * @param containerArguments - argument container for current rule
+     * @return true - record is unchanged, false - record is changed, new or delta aggregation is not begun
+     */
+    protected boolean isUnchangedRecord(BuildMapRuleArguments containerArguments) {
+        DeltaIndex deltaIndex = DeltaAggregation.get(containerArguments.getApplication().getName());
+        if (deltaIndex == null) {
+            return false;
+        }
+        List<String> record = containerArguments.getRecord();
+        int identityIndex = getRecordMapper(containerArguments)
+                .getColumnIndex(containerArguments.getSchema().getIdentityAttribute());
+        if (identityIndex < 0 || identityIndex >= record.size() || record.get(identityIndex) == null) {
+            log.debug("Record has no identity, it is not checked");
+            return false;
+        }
+        if (deltaIndex.check(record.get(identityIndex), record)) {
+            return true;
+        }
+        containerArguments.getState().put(STATE_DELTA_IDENTITY, record.get(identityIndex));
+        return false;
+    }
+
+    /**
+     * Get record mapper from state. Mapper is compiled once per schema and columns
+     *
+     * @param containerArguments - argument container for current rule
+     * @return record mapper of current schema and columns
+     */
+    protected SchemaRecordMapper getRecordMapper(BuildMapRuleArguments containerArguments) {
+        Map<String, Object> state = containerArguments.getState();
+        SchemaRecordMapper recordMapper = (SchemaRecordMapper) state.get(STATE_RECORD_MAPPER);
+        if (recordMapper == null
+                || !recordMapper.isMapperOf(containerArguments.getSchema(), containerArguments.getColumns())) {
+            log.debug("Compile record mapper of application:[{}]", containerArguments.getApplication().getName());
+            recordMapper = new SchemaRecordMapper(containerArguments.getSchema(), containerArguments.getColumns());
+            state.put(STATE_RECORD_MAPPER, recordMapper);
+        }
+        return recordMapper;
     }
 
     /**
-     * Arguments container for {@link BuildMapRule}. Contains:
+     * Arguments container for {@link BuildMapRule}. Container is refilled by generated binder
+     * for rules marked by {@link ReusableArguments}, so setters are package-private. Contains:
      * - application
      * - schema
      * - state
@@ -101,32 +180,33 @@ public abstract class BuildMapRule
      */
     @Data
     @Builder
+    @Setter(AccessLevel.PACKAGE)
     @ArgumentsContainer
     public static class BuildMapRuleArguments {
         /**
          * A reference to the Application object
          */
         @Argument(name = BuildMapRule.ARG_APPLICATION)
-        private final Application application;
+        private Application application;
         /**
          * A reference to the Schema object for the delimited File source being read
          */
         @Argument(name = BuildMapRule.ARG_SCHEMA)
-        private final Schema schema;
+        private Schema schema;
         /**
          * A Map that can be used to store and share data between executions of this rule during a single aggregation run
          */
         @Argument(name = BuildMapRule.ARG_STATE)
-        private final Map<String, Object> state;
+        private Map<String, Object> state;
         /**
          * An ordered list of the values for the current record (parsed based on the specified delimiter)
          */
         @Argument(name = BuildMapRule.ARG_RECORD)
-        private final List<String> record;
+        private List<String> record;
         /**
          * An ordered list of the column names from the file’s header record or specified Columns list
          */
         @Argument(name = BuildMapRule.ARG_COLUMNS)
-        private final List<String> columns;
+        private List<String> columns;
     }
 }
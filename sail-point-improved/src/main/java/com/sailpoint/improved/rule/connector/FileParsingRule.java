@@ -3,13 +3,11 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Attributes;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
 
@@ -72,32 +70,8 @@ public abstract class FileParsingRule
      * Default constructor
      */
     public FileParsingRule() {
-        super(Rule.Type.FileParsingRule.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context for arguments parameters
-     * @return argument container instance
-     */
-    @Override
-    protected FileParsingRule.FileParsingRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return FileParsingRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, FileParsingRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, FileParsingRule.ARG_SCHEMA))
-                .config((Attributes) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, FileParsingRule.ARG_CONFIG))
-                .inputStream((BufferedInputStream) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, FileParsingRule.ARG_INPUT_STREAM))
-                .reader((BufferedReader) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, FileParsingRule.ARG_READER))
-                .state((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, FileParsingRule.ARG_STATE))
-                .build();
+        super(Rule.Type.FileParsingRule.name(), NONE_NULL_ARGUMENTS_NAME,
+                FileParsingRule_FileParsingRuleArgumentsBinder.INSTANCE);
     }
 
     /**
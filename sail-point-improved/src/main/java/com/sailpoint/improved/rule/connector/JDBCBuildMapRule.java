@@ -1,19 +1,24 @@
 package com.sailpoint.improved.rule.connector;
 
+import com.sailpoint.annotation.ReusableArguments;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.jdbc.ResultSetMapper;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +58,16 @@ public abstract class JDBCBuildMapRule
      * Name of connection argument name
      */
     public static final String ARG_CONNECTION = "connection";
+    /**
+     * Name of result set mapper in state
+     */
+    public static final String STATE_RESULT_SET_MAPPER = "resultSetMapper";
+    /**
+     * Row mapping error message. Parameters:
+     * 0 - application name
+     * 1 - error message
+     */
+    public static final String ROW_MAPPING_ERROR_MESSAGE = "Row of application:[{0}] can not be mapped:[{1}]";
     /**
      * None nulls arguments
      */
@@ -68,34 +83,49 @@ public abstract class JDBCBuildMapRule
      * Default constructor
      */
     public JDBCBuildMapRule() {
-        super(Rule.Type.JDBCBuildMap.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.JDBCBuildMap.name(), NONE_NULL_ARGUMENTS_NAME,
+                JDBCBuildMapRule_JDBCBuildMapRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Build map of current row by result set mapper of state, see {@link #getResultSetMapper}
+     *
+     * @param containerArguments - argument container for current rule
+     * @return map of current row
+     * @throws GeneralException - row can not be mapped
+     */
+    protected Map<String, Object> buildMapFromResultSet(JDBCBuildMapRuleArguments containerArguments)
+            throws GeneralException {
+        try {
+            return getResultSetMapper(containerArguments).map(containerArguments.getResult());
+        } catch (SQLException ex) {
+            log.error("Got:[{}] while mapping row", ex.getMessage(), ex);
+            throw new GeneralException(MessageFormat.format(ROW_MAPPING_ERROR_MESSAGE,
+                    containerArguments.getApplication().getName(), ex.getMessage()), ex);
+        }
     }
 
     /**
-     * Build arguments container for current rule
+     * Get result set mapper from state. Mapper is built once per result set by its metadata and schema
      *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
+     * @param containerArguments - argument container for current rule
+     * @return result set mapper of current result set
+     * @throws SQLException - metadata can not be read
      */
-    @Override
-    protected JDBCBuildMapRule.JDBCBuildMapRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return JDBCBuildMapRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, JDBCBuildMapRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, JDBCBuildMapRule.ARG_SCHEMA))
-                .state((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, JDBCBuildMapRule.ARG_STATE))
-                .result((ResultSet) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, JDBCBuildMapRule.ARG_RESULT_SET))
-                .connection((Connection) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, JDBCBuildMapRule.ARG_CONNECTION))
-                .build();
+    protected ResultSetMapper getResultSetMapper(JDBCBuildMapRuleArguments containerArguments) throws SQLException {
+        Map<String, Object> state = containerArguments.getState();
+        ResultSetMapper resultSetMapper = (ResultSetMapper) state.get(STATE_RESULT_SET_MAPPER);
+        if (resultSetMapper == null || !resultSetMapper.isMapperOf(containerArguments.getResult())) {
+            log.debug("Build result set mapper of application:[{}]", containerArguments.getApplication().getName());
+            resultSetMapper = new ResultSetMapper(containerArguments.getResult(), containerArguments.getSchema());
+            state.put(STATE_RESULT_SET_MAPPER, resultSetMapper);
+        }
+        return resultSetMapper;
     }
 
     /**
-     * Arguments container for {@link JDBCBuildMapRule}. Contains:
+     * Arguments container for {@link JDBCBuildMapRule}. Container is refilled by generated binder
+     * for rules marked by {@link ReusableArguments}, so setters are package-private. Contains:
      * - application
      * - schema
      * - state
@@ -104,32 +134,33 @@ public abstract class JDBCBuildMapRule
      */
     @Data
     @Builder
+    @Setter(AccessLevel.PACKAGE)
     @ArgumentsContainer
     public static class JDBCBuildMapRuleArguments {
         /**
          * A reference to the Application object
          */
         @Argument(name = JDBCBuildMapRule.ARG_APPLICATION)
-        private final Application application;
+        private Application application;
         /**
          * A reference to the Schema object for the JDBC source being read
          */
         @Argument(name = JDBCBuildMapRule.ARG_SCHEMA)
-        private final Schema schema;
+        private Schema schema;
         /**
          * A Map that can be used to store and share data between executions of this rule during a single aggregation run
          */
         @Argument(name = JDBCBuildMapRule.ARG_STATE)
-        private final Map<String, Object> state;
+        private Map<String, Object> state;
         /**
          * The current ResultSet from the JDBC connector
          */
         @Argument(name = JDBCBuildMapRule.ARG_RESULT_SET)
-        private final ResultSet result;
+        private ResultSet result;
         /**
          * A reference to the current SQL connection
          */
         @Argument(name = JDBCBuildMapRule.ARG_CONNECTION)
-        private final Connection connection;
+        private Connection connection;
     }
 }
@@ -3,13 +3,12 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.merge.MultiValuedMergeEngine;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.AbstractConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
 
@@ -68,34 +67,32 @@ public abstract class MergeMapsRule
             MergeMapsRule.ARG_MERGE_ATTRS
     );
 
+    /**
+     * Merge engine of multi-valued attributes
+     */
+    private final MultiValuedMergeEngine mergeEngine;
+
     /**
      * Default constructor
      */
     public MergeMapsRule() {
-        super(Rule.Type.MergeMaps.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.MergeMaps.name(), NONE_NULL_ARGUMENTS_NAME,
+                MergeMapsRule_MergeMapsRuleArgumentsBinder.INSTANCE);
+        this.mergeEngine = new MultiValuedMergeEngine();
     }
 
     /**
-     * Build arguments container for current rule
+     * Merge merge attributes of new row to current map by {@link MultiValuedMergeEngine}: sets of values of the last
+     * merged objects are kept by engine between calls, so merging of objects with many values does not scan
+     * accumulated lists. Values of merge attributes are plain lists.
+     * Result is the same as of default merge algorithm of connector, except duplicates of current values are removed
      *
-     * @param javaRuleContext - current rule context for arguments parameters
-     * @return argument container instance
+     * @param containerArguments - argument container for current rule
+     * @return current map with merged values
      */
-    @Override
-    protected MergeMapsRule.MergeMapsRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return MergeMapsRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, MergeMapsRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, MergeMapsRule.ARG_SCHEMA))
-                .current((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, MergeMapsRule.ARG_CURRENT))
-                .newObject((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, MergeMapsRule.ARG_NEW_OBJECT))
-                .mergeAttrs((List<String>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, MergeMapsRule.ARG_MERGE_ATTRS))
-                .build();
+    protected Map<String, Object> mergeMultiValued(MergeMapsRuleArguments containerArguments) {
+        return mergeEngine.merge(containerArguments.getCurrent(), containerArguments.getNewObject(),
+                containerArguments.getMergeAttrs());
     }
 
     /**
@@ -3,18 +3,22 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.peoplesoft.KeyIndex;
+import com.sailpoint.improved.rule.connector.peoplesoft.PrefetchQuery;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.PeopleSoftHRMSConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +31,9 @@ import java.util.Map;
  * <p>
  * NOTE: Since a PeopleSoftHRMSBuildMap rule is run once for every object read from a PeopleSoft HRMS data
  * source, performing time-intensive operations in this rule can have a negative performance impact.
+ * <p>
+ * Extra tables can be prefetched once per aggregation instead of queries per identity, see
+ * {@link PeopleSoftHRMSBuildMapRule#buildMapFromPrefetched(PeopleSoftHRMSBuildMapRuleArguments, List)}
  */
 @Slf4j
 public abstract class PeopleSoftHRMSBuildMapRule
@@ -61,6 +68,17 @@ public abstract class PeopleSoftHRMSBuildMapRule
      * Name of map argument name
      */
     public static final String ARG_MAP = "map";
+    /**
+     * Name of state value with prefetched indexes by query name
+     */
+    public static final String STATE_PREFETCHED_INDEXES = "prefetchedIndexes";
+    /**
+     * Prefetch error message. Parameters:
+     * 0 - query name
+     * 1 - application name
+     * 2 - error message
+     */
+    public static final String PREFETCH_ERROR_MESSAGE = "Query:[{0}] of application:[{1}] can not be prefetched:[{2}]";
     /**
      * None nulls arguments
      */
@@ -78,35 +96,72 @@ public abstract class PeopleSoftHRMSBuildMapRule
      * Default constructor
      */
     public PeopleSoftHRMSBuildMapRule() {
-        super(Rule.Type.PeopleSoftHRMSBuildMap.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.PeopleSoftHRMSBuildMap.name(), NONE_NULL_ARGUMENTS_NAME,
+                PeopleSoftHRMSBuildMapRule_PeopleSoftHRMSBuildMapRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Put prefetched rows of identity to map: columns of the first row for query without attribute, list of rows by
+     * attribute name otherwise. Rows of each query are loaded on the first call in aggregation
+     *
+     * @param containerArguments - argument container for current rule
+     * @param prefetchQueries    - queries of prefetched tables
+     * @return map of identity
+     * @throws GeneralException - rows can not be prefetched
+     */
+    protected Map<String, Object> buildMapFromPrefetched(PeopleSoftHRMSBuildMapRuleArguments containerArguments,
+                                                         List<PrefetchQuery> prefetchQueries)
+            throws GeneralException {
+        Map<String, Object> map = containerArguments.getMap();
+        String identity = containerArguments.getIdentity();
+        for (PrefetchQuery prefetchQuery : prefetchQueries) {
+            KeyIndex keyIndex = getPrefetchedIndex(containerArguments, prefetchQuery);
+            if (prefetchQuery.getAttribute() == null) {
+                Map<String, Object> row = keyIndex.getRow(identity);
+                if (row != null) {
+                    map.putAll(row);
+                }
+            } else {
+                List<Map<String, Object>> rows = keyIndex.getRows(identity);
+                if (!rows.isEmpty()) {
+                    map.put(prefetchQuery.getAttribute(), rows);
+                }
+            }
+        }
+        return map;
     }
 
     /**
-     * Build arguments container for current rule
+     * Get prefetched index of query from state. Index is loaded once per aggregation by connection of rule
      *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
+     * @param containerArguments - argument container for current rule
+     * @param prefetchQuery      - query of prefetched table
+     * @return index of query rows by key
+     * @throws GeneralException - rows can not be prefetched
      */
-    @Override
-    protected PeopleSoftHRMSBuildMapRule.PeopleSoftHRMSBuildMapRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return PeopleSoftHRMSBuildMapRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PeopleSoftHRMSBuildMapRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PeopleSoftHRMSBuildMapRule.ARG_SCHEMA))
-                .state((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PeopleSoftHRMSBuildMapRule.ARG_STATE))
-                .identity((String) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PeopleSoftHRMSBuildMapRule.ARG_IDENTITY))
-                .connection((Connection) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PeopleSoftHRMSBuildMapRule.ARG_CONNECTION))
-                .connector((PeopleSoftHRMSConnector) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PeopleSoftHRMSBuildMapRule.ARG_CONNECTOR))
-                .map((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PeopleSoftHRMSBuildMapRule.ARG_MAP))
-                .build();
+    @SuppressWarnings("unchecked")
+    protected KeyIndex getPrefetchedIndex(PeopleSoftHRMSBuildMapRuleArguments containerArguments,
+                                          PrefetchQuery prefetchQuery) throws GeneralException {
+        Map<String, Object> state = containerArguments.getState();
+        Map<String, KeyIndex> prefetchedIndexes = (Map<String, KeyIndex>) state.get(STATE_PREFETCHED_INDEXES);
+        if (prefetchedIndexes == null) {
+            prefetchedIndexes = new HashMap<>();
+            state.put(STATE_PREFETCHED_INDEXES, prefetchedIndexes);
+        }
+        KeyIndex keyIndex = prefetchedIndexes.get(prefetchQuery.getName());
+        if (keyIndex == null) {
+            log.debug("Prefetch query:[{}] of application:[{}]", prefetchQuery.getName(),
+                    containerArguments.getApplication().getName());
+            try {
+                keyIndex = KeyIndex.load(containerArguments.getConnection(), prefetchQuery);
+            } catch (SQLException ex) {
+                log.error("Got:[{}] while prefetching query:[{}]", ex.getMessage(), prefetchQuery.getName(), ex);
+                throw new GeneralException(MessageFormat.format(PREFETCH_ERROR_MESSAGE, prefetchQuery.getName(),
+                        containerArguments.getApplication().getName(), ex.getMessage()), ex);
+            }
+            prefetchedIndexes.put(prefetchQuery.getName(), keyIndex);
+        }
+        return keyIndex;
     }
 
     /**
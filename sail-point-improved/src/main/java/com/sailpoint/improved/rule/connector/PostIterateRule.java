@@ -3,15 +3,18 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.delta.DeltaAggregation;
+import com.sailpoint.improved.rule.connector.delta.DeltaIndex;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
 
+import java.io.IOException;
+import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +47,12 @@ public abstract class PostIterateRule
      * Name of stats argument name
      */
     public static final String ARG_STATS = "stats";
+    /**
+     * Delta index commit error message. Parameters:
+     * 0 - application name
+     * 1 - error message
+     */
+    public static final String DELTA_INDEX_ERROR_MESSAGE = "Delta index of application:[{0}] can not be written:[{1}]";
     /**
      * None nulls arguments
      */
@@ -57,26 +66,45 @@ public abstract class PostIterateRule
      * Default constructor
      */
     public PostIterateRule() {
-        super(Rule.Type.PostIterate.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.PostIterate.name(), NONE_NULL_ARGUMENTS_NAME,
+                PostIterateRule_PostIterateRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Commit delta aggregation of application begun by PreIterate rule: fingerprints of current aggregation are
+     * written to index file atomically, see {@link DeltaAggregation}
+     *
+     * @param containerArguments - argument container for current rule
+     * @throws GeneralException - index file can not be written
+     */
+    protected void commitDeltaAggregation(PostIterateRuleArguments containerArguments) throws GeneralException {
+        String applicationName = containerArguments.getApplication().getName();
+        DeltaIndex deltaIndex = DeltaAggregation.end(applicationName);
+        if (deltaIndex == null) {
+            log.debug("Delta aggregation of application:[{}] is not begun", applicationName);
+            return;
+        }
+        log.debug("Delta aggregation of application:[{}], unchanged:[{}], changed:[{}], added:[{}], removed:[{}]",
+                applicationName, deltaIndex.getUnchangedCount(), deltaIndex.getChangedCount(),
+                deltaIndex.getAddedCount(), deltaIndex.getRemovedCount());
+        try {
+            deltaIndex.commit();
+        } catch (IOException ex) {
+            log.error("Got:[{}] while writing delta index", ex.getMessage(), ex);
+            throw new GeneralException(MessageFormat.format(DELTA_INDEX_ERROR_MESSAGE, applicationName,
+                    ex.getMessage()), ex);
+        }
     }
 
     /**
-     * Build arguments container for current rule
+     * Close parser of {@link StreamingFileParsingRule} of application. Parser is closed by FileParsing rule when all
+     * records are read, but it keeps file, mapped windows and worker threads if iteration is stopped before the end
+     * (e.g. aggregation is cancelled)
      *
-     * @param javaRuleContext - current rule context for arguments parameters
-     * @return argument container instance
+     * @param containerArguments - argument container for current rule
      */
-    @Override
-    protected PostIterateRule.PostIterateRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return PostIterateRule.PostIterateRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PostIterateRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PostIterateRule.ARG_SCHEMA))
-                .stats((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PostIterateRule.ARG_STATS))
-                .build();
+    protected void closeStreamingParser(PostIterateRuleArguments containerArguments) {
+        StreamingFileParsingRule.closeStreamingParser(containerArguments.getApplication().getName());
     }
 
     /**
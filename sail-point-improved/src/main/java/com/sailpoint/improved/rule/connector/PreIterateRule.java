@@ -3,16 +3,30 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.delta.DeltaAggregation;
+import com.sailpoint.improved.rule.connector.file.FileInputPipeline;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import sailpoint.api.SailPointContext;
 import sailpoint.object.Application;
+import sailpoint.object.Filter;
 import sailpoint.object.JavaRuleContext;
+import sailpoint.object.QueryOptions;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.object.TaskDefinition;
+import sailpoint.object.TaskItemDefinition;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.Util;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +56,49 @@ public abstract class PreIterateRule
      * Name of stats argument name
      */
     public static final String ARG_STATS = "stats";
+    /**
+     * Config attribute of delta index file of application
+     */
+    public static final String CONFIG_DELTA_INDEX_FILE = "deltaIndexFile";
+    /**
+     * Default name of delta index file in temporary directory. Parameters:
+     * 0 - application name, characters other than letters, digits, '.', '_' and '-' are replaced by '_'
+     */
+    public static final String DEFAULT_DELTA_INDEX_FILE_PATTERN = "sailpoint-delta-{0}.idx";
+    /**
+     * Config attribute of merging of rows of the same identity of application
+     */
+    public static final String CONFIG_MERGE_ROWS = "mergeRows";
+    /**
+     * Config attribute of file encoding of application
+     */
+    public static final String CONFIG_FILE_ENCODING = "fileEncoding";
+    /**
+     * Open input pipeline error message. Parameters:
+     * 0 - absolute path of file
+     */
+    public static final String INPUT_PIPELINE_ERROR_MESSAGE = "Input pipeline of file:[{0}] can not be opened";
+    /**
+     * Delete detection of delta aggregation error message. Parameters:
+     * 0 - application name
+     * 1 - task definition name
+     */
+    public static final String DELETE_DETECTION_ERROR_MESSAGE = "Delta aggregation of application:[{0}] can not be "
+            + "begun, task:[{1}] detects deleted accounts";
+    /**
+     * Multi-row records of delta aggregation error message. Parameters:
+     * 0 - application name
+     */
+    public static final String MERGE_ROWS_ERROR_MESSAGE = "Delta aggregation of application:[{0}] can not be "
+            + "begun, rows of the same identity are merged";
+    /**
+     * Argument of aggregation task: applications
+     */
+    public static final String TASK_ARG_APPLICATIONS = "applications";
+    /**
+     * Argument of aggregation task: detection of deleted accounts
+     */
+    public static final String TASK_ARG_CHECK_DELETED = "checkDeleted";
     /**
      * None nulls arguments
      */
@@ -55,26 +112,85 @@ public abstract class PreIterateRule
      * Default constructor
      */
     public PreIterateRule() {
-        super(Rule.Type.PreIterate.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.PreIterate.name(), NONE_NULL_ARGUMENTS_NAME,
+                PreIterateRule_PreIterateRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Begin delta aggregation of application: fingerprints of previous aggregation are loaded from index file
+     * (config attribute {@link #CONFIG_DELTA_INDEX_FILE}, default - file in temporary directory). Per-record rules
+     * skip unchanged records, PostIterate rule commits index, see {@link DeltaAggregation}.
+     * Skipped records are not aggregated, so delta aggregation is refused if any account aggregation task of
+     * application detects deleted accounts. Each row is checked by itself, so row of multi-row object can not be
+     * skipped before all rows of object are known: delta aggregation is refused if rows are merged
+     * ({@link #CONFIG_MERGE_ROWS})
+     *
+     * @param javaRuleContext    - java rule context
+     * @param containerArguments - argument container for current rule
+     * @throws GeneralException - aggregation task of application detects deleted accounts or rows are merged
+     */
+    protected void beginDeltaAggregation(JavaRuleContext javaRuleContext, PreIterateRuleArguments containerArguments)
+            throws GeneralException {
+        Application application = containerArguments.getApplication();
+        if (application.getBooleanAttributeValue(CONFIG_MERGE_ROWS)) {
+            log.error("Rows of application:[{}] are merged, delta aggregation is refused", application.getName());
+            throw new GeneralException(MessageFormat.format(MERGE_ROWS_ERROR_MESSAGE, application.getName()));
+        }
+        checkDeleteDetection(javaRuleContext.getContext(), application);
+        String indexFile = application.getStringAttributeValue(CONFIG_DELTA_INDEX_FILE);
+        Path indexPath = Util.isNullOrEmpty(indexFile)
+                ? Paths.get(System.getProperty("java.io.tmpdir"), MessageFormat.format(DEFAULT_DELTA_INDEX_FILE_PATTERN,
+                application.getName().replaceAll("[^A-Za-z0-9._-]", "_")))
+                : Paths.get(indexFile);
+        log.debug("Begin delta aggregation of application:[{}], index file:[{}]", application.getName(), indexPath);
+        DeltaAggregation.begin(application.getName(), indexPath);
     }
 
     /**
-     * Build arguments container for current rule
+     * Check that no account aggregation task of application detects deleted accounts
      *
-     * @param javaRuleContext - current rule context for arguments parameters
-     * @return argument container instance
-     */
-    @Override
-    protected PreIterateRule.PreIterateRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return PreIterateRule.PreIterateRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PreIterateRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PreIterateRule.ARG_SCHEMA))
-                .stats((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, PreIterateRule.ARG_STATS))
-                .build();
+     * @param sailPointContext - sailpoint context
+     * @param application      - application
+     * @throws GeneralException - aggregation task of application detects deleted accounts
+     */
+    protected void checkDeleteDetection(SailPointContext sailPointContext, Application application)
+            throws GeneralException {
+        QueryOptions queryOptions = new QueryOptions();
+        queryOptions.addFilter(Filter.eq("type", TaskItemDefinition.Type.AccountAggregation));
+        for (TaskDefinition taskDefinition : sailPointContext.getObjects(TaskDefinition.class, queryOptions)) {
+            List<String> applications = Util.otol(taskDefinition.getArgument(TASK_ARG_APPLICATIONS));
+            if (Util.otob(taskDefinition.getArgument(TASK_ARG_CHECK_DELETED)) && applications != null
+                    && (applications.contains(application.getName()) || applications.contains(application.getId()))) {
+                log.error("Task:[{}] detects deleted accounts of application:[{}]", taskDefinition.getName(),
+                        application.getName());
+                throw new GeneralException(MessageFormat.format(DELETE_DETECTION_ERROR_MESSAGE, application.getName(),
+                        taskDefinition.getName()));
+            }
+        }
+    }
+
+    /**
+     * Open input pipeline of file about to be processed, see {@link FileInputPipeline}: gzip file is decompressed,
+     * charset is detected, byte order mark is skipped and bytes are transcoded to file encoding of application
+     * (config attribute {@link #CONFIG_FILE_ENCODING}, default - UTF-8). Result can be returned by rule to replace
+     * opened file input stream
+     *
+     * @param containerArguments - argument container for current rule
+     * @return input stream of file in file encoding of application
+     * @throws GeneralException - file can not be opened
+     */
+    protected InputStream openInputPipeline(PreIterateRuleArguments containerArguments) throws GeneralException {
+        String absolutePath = (String) containerArguments.getStats()
+                .get(PreIterateRuleArguments.STATS_KEY_ABSOLUTE_PATH);
+        String fileEncoding = containerArguments.getApplication().getStringAttributeValue(CONFIG_FILE_ENCODING);
+        Charset charset = Util.isNullOrEmpty(fileEncoding) ? StandardCharsets.UTF_8 : Charset.forName(fileEncoding);
+        log.debug("Open input pipeline of file:[{}], charset:[{}]", absolutePath, charset);
+        try {
+            return FileInputPipeline.open(Paths.get(absolutePath), charset, charset,
+                    FileInputPipeline.DEFAULT_BUFFER_SIZE);
+        } catch (IOException ex) {
+            throw new GeneralException(MessageFormat.format(INPUT_PIPELINE_ERROR_MESSAGE, absolutePath), ex);
+        }
     }
 
     /**
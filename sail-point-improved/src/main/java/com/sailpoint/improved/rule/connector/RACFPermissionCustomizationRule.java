@@ -3,11 +3,9 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Permission;
 import sailpoint.object.Rule;
 
@@ -43,25 +41,8 @@ public abstract class RACFPermissionCustomizationRule
      * Default constructor
      */
     public RACFPermissionCustomizationRule() {
-        super(Rule.Type.RACFPermissionCustomization.name(), NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected RACFPermissionCustomizationRule.RACFPermissionCustomizationRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return RACFPermissionCustomizationRuleArguments
-                .builder()
-                .permission((Permission) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, RACFPermissionCustomizationRule.ARG_PERMISSION))
-                .line((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, RACFPermissionCustomizationRule.ARG_LINE))
-                .build();
+        super(Rule.Type.RACFPermissionCustomization.name(), NONE_NULL_ARGUMENTS_NAME,
+                RACFPermissionCustomizationRule_RACFPermissionCustomizationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
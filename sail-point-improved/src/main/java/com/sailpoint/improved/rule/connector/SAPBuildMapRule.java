@@ -3,19 +3,24 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.sap.JCoBatchCall;
+import com.sailpoint.improved.rule.connector.sap.JCoBatchPrefetcher;
 import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.SAPInternalConnector;
 import sailpoint.object.Application;
 import sailpoint.object.Attributes;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
 
+import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +33,13 @@ import java.util.Map;
  * <p>
  * NOTE: Since an SAPBuildMap rule is run once for every object read from an SAP data source, performing time-
  * intensive operations in this rule can have a negative performance impact.
+ * <p>
+ * Enrichment calls can be batched by {@link JCoBatchCall}: rule executed by
+ * {@link AbstractJavaRuleExecutor#executeBatch} overrides {@link AbstractJavaRuleExecutor#internalExecuteBatch} and
+ * gets rows of all objects of batch by one call, see
+ * {@link SAPBuildMapRule#executeBatchCall(List, JCoBatchCall, String)}. Rule executed per object gets rows of next
+ * objects prefetched to state by key list of batch call, see
+ * {@link SAPBuildMapRule#executeBatchCall(SAPBuildMapRuleArguments, JCoBatchCall, String)}
  */
 @Slf4j
 public abstract class SAPBuildMapRule
@@ -57,6 +69,16 @@ public abstract class SAPBuildMapRule
      * Name of connector argument name
      */
     public static final String ARG_CONNECTOR = "connector";
+    /**
+     * Name of batch prefetchers by batch call in state
+     */
+    public static final String STATE_BATCH_PREFETCHERS = "batchPrefetchers";
+    /**
+     * Batch call error message. Parameters:
+     * 0 - function name
+     * 1 - application name
+     */
+    public static final String BATCH_CALL_ERROR_MESSAGE = "Function:[{0}] of application:[{1}] can not be executed";
     /**
      * None nulls arguments
      */
@@ -73,32 +95,65 @@ public abstract class SAPBuildMapRule
      * Default constructor
      */
     public SAPBuildMapRule() {
-        super(Rule.Type.SAPBuildMap.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.SAPBuildMap.name(), NONE_NULL_ARGUMENTS_NAME,
+                SAPBuildMapRule_SAPBuildMapRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Get rows of batch call for one object by {@link JCoBatchPrefetcher} of state: on miss rows of object and of
+     * next objects of key list of batch call are fetched by one call. Without key list function of batch call each
+     * object is fetched by own call. Prefetchers are kept by equal batch calls, so calls of the same function with
+     * other parameters or tables have own prefetchers
+     *
+     * @param containerArguments - arguments container of object
+     * @param batchCall          - batch call
+     * @param keyAttribute       - name of object attribute with key
+     * @return rows of output table of object key
+     * @throws GeneralException - call error
+     */
+    protected List<Map<String, Object>> executeBatchCall(SAPBuildMapRuleArguments containerArguments,
+                                                         JCoBatchCall batchCall, String keyAttribute)
+            throws GeneralException {
+        @SuppressWarnings("unchecked")
+        Map<JCoBatchCall, JCoBatchPrefetcher> batchPrefetchers = (Map<JCoBatchCall, JCoBatchPrefetcher>)
+                containerArguments.getState().computeIfAbsent(STATE_BATCH_PREFETCHERS, name -> new HashMap<>());
+        JCoBatchPrefetcher batchPrefetcher = batchPrefetchers.computeIfAbsent(batchCall, JCoBatchPrefetcher::new);
+        try {
+            return batchPrefetcher.getRows(containerArguments.getDestination(),
+                    containerArguments.getObject().getString(keyAttribute));
+        } catch (JCoException ex) {
+            throw new GeneralException(MessageFormat.format(BATCH_CALL_ERROR_MESSAGE, batchCall.getFunctionName(),
+                    containerArguments.getApplication().getName()), ex);
+        }
     }
 
     /**
-     * Build arguments container for current rule
+     * Execute batch call for objects of batch: keys of all objects are sent by calls of batch size
      *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
+     * @param containersArguments - arguments containers of batch objects, destination of the first one is used
+     * @param batchCall           - batch call
+     * @param keyAttribute        - name of object attribute with key
+     * @return rows of output table by key
+     * @throws GeneralException - call error
      */
-    @Override
-    protected SAPBuildMapRule.SAPBuildMapRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return SAPBuildMapRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPBuildMapRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPBuildMapRule.ARG_SCHEMA))
-                .state((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPBuildMapRule.ARG_STATE))
-                .destination((JCoDestination) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPBuildMapRule.ARG_DESTINATION))
-                .object((Attributes) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPBuildMapRule.ARG_OBJECT))
-                .connector((SAPInternalConnector) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPBuildMapRule.ARG_CONNECTOR))
-                .build();
+    protected Map<String, List<Map<String, Object>>> executeBatchCall(List<SAPBuildMapRuleArguments>
+                                                                              containersArguments,
+                                                                      JCoBatchCall batchCall, String keyAttribute)
+            throws GeneralException {
+        if (containersArguments.isEmpty()) {
+            return new HashMap<>();
+        }
+        List<String> keys = new ArrayList<>(containersArguments.size());
+        for (SAPBuildMapRuleArguments containerArguments : containersArguments) {
+            keys.add(containerArguments.getObject().getString(keyAttribute));
+        }
+        SAPBuildMapRuleArguments firstContainer = containersArguments.get(0);
+        try {
+            return batchCall.execute(firstContainer.getDestination(), keys);
+        } catch (JCoException ex) {
+            throw new GeneralException(MessageFormat.format(BATCH_CALL_ERROR_MESSAGE, batchCall.getFunctionName(),
+                    firstContainer.getApplication().getName()), ex);
+        }
     }
 
     /**
@@ -3,18 +3,23 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.sap.OrgStructureIndex;
+import com.sailpoint.improved.rule.connector.sap.OrgStructureIndexCache;
 import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.SAPInternalConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.Util;
 
+import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -44,6 +49,15 @@ public abstract class SAPHRManagerRule
      * Name of connector argument name
      */
     public static final String ARG_CONNECTOR = "connector";
+    /**
+     * Config attribute of plan version of application
+     */
+    public static final String CONFIG_PLAN_VERSION = "planVersion";
+    /**
+     * Org structure loading error message. Parameters:
+     * 0 - application name
+     */
+    public static final String ORG_STRUCTURE_ERROR_MESSAGE = "Org structure of application:[{0}] can not be loaded";
     /**
      * None nulls arguments
      */
@@ -58,28 +72,44 @@ public abstract class SAPHRManagerRule
      * Default constructor
      */
     public SAPHRManagerRule() {
-        super(Rule.Type.SAPHRManagerRule.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.SAPHRManagerRule.name(), NONE_NULL_ARGUMENTS_NAME,
+                SAPHRManagerRule_SAPHRManagerRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Get manager of person from org structure index of application
+     *
+     * @param containerArguments - argument container for current rule
+     * @param personnelNumber    - personnel number of person
+     * @return personnel number of manager or null if manager is not found
+     * @throws GeneralException - org structure can not be loaded
+     */
+    protected String lookupManager(SAPHRManagerRuleArguments containerArguments, String personnelNumber)
+            throws GeneralException {
+        return getOrgStructureIndex(containerArguments).getManager(personnelNumber);
     }
 
     /**
-     * Build arguments container for current rule
+     * Get org structure index of application. Index is loaded in bulk by destination on the first use in aggregation
+     * (plan version - config attribute {@link #CONFIG_PLAN_VERSION}, key date - today) and shared by next calls of
+     * aggregation, see {@link OrgStructureIndexCache}
      *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
+     * @param containerArguments - argument container for current rule
+     * @return org structure index
+     * @throws GeneralException - org structure can not be loaded
      */
-    @Override
-    protected SAPHRManagerRule.SAPHRManagerRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return SAPHRManagerRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPHRManagerRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPHRManagerRule.ARG_SCHEMA))
-                .destination((JCoDestination) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPHRManagerRule.ARG_DESTINATION))
-                .connector((SAPInternalConnector) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, SAPHRManagerRule.ARG_CONNECTOR))
-                .build();
+    protected OrgStructureIndex getOrgStructureIndex(SAPHRManagerRuleArguments containerArguments)
+            throws GeneralException {
+        Application application = containerArguments.getApplication();
+        String planVersion = application.getStringAttributeValue(CONFIG_PLAN_VERSION);
+        try {
+            return OrgStructureIndexCache.get(application.getName(), containerArguments.getConnector(),
+                    () -> OrgStructureIndex.load(containerArguments.getDestination(),
+                            Util.isNullOrEmpty(planVersion) ? OrgStructureIndex.DEFAULT_PLAN_VERSION : planVersion,
+                            new Date()));
+        } catch (JCoException ex) {
+            throw new GeneralException(MessageFormat.format(ORG_STRUCTURE_ERROR_MESSAGE, application.getName()), ex);
+        }
     }
 
     /**
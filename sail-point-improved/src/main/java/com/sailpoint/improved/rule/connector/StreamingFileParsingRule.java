@@ -0,0 +1,506 @@
+package com.sailpoint.improved.rule.connector;
+
+import com.sailpoint.improved.rule.connector.file.ByteSource;
+import com.sailpoint.improved.rule.connector.file.ChannelByteSource;
+import com.sailpoint.improved.rule.connector.file.MappedFileByteSource;
+import com.sailpoint.improved.rule.connector.file.ParallelFileParser;
+import com.sailpoint.improved.rule.connector.file.RecordCursor;
+import com.sailpoint.improved.rule.connector.file.RecordFormat;
+import com.sailpoint.improved.rule.connector.file.StreamingFileParser;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.Attributes;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.Util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Base of {@link FileParsingRule} for large delimited or fixed-width files. Records are tokenized from input stream
+ * via reusable buffer with reusable record cursor, only columns of schema are materialized. If mapping of local file
+ * is enabled ({@link #CONFIG_MAP_LOCAL_FILE}) and application has no PreIterate rule, local file is mapped to memory
+ * by windows and records are tokenized directly from bytes. Charset of file must not use ASCII bytes in multibyte
+ * sequences: UTF-8, US-ASCII, ISO-8859-x or windows-125x.
+ * Parser is opened on the first call, kept in state and closed when all records are read. If iteration is stopped
+ * before the end (e.g. aggregation is cancelled), parser keeps file, mapped windows and worker threads, so PostIterate
+ * rule of application must close it by {@link #closeStreamingParser(String)} (see
+ * {@link PostIterateRule#closeStreamingParser}), other callers with rule state by {@link #closeStreamingParser(Map)}.
+ * Not closed parser of previous aggregation of application is closed when the next one is opened.
+ * Format is configured by application attributes: {@link #CONFIG_DELIMITER}, {@link #CONFIG_TEXT_QUALIFIER},
+ * {@link #CONFIG_COLUMN_WIDTHS} (fixed-width records), {@link #CONFIG_COLUMN_NAMES}, {@link #CONFIG_HAS_HEADER},
+ * {@link #CONFIG_FILE_ENCODING}.
+ * Mapped local file can be parsed in parallel ({@link #CONFIG_PARALLEL_THREADS}): file is split to record-aligned
+ * chunks, chunks are parsed by worker threads and records are returned in file order or unordered
+ * ({@link #CONFIG_PARALLEL_ORDERED}). In this mode {@link #buildRecord} is called by worker threads.
+ */
+@Slf4j
+public abstract class StreamingFileParsingRule extends FileParsingRule {
+
+    /**
+     * Config attribute of file path
+     */
+    public static final String CONFIG_FILE = "file";
+    /**
+     * Config attribute of file transport
+     */
+    public static final String CONFIG_FILE_TRANSPORT = "filetransport";
+    /**
+     * Local file transport
+     */
+    public static final String LOCAL_FILE_TRANSPORT = "local";
+    /**
+     * Config attribute of mapping of local file. Default - false, input stream is read
+     */
+    public static final String CONFIG_MAP_LOCAL_FILE = "mapLocalFile";
+    /**
+     * Config attribute of PreIterate rule. Local file is not mapped if it is set, rule can replace input stream
+     */
+    public static final String CONFIG_PRE_ITERATE_RULE = "preIterateRule";
+    /**
+     * Config attribute of delimiter. Default - ','
+     */
+    public static final String CONFIG_DELIMITER = "delimiter";
+    /**
+     * Config attribute of quote. Default - '"'
+     */
+    public static final String CONFIG_TEXT_QUALIFIER = "textQualifier";
+    /**
+     * Config attribute of widths of fixed-width columns
+     */
+    public static final String CONFIG_COLUMN_WIDTHS = "columnWidths";
+    /**
+     * Config attribute of column names
+     */
+    public static final String CONFIG_COLUMN_NAMES = "columnNames";
+    /**
+     * Config attribute of header flag
+     */
+    public static final String CONFIG_HAS_HEADER = "hasHeader";
+    /**
+     * Config attribute of file charset. Default - UTF-8
+     */
+    public static final String CONFIG_FILE_ENCODING = "fileEncoding";
+    /**
+     * Config attribute of trimming of values
+     */
+    public static final String CONFIG_TRIM_VALUES = "trimValues";
+    /**
+     * Config attribute of count of threads for parallel parsing of local file. Default - 0, not parallel
+     */
+    public static final String CONFIG_PARALLEL_THREADS = "parallelThreads";
+    /**
+     * Config attribute of order of records of parallel parsing. Default - true, file order
+     */
+    public static final String CONFIG_PARALLEL_ORDERED = "parallelOrdered";
+    /**
+     * Name of parser in state
+     */
+    public static final String STATE_PARSER = "streamingFileParser";
+    /**
+     * Open parsers by application name
+     */
+    private static final ConcurrentMap<String, Closeable> OPEN_PARSERS = new ConcurrentHashMap<>();
+    /**
+     * Tab delimiter alias
+     */
+    private static final String TAB_ALIAS = "\\t";
+
+    /**
+     * Invalid format character error message. Parameters:
+     * 0 - config attribute
+     * 1 - value
+     */
+    public static final String FORMAT_CHARACTER_ERROR_MESSAGE =
+            "Config:[{0}], value:[{1}] must be one single-byte character";
+    /**
+     * Invalid column width error message. Parameters:
+     * 0 - column width
+     */
+    public static final String COLUMN_WIDTH_ERROR_MESSAGE = "Column width:[{0}] must be positive number";
+    /**
+     * Invalid charset error message. Parameters:
+     * 0 - config attribute
+     * 1 - value
+     */
+    public static final String CHARSET_ERROR_MESSAGE =
+            "Config:[{0}], value:[{1}] must be supported charset without ASCII bytes in multibyte sequences: "
+                    + "UTF-8, US-ASCII, ISO-8859-x or windows-125x";
+    /**
+     * Pattern of names of single-byte charsets with ASCII in the lower half: ISO-8859-x and windows-125x
+     */
+    private static final Pattern SINGLE_BYTE_CHARSET_PATTERN = Pattern.compile("ISO-8859-\\d+|windows-125\\d");
+    /**
+     * File parsing error message. Parameters:
+     * 0 - application name
+     * 1 - error message
+     */
+    public static final String PARSING_ERROR_MESSAGE = "File of application:[{0}] can not be parsed:[{1}]";
+
+    /**
+     * Return next record of file. Records without map (see {@link #buildRecord}) are skipped
+     *
+     * @param javaRuleContext    - java rule context
+     * @param containerArguments - argument container for current rule
+     * @return map of next record or null if all records are read
+     * @throws GeneralException - parsing or building error, parser is closed
+     */
+    @Override
+    protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                  FileParsingRuleArguments containerArguments)
+            throws GeneralException {
+        Map<String, Object> state = containerArguments.getState();
+        Closeable parser = (Closeable) state.get(STATE_PARSER);
+        try {
+            if (parser == null) {
+                String applicationName = containerArguments.getApplication().getName();
+                log.debug("Open parser of application:[{}]", applicationName);
+                parser = openParser(containerArguments, getParallelThreads(containerArguments.getConfig()));
+                state.put(STATE_PARSER, parser);
+                Closeable previousParser = applicationName == null ? null : OPEN_PARSERS.put(applicationName, parser);
+                if (previousParser != null) {
+                    log.warn("Parser of previous aggregation of application:[{}] is not closed, close it",
+                            applicationName);
+                    close(previousParser);
+                }
+            }
+            Map<String, Object> record = parser instanceof ParallelFileParser
+                    ? ((ParallelFileParser) parser).next()
+                    : nextRecord(containerArguments, (StreamingFileParser) parser);
+            if (record == null) {
+                log.debug("All records of application:[{}] are read", containerArguments.getApplication().getName());
+                closeParser(state, parser);
+            }
+            return record;
+        } catch (GeneralException ex) {
+            closeParser(state, parser);
+            throw ex;
+        } catch (IOException ex) {
+            log.error("Got:[{}] while parsing file", ex.getMessage(), ex);
+            closeParser(state, parser);
+            throw new GeneralException(MessageFormat.format(PARSING_ERROR_MESSAGE,
+                    containerArguments.getApplication().getName(), ex.getMessage()), ex);
+        }
+    }
+
+    /**
+     * Close parser kept in rule state and remove it from state. Must be called if iteration is stopped before the end
+     *
+     * @param state - state of rule. Can be null
+     */
+    public static void closeStreamingParser(Map<String, Object> state) {
+        if (state != null) {
+            closeParser(state, (Closeable) state.get(STATE_PARSER));
+        }
+    }
+
+    /**
+     * Close open parser of application, e.g. by PostIterate rule: iteration can be stopped before the end and state
+     * of rule is not passed to PostIterate rule
+     *
+     * @param applicationName - application name. Can be null
+     */
+    public static void closeStreamingParser(String applicationName) {
+        Closeable parser = applicationName == null ? null : OPEN_PARSERS.remove(applicationName);
+        if (parser != null) {
+            log.debug("Close parser of application:[{}]", applicationName);
+            close(parser);
+        }
+    }
+
+    /**
+     * Build record map from cursor. In parallel mode it is called by worker threads, so it must be thread-safe.
+     * Default: map of schema columns with not empty values
+     *
+     * @param containerArguments - argument container for current rule
+     * @param recordCursor       - cursor of current record, valid only during current call
+     * @return record map or null to skip record
+     * @throws GeneralException - building error
+     */
+    protected Map<String, Object> buildRecord(FileParsingRuleArguments containerArguments,
+                                              RecordCursor recordCursor) throws GeneralException {
+        return recordCursor.getLayout().toMap(recordCursor);
+    }
+
+    /**
+     * Open parser: parallel parser for mapped local file if threads count is greater than 1, otherwise streaming
+     * parser
+     *
+     * @param containerArguments - argument container for current rule
+     * @param threads            - count of threads for parallel parsing
+     * @return opened parser
+     * @throws GeneralException - invalid config
+     * @throws IOException      - file can not be opened
+     */
+    protected Closeable openParser(FileParsingRuleArguments containerArguments, int threads)
+            throws GeneralException, IOException {
+        File file = threads > 1 ? getLocalFile(containerArguments.getConfig()) : null;
+        return file == null ? openParser(containerArguments) : openParallelParser(containerArguments, file, threads);
+    }
+
+    /**
+     * Open parallel parser of local file. Header is read by streaming parser, then records after header are parsed
+     * in parallel
+     *
+     * @param containerArguments - argument container for current rule
+     * @param file               - local file
+     * @param threads            - count of worker threads
+     * @return opened parallel parser
+     * @throws GeneralException - invalid config
+     * @throws IOException      - file can not be opened
+     */
+    protected ParallelFileParser openParallelParser(FileParsingRuleArguments containerArguments, File file,
+                                                    int threads) throws GeneralException, IOException {
+        Attributes<String, Object> config = containerArguments.getConfig();
+        RecordFormat recordFormat = buildRecordFormat(config);
+        boolean ordered = !config.containsKey(CONFIG_PARALLEL_ORDERED) || config.getBoolean(CONFIG_PARALLEL_ORDERED);
+        log.debug("Parse local file:[{}] by:[{}] threads, ordered:[{}]", file, threads, ordered);
+        FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try (StreamingFileParser headerParser = new StreamingFileParser(
+                new MappedFileByteSource(fileChannel, 0, fileChannel.size(), getWindowSize(), false), recordFormat,
+                config.getStringList(CONFIG_COLUMN_NAMES), config.getBoolean(CONFIG_HAS_HEADER),
+                getSelectedColumns(containerArguments.getSchema()))) {
+            return new ParallelFileParser(fileChannel, recordFormat, headerParser.getLayout(),
+                    headerParser.getOffset(), getWindowSize(), threads, ordered,
+                    recordCursor -> buildRecord(containerArguments, recordCursor));
+        } catch (IOException | RuntimeException ex) {
+            fileChannel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Open streaming parser by application config and schema
+     *
+     * @param containerArguments - argument container for current rule
+     * @return opened parser
+     * @throws GeneralException - invalid config
+     * @throws IOException      - file can not be opened
+     */
+    protected StreamingFileParser openParser(FileParsingRuleArguments containerArguments)
+            throws GeneralException, IOException {
+        Attributes<String, Object> config = containerArguments.getConfig();
+        RecordFormat recordFormat = buildRecordFormat(config);
+        ByteSource byteSource = openByteSource(containerArguments);
+        try {
+            return new StreamingFileParser(byteSource, recordFormat, config.getStringList(CONFIG_COLUMN_NAMES),
+                    config.getBoolean(CONFIG_HAS_HEADER), getSelectedColumns(containerArguments.getSchema()));
+        } catch (IOException | RuntimeException ex) {
+            byteSource.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Build record format by application config
+     *
+     * @param config - application config
+     * @return record format
+     * @throws GeneralException - invalid config
+     */
+    protected RecordFormat buildRecordFormat(Attributes<String, Object> config) throws GeneralException {
+        RecordFormat.RecordFormatBuilder builder = RecordFormat.builder()
+                .trim(config.getBoolean(CONFIG_TRIM_VALUES));
+        String delimiter = config.getString(CONFIG_DELIMITER);
+        if (!Util.isNullOrEmpty(delimiter)) {
+            builder.delimiter(toFormatByte(CONFIG_DELIMITER, TAB_ALIAS.equals(delimiter) ? "\t" : delimiter));
+        }
+        if (config.containsKey(CONFIG_TEXT_QUALIFIER)) {
+            String quote = config.getString(CONFIG_TEXT_QUALIFIER);
+            builder.quote(Util.isNullOrEmpty(quote) ? RecordFormat.NO_QUOTE : toFormatByte(CONFIG_TEXT_QUALIFIER,
+                    quote));
+        }
+        String encoding = config.getString(CONFIG_FILE_ENCODING);
+        if (!Util.isNullOrEmpty(encoding)) {
+            builder.charset(toAsciiCompatibleCharset(encoding));
+        }
+        List<String> columnWidths = Util.otol(config.get(CONFIG_COLUMN_WIDTHS));
+        if (!Util.isEmpty(columnWidths)) {
+            int[] widths = new int[columnWidths.size()];
+            for (int index = 0; index < widths.length; index++) {
+                widths[index] = Util.otoi(columnWidths.get(index).trim());
+                if (widths[index] <= 0) {
+                    throw new GeneralException(MessageFormat.format(COLUMN_WIDTH_ERROR_MESSAGE,
+                            columnWidths.get(index)));
+                }
+            }
+            builder.columnWidths(widths);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Get charset by name. Delimiter, quote and line separators are matched as single bytes, so ASCII bytes must not
+     * be used in multibyte sequences: only UTF-8, US-ASCII, ISO-8859-x and windows-125x are accepted (UTF-16, UTF-32
+     * and Shift_JIS, GBK, Big5 with ASCII trail bytes are rejected)
+     *
+     * @param encoding - name of charset
+     * @return charset
+     * @throws GeneralException - charset is not supported or uses ASCII bytes in multibyte sequences
+     */
+    protected Charset toAsciiCompatibleCharset(String encoding) throws GeneralException {
+        try {
+            Charset charset = Charset.forName(encoding);
+            if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                    || SINGLE_BYTE_CHARSET_PATTERN.matcher(charset.name()).matches()) {
+                return charset;
+            }
+        } catch (IllegalArgumentException ex) {
+            log.debug("Charset:[{}] is not supported:[{}]", encoding, ex.getMessage());
+        }
+        throw new GeneralException(MessageFormat.format(CHARSET_ERROR_MESSAGE, CONFIG_FILE_ENCODING, encoding));
+    }
+
+    /**
+     * Open source of file bytes: mapped local file or channel of input stream
+     *
+     * @param containerArguments - argument container for current rule
+     * @return source of bytes
+     * @throws IOException - file can not be opened
+     */
+    protected ByteSource openByteSource(FileParsingRuleArguments containerArguments) throws IOException {
+        File file = getLocalFile(containerArguments.getConfig());
+        if (file != null) {
+            log.debug("Map local file:[{}]", file);
+            FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            return new MappedFileByteSource(fileChannel, 0, fileChannel.size(), getWindowSize(), true);
+        }
+        log.debug("File is not local, read input stream");
+        return new ChannelByteSource(Channels.newChannel(containerArguments.getInputStream()),
+                ChannelByteSource.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Get count of threads for parallel parsing from config
+     *
+     * @param config - application config
+     * @return count of threads, 0 - not parallel
+     */
+    protected int getParallelThreads(Attributes<String, Object> config) {
+        return Util.otoi(config.get(CONFIG_PARALLEL_THREADS));
+    }
+
+    /**
+     * Get local file of application for mapping. Input stream is opened by connector (and can be replaced by
+     * PreIterate rule), so local file is used only if mapping is enabled by {@link #CONFIG_MAP_LOCAL_FILE} and
+     * application has no PreIterate rule
+     *
+     * @param config - application config
+     * @return local file or null if mapping is disabled or file is not local or not found
+     */
+    protected File getLocalFile(Attributes<String, Object> config) {
+        if (!config.getBoolean(CONFIG_MAP_LOCAL_FILE)) {
+            return null;
+        }
+        if (!Util.isNullOrEmpty(config.getString(CONFIG_PRE_ITERATE_RULE))) {
+            log.warn("Application has PreIterate rule:[{}], input stream is read instead of local file",
+                    config.getString(CONFIG_PRE_ITERATE_RULE));
+            return null;
+        }
+        String transport = config.getString(CONFIG_FILE_TRANSPORT);
+        String path = config.getString(CONFIG_FILE);
+        if (Util.isNullOrEmpty(path) || !(Util.isNullOrEmpty(transport) || LOCAL_FILE_TRANSPORT.equals(transport))) {
+            return null;
+        }
+        File file = new File(path);
+        return file.isFile() ? file : null;
+    }
+
+    /**
+     * Get size of mapped window.
+     * Default: {@link MappedFileByteSource#DEFAULT_WINDOW_SIZE}
+     *
+     * @return size of mapped window
+     */
+    protected int getWindowSize() {
+        return MappedFileByteSource.DEFAULT_WINDOW_SIZE;
+    }
+
+    /**
+     * Get columns to materialize: attributes of schema
+     *
+     * @param schema - schema of application
+     * @return names of schema attributes
+     */
+    protected Collection<String> getSelectedColumns(Schema schema) {
+        return schema.getAttributeNames();
+    }
+
+    /**
+     * Read next record of streaming parser, records without map are skipped
+     *
+     * @param containerArguments - argument container for current rule
+     * @param parser             - streaming parser
+     * @return next record or null if all records are read
+     * @throws GeneralException - building error
+     * @throws IOException      - parsing error
+     */
+    private Map<String, Object> nextRecord(FileParsingRuleArguments containerArguments, StreamingFileParser parser)
+            throws GeneralException, IOException {
+        RecordCursor recordCursor;
+        while ((recordCursor = parser.next()) != null) {
+            Map<String, Object> record = buildRecord(containerArguments, recordCursor);
+            if (record != null) {
+                return record;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Close parser and remove it from state and from open parsers
+     *
+     * @param state  - state of rule
+     * @param parser - parser to close. Can be null
+     */
+    private static void closeParser(Map<String, Object> state, Closeable parser) {
+        state.remove(STATE_PARSER);
+        if (parser == null) {
+            return;
+        }
+        OPEN_PARSERS.values().remove(parser);
+        close(parser);
+    }
+
+    /**
+     * Close parser, error is logged
+     *
+     * @param parser - parser to close
+     */
+    private static void close(Closeable parser) {
+        try {
+            parser.close();
+        } catch (IOException ex) {
+            log.warn("Parser can not be closed:[{}]", ex.getMessage());
+        }
+    }
+
+    /**
+     * Convert format character to byte
+     *
+     * @param configAttribute - config attribute
+     * @param value           - character value
+     * @return byte of character
+     * @throws GeneralException - value is not one single-byte character
+     */
+    private byte toFormatByte(String configAttribute, String value) throws GeneralException {
+        if (value.length() != 1 || value.charAt(0) > Byte.MAX_VALUE) {
+            throw new GeneralException(MessageFormat.format(FORMAT_CHARACTER_ERROR_MESSAGE, configAttribute, value));
+        }
+        return (byte) value.charAt(0);
+    }
+}
@@ -1,15 +1,16 @@
 package com.sailpoint.improved.rule.connector;
 
+import com.sailpoint.annotation.ReusableArguments;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.AbstractConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ResourceObject;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
@@ -63,52 +64,36 @@ public abstract class TransformationRule
      * Default constructor
      */
     public TransformationRule() {
-        super(Rule.Type.Transformation.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.Transformation.name(), NONE_NULL_ARGUMENTS_NAME,
+                TransformationRule_TransformationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context for arguments parameters
-     * @return argument container instance
-     */
-    @Override
-    protected TransformationRule.TransformationRuleArguments buildContainerArguments(JavaRuleContext javaRuleContext) {
-        return TransformationRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, TransformationRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, TransformationRule.ARG_SCHEMA))
-                .object((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, TransformationRule.ARG_OBJECT))
-                .build();
-    }
-
-    /**
-     * Arguments container for {@link TransformationRule}. Contains:
+     * Arguments container for {@link TransformationRule}. Container is refilled by generated binder
+     * for rules marked by {@link ReusableArguments}, so setters are package-private. Contains:
      * - application
      * - schema
      * - object
      */
     @Data
     @Builder
+    @Setter(AccessLevel.PACKAGE)
     @ArgumentsContainer
     public static class TransformationRuleArguments {
         /**
          * A reference to the Application object
          */
         @Argument(name = TransformationRule.ARG_APPLICATION)
-        private final Application application;
+        private Application application;
         /**
          * A reference to the Schema object for the Delimited File source being read
          */
         @Argument(name = TransformationRule.ARG_SCHEMA)
-        private final Schema schema;
+        private Schema schema;
         /**
          * The incoming Map object
          */
         @Argument(name = TransformationRule.ARG_OBJECT)
-        private final Map<String, Object> object;
+        private Map<String, Object> object;
     }
 }
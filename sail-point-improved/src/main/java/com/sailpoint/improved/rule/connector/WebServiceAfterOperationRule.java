@@ -3,17 +3,27 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.webservice.JsonRecordReader;
+import com.sailpoint.improved.rule.connector.webservice.PagePrefetcher;
+import com.sailpoint.improved.rule.connector.webservice.PageUrlBuilder;
+import com.sailpoint.improved.rule.connector.webservice.RequestLimiter;
+import com.sailpoint.improved.rule.connector.webservice.ResponseCache;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.webservices.EndPoint;
 import sailpoint.connector.webservices.WebServicesClient;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.Util;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -49,6 +59,35 @@ public abstract class WebServiceAfterOperationRule
      */
     public static final String ARG_REST_CLIENT = "restClient";
 
+    /**
+     * Config attribute of max count of concurrent page requests of application
+     */
+    public static final String CONFIG_PAGE_PREFETCH_CONCURRENCY = "pagePrefetchConcurrency";
+    /**
+     * Default max count of concurrent page requests of thread-safe page fetcher
+     */
+    public static final int DEFAULT_PAGE_PREFETCH_CONCURRENCY = 4;
+    /**
+     * Key of records in result of rule
+     */
+    public static final String RESULT_DATA = "data";
+    /**
+     * Raw response reading error message. Parameters:
+     * 0 - full url of request end point
+     */
+    public static final String RAW_RESPONSE_ERROR_MESSAGE = "Raw response of:[{0}] can not be read";
+    /**
+     * Not modified status code
+     */
+    public static final int STATUS_NOT_MODIFIED = 304;
+    /**
+     * Header of ETag validator of response
+     */
+    public static final String ETAG_HEADER = "ETag";
+    /**
+     * Header of Last-Modified validator of response
+     */
+    public static final String LAST_MODIFIED_HEADER = "Last-Modified";
     /**
      * None nulls arguments
      */
@@ -64,33 +103,215 @@ public abstract class WebServiceAfterOperationRule
      * Default constructor
      */
     public WebServiceAfterOperationRule() {
-        super(Rule.Type.WebServiceAfterOperationRule.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.WebServiceAfterOperationRule.name(), NONE_NULL_ARGUMENTS_NAME,
+                WebServiceAfterOperationRule_WebServiceAfterOperationRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Read records of raw response one at a time by {@link JsonRecordReader}, transform or filter them by processor
+     * and build result of rule with processed records only
+     *
+     * @param containerArguments - argument container for current rule
+     * @param rootPath           - path of records in raw response, e.g. "$.Resources"
+     * @param recordProcessor    - processor of records, returns null to skip record
+     * @return result of rule with processed records by key {@link #RESULT_DATA}
+     * @throws GeneralException - raw response can not be read or record can not be processed
+     */
+    protected Map<String, Object> processRawResponse(WebServiceAfterOperationRuleArguments containerArguments,
+                                                     String rootPath,
+                                                     JsonRecordReader.RecordProcessor recordProcessor)
+            throws GeneralException {
+        List<Map<String, Object>> records = new ArrayList<>();
+        try (JsonRecordReader jsonRecordReader = new JsonRecordReader(
+                new StringReader(containerArguments.getRawResponseObject()), rootPath)) {
+            Map<String, Object> record;
+            while ((record = jsonRecordReader.next()) != null) {
+                Map<String, Object> processedRecord = recordProcessor.process(record);
+                if (processedRecord != null) {
+                    records.add(processedRecord);
+                }
+            }
+        } catch (IOException ex) {
+            throw new GeneralException(MessageFormat.format(RAW_RESPONSE_ERROR_MESSAGE,
+                    containerArguments.getRequestEndPoint().getFullUrl()), ex);
+        }
+        log.debug("Processed records:[{}] of root path:[{}]", records.size(), rootPath);
+        Map<String, Object> result = new HashMap<>();
+        result.put(RESULT_DATA, records);
+        return result;
+    }
+
+    /**
+     * Fetch next pages of current request by rest client of rule arguments, see {@link PagePrefetcher}. Rest client
+     * is not thread-safe, so pages are requested by one worker: the next page is fetched while current page is
+     * consumed. Use {@link #prefetchPages(WebServiceAfterOperationRuleArguments, PageUrlBuilder,
+     * PagePrefetcher.PageFetcher, PagePrefetcher.PageConsumer)} with own thread-safe fetcher for concurrent requests
+     *
+     * @param containerArguments - argument container for current rule
+     * @param pageUrlBuilder     - builder of page urls
+     * @param pageConsumer       - consumer of next pages, returns false on the last page
+     * @return count of consumed pages
+     * @throws GeneralException - page can not be fetched or consumed
+     */
+    protected int prefetchPages(WebServiceAfterOperationRuleArguments containerArguments,
+                                PageUrlBuilder pageUrlBuilder,
+                                PagePrefetcher.PageConsumer pageConsumer) throws GeneralException {
+        return prefetchPages(containerArguments, pageUrlBuilder, createPageFetcher(containerArguments), 1,
+                pageConsumer);
+    }
+
+    /**
+     * Fetch next pages of current request concurrently, see {@link PagePrefetcher}. Urls of pages are predicted from
+     * full url of request end point (the first page), pages are requested by fetcher with max count of concurrent
+     * requests from config attribute {@link #CONFIG_PAGE_PREFETCH_CONCURRENCY} and handed to consumer in page order.
+     * Fetcher is called by several workers, so it must be thread-safe (e.g. own rest client per worker). Paging of
+     * connector must be disabled for the operation
+     *
+     * @param containerArguments - argument container for current rule
+     * @param pageUrlBuilder     - builder of page urls
+     * @param pageFetcher        - thread-safe fetcher of pages
+     * @param pageConsumer       - consumer of next pages, returns false on the last page
+     * @return count of consumed pages
+     * @throws GeneralException - page can not be fetched or consumed
+     */
+    protected int prefetchPages(WebServiceAfterOperationRuleArguments containerArguments,
+                                PageUrlBuilder pageUrlBuilder,
+                                PagePrefetcher.PageFetcher pageFetcher,
+                                PagePrefetcher.PageConsumer pageConsumer) throws GeneralException {
+        return prefetchPages(containerArguments, pageUrlBuilder, pageFetcher,
+                getPagePrefetchConcurrency(containerArguments), pageConsumer);
+    }
+
+    /**
+     * Fetch next pages of current request by page fetcher with max count of concurrent requests
+     *
+     * @param containerArguments - argument container for current rule
+     * @param pageUrlBuilder     - builder of page urls
+     * @param pageFetcher        - fetcher of pages
+     * @param concurrency        - max count of concurrent requests
+     * @param pageConsumer       - consumer of next pages, returns false on the last page
+     * @return count of consumed pages
+     * @throws GeneralException - page can not be fetched or consumed
+     */
+    private int prefetchPages(WebServiceAfterOperationRuleArguments containerArguments,
+                              PageUrlBuilder pageUrlBuilder,
+                              PagePrefetcher.PageFetcher pageFetcher,
+                              int concurrency,
+                              PagePrefetcher.PageConsumer pageConsumer) throws GeneralException {
+        String firstPageUrl = containerArguments.getRequestEndPoint().getFullUrl();
+        log.debug("Prefetch pages of:[{}], concurrency:[{}]", firstPageUrl, concurrency);
+        try (PagePrefetcher pagePrefetcher = new PagePrefetcher(pageUrlBuilder, pageFetcher, concurrency)) {
+            return pagePrefetcher.fetch(firstPageUrl, 1, pageConsumer);
+        }
+    }
+
+    /**
+     * Create fetcher of pages: GET request by rest client of rule arguments with headers and successful response
+     * codes of request end point. Fetcher is not thread-safe: rest client is shared, so it is used by one worker
+     *
+     * @param containerArguments - argument container for current rule
+     * @return page fetcher by shared rest client
+     */
+    protected PagePrefetcher.PageFetcher createPageFetcher(WebServiceAfterOperationRuleArguments containerArguments) {
+        EndPoint requestEndPoint = containerArguments.getRequestEndPoint();
+        WebServicesClient restClient = containerArguments.getRestClient();
+        return url -> restClient.executeGet(url, requestEndPoint.getHeader(), requestEndPoint.getResponseCode());
+    }
+
+    /**
+     * Get max count of concurrent page requests of application
+     *
+     * @param containerArguments - argument container for current rule
+     * @return max count of concurrent page requests
+     */
+    protected int getPagePrefetchConcurrency(WebServiceAfterOperationRuleArguments containerArguments) {
+        int concurrency = Util.otoi(containerArguments.getApplication()
+                .getAttributeValue(CONFIG_PAGE_PREFETCH_CONCURRENCY));
+        return concurrency > 0 ? concurrency : DEFAULT_PAGE_PREFETCH_CONCURRENCY;
+    }
+
+    /**
+     * Release permit of request acquired by WebServiceBeforeOperation rule, concurrency limit of application is
+     * adapted by status code of response: decreased for 429 and 503, increased for others, see {@link RequestLimiter}
+     *
+     * @param containerArguments - argument container for current rule
+     * @param statusCode         - status code of response
+     */
+    protected void releaseRequestPermit(WebServiceAfterOperationRuleArguments containerArguments, int statusCode) {
+        RequestLimiter.of(containerArguments.getApplication()).release(statusCode);
     }
 
     /**
-     * Build arguments container for current rule
+     * Cache response of GET request with validators or replay cached response for not modified response. Request
+     * must be conditional, see {@link WebServiceBeforeOperationRule#applyConditionalHeaders}, status 304 must be
+     * successful response code of end point, see {@link ResponseCache}
      *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected WebServiceAfterOperationRule.WebServiceAfterOperationRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return WebServiceAfterOperationRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, WebServiceAfterOperationRule.ARG_APPLICATION))
-                .requestEndPoint((EndPoint) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext,
-                                WebServiceAfterOperationRule.ARG_REQUEST_END_POINT))
-                .processedResponseObject((List<Map<String, Object>>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext,
-                                WebServiceAfterOperationRule.ARG_PROCESSED_RESPONSE_OBJECT))
-                .rawResponseObject((String) JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        WebServiceAfterOperationRule.ARG_RAW_RESPONSE_OBJECT))
-                .restClient((WebServicesClient) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, WebServiceAfterOperationRule.ARG_REST_CLIENT))
-                .build();
+     * @param containerArguments - argument container for current rule
+     * @param statusCode         - status code of response
+     * @param responseHeaders    - headers of response
+     * @return result of rule with processed records or cached records by key {@link #RESULT_DATA}
+     * @throws GeneralException - response cache is not configured for application
+     */
+    protected Map<String, Object> applyResponseCache(WebServiceAfterOperationRuleArguments containerArguments,
+                                                     int statusCode, Map<String, String> responseHeaders)
+            throws GeneralException {
+        EndPoint requestEndPoint = containerArguments.getRequestEndPoint();
+        List<Map<String, Object>> records = containerArguments.getProcessedResponseObject();
+        ResponseCache responseCache = ResponseCache.of(containerArguments.getApplication());
+        if (statusCode == STATUS_NOT_MODIFIED) {
+            ResponseCache.CachedResponse cachedResponse = responseCache.get(requestEndPoint.getFullUrl());
+            if (cachedResponse != null) {
+                log.debug("Replay cached response of:[{}]", requestEndPoint.getFullUrl());
+                records = copyRecords(cachedResponse.getData());
+            } else {
+                log.warn("Response of:[{}] is not modified, but it is not cached", requestEndPoint.getFullUrl());
+            }
+        } else if (statusCode >= 200 && statusCode < 300) {
+            String entityTag = getHeader(responseHeaders, ETAG_HEADER);
+            String lastModified = getHeader(responseHeaders, LAST_MODIFIED_HEADER);
+            if (entityTag != null || lastModified != null) {
+                responseCache.put(requestEndPoint.getFullUrl(), new ResponseCache.CachedResponse(
+                        requestEndPoint.getFullUrl(), entityTag, lastModified, copyRecords(records)));
+            }
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put(RESULT_DATA, records);
+        return result;
+    }
+
+    /**
+     * Get value of header ignoring case of name
+     *
+     * @param headers - headers
+     * @param name    - name of header
+     * @return value of header or null
+     */
+    private static String getHeader(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copy list and maps of records, so cached records are not changed by connector
+     *
+     * @param records - records
+     * @return copy of records
+     */
+    private static List<Map<String, Object>> copyRecords(List<Map<String, Object>> records) {
+        List<Map<String, Object>> copy = new ArrayList<>();
+        if (records != null) {
+            for (Map<String, Object> record : records) {
+                copy.add(new HashMap<>(record));
+            }
+        }
+        return copy;
     }
 
     /**
@@ -3,17 +3,21 @@ package com.sailpoint.improved.rule.connector;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
+import com.sailpoint.improved.rule.connector.webservice.CredentialCache;
+import com.sailpoint.improved.rule.connector.webservice.RequestLimiter;
+import com.sailpoint.improved.rule.connector.webservice.ResponseCache;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.webservices.EndPoint;
 import sailpoint.connector.webservices.WebServicesClient;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
+import sailpoint.tools.GeneralException;
 
+import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -48,6 +52,23 @@ public abstract class WebServiceBeforeOperationRule
      */
     public static final String ARG_REST_CLIENT = "restClient";
 
+    /**
+     * Waiting of request permit is interrupted error message. Parameters:
+     * 0 - application name
+     */
+    public static final String PERMIT_INTERRUPTED_ERROR_MESSAGE = "Waiting of request permit of:[{0}] is interrupted";
+    /**
+     * GET http method
+     */
+    public static final String HTTP_METHOD_GET = "GET";
+    /**
+     * Header of ETag validator of conditional request
+     */
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    /**
+     * Header of Last-Modified validator of conditional request
+     */
+    public static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
     /**
      * None nulls arguments
      */
@@ -62,31 +83,86 @@ public abstract class WebServiceBeforeOperationRule
      * Default constructor
      */
     public WebServiceBeforeOperationRule() {
-        super(Rule.Type.WebServiceBeforeOperationRule.name(), NONE_NULL_ARGUMENTS_NAME);
+        super(Rule.Type.WebServiceBeforeOperationRule.name(), NONE_NULL_ARGUMENTS_NAME,
+                WebServiceBeforeOperationRule_WebServiceBeforeOperationRuleArgumentsBinder.INSTANCE);
+    }
+
+    /**
+     * Add headers of cached credential to request end point. Credential is loaded once and shared by all rules of JVM,
+     * it is refreshed in background before expiration, see {@link CredentialCache}
+     *
+     * @param containerArguments - argument container for current rule
+     * @param endPointName       - name of end point, null - credential is shared by all end points of application
+     * @param credentialLoader   - loader of credential, e.g. request of OAuth token
+     * @return request end point with credential headers
+     * @throws GeneralException - credential can not be loaded
+     */
+    protected EndPoint applyCachedCredential(WebServiceBeforeOperationRuleArguments containerArguments,
+                                             String endPointName,
+                                             CredentialCache.CredentialLoader credentialLoader)
+            throws GeneralException {
+        EndPoint requestEndPoint = containerArguments.getRequestEndPoint();
+        String key = CredentialCache.buildKey(containerArguments.getApplication().getName(), endPointName);
+        Map<String, String> credentialHeaders = CredentialCache.getSharedInstance().get(key, credentialLoader);
+        Map<String, String> headers = requestEndPoint.getHeader() == null
+                ? new HashMap<>()
+                : new HashMap<>(requestEndPoint.getHeader());
+        headers.putAll(credentialHeaders);
+        requestEndPoint.setHeader(headers);
+        return requestEndPoint;
+    }
+
+    /**
+     * Wait for permit of request of application by rate and concurrency limits shared by all rules of JVM,
+     * see {@link RequestLimiter}. Permit must be released by WebServiceAfterOperation rule of the same request
+     *
+     * @param containerArguments - argument container for current rule
+     * @throws GeneralException - waiting is interrupted
+     */
+    protected void acquireRequestPermit(WebServiceBeforeOperationRuleArguments containerArguments)
+            throws GeneralException {
+        Application application = containerArguments.getApplication();
+        try {
+            RequestLimiter.of(application).acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(MessageFormat.format(PERMIT_INTERRUPTED_ERROR_MESSAGE,
+                    application.getName()), ex);
+        }
     }
 
     /**
-     * Build arguments container for current rule
+     * Add validators of cached response to GET request end point, so not modified response is not transferred again.
+     * Response is cached by WebServiceAfterOperation rule, see {@link ResponseCache}
      *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
+     * @param containerArguments - argument container for current rule
+     * @return request end point with validators of cached response
+     * @throws GeneralException - response cache is not configured for application
      */
-    @Override
-    protected WebServiceBeforeOperationRule.WebServiceBeforeOperationRuleArguments buildContainerArguments(
-            JavaRuleContext javaRuleContext) {
-        return WebServiceBeforeOperationRuleArguments
-                .builder()
-                .application((Application) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, WebServiceBeforeOperationRule.ARG_APPLICATION))
-                .requestEndPoint((EndPoint) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext,
-                                WebServiceBeforeOperationRule.ARG_REQUEST_END_POINT))
-                .oldResponseMap((Map<String, Object>) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext,
-                                WebServiceBeforeOperationRule.ARG_OLD_RESPONSE_MAP))
-                .restClient((WebServicesClient) JavaRuleExecutorUtil.
-                        getArgumentValueByName(javaRuleContext, WebServiceBeforeOperationRule.ARG_REST_CLIENT))
-                .build();
+    protected EndPoint applyConditionalHeaders(WebServiceBeforeOperationRuleArguments containerArguments)
+            throws GeneralException {
+        EndPoint requestEndPoint = containerArguments.getRequestEndPoint();
+        if (!HTTP_METHOD_GET.equalsIgnoreCase(requestEndPoint.getHttpMethodType())) {
+            return requestEndPoint;
+        }
+        ResponseCache.CachedResponse cachedResponse = ResponseCache.of(containerArguments.getApplication())
+                .get(requestEndPoint.getFullUrl());
+        if (cachedResponse == null) {
+            return requestEndPoint;
+        }
+        Map<String, String> headers = requestEndPoint.getHeader() == null
+                ? new HashMap<>()
+                : new HashMap<>(requestEndPoint.getHeader());
+        if (cachedResponse.getEntityTag() != null) {
+            headers.put(IF_NONE_MATCH_HEADER, cachedResponse.getEntityTag());
+        }
+        if (cachedResponse.getLastModified() != null) {
+            headers.put(IF_MODIFIED_SINCE_HEADER, cachedResponse.getLastModified());
+        }
+        log.debug("Conditional request:[{}], {}:[{}], {}:[{}]", requestEndPoint.getFullUrl(), IF_NONE_MATCH_HEADER,
+                cachedResponse.getEntityTag(), IF_MODIFIED_SINCE_HEADER, cachedResponse.getLastModified());
+        requestEndPoint.setHeader(headers);
+        return requestEndPoint;
     }
 
     /**
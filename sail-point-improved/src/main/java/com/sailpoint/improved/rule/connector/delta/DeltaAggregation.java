@@ -0,0 +1,71 @@
+package com.sailpoint.improved.rule.connector.delta;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of delta indexes of running aggregations by application name. Index is opened by PreIterate rule, used by
+ * per-record rules and committed by PostIterate rule of the same application.
+ * <p>
+ * NOTE: skipped records are not aggregated, so delta aggregation must not detect deleted accounts.
+ */
+@Slf4j
+public final class DeltaAggregation {
+
+    /**
+     * Indexes of running aggregations by application name
+     */
+    private static final ConcurrentMap<String, DeltaIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * Utility class
+     */
+    private DeltaAggregation() {
+    }
+
+    /**
+     * Begin delta aggregation of application: load index of previous aggregation. If index file can not be read,
+     * all records are processed as new. Index of not finished aggregation of the same application is replaced
+     *
+     * @param applicationName - application name
+     * @param indexFile       - index file
+     * @return loaded index
+     */
+    public static DeltaIndex begin(String applicationName, Path indexFile) {
+        DeltaIndex deltaIndex;
+        try {
+            deltaIndex = DeltaIndex.load(indexFile);
+        } catch (IOException ex) {
+            log.warn("Delta index file:[{}] can not be read:[{}], all records are new", indexFile, ex.getMessage());
+            deltaIndex = new DeltaIndex(indexFile, new FingerprintTable(0));
+        }
+        if (INDEXES.put(applicationName, deltaIndex) != null) {
+            log.warn("Delta aggregation of application:[{}] is not finished, it is replaced", applicationName);
+        }
+        return deltaIndex;
+    }
+
+    /**
+     * Get index of running aggregation of application
+     *
+     * @param applicationName - application name. Can be null
+     * @return index or null if delta aggregation is not begun
+     */
+    public static DeltaIndex get(String applicationName) {
+        return applicationName == null ? null : INDEXES.get(applicationName);
+    }
+
+    /**
+     * End delta aggregation of application: remove index from registry
+     *
+     * @param applicationName - application name. Can be null
+     * @return index or null if delta aggregation is not begun
+     */
+    public static DeltaIndex end(String applicationName) {
+        return applicationName == null ? null : INDEXES.remove(applicationName);
+    }
+}
@@ -0,0 +1,304 @@
+package com.sailpoint.improved.rule.connector.delta;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.util.List;
+
+/**
+ * Index of record fingerprints of one aggregation: fingerprints of previous aggregation are loaded from file, each
+ * checked record is fingerprinted by native identity and hash of its values. Record is unchanged if its fingerprint is
+ * the same as in previous aggregation. Fingerprints of current aggregation are written to file by {@link #commit()}
+ * atomically: to temporary file, then moved over index file. Fingerprint of record which is not processed
+ * successfully must be invalidated by {@link #invalidate(String)}, so record is processed again by next aggregation.
+ * Each record is checked by itself, so identities must be unique (rows of the same identity are not merged): record is
+ * skipped before the next rows of its identity are known. Identity which is checked more than once is invalidated, so
+ * all its rows are processed by next aggregation.
+ * File format: magic, version, count of fingerprints, pairs of identity and values hashes.
+ */
+@Slf4j
+public class DeltaIndex {
+
+    /**
+     * Magic of index file
+     */
+    public static final int MAGIC = 0x53504449;
+    /**
+     * Version of index file format
+     */
+    public static final int VERSION = 1;
+    /**
+     * Suffix of temporary index file
+     */
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    /**
+     * Invalid index file error message. Parameters:
+     * 0 - index file
+     */
+    public static final String INVALID_FILE_ERROR_MESSAGE = "Delta index file:[{0}] has invalid format";
+    /**
+     * Offset basis of FNV-1a hash
+     */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    /**
+     * Prime of FNV-1a hash
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+    /**
+     * Separator of values in hash
+     */
+    private static final char VALUE_SEPARATOR = 0x1F;
+    /**
+     * Marker of null value in hash
+     */
+    private static final char NULL_MARKER = 0x00;
+
+    /**
+     * Index file
+     */
+    private final Path indexFile;
+    /**
+     * Fingerprints of previous aggregation
+     */
+    private final FingerprintTable previousFingerprints;
+    /**
+     * Fingerprints of current aggregation
+     */
+    private final FingerprintTable currentFingerprints;
+    /**
+     * Identities of current aggregation which are not processed successfully
+     */
+    private final FingerprintTable invalidIdentities;
+    /**
+     * Count of unchanged records
+     */
+    private int unchangedCount;
+    /**
+     * Count of changed records
+     */
+    private int changedCount;
+    /**
+     * Count of new records
+     */
+    private int addedCount;
+
+    /**
+     * Constructor with index file and fingerprints of previous aggregation
+     *
+     * @param indexFile            - index file
+     * @param previousFingerprints - fingerprints of previous aggregation
+     */
+    public DeltaIndex(Path indexFile, FingerprintTable previousFingerprints) {
+        this.indexFile = indexFile;
+        this.previousFingerprints = previousFingerprints;
+        this.currentFingerprints = new FingerprintTable(previousFingerprints.size());
+        this.invalidIdentities = new FingerprintTable(0);
+    }
+
+    /**
+     * Load index of previous aggregation from file. Not existing file is empty index
+     *
+     * @param indexFile - index file
+     * @return loaded index
+     * @throws IOException - file can not be read or has invalid format
+     */
+    public static DeltaIndex load(Path indexFile) throws IOException {
+        if (!Files.exists(indexFile)) {
+            log.debug("Delta index file:[{}] does not exist, all records are new", indexFile);
+            return new DeltaIndex(indexFile, new FingerprintTable(0));
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException(MessageFormat.format(INVALID_FILE_ERROR_MESSAGE, indexFile));
+            }
+            int count = input.readInt();
+            FingerprintTable fingerprints = new FingerprintTable(count);
+            for (int index = 0; index < count; index++) {
+                fingerprints.put(input.readLong(), input.readLong());
+            }
+            log.debug("Delta index file:[{}] is loaded, fingerprints:[{}]", indexFile, count);
+            return new DeltaIndex(indexFile, fingerprints);
+        }
+    }
+
+    /**
+     * Fingerprint record and check is it unchanged since previous aggregation. Record of identity which is already
+     * checked in current aggregation (e.g. the next row of multi-row object) is changed and identity is invalidated,
+     * because the previous row can be already skipped. Record of invalidated identity is changed
+     *
+     * @param identity - native identity of record
+     * @param values   - values of record
+     * @return true - record is unchanged
+     */
+    public synchronized boolean check(String identity, List<?> values) {
+        long identityHash = identityHash(identity);
+        long valuesHash = valuesHash(values);
+        if (invalidIdentities.contains(identityHash)) {
+            changedCount++;
+            return false;
+        }
+        if (currentFingerprints.contains(identityHash)) {
+            log.warn("Identity:[{}] is not unique, its fingerprint is invalidated", identity);
+            invalidIdentities.put(identityHash, 1);
+            changedCount++;
+            return false;
+        }
+        currentFingerprints.put(identityHash, valuesHash);
+        long previousHash = previousFingerprints.get(identityHash);
+        if (previousHash == FingerprintTable.MISSING) {
+            addedCount++;
+            return false;
+        }
+        if (previousHash != valuesHash) {
+            changedCount++;
+            return false;
+        }
+        unchangedCount++;
+        return true;
+    }
+
+    /**
+     * Invalidate fingerprint of record which is not processed successfully: it is not written to index file, so
+     * record is new for next aggregation. The next rows of the same identity in current aggregation are changed
+     *
+     * @param identity - native identity of record
+     */
+    public synchronized void invalidate(String identity) {
+        log.debug("Fingerprint of:[{}] is invalidated", identity);
+        invalidIdentities.put(identityHash(identity), 1);
+    }
+
+    /**
+     * Get count of records of previous aggregation which are not checked in current aggregation
+     *
+     * @return count of removed records
+     */
+    public synchronized int getRemovedCount() {
+        int[] removedCount = new int[1];
+        previousFingerprints.forEach((identityHash, valuesHash) -> {
+            if (!currentFingerprints.contains(identityHash)) {
+                removedCount[0]++;
+            }
+        });
+        return removedCount[0];
+    }
+
+    /**
+     * Get count of unchanged records
+     *
+     * @return count of unchanged records
+     */
+    public synchronized int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Get count of changed records
+     *
+     * @return count of changed records
+     */
+    public synchronized int getChangedCount() {
+        return changedCount;
+    }
+
+    /**
+     * Get count of new records
+     *
+     * @return count of new records
+     */
+    public synchronized int getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * Write fingerprints of current aggregation to index file atomically. Invalidated fingerprints are not written
+     *
+     * @throws IOException - file can not be written
+     */
+    public synchronized void commit() throws IOException {
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + TEMP_FILE_SUFFIX);
+        int[] count = new int[1];
+        currentFingerprints.forEach((identityHash, valuesHash) -> {
+            if (!invalidIdentities.contains(identityHash)) {
+                count[0]++;
+            }
+        });
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tempFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(count[0]);
+            IOException[] writeError = new IOException[1];
+            currentFingerprints.forEach((identityHash, valuesHash) -> {
+                if (invalidIdentities.contains(identityHash)) {
+                    return;
+                }
+                try {
+                    output.writeLong(identityHash);
+                    output.writeLong(valuesHash);
+                } catch (IOException ex) {
+                    writeError[0] = ex;
+                }
+            });
+            if (writeError[0] != null) {
+                throw writeError[0];
+            }
+        }
+        try {
+            Files.move(tempFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            log.warn("Atomic move is not supported for:[{}], replace file", indexFile);
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        log.debug("Delta index file:[{}] is written, fingerprints:[{}]", indexFile, count[0]);
+    }
+
+    /**
+     * Get not zero hash of native identity
+     *
+     * @param identity - native identity
+     * @return identity hash
+     */
+    public static long identityHash(String identity) {
+        long hash = hash(FNV_OFFSET_BASIS, identity);
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Get hash of record values. Hash is not zero, so it differs from {@link FingerprintTable#MISSING}
+     *
+     * @param values - values of record
+     * @return values hash
+     */
+    public static long valuesHash(List<?> values) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Object value : values) {
+            hash = value == null ? (hash ^ NULL_MARKER) * FNV_PRIME : hash(hash, value.toString());
+            hash = (hash ^ VALUE_SEPARATOR) * FNV_PRIME;
+        }
+        return hash == FingerprintTable.MISSING ? 1 : hash;
+    }
+
+    /**
+     * Continue FNV-1a hash by chars of string
+     *
+     * @param hash  - current hash
+     * @param value - string value
+     * @return hash
+     */
+    private static long hash(long hash, String value) {
+        for (int index = 0; index < value.length(); index++) {
+            hash = (hash ^ value.charAt(index)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
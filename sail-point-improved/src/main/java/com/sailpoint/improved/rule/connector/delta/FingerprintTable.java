@@ -0,0 +1,162 @@
+package com.sailpoint.improved.rule.connector.delta;
+
+/**
+ * Compact open-addressing hash table of record fingerprints: identity hash to attributes hash, both are longs.
+ * Identity hash 0 is reserved for empty slots, see {@link DeltaIndex#identityHash(String)}. Not thread-safe.
+ */
+public class FingerprintTable {
+
+    /**
+     * Value returned for missing identity
+     */
+    public static final long MISSING = 0;
+    /**
+     * Min capacity of table
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Identity hashes, 0 - empty slot
+     */
+    private long[] keys;
+    /**
+     * Attributes hashes
+     */
+    private long[] values;
+    /**
+     * Count of fingerprints
+     */
+    private int size;
+
+    /**
+     * Constructor with expected count of fingerprints
+     *
+     * @param expectedSize - expected count of fingerprints
+     */
+    public FingerprintTable(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    /**
+     * Get count of fingerprints
+     *
+     * @return count of fingerprints
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get attributes hash by identity hash
+     *
+     * @param identityHash - not zero identity hash
+     * @return attributes hash or {@link #MISSING}
+     */
+    public long get(long identityHash) {
+        int mask = keys.length - 1;
+        for (int slot = slot(identityHash, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == identityHash) {
+                return values[slot];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Check is identity hash in table
+     *
+     * @param identityHash - not zero identity hash
+     * @return true - table contains identity hash
+     */
+    public boolean contains(long identityHash) {
+        int mask = keys.length - 1;
+        for (int slot = slot(identityHash, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == identityHash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Put fingerprint, replace attributes hash of existing identity hash
+     *
+     * @param identityHash   - not zero identity hash
+     * @param attributesHash - attributes hash
+     */
+    public void put(long identityHash, long attributesHash) {
+        if ((size + 1) * 2L > keys.length) {
+            resize();
+        }
+        int mask = keys.length - 1;
+        int slot = slot(identityHash, mask);
+        while (keys[slot] != 0 && keys[slot] != identityHash) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == 0) {
+            keys[slot] = identityHash;
+            size++;
+        }
+        values[slot] = attributesHash;
+    }
+
+    /**
+     * Call consumer for each fingerprint
+     *
+     * @param consumer - fingerprint consumer
+     */
+    public void forEach(FingerprintConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Double capacity of table
+     */
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != 0) {
+                put(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    /**
+     * Get start slot of identity hash
+     *
+     * @param identityHash - identity hash
+     * @param mask         - mask of capacity
+     * @return start slot
+     */
+    private static int slot(long identityHash, int mask) {
+        return (int) (identityHash ^ (identityHash >>> 32)) & mask;
+    }
+
+    /**
+     * Consumer of fingerprint
+     */
+    @FunctionalInterface
+    public interface FingerprintConsumer {
+
+        /**
+         * Accept fingerprint
+         *
+         * @param identityHash   - identity hash
+         * @param attributesHash - attributes hash
+         */
+        void accept(long identityHash, long attributesHash);
+    }
+}
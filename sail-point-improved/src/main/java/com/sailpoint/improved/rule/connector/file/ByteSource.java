@@ -0,0 +1,60 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Source of file bytes for {@link RecordTokenizer}. Bytes are available via window buffer, absolute indexes of buffer
+ * are used. Next window keeps not processed bytes of current window at the beginning.
+ */
+public abstract class ByteSource implements Closeable {
+
+    /**
+     * Empty buffer before the first window
+     */
+    protected static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+    /**
+     * Current window of bytes
+     */
+    protected ByteBuffer buffer = EMPTY_BUFFER;
+    /**
+     * Offset of current window in file
+     */
+    protected long bufferOffset;
+
+    /**
+     * Get current window of bytes
+     *
+     * @return window buffer, bytes from 0 to limit
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Get offset of current window in file
+     *
+     * @return offset of the first byte of window
+     */
+    public long getBufferOffset() {
+        return bufferOffset;
+    }
+
+    /**
+     * Load next window. Bytes of current window from keepFrom index are moved to the beginning of next window
+     *
+     * @param keepFrom - index of the first not processed byte of current window
+     * @return false - there are no more bytes
+     * @throws IOException - read error
+     */
+    public abstract boolean fill(int keepFrom) throws IOException;
+
+    /**
+     * Check is all bytes of source are in current window
+     *
+     * @return true - there are no more bytes after current window
+     */
+    public abstract boolean isExhausted();
+}
@@ -0,0 +1,94 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Byte source of readable channel (e.g. input stream of not local file). Bytes are read to reusable heap buffer,
+ * buffer grows if one record does not fit it.
+ */
+@Slf4j
+public class ChannelByteSource extends ByteSource {
+
+    /**
+     * Default size of buffer - 1 Mb
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Source channel
+     */
+    private final ReadableByteChannel channel;
+    /**
+     * End of channel is reached
+     */
+    private boolean endOfChannel;
+
+    /**
+     * Constructor with channel
+     *
+     * @param channel    - source channel
+     * @param bufferSize - initial size of buffer
+     */
+    public ChannelByteSource(ReadableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Move not processed bytes to the beginning of buffer and read next bytes
+     *
+     * @param keepFrom - index of the first not processed byte of current window
+     * @return false - there are no more bytes
+     * @throws IOException - read error
+     */
+    @Override
+    public boolean fill(int keepFrom) throws IOException {
+        if (endOfChannel) {
+            return false;
+        }
+        buffer.position(keepFrom);
+        if (keepFrom == 0 && buffer.limit() == buffer.capacity()) {
+            log.trace("Grow buffer to:[{}]", buffer.capacity() * 2);
+            ByteBuffer grownBuffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            grownBuffer.put(buffer);
+            buffer = grownBuffer;
+        } else {
+            buffer.compact();
+        }
+        bufferOffset += keepFrom;
+        int kept = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                endOfChannel = true;
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.limit() > kept || !endOfChannel;
+    }
+
+    /**
+     * Check is end of channel reached
+     *
+     * @return true - there are no more bytes
+     */
+    @Override
+    public boolean isExhausted() {
+        return endOfChannel;
+    }
+
+    /**
+     * Close source channel
+     *
+     * @throws IOException - close error
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,163 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mozilla.universalchardet.UniversalDetector;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Input pipeline of file for PreIterate rule: file is read by channel with large buffer, gzip file is decompressed,
+ * charset is detected by byte order mark or by sample of the head of file (juniversalchardet), byte order mark is
+ * skipped and bytes are transcoded to target charset in bulk if detected charset differs.
+ */
+@Slf4j
+public final class FileInputPipeline {
+
+    /**
+     * Default size of buffers - 1 Mb
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    /**
+     * Size of sample for charset detection - 64 Kb
+     */
+    public static final int SAMPLE_SIZE = 64 * 1024;
+    /**
+     * The first byte of gzip magic
+     */
+    private static final int GZIP_MAGIC_FIRST = 0x1F;
+    /**
+     * The second byte of gzip magic
+     */
+    private static final int GZIP_MAGIC_SECOND = 0x8B;
+
+    /**
+     * Utility class
+     */
+    private FileInputPipeline() {
+    }
+
+    /**
+     * Open input pipeline of file
+     *
+     * @param file           - file
+     * @param targetCharset  - charset of returned stream
+     * @param defaultCharset - charset of file if it is not detected
+     * @param bufferSize     - size of buffers, not less than {@link #SAMPLE_SIZE}
+     * @return stream of file bytes in target charset without byte order mark
+     * @throws IOException - file can not be read
+     */
+    public static InputStream open(Path file, Charset targetCharset, Charset defaultCharset, int bufferSize)
+            throws IOException {
+        FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            InputStream input = new BufferedInputStream(Channels.newInputStream(fileChannel), bufferSize);
+            byte[] head = peek(input, 2);
+            if (head.length == 2 && (head[0] & 0xFF) == GZIP_MAGIC_FIRST && (head[1] & 0xFF) == GZIP_MAGIC_SECOND) {
+                log.debug("File:[{}] is gzip, decompress it", file);
+                input = new BufferedInputStream(new GZIPInputStream(input, bufferSize), bufferSize);
+            }
+            byte[] sample = peek(input, Math.min(SAMPLE_SIZE, bufferSize));
+            Charset charset = detectByteOrderMark(sample);
+            if (charset != null) {
+                skipByteOrderMark(input, charset);
+            } else {
+                charset = detectCharset(sample, defaultCharset);
+            }
+            log.debug("File:[{}], charset:[{}], target charset:[{}]", file, charset, targetCharset);
+            if (charset.equals(targetCharset)) {
+                return input;
+            }
+            return new TranscodingInputStream(Channels.newChannel(input), charset, targetCharset, bufferSize);
+        } catch (IOException | RuntimeException ex) {
+            fileChannel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Detect charset by sample of file
+     *
+     * @param sample         - sample of the head of file
+     * @param defaultCharset - charset if it is not detected
+     * @return detected or default charset
+     */
+    public static Charset detectCharset(byte[] sample, Charset defaultCharset) {
+        UniversalDetector detector = new UniversalDetector(null);
+        detector.handleData(sample, 0, sample.length);
+        detector.dataEnd();
+        String charsetName = detector.getDetectedCharset();
+        if (charsetName == null || !Charset.isSupported(charsetName)) {
+            log.debug("Charset:[{}] is not detected or not supported, use default", charsetName);
+            return defaultCharset;
+        }
+        return Charset.forName(charsetName);
+    }
+
+    /**
+     * Detect charset by byte order mark
+     *
+     * @param sample - sample of the head of file
+     * @return charset of byte order mark or null if there is no byte order mark
+     */
+    public static Charset detectByteOrderMark(byte[] sample) {
+        if (sample.length >= 3 && (sample[0] & 0xFF) == 0xEF && (sample[1] & 0xFF) == 0xBB
+                && (sample[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        if (sample.length >= 2 && (sample[0] & 0xFF) == 0xFE && (sample[1] & 0xFF) == 0xFF) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (sample.length >= 2 && (sample[0] & 0xFF) == 0xFF && (sample[1] & 0xFF) == 0xFE) {
+            return StandardCharsets.UTF_16LE;
+        }
+        return null;
+    }
+
+    /**
+     * Skip byte order mark of charset
+     *
+     * @param input   - input stream at the head of file
+     * @param charset - charset of byte order mark
+     * @throws IOException - read error
+     */
+    private static void skipByteOrderMark(InputStream input, Charset charset) throws IOException {
+        int length = StandardCharsets.UTF_8.equals(charset) ? 3 : 2;
+        for (int index = 0; index < length; index++) {
+            input.read();
+        }
+    }
+
+    /**
+     * Read bytes of the head of stream without consuming them
+     *
+     * @param input  - input stream which supports mark
+     * @param length - max count of bytes
+     * @return read bytes, less than length at the end of stream
+     * @throws IOException - read error
+     */
+    private static byte[] peek(InputStream input, int length) throws IOException {
+        input.mark(length);
+        byte[] bytes = new byte[length];
+        int count = 0;
+        int read;
+        while (count < length && (read = input.read(bytes, count, length - count)) > 0) {
+            count += read;
+        }
+        input.reset();
+        if (count == length) {
+            return bytes;
+        }
+        byte[] head = new byte[count];
+        System.arraycopy(bytes, 0, head, 0, count);
+        return head;
+    }
+}
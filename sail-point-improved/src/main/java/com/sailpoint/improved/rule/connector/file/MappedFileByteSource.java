@@ -0,0 +1,98 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * Byte source of file region mapped to memory by windows. Bytes are not copied to heap: window is memory-mapped part
+ * of file. Window grows if one record does not fit it.
+ */
+@Slf4j
+public class MappedFileByteSource extends ByteSource {
+
+    /**
+     * Default size of mapped window - 64 Mb
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * File channel
+     */
+    private final FileChannel fileChannel;
+    /**
+     * End offset of region (exclusive)
+     */
+    private final long end;
+    /**
+     * Size of mapped window
+     */
+    private final int windowSize;
+    /**
+     * Close file channel on close of source
+     */
+    private final boolean closeChannel;
+
+    /**
+     * Constructor with file region
+     *
+     * @param fileChannel  - file channel
+     * @param start        - start offset of region
+     * @param end          - end offset of region (exclusive)
+     * @param windowSize   - size of mapped window
+     * @param closeChannel - close file channel on close of source
+     */
+    public MappedFileByteSource(FileChannel fileChannel, long start, long end, int windowSize, boolean closeChannel) {
+        this.fileChannel = fileChannel;
+        this.bufferOffset = start;
+        this.end = end;
+        this.windowSize = windowSize;
+        this.closeChannel = closeChannel;
+    }
+
+    /**
+     * Map next window of file from the first not processed byte
+     *
+     * @param keepFrom - index of the first not processed byte of current window
+     * @return false - there are no more bytes
+     * @throws IOException - mapping error
+     */
+    @Override
+    public boolean fill(int keepFrom) throws IOException {
+        if (isExhausted()) {
+            return false;
+        }
+        long start = bufferOffset + keepFrom;
+        long kept = buffer.limit() - keepFrom;
+        long size = Math.min(Math.max(windowSize, kept * 2), end - start);
+        size = Math.min(size, Integer.MAX_VALUE);
+        log.trace("Map window, offset:[{}], size:[{}]", start, size);
+        buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        bufferOffset = start;
+        return true;
+    }
+
+    /**
+     * Check is window reached end of region
+     *
+     * @return true - there are no more bytes
+     */
+    @Override
+    public boolean isExhausted() {
+        return bufferOffset + buffer.limit() >= end;
+    }
+
+    /**
+     * Close file channel if it is owned by source. Mapped windows are released by garbage collector
+     *
+     * @throws IOException - close error
+     */
+    @Override
+    public void close() throws IOException {
+        buffer = EMPTY_BUFFER;
+        if (closeChannel) {
+            fileChannel.close();
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.tools.GeneralException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel parser of memory-mapped file: region is split to record-aligned chunks by {@link RecordChunker}, chunks
+ * are parsed by worker pool and built records are handed back by batches through bounded queues. Records are returned
+ * in file order or in order of parsing (unordered). Record builder is called by worker threads, so it must be
+ * thread-safe.
+ */
+@Slf4j
+public class ParallelFileParser implements Closeable {
+
+    /**
+     * Worker name pattern. Parameters:
+     * 0 - worker number
+     */
+    public static final String WORKER_NAME_PATTERN = "ParallelFileParser-{0}";
+    /**
+     * Invalid threads count error message. Parameters:
+     * 0 - threads count
+     */
+    public static final String THREADS_COUNT_ERROR_MESSAGE = "Threads count:[{0}] must be positive";
+    /**
+     * Chunk parsing error message. Parameters:
+     * 0 - chunk
+     * 1 - error message
+     */
+    public static final String CHUNK_ERROR_MESSAGE = "Chunk:[{0}] can not be parsed:[{1}]";
+    /**
+     * Waiting of records is interrupted error message
+     */
+    public static final String INTERRUPTED_ERROR_MESSAGE = "Waiting of parsed records is interrupted";
+    /**
+     * Count of chunks per worker thread
+     */
+    public static final int CHUNKS_PER_THREAD = 4;
+    /**
+     * Count of records in one batch
+     */
+    public static final int BATCH_SIZE = 1024;
+    /**
+     * Count of not consumed batches per chunk queue
+     */
+    public static final int QUEUE_CAPACITY = 4;
+    /**
+     * Time to wait workers on close, in seconds
+     */
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Number of the last created worker
+     */
+    private final AtomicInteger workerCounter = new AtomicInteger();
+    /**
+     * File channel, closed on close of parser
+     */
+    private final FileChannel fileChannel;
+    /**
+     * Format of records
+     */
+    private final RecordFormat recordFormat;
+    /**
+     * Layout of records
+     */
+    private final RecordLayout recordLayout;
+    /**
+     * Size of mapped window of chunk
+     */
+    private final int windowSize;
+    /**
+     * Builder of records, called by workers
+     */
+    private final RecordBuilder recordBuilder;
+    /**
+     * Pool of workers
+     */
+    private final ExecutorService executorService;
+    /**
+     * Queues of batches: one per chunk for ordered parsing, one shared for unordered
+     */
+    private final List<BlockingQueue<Batch>> queues;
+    /**
+     * Count of chunks which are not completely consumed
+     */
+    private int remainingChunks;
+    /**
+     * Records of current batch
+     */
+    private Iterator<Map<String, Object>> currentRecords = Collections.emptyIterator();
+
+    /**
+     * Constructor with file region, format and layout. Parsing is started by constructor
+     *
+     * @param fileChannel   - file channel, owned by parser
+     * @param recordFormat  - format of records
+     * @param recordLayout  - layout of records
+     * @param start         - offset of the first data record
+     * @param windowSize    - size of mapped window
+     * @param threads       - count of worker threads
+     * @param ordered       - return records in file order
+     * @param recordBuilder - thread-safe builder of records
+     * @throws IOException - file can not be split to chunks
+     */
+    public ParallelFileParser(FileChannel fileChannel, RecordFormat recordFormat, RecordLayout recordLayout,
+                              long start, int windowSize, int threads, boolean ordered, RecordBuilder recordBuilder)
+            throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(MessageFormat.format(THREADS_COUNT_ERROR_MESSAGE, threads));
+        }
+        this.fileChannel = fileChannel;
+        this.recordFormat = recordFormat;
+        this.recordLayout = recordLayout;
+        this.windowSize = windowSize;
+        this.recordBuilder = recordBuilder;
+        List<RecordChunker.Chunk> chunks = new RecordChunker(recordFormat, windowSize)
+                .split(fileChannel, start, fileChannel.size(), threads * CHUNKS_PER_THREAD);
+        this.remainingChunks = chunks.size();
+        this.queues = new ArrayList<>();
+        if (!ordered) {
+            queues.add(new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY));
+        }
+        log.debug("Parse:[{}] chunks by:[{}] threads, ordered:[{}]", chunks.size(), threads, ordered);
+        this.executorService = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), this::createWorker);
+        for (RecordChunker.Chunk chunk : chunks) {
+            BlockingQueue<Batch> queue = ordered ? new ArrayBlockingQueue<>(QUEUE_CAPACITY) : queues.get(0);
+            if (ordered) {
+                queues.add(queue);
+            }
+            executorService.execute(() -> parseChunk(chunk, queue));
+        }
+    }
+
+    /**
+     * Get next built record, waits for parsing of record
+     *
+     * @return next record or null if all records are read
+     * @throws IOException - chunk parsing error or waiting is interrupted
+     */
+    public Map<String, Object> next() throws IOException {
+        while (!currentRecords.hasNext()) {
+            if (remainingChunks == 0) {
+                return null;
+            }
+            BlockingQueue<Batch> queue = queues.get(queues.size() == 1 ? 0 : queues.size() - remainingChunks);
+            Batch batch;
+            try {
+                batch = queue.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(INTERRUPTED_ERROR_MESSAGE, ex);
+            }
+            if (batch.error != null) {
+                throw new IOException(MessageFormat.format(CHUNK_ERROR_MESSAGE, batch.chunk,
+                        batch.error.getMessage()), batch.error);
+            }
+            if (batch.last) {
+                remainingChunks--;
+            }
+            currentRecords = batch.records.iterator();
+        }
+        return currentRecords.next();
+    }
+
+    /**
+     * Stop workers and close file channel
+     *
+     * @throws IOException - close error
+     */
+    @Override
+    public void close() throws IOException {
+        log.debug("Close parallel parser, not consumed chunks:[{}]", remainingChunks);
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Workers are not stopped in:[{}] seconds", CLOSE_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException ex) {
+            log.warn("Waiting of workers is interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            fileChannel.close();
+        }
+    }
+
+    /**
+     * Parse chunk and put batches of built records to queue. The last batch of chunk is marked
+     *
+     * @param chunk - chunk of file
+     * @param queue - queue of batches
+     */
+    private void parseChunk(RecordChunker.Chunk chunk, BlockingQueue<Batch> queue) {
+        log.trace("Parse chunk:[{}]", chunk);
+        try (StreamingFileParser parser = new StreamingFileParser(
+                new MappedFileByteSource(fileChannel, chunk.getStart(), chunk.getEnd(), windowSize, false),
+                recordFormat, recordLayout)) {
+            List<Map<String, Object>> records = new ArrayList<>(BATCH_SIZE);
+            RecordCursor recordCursor;
+            while ((recordCursor = parser.next()) != null) {
+                Map<String, Object> record = recordBuilder.build(recordCursor);
+                if (record == null) {
+                    continue;
+                }
+                records.add(record);
+                if (records.size() == BATCH_SIZE) {
+                    queue.put(new Batch(chunk, records, false, null));
+                    records = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            queue.put(new Batch(chunk, records, true, null));
+        } catch (InterruptedException ex) {
+            log.debug("Parsing of chunk:[{}] is interrupted", chunk);
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            log.error("Got:[{}] while parsing chunk:[{}]", ex.getMessage(), chunk, ex);
+            try {
+                queue.put(new Batch(chunk, Collections.emptyList(), true, ex));
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Create daemon worker thread
+     *
+     * @param runnable - worker runnable of pool
+     * @return worker thread
+     */
+    private Thread createWorker(Runnable runnable) {
+        Thread worker = new Thread(runnable, MessageFormat.format(WORKER_NAME_PATTERN,
+                workerCounter.incrementAndGet()));
+        worker.setDaemon(true);
+        return worker;
+    }
+
+    /**
+     * Builder of record from cursor
+     */
+    @FunctionalInterface
+    public interface RecordBuilder {
+
+        /**
+         * Build record from cursor
+         *
+         * @param recordCursor - cursor of current record, valid only during current call
+         * @return record or null to skip record
+         * @throws GeneralException - building error
+         */
+        Map<String, Object> build(RecordCursor recordCursor) throws GeneralException;
+    }
+
+    /**
+     * Batch of built records of chunk
+     */
+    private static final class Batch {
+
+        /**
+         * Chunk of records
+         */
+        private final RecordChunker.Chunk chunk;
+        /**
+         * Built records
+         */
+        private final List<Map<String, Object>> records;
+        /**
+         * The last batch of chunk
+         */
+        private final boolean last;
+        /**
+         * Parsing error of chunk
+         */
+        private final Exception error;
+
+        /**
+         * Constructor with all fields
+         *
+         * @param chunk   - chunk of records
+         * @param records - built records
+         * @param last    - the last batch of chunk
+         * @param error   - parsing error of chunk
+         */
+        private Batch(RecordChunker.Chunk chunk, List<Map<String, Object>> records, boolean last, Exception error) {
+            this.chunk = chunk;
+            this.records = records;
+            this.last = last;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splitter of file region to record-aligned chunks for parallel parsing. Each chunk starts at the beginning of record,
+ * so chunks are parsed independently. Line feed inside quoted field is not a record end, so for quoted delimited
+ * format file is scanned sequentially with quote state (only bytes are compared, fields are not tokenized).
+ * For fixed-width format or format without quotes chunk end is the first line feed after target size.
+ */
+@Slf4j
+public class RecordChunker {
+
+    /**
+     * Min size of chunk - 64 Kb
+     */
+    public static final long MIN_CHUNK_SIZE = 64 * 1024;
+    /**
+     * Line feed byte
+     */
+    private static final byte LINE_FEED = '\n';
+
+    /**
+     * Format of records
+     */
+    private final RecordFormat recordFormat;
+    /**
+     * Size of mapped window for scanning
+     */
+    private final int windowSize;
+
+    /**
+     * Constructor with format and window size
+     *
+     * @param recordFormat - format of records
+     * @param windowSize   - size of mapped window for scanning
+     */
+    public RecordChunker(RecordFormat recordFormat, int windowSize) {
+        this.recordFormat = recordFormat;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Split file region to record-aligned chunks
+     *
+     * @param fileChannel - file channel
+     * @param start       - start offset of region, must be the beginning of record
+     * @param end         - end offset of region (exclusive)
+     * @param chunkCount  - wanted count of chunks
+     * @return chunks of region in file order
+     * @throws IOException - mapping error
+     */
+    public List<Chunk> split(FileChannel fileChannel, long start, long end, int chunkCount) throws IOException {
+        long chunkSize = Math.max((end - start) / Math.max(chunkCount, 1), MIN_CHUNK_SIZE);
+        boolean trackQuotes = !recordFormat.isFixedWidth() && recordFormat.getQuote() != RecordFormat.NO_QUOTE;
+        byte delimiter = recordFormat.getDelimiter();
+        byte quote = recordFormat.getQuote();
+        List<Chunk> chunks = new ArrayList<>();
+        long chunkStart = start;
+        long target = start + chunkSize;
+        long offset = start;
+        boolean fieldStart = true;
+        boolean inQuotes = false;
+        boolean quoteInQuotes = false;
+        while (target < end && offset < end) {
+            if (!trackQuotes) {
+                offset = Math.max(offset, target - 1);
+            }
+            long size = Math.min(windowSize, end - offset);
+            MappedByteBuffer window = fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            long nextOffset = offset + size;
+            for (int index = 0; index < size && target < end; index++) {
+                byte current = window.get(index);
+                if (quoteInQuotes) {
+                    quoteInQuotes = false;
+                    if (current == quote) {
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+                if (inQuotes) {
+                    quoteInQuotes = current == quote;
+                    continue;
+                }
+                if (current == LINE_FEED) {
+                    fieldStart = true;
+                    long recordEnd = offset + index + 1;
+                    if (recordEnd >= target && recordEnd < end) {
+                        chunks.add(new Chunk(chunkStart, recordEnd));
+                        chunkStart = recordEnd;
+                        target = recordEnd + chunkSize;
+                        if (!trackQuotes) {
+                            nextOffset = recordEnd;
+                            break;
+                        }
+                    }
+                } else if (current == delimiter) {
+                    fieldStart = true;
+                } else {
+                    inQuotes = trackQuotes && fieldStart && current == quote;
+                    fieldStart = false;
+                }
+            }
+            offset = nextOffset;
+        }
+        chunks.add(new Chunk(chunkStart, end));
+        log.debug("Region:[{}-{}] is split to:[{}] chunks", start, end, chunks.size());
+        return chunks;
+    }
+
+    /**
+     * Record-aligned chunk of file
+     */
+    @Data
+    public static class Chunk {
+
+        /**
+         * Start offset of chunk
+         */
+        private final long start;
+        /**
+         * End offset of chunk (exclusive)
+         */
+        private final long end;
+    }
+}
@@ -0,0 +1,261 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Reusable cursor of current record: keeps only bounds of fields in window of {@link ByteSource}.
+ * Field is materialized to string only on request, so not used fields are not decoded and not copied.
+ * Cursor is valid until the next record is read.
+ */
+public class RecordCursor {
+
+    /**
+     * Initial capacity of fields
+     */
+    private static final int INITIAL_FIELDS_CAPACITY = 32;
+
+    /**
+     * Charset of fields
+     */
+    private final Charset charset;
+    /**
+     * Quote of fields. {@link RecordFormat#NO_QUOTE} for format without quotes
+     */
+    private final byte quote;
+    /**
+     * Escaped quote: doubled quote
+     */
+    private final String escapedQuote;
+    /**
+     * Quote as string
+     */
+    private final String quoteString;
+    /**
+     * Trim spaces of fields
+     */
+    private final boolean trim;
+    /**
+     * Layout of record. Can be null
+     */
+    private RecordLayout layout;
+    /**
+     * Window of bytes with current record
+     */
+    private ByteBuffer buffer;
+    /**
+     * Duplicate of window for bulk copying of bytes
+     */
+    private ByteBuffer bufferView;
+    /**
+     * Start indexes of fields
+     */
+    private int[] fieldStarts = new int[INITIAL_FIELDS_CAPACITY];
+    /**
+     * End indexes of fields (exclusive)
+     */
+    private int[] fieldEnds = new int[INITIAL_FIELDS_CAPACITY];
+    /**
+     * Flags of quoted fields
+     */
+    private boolean[] quotedFields = new boolean[INITIAL_FIELDS_CAPACITY];
+    /**
+     * Flags of fields with escaped quotes
+     */
+    private boolean[] escapedFields = new boolean[INITIAL_FIELDS_CAPACITY];
+    /**
+     * Count of fields of current record
+     */
+    private int fieldCount;
+    /**
+     * Offset of current record in file
+     */
+    private long recordOffset;
+    /**
+     * Length of current record in bytes including line end
+     */
+    private int recordLength;
+    /**
+     * Reusable bytes for decoding of fields from not heap windows
+     */
+    private byte[] scratch = new byte[256];
+
+    /**
+     * Constructor with record format
+     *
+     * @param recordFormat - format of records
+     */
+    public RecordCursor(RecordFormat recordFormat) {
+        this.charset = recordFormat.getCharset();
+        this.quote = recordFormat.isFixedWidth() ? RecordFormat.NO_QUOTE : recordFormat.getQuote();
+        this.quoteString = String.valueOf((char) quote);
+        this.escapedQuote = quoteString + quoteString;
+        this.trim = recordFormat.isTrim() || recordFormat.isFixedWidth();
+    }
+
+    /**
+     * Get layout of record
+     *
+     * @return record layout. Can be null
+     */
+    public RecordLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Set layout of record
+     *
+     * @param layout - record layout
+     */
+    public void setLayout(RecordLayout layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Get count of fields of current record
+     *
+     * @return count of fields
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Get offset of current record in file
+     *
+     * @return offset of record
+     */
+    public long getRecordOffset() {
+        return recordOffset;
+    }
+
+    /**
+     * Get length of current record in bytes including line end
+     *
+     * @return length of record
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Check is current record blank: one empty not quoted field
+     *
+     * @return true - record is blank
+     */
+    public boolean isBlank() {
+        return fieldCount == 1 && !quotedFields[0] && fieldStarts[0] == fieldEnds[0];
+    }
+
+    /**
+     * Materialize field by column name of {@link RecordLayout}
+     *
+     * @param columnName - column name
+     * @return field value. Null if column is unknown or field is missing or empty
+     */
+    public String getString(String columnName) {
+        int index = layout == null ? -1 : layout.getColumnIndex(columnName);
+        return index < 0 ? null : getString(index);
+    }
+
+    /**
+     * Materialize field by index: decode bytes of field, remove quotes and unescape doubled quotes
+     *
+     * @param index - index of field
+     * @return field value. Null if field is missing or empty and not quoted
+     */
+    public String getString(int index) {
+        if (index < 0 || index >= fieldCount) {
+            return null;
+        }
+        int start = fieldStarts[index];
+        int end = fieldEnds[index];
+        if (quotedFields[index]) {
+            start++;
+            if (end > start && buffer.get(end - 1) == quote) {
+                end--;
+            }
+        } else if (start == end) {
+            return null;
+        }
+        if (trim) {
+            while (start < end && buffer.get(start) == ' ') {
+                start++;
+            }
+            while (end > start && buffer.get(end - 1) == ' ') {
+                end--;
+            }
+        }
+        String value = decode(start, end - start);
+        return escapedFields[index] ? value.replace(escapedQuote, quoteString) : value;
+    }
+
+    /**
+     * Start new record
+     *
+     * @param buffer       - window of bytes with record
+     * @param recordOffset - offset of record in file
+     */
+    void reset(ByteBuffer buffer, long recordOffset) {
+        if (this.buffer != buffer) {
+            this.buffer = buffer;
+            this.bufferView = buffer.duplicate();
+        }
+        this.recordOffset = recordOffset;
+        this.fieldCount = 0;
+        this.recordLength = 0;
+    }
+
+    /**
+     * Add bounds of field of current record
+     *
+     * @param start   - start index of field
+     * @param end     - end index of field (exclusive)
+     * @param quoted  - field is quoted
+     * @param escaped - field contains escaped quotes
+     */
+    void addField(int start, int end, boolean quoted, boolean escaped) {
+        if (fieldCount == fieldStarts.length) {
+            int capacity = fieldCount * 2;
+            fieldStarts = Arrays.copyOf(fieldStarts, capacity);
+            fieldEnds = Arrays.copyOf(fieldEnds, capacity);
+            quotedFields = Arrays.copyOf(quotedFields, capacity);
+            escapedFields = Arrays.copyOf(escapedFields, capacity);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        quotedFields[fieldCount] = quoted;
+        escapedFields[fieldCount] = escaped;
+        fieldCount++;
+    }
+
+    /**
+     * Set length of current record
+     *
+     * @param recordLength - length of record in bytes including line end
+     */
+    void setRecordLength(int recordLength) {
+        this.recordLength = recordLength;
+    }
+
+    /**
+     * Decode bytes of window to string. Heap windows are decoded without copying
+     *
+     * @param start  - start index
+     * @param length - count of bytes
+     * @return decoded string
+     */
+    private String decode(int start, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, charset);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        bufferView.limit(start + length);
+        bufferView.position(start);
+        bufferView.get(scratch, 0, length);
+        return new String(scratch, 0, length, charset);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Format of file records: delimited (with optional quote) or fixed-width. Records are separated by line feed,
+ * carriage return before line feed is ignored. Delimiter and quote must be single byte (ASCII) characters, so records
+ * of ASCII compatible charsets (e.g. UTF-8, ISO-8859-1) are tokenized directly from bytes.
+ */
+@Data
+@Builder
+public class RecordFormat {
+
+    /**
+     * Quote value for format without quotes
+     */
+    public static final byte NO_QUOTE = 0;
+
+    /**
+     * Delimiter of fields. Default - ','
+     */
+    @Builder.Default
+    private final byte delimiter = ',';
+    /**
+     * Quote of fields. Quote inside quoted field is escaped by doubling. Default - '"'
+     */
+    @Builder.Default
+    private final byte quote = '"';
+    /**
+     * Widths of fixed-width fields. Null for delimited records
+     */
+    private final int[] columnWidths;
+    /**
+     * Charset of file. Default - UTF-8
+     */
+    @Builder.Default
+    private final Charset charset = StandardCharsets.UTF_8;
+    /**
+     * Trim spaces of materialized fields
+     */
+    private final boolean trim;
+
+    /**
+     * Check is format fixed-width
+     *
+     * @return true - records are fixed-width
+     */
+    public boolean isFixedWidth() {
+        return columnWidths != null;
+    }
+}
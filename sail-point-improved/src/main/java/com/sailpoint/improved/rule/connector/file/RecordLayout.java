@@ -0,0 +1,88 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Layout of records: column names and columns selected for materializing (e.g. attributes of schema).
+ * Layout is built once per file.
+ */
+@Getter
+public class RecordLayout {
+
+    /**
+     * Column names in file order
+     */
+    private final List<String> columnNames;
+    /**
+     * Indexes of selected columns
+     */
+    private final int[] selectedIndexes;
+    /**
+     * Names of selected columns, in the same order as indexes
+     */
+    private final String[] selectedNames;
+    /**
+     * Column indexes by names
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> columnIndexes;
+
+    /**
+     * Constructor with column names and selected columns
+     *
+     * @param columnNames     - column names in file order
+     * @param selectedColumns - columns to materialize. Null or empty - all columns
+     */
+    public RecordLayout(List<String> columnNames, Collection<String> selectedColumns) {
+        this.columnNames = Collections.unmodifiableList(new ArrayList<>(columnNames));
+        this.columnIndexes = new HashMap<>();
+        for (int index = 0; index < columnNames.size(); index++) {
+            columnIndexes.putIfAbsent(columnNames.get(index), index);
+        }
+        Map<String, Integer> selected = new LinkedHashMap<>();
+        for (String columnName : columnNames) {
+            if (selectedColumns == null || selectedColumns.isEmpty() || selectedColumns.contains(columnName)) {
+                selected.putIfAbsent(columnName, columnIndexes.get(columnName));
+            }
+        }
+        this.selectedNames = selected.keySet().toArray(new String[0]);
+        this.selectedIndexes = selected.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Get index of column by name
+     *
+     * @param columnName - column name
+     * @return column index or -1 if column is unknown
+     */
+    public int getColumnIndex(String columnName) {
+        Integer index = columnIndexes.get(columnName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Materialize selected columns of current record to map
+     *
+     * @param recordCursor - cursor of current record
+     * @return map of selected columns, empty values are not put
+     */
+    public Map<String, Object> toMap(RecordCursor recordCursor) {
+        Map<String, Object> record = new HashMap<>(selectedIndexes.length * 4 / 3 + 1);
+        for (int index = 0; index < selectedIndexes.length; index++) {
+            String value = recordCursor.getString(selectedIndexes[index]);
+            if (value != null) {
+                record.put(selectedNames[index], value);
+            }
+        }
+        return record;
+    }
+}
@@ -0,0 +1,198 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Tokenizer of records directly from bytes of {@link ByteSource}: finds bounds of fields and puts them to reusable
+ * {@link RecordCursor} without decoding. Delimited records support quoted fields with delimiters, line ends and
+ * doubled quotes inside. Blank lines are skipped.
+ */
+@Slf4j
+public class RecordTokenizer {
+
+    /**
+     * Line feed byte
+     */
+    private static final byte LINE_FEED = '\n';
+    /**
+     * Carriage return byte
+     */
+    private static final byte CARRIAGE_RETURN = '\r';
+    /**
+     * Result of scanning: record is not complete in current window
+     */
+    private static final int INCOMPLETE_RECORD = -1;
+
+    /**
+     * Source of bytes
+     */
+    private final ByteSource byteSource;
+    /**
+     * Format of records
+     */
+    private final RecordFormat recordFormat;
+    /**
+     * Index of the next record in current window
+     */
+    private int position;
+
+    /**
+     * Constructor with source and format
+     *
+     * @param byteSource   - source of bytes
+     * @param recordFormat - format of records
+     */
+    public RecordTokenizer(ByteSource byteSource, RecordFormat recordFormat) {
+        this.byteSource = byteSource;
+        this.recordFormat = recordFormat;
+    }
+
+    /**
+     * Get offset of the next record in source
+     *
+     * @return offset of the next record
+     */
+    public long getOffset() {
+        return byteSource.getBufferOffset() + position;
+    }
+
+    /**
+     * Read next not blank record to cursor
+     *
+     * @param recordCursor - reusable cursor
+     * @return false - there are no more records
+     * @throws IOException - read error
+     */
+    public boolean next(RecordCursor recordCursor) throws IOException {
+        while (true) {
+            ByteBuffer buffer = byteSource.getBuffer();
+            int limit = buffer.limit();
+            boolean exhausted = byteSource.isExhausted();
+            if (position >= limit && exhausted) {
+                return false;
+            }
+            if (position < limit) {
+                recordCursor.reset(buffer, byteSource.getBufferOffset() + position);
+                int next = recordFormat.isFixedWidth()
+                        ? scanFixedWidth(buffer, position, limit, exhausted, recordCursor)
+                        : scanDelimited(buffer, position, limit, exhausted, recordCursor);
+                if (next != INCOMPLETE_RECORD) {
+                    recordCursor.setRecordLength(next - position);
+                    position = next;
+                    if (!recordCursor.isBlank()) {
+                        return true;
+                    }
+                    continue;
+                }
+            }
+            log.trace("Record is not complete in window, load next window");
+            if (!byteSource.fill(position)) {
+                return false;
+            }
+            position = 0;
+        }
+    }
+
+    /**
+     * Scan delimited record
+     *
+     * @param buffer       - window of bytes
+     * @param start        - start index of record
+     * @param limit        - limit of window
+     * @param exhausted    - there are no more bytes after window
+     * @param recordCursor - cursor for fields
+     * @return start index of next record or {@link #INCOMPLETE_RECORD}
+     */
+    private int scanDelimited(ByteBuffer buffer, int start, int limit, boolean exhausted, RecordCursor recordCursor) {
+        byte delimiter = recordFormat.getDelimiter();
+        byte quote = recordFormat.getQuote();
+        int fieldStart = start;
+        boolean quoted = false;
+        boolean escaped = false;
+        boolean inQuotes = false;
+        int index = start;
+        while (index < limit) {
+            byte current = buffer.get(index);
+            if (inQuotes) {
+                if (current == quote) {
+                    if (index + 1 == limit && !exhausted) {
+                        return INCOMPLETE_RECORD;
+                    }
+                    if (index + 1 < limit && buffer.get(index + 1) == quote) {
+                        escaped = true;
+                        index += 2;
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+                index++;
+                continue;
+            }
+            if (current == delimiter) {
+                recordCursor.addField(fieldStart, index, quoted, escaped);
+                fieldStart = index + 1;
+                quoted = false;
+                escaped = false;
+            } else if (current == LINE_FEED) {
+                recordCursor.addField(fieldStart, lineEnd(buffer, fieldStart, index), quoted, escaped);
+                return index + 1;
+            } else if (current == quote && index == fieldStart && quote != RecordFormat.NO_QUOTE) {
+                inQuotes = true;
+                quoted = true;
+            }
+            index++;
+        }
+        if (!exhausted) {
+            return INCOMPLETE_RECORD;
+        }
+        recordCursor.addField(fieldStart, lineEnd(buffer, fieldStart, limit), quoted, escaped);
+        return limit;
+    }
+
+    /**
+     * Scan fixed-width record. Fields out of line are empty
+     *
+     * @param buffer       - window of bytes
+     * @param start        - start index of record
+     * @param limit        - limit of window
+     * @param exhausted    - there are no more bytes after window
+     * @param recordCursor - cursor for fields
+     * @return start index of next record or {@link #INCOMPLETE_RECORD}
+     */
+    private int scanFixedWidth(ByteBuffer buffer, int start, int limit, boolean exhausted, RecordCursor recordCursor) {
+        int index = start;
+        while (index < limit && buffer.get(index) != LINE_FEED) {
+            index++;
+        }
+        if (index == limit && !exhausted) {
+            return INCOMPLETE_RECORD;
+        }
+        int end = lineEnd(buffer, start, index);
+        int fieldStart = start;
+        for (int columnWidth : recordFormat.getColumnWidths()) {
+            int fieldEnd = Math.min(fieldStart + columnWidth, end);
+            recordCursor.addField(fieldStart, fieldEnd, false, false);
+            fieldStart = fieldEnd;
+        }
+        if (end == start) {
+            recordCursor.reset(buffer, recordCursor.getRecordOffset());
+            recordCursor.addField(start, start, false, false);
+        }
+        return index < limit ? index + 1 : limit;
+    }
+
+    /**
+     * Get end of line without carriage return
+     *
+     * @param buffer - window of bytes
+     * @param start  - start index of last field
+     * @param end    - index of line feed or limit
+     * @return end of last field
+     */
+    private int lineEnd(ByteBuffer buffer, int start, int end) {
+        return end > start && buffer.get(end - 1) == CARRIAGE_RETURN ? end - 1 : end;
+    }
+}
@@ -0,0 +1,203 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.AttributeDefinition;
+import sailpoint.object.Schema;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Mapper of records given as list of values with list of columns (e.g. arguments of BuildMap rule) to record maps.
+ * Mapper is compiled once per schema and columns: attribute names, multi-valued flags and type coercions are resolved
+ * by column index, so each record is mapped without name lookups. Columns are matched to schema attributes by name
+ * ignoring case and mapped by attribute name, not matched columns are mapped as strings by column name. Empty values
+ * are not put, values of multi-valued attributes are lists. Value which can not be coerced to attribute type (e.g.
+ * not number for int or not true/false for boolean) is kept as string.
+ */
+@Slf4j
+public class SchemaRecordMapper {
+
+    /**
+     * Not boolean value error message. Parameters:
+     * 0 - value
+     */
+    private static final String NOT_BOOLEAN_ERROR_MESSAGE = "Value:[{0}] is not boolean";
+    /**
+     * Coercion of string values
+     */
+    private static final Function<String, Object> STRING_COERCION = value -> value;
+    /**
+     * Coercion of int values
+     */
+    private static final Function<String, Object> INT_COERCION = value -> Integer.valueOf(value.trim());
+    /**
+     * Coercion of long values
+     */
+    private static final Function<String, Object> LONG_COERCION = value -> Long.valueOf(value.trim());
+    /**
+     * Coercion of boolean values
+     */
+    private static final Function<String, Object> BOOLEAN_COERCION = SchemaRecordMapper::parseBoolean;
+
+    /**
+     * Schema of mapper
+     */
+    private final Schema schema;
+    /**
+     * Columns of mapper
+     */
+    private final List<String> columns;
+    /**
+     * Names of attributes by column index. Null for column without name
+     */
+    private final String[] attributeNames;
+    /**
+     * Multi-valued flags by column index
+     */
+    private final boolean[] multiValued;
+    /**
+     * Type coercions by column index
+     */
+    private final List<Function<String, Object>> coercions;
+    /**
+     * Column indexes by column names and names of matched attributes
+     */
+    private final Map<String, Integer> columnIndexes;
+
+    /**
+     * Constructor with schema and columns
+     *
+     * @param schema  - schema of application
+     * @param columns - column names of records
+     */
+    public SchemaRecordMapper(Schema schema, List<String> columns) {
+        this.schema = schema;
+        this.columns = columns;
+        Map<String, AttributeDefinition> definitions = new HashMap<>();
+        if (schema != null && schema.getAttributes() != null) {
+            for (AttributeDefinition definition : schema.getAttributes()) {
+                definitions.putIfAbsent(definition.getName().toLowerCase(), definition);
+            }
+        }
+        this.attributeNames = new String[columns.size()];
+        this.multiValued = new boolean[columns.size()];
+        List<Function<String, Object>> columnCoercions = new ArrayList<>(columns.size());
+        this.columnIndexes = new HashMap<>();
+        for (int index = 0; index < columns.size(); index++) {
+            String column = columns.get(index);
+            AttributeDefinition definition = column == null ? null : definitions.get(column.toLowerCase());
+            attributeNames[index] = definition == null ? column : definition.getName();
+            multiValued[index] = definition != null && definition.isMulti();
+            columnCoercions.add(getCoercion(definition));
+            if (column != null) {
+                columnIndexes.putIfAbsent(column, index);
+                columnIndexes.putIfAbsent(attributeNames[index], index);
+            }
+        }
+        this.coercions = Collections.unmodifiableList(columnCoercions);
+        log.debug("Record mapper is compiled, columns:[{}]", columns);
+    }
+
+    /**
+     * Check is mapper compiled for schema and columns
+     *
+     * @param schema  - schema of application
+     * @param columns - column names of records
+     * @return true - mapper is compiled for the same schema and columns
+     */
+    public boolean isMapperOf(Schema schema, List<String> columns) {
+        return this.schema == schema && (this.columns == columns || this.columns.equals(columns));
+    }
+
+    /**
+     * Get index of column by name
+     *
+     * @param columnName - column name or name of matched schema attribute
+     * @return column index or -1 if column is unknown
+     */
+    public int getColumnIndex(String columnName) {
+        Integer index = columnIndexes.get(columnName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Map record values to record map
+     *
+     * @param record - values of record in column order
+     * @return record map
+     */
+    public Map<String, Object> map(List<String> record) {
+        int size = Math.min(record.size(), attributeNames.length);
+        Map<String, Object> recordMap = new HashMap<>(size * 4 / 3 + 1);
+        for (int index = 0; index < size; index++) {
+            String value = record.get(index);
+            if (value == null || value.isEmpty() || attributeNames[index] == null) {
+                continue;
+            }
+            Object coercedValue = coerce(index, value);
+            recordMap.put(attributeNames[index],
+                    multiValued[index] ? new ArrayList<>(Collections.singletonList(coercedValue)) : coercedValue);
+        }
+        return recordMap;
+    }
+
+    /**
+     * Coerce value of column to attribute type
+     *
+     * @param index - column index
+     * @param value - not empty value
+     * @return coerced value or value as is if it can not be coerced
+     */
+    private Object coerce(int index, String value) {
+        try {
+            return coercions.get(index).apply(value);
+        } catch (IllegalArgumentException ex) {
+            log.trace("Value:[{}] of column:[{}] is not coerced", value, attributeNames[index]);
+            return value;
+        }
+    }
+
+    /**
+     * Parse boolean value ignoring case
+     *
+     * @param value - not empty value
+     * @return boolean value
+     * @throws IllegalArgumentException - value is not true or false
+     */
+    private static Boolean parseBoolean(String value) {
+        String trimmedValue = value.trim();
+        if (Boolean.TRUE.toString().equalsIgnoreCase(trimmedValue)) {
+            return Boolean.TRUE;
+        }
+        if (Boolean.FALSE.toString().equalsIgnoreCase(trimmedValue)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException(MessageFormat.format(NOT_BOOLEAN_ERROR_MESSAGE, value));
+    }
+
+    /**
+     * Get coercion by type of schema attribute. Not matched columns are strings
+     *
+     * @param definition - schema attribute definition. Can be null
+     * @return coercion of values
+     */
+    private static Function<String, Object> getCoercion(AttributeDefinition definition) {
+        String type = definition == null ? null : definition.getType();
+        if (AttributeDefinition.TYPE_INT.equals(type)) {
+            return INT_COERCION;
+        }
+        if (AttributeDefinition.TYPE_LONG.equals(type)) {
+            return LONG_COERCION;
+        }
+        if (AttributeDefinition.TYPE_BOOLEAN.equals(type)) {
+            return BOOLEAN_COERCION;
+        }
+        return STRING_COERCION;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming parser of file records: {@link RecordTokenizer} over {@link ByteSource} with reusable
+ * {@link RecordCursor}. Column names are taken from header record or given explicitly, only selected columns are
+ * materialized to record maps.
+ */
+@Slf4j
+public class StreamingFileParser implements Closeable {
+
+    /**
+     * Source of bytes
+     */
+    private final ByteSource byteSource;
+    /**
+     * Tokenizer of records
+     */
+    private final RecordTokenizer recordTokenizer;
+    /**
+     * Reusable cursor of current record
+     */
+    private final RecordCursor recordCursor;
+
+    /**
+     * Constructor with source, format and columns
+     *
+     * @param byteSource      - source of bytes
+     * @param recordFormat    - format of records
+     * @param columnNames     - column names. Null or empty - column names are read from header record
+     * @param hasHeader       - the first record is header
+     * @param selectedColumns - columns to materialize. Null or empty - all columns
+     * @throws IOException - read error of header
+     */
+    public StreamingFileParser(ByteSource byteSource, RecordFormat recordFormat, List<String> columnNames,
+                               boolean hasHeader, Collection<String> selectedColumns) throws IOException {
+        this.byteSource = byteSource;
+        this.recordTokenizer = new RecordTokenizer(byteSource, recordFormat);
+        this.recordCursor = new RecordCursor(recordFormat);
+        List<String> layoutColumns = columnNames == null ? new ArrayList<>() : columnNames;
+        if (hasHeader && recordTokenizer.next(recordCursor)) {
+            if (layoutColumns.isEmpty()) {
+                layoutColumns = new ArrayList<>(recordCursor.getFieldCount());
+                for (int index = 0; index < recordCursor.getFieldCount(); index++) {
+                    layoutColumns.add(recordCursor.getString(index));
+                }
+            }
+            log.debug("Header record is read, columns:[{}]", layoutColumns);
+        }
+        this.recordCursor.setLayout(new RecordLayout(layoutColumns, selectedColumns));
+    }
+
+    /**
+     * Constructor with source, format and layout. Source must be positioned at the first data record
+     *
+     * @param byteSource   - source of bytes
+     * @param recordFormat - format of records
+     * @param recordLayout - layout of records
+     */
+    public StreamingFileParser(ByteSource byteSource, RecordFormat recordFormat, RecordLayout recordLayout) {
+        this.byteSource = byteSource;
+        this.recordTokenizer = new RecordTokenizer(byteSource, recordFormat);
+        this.recordCursor = new RecordCursor(recordFormat);
+        this.recordCursor.setLayout(recordLayout);
+    }
+
+    /**
+     * Get layout of records
+     *
+     * @return record layout
+     */
+    public RecordLayout getLayout() {
+        return recordCursor.getLayout();
+    }
+
+    /**
+     * Get offset of the next record in source, e.g. offset of the first data record after header
+     *
+     * @return offset of the next record
+     */
+    public long getOffset() {
+        return recordTokenizer.getOffset();
+    }
+
+    /**
+     * Read next record to reusable cursor
+     *
+     * @return cursor of next record or null if there are no more records
+     * @throws IOException - read error
+     */
+    public RecordCursor next() throws IOException {
+        return recordTokenizer.next(recordCursor) ? recordCursor : null;
+    }
+
+    /**
+     * Read next record and materialize selected columns
+     *
+     * @return map of next record or null if there are no more records
+     * @throws IOException - read error
+     */
+    public Map<String, Object> nextMap() throws IOException {
+        RecordCursor cursor = next();
+        return cursor == null ? null : cursor.getLayout().toMap(cursor);
+    }
+
+    /**
+     * Close source of bytes
+     *
+     * @throws IOException - close error
+     */
+    @Override
+    public void close() throws IOException {
+        byteSource.close();
+    }
+}
@@ -0,0 +1,171 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Input stream which transcodes bytes of source channel from one charset to another by buffers: bytes are decoded
+ * and encoded in bulk, malformed and unmappable characters are replaced.
+ */
+public class TranscodingInputStream extends InputStream {
+
+    /**
+     * Min size of buffers, buffer must hold bytes of any character
+     */
+    public static final int MIN_BUFFER_SIZE = 64;
+
+    /**
+     * Source channel
+     */
+    private final ReadableByteChannel source;
+    /**
+     * Decoder of source charset
+     */
+    private final CharsetDecoder decoder;
+    /**
+     * Encoder of target charset
+     */
+    private final CharsetEncoder encoder;
+    /**
+     * Buffer of source bytes, in write mode
+     */
+    private final ByteBuffer inputBuffer;
+    /**
+     * Buffer of decoded chars, in write mode
+     */
+    private final CharBuffer charBuffer;
+    /**
+     * Buffer of encoded bytes, in read mode
+     */
+    private final ByteBuffer outputBuffer;
+    /**
+     * End of source channel is reached
+     */
+    private boolean endOfInput;
+    /**
+     * Decoder is flushed
+     */
+    private boolean decoderFlushed;
+    /**
+     * All bytes are encoded
+     */
+    private boolean finished;
+
+    /**
+     * Constructor with source channel and charsets
+     *
+     * @param source        - source channel
+     * @param sourceCharset - charset of source bytes
+     * @param targetCharset - charset of stream bytes
+     * @param bufferSize    - size of buffers, not less than {@link #MIN_BUFFER_SIZE}
+     */
+    public TranscodingInputStream(ReadableByteChannel source, Charset sourceCharset, Charset targetCharset,
+                                  int bufferSize) {
+        this.source = source;
+        this.decoder = sourceCharset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.encoder = targetCharset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        int size = Math.max(bufferSize, MIN_BUFFER_SIZE);
+        this.inputBuffer = ByteBuffer.allocate(size);
+        this.charBuffer = CharBuffer.allocate(size);
+        this.outputBuffer = ByteBuffer.allocate((int) Math.ceil(size * (double) encoder.maxBytesPerChar()));
+        this.outputBuffer.flip();
+    }
+
+    /**
+     * Read one byte
+     *
+     * @return byte or -1 at the end of stream
+     * @throws IOException - read error of source
+     */
+    @Override
+    public int read() throws IOException {
+        if (!outputBuffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return outputBuffer.get() & 0xFF;
+    }
+
+    /**
+     * Read bytes to array
+     *
+     * @param bytes  - target array
+     * @param offset - offset in array
+     * @param length - max count of bytes
+     * @return count of read bytes or -1 at the end of stream
+     * @throws IOException - read error of source
+     */
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!outputBuffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        int count = Math.min(length, outputBuffer.remaining());
+        outputBuffer.get(bytes, offset, count);
+        return count;
+    }
+
+    /**
+     * Get count of encoded bytes which can be read without blocking
+     *
+     * @return count of encoded bytes
+     */
+    @Override
+    public int available() {
+        return outputBuffer.remaining();
+    }
+
+    /**
+     * Close source channel
+     *
+     * @throws IOException - close error
+     */
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    /**
+     * Transcode next part of source to output buffer
+     *
+     * @return false - there are no more bytes
+     * @throws IOException - read error of source
+     */
+    private boolean fill() throws IOException {
+        outputBuffer.clear();
+        while (outputBuffer.position() == 0 && !finished) {
+            if (!endOfInput && source.read(inputBuffer) < 0) {
+                endOfInput = true;
+            }
+            if (!decoderFlushed) {
+                inputBuffer.flip();
+                boolean underflow = decoder.decode(inputBuffer, charBuffer, endOfInput).isUnderflow();
+                inputBuffer.compact();
+                if (endOfInput && underflow) {
+                    decoderFlushed = decoder.flush(charBuffer).isUnderflow();
+                }
+            }
+            charBuffer.flip();
+            encoder.encode(charBuffer, outputBuffer, decoderFlushed);
+            charBuffer.compact();
+            if (decoderFlushed && charBuffer.position() == 0) {
+                finished = encoder.flush(outputBuffer).isUnderflow();
+            }
+        }
+        outputBuffer.flip();
+        return outputBuffer.hasRemaining();
+    }
+}
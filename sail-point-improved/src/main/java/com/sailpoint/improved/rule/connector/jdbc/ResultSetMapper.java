@@ -0,0 +1,270 @@
+package com.sailpoint.improved.rule.connector.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.AttributeDefinition;
+import sailpoint.object.Schema;
+import sailpoint.tools.Util;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mapper of result set rows to record maps. Column indexes, attribute names and typed readers are resolved once from
+ * result set metadata and schema, so each row is mapped by index without metadata reading. Columns are matched to
+ * schema attributes ignoring case by column label (column name if label is empty), not matched columns are mapped by
+ * label. Values of multi-valued attributes are lists, records of rows joined by the same object can be merged by
+ * {@link #merge(List)}: values are deduplicated by insertion-ordered sets, which are converted to lists once.
+ */
+@Slf4j
+public class ResultSetMapper {
+
+    /**
+     * Reader of column values of string type
+     */
+    private static final ColumnReader STRING_READER = ResultSet::getString;
+    /**
+     * Reader of column values of int type
+     */
+    private static final ColumnReader INT_READER = (resultSet, columnIndex) -> {
+        int value = resultSet.getInt(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    };
+    /**
+     * Reader of column values of long type
+     */
+    private static final ColumnReader LONG_READER = (resultSet, columnIndex) -> {
+        long value = resultSet.getLong(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    };
+    /**
+     * Reader of column values of boolean type
+     */
+    private static final ColumnReader BOOLEAN_READER = (resultSet, columnIndex) -> {
+        boolean value = resultSet.getBoolean(columnIndex);
+        return resultSet.wasNull() ? null : value;
+    };
+    /**
+     * Reader of column values of date type
+     */
+    private static final ColumnReader DATE_READER = ResultSet::getTimestamp;
+
+    /**
+     * Result set of mapper. Weak reference, mapper must not keep closed result set
+     */
+    private final WeakReference<ResultSet> resultSet;
+    /**
+     * Names of attributes by column, index 0 is the first column. Null for column without label and name
+     */
+    private final String[] attributeNames;
+    /**
+     * Multi-valued flags by column
+     */
+    private final boolean[] multiValued;
+    /**
+     * Typed readers by column
+     */
+    private final ColumnReader[] columnReaders;
+    /**
+     * Names of multi-valued attributes
+     */
+    private final Set<String> multiValuedNames;
+
+    /**
+     * Constructor with result set and schema
+     *
+     * @param resultSet - result set
+     * @param schema    - schema of application
+     * @throws SQLException - metadata can not be read
+     */
+    public ResultSetMapper(ResultSet resultSet, Schema schema) throws SQLException {
+        this.resultSet = new WeakReference<>(resultSet);
+        Map<String, AttributeDefinition> definitions = new HashMap<>();
+        if (schema != null && schema.getAttributes() != null) {
+            for (AttributeDefinition definition : schema.getAttributes()) {
+                definitions.putIfAbsent(definition.getName().toLowerCase(), definition);
+            }
+        }
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        this.attributeNames = new String[columnCount];
+        this.multiValued = new boolean[columnCount];
+        this.columnReaders = new ColumnReader[columnCount];
+        this.multiValuedNames = new HashSet<>();
+        for (int index = 0; index < columnCount; index++) {
+            String columnLabel = metaData.getColumnLabel(index + 1);
+            if (Util.isNullOrEmpty(columnLabel)) {
+                columnLabel = metaData.getColumnName(index + 1);
+            }
+            if (Util.isNullOrEmpty(columnLabel)) {
+                log.debug("Column:[{}] has no label and name, it is not mapped", index + 1);
+                continue;
+            }
+            AttributeDefinition definition = definitions.get(columnLabel.toLowerCase());
+            attributeNames[index] = definition == null ? columnLabel : definition.getName();
+            multiValued[index] = definition != null && definition.isMulti();
+            columnReaders[index] = getColumnReader(definition);
+            if (multiValued[index]) {
+                multiValuedNames.add(attributeNames[index]);
+            }
+        }
+        log.debug("Result set mapper is built, attributes:[{}], multi-valued:[{}]", attributeNames, multiValuedNames);
+    }
+
+    /**
+     * Check is mapper built for result set
+     *
+     * @param resultSet - result set
+     * @return true - mapper is built for the same result set
+     */
+    public boolean isMapperOf(ResultSet resultSet) {
+        return this.resultSet.get() == resultSet;
+    }
+
+    /**
+     * Map current row of result set. Null values are not put, values of multi-valued attributes are lists
+     *
+     * @param resultSet - result set on current row
+     * @return record map
+     * @throws SQLException - values can not be read
+     */
+    public Map<String, Object> map(ResultSet resultSet) throws SQLException {
+        Map<String, Object> record = new HashMap<>(attributeNames.length * 4 / 3 + 1);
+        Map<String, Set<Object>> accumulators = null;
+        for (int index = 0; index < attributeNames.length; index++) {
+            if (attributeNames[index] == null) {
+                continue;
+            }
+            Object value = columnReaders[index].read(resultSet, index + 1);
+            if (value == null) {
+                continue;
+            }
+            if (multiValued[index]) {
+                if (accumulators == null) {
+                    accumulators = new HashMap<>();
+                }
+                accumulators.computeIfAbsent(attributeNames[index], key -> new LinkedHashSet<>()).add(value);
+            } else {
+                record.put(attributeNames[index], value);
+            }
+        }
+        if (accumulators != null) {
+            putValues(record, accumulators);
+        }
+        return record;
+    }
+
+    /**
+     * Merge records of rows joined by the same object in one pass: values of multi-valued attributes are accumulated
+     * without duplicates in insertion order, single-valued attributes are taken from the first record with value
+     *
+     * @param records - records of joined rows
+     * @return merged record
+     */
+    public Map<String, Object> merge(List<Map<String, Object>> records) {
+        Map<String, Object> target = new HashMap<>();
+        Map<String, Set<Object>> accumulators = new HashMap<>();
+        for (Map<String, Object> record : records) {
+            mergeRecord(target, accumulators, record);
+        }
+        putValues(target, accumulators);
+        return target;
+    }
+
+    /**
+     * Merge record of joined row to target record: values of multi-valued attributes are added without duplicates,
+     * single-valued attributes are put if target has no value. To merge many rows use {@link #merge(List)}, which
+     * converts accumulated values to lists only once
+     *
+     * @param target - target record
+     * @param record - record of joined row
+     */
+    public void merge(Map<String, Object> target, Map<String, Object> record) {
+        Map<String, Set<Object>> accumulators = new HashMap<>();
+        mergeRecord(target, accumulators, record);
+        putValues(target, accumulators);
+    }
+
+    /**
+     * Merge record to target record and accumulators of multi-valued attributes. Accumulator is created by values of
+     * target on the first value of attribute
+     *
+     * @param target       - target record
+     * @param accumulators - accumulators of multi-valued attributes by name
+     * @param record       - record of joined row
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeRecord(Map<String, Object> target, Map<String, Set<Object>> accumulators,
+                             Map<String, Object> record) {
+        for (Map.Entry<String, Object> entry : record.entrySet()) {
+            if (!multiValuedNames.contains(entry.getKey())) {
+                target.putIfAbsent(entry.getKey(), entry.getValue());
+                continue;
+            }
+            accumulators.computeIfAbsent(entry.getKey(), key -> target.get(key) instanceof Collection
+                    ? new LinkedHashSet<>((Collection<Object>) target.get(key))
+                    : new LinkedHashSet<>()).addAll((Collection<Object>) entry.getValue());
+        }
+    }
+
+    /**
+     * Put accumulated values of multi-valued attributes to record as lists
+     *
+     * @param record       - record map
+     * @param accumulators - accumulators of multi-valued attributes by name
+     */
+    private void putValues(Map<String, Object> record, Map<String, Set<Object>> accumulators) {
+        for (Map.Entry<String, Set<Object>> accumulator : accumulators.entrySet()) {
+            record.put(accumulator.getKey(), new ArrayList<>(accumulator.getValue()));
+        }
+    }
+
+    /**
+     * Get typed reader by type of schema attribute. Not matched columns are read as strings
+     *
+     * @param definition - schema attribute definition. Can be null
+     * @return column reader
+     */
+    private static ColumnReader getColumnReader(AttributeDefinition definition) {
+        String type = definition == null ? null : definition.getType();
+        if (AttributeDefinition.TYPE_INT.equals(type)) {
+            return INT_READER;
+        }
+        if (AttributeDefinition.TYPE_LONG.equals(type)) {
+            return LONG_READER;
+        }
+        if (AttributeDefinition.TYPE_BOOLEAN.equals(type)) {
+            return BOOLEAN_READER;
+        }
+        if (AttributeDefinition.TYPE_DATE.equals(type)) {
+            return DATE_READER;
+        }
+        return STRING_READER;
+    }
+
+    /**
+     * Typed reader of column value
+     */
+    @FunctionalInterface
+    public interface ColumnReader {
+
+        /**
+         * Read column value of current row
+         *
+         * @param resultSet   - result set on current row
+         * @param columnIndex - index of column, the first is 1
+         * @return column value or null
+         * @throws SQLException - value can not be read
+         */
+        Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+    }
+}
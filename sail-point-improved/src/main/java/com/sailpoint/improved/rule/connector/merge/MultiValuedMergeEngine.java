@@ -0,0 +1,199 @@
+package com.sailpoint.improved.rule.connector.merge;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merge engine of multi-valued attributes of multi-row objects. Values of merge attributes of current map are plain
+ * insertion-ordered lists. Hashed sets of values are kept by engine apart from current map, for the last merged
+ * objects by identity of current map, new values are appended to list only if they are added to set. Merging of each
+ * row costs only count of its values instead of scanning accumulated lists. Sets are bounded by
+ * {@link #MAX_MERGED_OBJECTS}: set of evicted object is rebuilt from its list, if rows of object are merged again.
+ * Engine is thread-safe, one current map must not be merged by several threads at the same time.
+ */
+public class MultiValuedMergeEngine {
+
+    /**
+     * Max count of the last merged objects which sets of values are kept
+     */
+    public static final int MAX_MERGED_OBJECTS = 16;
+
+    /**
+     * Sets of values of the last merged objects by identity of current map, in access order
+     */
+    private final Map<ObjectKey, Map<String, ValueSet>> objectValueSets =
+            new LinkedHashMap<ObjectKey, Map<String, ValueSet>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ObjectKey, Map<String, ValueSet>> eldest) {
+                    return size() > MAX_MERGED_OBJECTS;
+                }
+            };
+
+    /**
+     * Merge values of merge attributes of new row to current map. Values of merge attributes of current map become
+     * lists, values of other attributes are not changed
+     *
+     * @param current    - current map of object
+     * @param newObject  - map of new row of object
+     * @param mergeAttrs - names of merge attributes
+     * @return current map
+     */
+    public Map<String, Object> merge(Map<String, Object> current, Map<String, Object> newObject,
+                                     List<String> mergeAttrs) {
+        Map<String, ValueSet> valueSets = null;
+        for (String mergeAttr : mergeAttrs) {
+            Object newValue = newObject.get(mergeAttr);
+            if (newValue == null) {
+                continue;
+            }
+            if (valueSets == null) {
+                valueSets = getValueSets(current);
+            }
+            ValueSet valueSet = getValueSet(valueSets, current, mergeAttr);
+            if (newValue instanceof Collection) {
+                for (Object value : (Collection<?>) newValue) {
+                    valueSet.accumulate(value);
+                }
+            } else {
+                valueSet.accumulate(newValue);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get sets of values of current map, they are created on the first merge of object or after eviction
+     *
+     * @param current - current map of object
+     * @return sets of values by merge attribute
+     */
+    private Map<String, ValueSet> getValueSets(Map<String, Object> current) {
+        synchronized (objectValueSets) {
+            return objectValueSets.computeIfAbsent(new ObjectKey(current), key -> new HashMap<>());
+        }
+    }
+
+    /**
+     * Get set of values of merge attribute. New list of distinct current values is put to current map on the first
+     * merge of object, after eviction or if list of current map is replaced or changed outside of engine
+     *
+     * @param valueSets - sets of values of current map
+     * @param current   - current map of object
+     * @param mergeAttr - name of merge attribute
+     * @return set of values of merge attribute
+     */
+    private ValueSet getValueSet(Map<String, ValueSet> valueSets, Map<String, Object> current, String mergeAttr) {
+        Object currentValue = current.get(mergeAttr);
+        ValueSet valueSet = valueSets.get(mergeAttr);
+        if (valueSet != null && valueSet.isValueOf(currentValue)) {
+            return valueSet;
+        }
+        valueSet = new ValueSet();
+        if (currentValue instanceof Collection) {
+            for (Object value : (Collection<?>) currentValue) {
+                valueSet.accumulate(value);
+            }
+        } else if (currentValue != null) {
+            valueSet.accumulate(currentValue);
+        }
+        current.put(mergeAttr, valueSet.values);
+        valueSets.put(mergeAttr, valueSet);
+        return valueSet;
+    }
+
+    /**
+     * Hashed set of values of one merge attribute with plain list of current map
+     */
+    private static final class ValueSet {
+
+        /**
+         * List of values of current map
+         */
+        private final List<Object> values = new ArrayList<>();
+        /**
+         * Set of values of list
+         */
+        private final Set<Object> valueSet = new HashSet<>();
+
+        /**
+         * Check is value of current map the list of set and it is not changed outside of engine
+         *
+         * @param currentValue - value of current map
+         * @return true - set can be used for value
+         */
+        private boolean isValueOf(Object currentValue) {
+            return values == currentValue && valueSet.size() == values.size();
+        }
+
+        /**
+         * Add value if it is not accumulated
+         *
+         * @param value - value to add
+         */
+        private void accumulate(Object value) {
+            if (value != null && valueSet.add(value)) {
+                values.add(value);
+            }
+        }
+    }
+
+    /**
+     * Key of current map by identity. Current map is weakly referenced, so engine does not keep maps of objects
+     */
+    private static final class ObjectKey {
+
+        /**
+         * Current map
+         */
+        private final WeakReference<Map<String, Object>> current;
+        /**
+         * Identity hash code of current map
+         */
+        private final int hashCode;
+
+        /**
+         * Constructor with current map
+         *
+         * @param current - current map of object
+         */
+        private ObjectKey(Map<String, Object> current) {
+            this.current = new WeakReference<>(current);
+            this.hashCode = System.identityHashCode(current);
+        }
+
+        /**
+         * Keys are equal if they reference the same current map
+         *
+         * @param other - other key
+         * @return true - the same current map
+         */
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ObjectKey)) {
+                return false;
+            }
+            Map<String, Object> currentMap = current.get();
+            return currentMap != null && currentMap == ((ObjectKey) other).current.get();
+        }
+
+        /**
+         * Identity hash code of current map
+         *
+         * @return hash code
+         */
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
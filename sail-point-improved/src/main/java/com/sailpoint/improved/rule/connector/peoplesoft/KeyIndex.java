@@ -0,0 +1,206 @@
+package com.sailpoint.improved.rule.connector.peoplesoft;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact in-memory index of prefetched rows by key. Column labels are shared by all rows, row is stored as array of
+ * values: array for key with one row, list of arrays for key with many rows. Equal string values of loaded rows are
+ * stored once. Keys are trimmed on load and on lookup, so padded CHAR keys match identities
+ */
+@Slf4j
+public class KeyIndex {
+
+    /**
+     * Key column is not found error message. Parameters:
+     * 0 - key column
+     * 1 - query name
+     */
+    public static final String KEY_COLUMN_ERROR_MESSAGE = "Key column:[{0}] is not found in query:[{1}]";
+
+    /**
+     * Column labels of rows, without key column
+     */
+    private final String[] columns;
+    /**
+     * Rows by key: array of values or list of arrays
+     */
+    private final Map<String, Object> rowsByKey = new HashMap<>();
+    /**
+     * Count of rows
+     */
+    @Getter
+    private int rowCount;
+
+    /**
+     * Constructor with column labels
+     *
+     * @param columns - column labels of rows
+     */
+    public KeyIndex(String[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Load index by query rows
+     *
+     * @param connection    - database connection
+     * @param prefetchQuery - query of rows
+     * @return index of query rows
+     * @throws SQLException - query error or key column is not found
+     */
+    public static KeyIndex load(Connection connection, PrefetchQuery prefetchQuery) throws SQLException {
+        long start = System.currentTimeMillis();
+        try (PreparedStatement statement = connection.prepareStatement(prefetchQuery.getSql(),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(prefetchQuery.getFetchSize());
+            for (int index = 0; index < prefetchQuery.getParameters().size(); index++) {
+                statement.setObject(index + 1, prefetchQuery.getParameters().get(index));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int keyIndex = 0;
+                List<String> columns = new ArrayList<>();
+                List<Integer> columnIndexes = new ArrayList<>();
+                for (int index = 1; index <= metaData.getColumnCount(); index++) {
+                    String label = metaData.getColumnLabel(index);
+                    if (keyIndex == 0 && label.equalsIgnoreCase(prefetchQuery.getKeyColumn())) {
+                        keyIndex = index;
+                    } else {
+                        columns.add(label);
+                        columnIndexes.add(index);
+                    }
+                }
+                if (keyIndex == 0) {
+                    throw new SQLException(MessageFormat.format(KEY_COLUMN_ERROR_MESSAGE,
+                            prefetchQuery.getKeyColumn(), prefetchQuery.getName()));
+                }
+                KeyIndex keyIndexOfRows = new KeyIndex(columns.toArray(new String[0]));
+                Map<String, String> strings = new HashMap<>();
+                while (resultSet.next()) {
+                    String key = resultSet.getString(keyIndex);
+                    if (key == null) {
+                        continue;
+                    }
+                    Object[] row = new Object[columnIndexes.size()];
+                    for (int index = 0; index < row.length; index++) {
+                        Object value = resultSet.getObject(columnIndexes.get(index));
+                        row[index] = value instanceof String
+                                ? strings.computeIfAbsent((String) value, newValue -> newValue)
+                                : value;
+                    }
+                    keyIndexOfRows.add(key.trim(), row);
+                }
+                log.debug("Query:[{}], keys:[{}], rows:[{}], time:[{}] ms", prefetchQuery.getName(),
+                        keyIndexOfRows.size(), keyIndexOfRows.getRowCount(), System.currentTimeMillis() - start);
+                return keyIndexOfRows;
+            }
+        }
+    }
+
+    /**
+     * Add row of key
+     *
+     * @param key - key of row
+     * @param row - values of row in order of column labels
+     */
+    @SuppressWarnings("unchecked")
+    public void add(String key, Object[] row) {
+        Object rows = rowsByKey.get(key);
+        if (rows == null) {
+            rowsByKey.put(key, row);
+        } else if (rows instanceof Object[]) {
+            List<Object[]> rowsList = new ArrayList<>(2);
+            rowsList.add((Object[]) rows);
+            rowsList.add(row);
+            rowsByKey.put(key, rowsList);
+        } else {
+            ((List<Object[]>) rows).add(row);
+        }
+        rowCount++;
+    }
+
+    /**
+     * Get rows of key as maps of column label to value, null values are not put. Key is trimmed
+     *
+     * @param key - key of rows
+     * @return new maps of rows or empty list
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> getRows(String key) {
+        Object rows = findRows(key);
+        if (rows == null) {
+            return Collections.emptyList();
+        }
+        if (rows instanceof Object[]) {
+            return Collections.singletonList(toMap((Object[]) rows));
+        }
+        List<Map<String, Object>> maps = new ArrayList<>();
+        for (Object[] row : (List<Object[]>) rows) {
+            maps.add(toMap(row));
+        }
+        return maps;
+    }
+
+    /**
+     * Get the first row of key. Key is trimmed
+     *
+     * @param key - key of rows
+     * @return new map of the first row or null if key has no rows
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getRow(String key) {
+        Object rows = findRows(key);
+        if (rows == null) {
+            return null;
+        }
+        return toMap(rows instanceof Object[] ? (Object[]) rows : ((List<Object[]>) rows).get(0));
+    }
+
+    /**
+     * Find rows of trimmed key
+     *
+     * @param key - key of rows
+     * @return array of values, list of arrays or null if key has no rows
+     */
+    private Object findRows(String key) {
+        return key == null ? null : rowsByKey.get(key.trim());
+    }
+
+    /**
+     * Get count of keys
+     *
+     * @return count of keys
+     */
+    public int size() {
+        return rowsByKey.size();
+    }
+
+    /**
+     * Convert row values to map
+     *
+     * @param row - values of row
+     * @return map of column label to value
+     */
+    private Map<String, Object> toMap(Object[] row) {
+        Map<String, Object> map = new HashMap<>();
+        for (int index = 0; index < columns.length; index++) {
+            if (row[index] != null) {
+                map.put(columns[index], row[index]);
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sailpoint.improved.rule.connector.peoplesoft;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Query of PeopleSoft table rows for the whole aggregation, rows are indexed by key column, see {@link KeyIndex}.
+ * Rows of identity are put to map as attributes of the first row or as list of rows by attribute name
+ */
+@Data
+@Builder
+public class PrefetchQuery {
+
+    /**
+     * Default count of rows fetched by one round trip
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * Unique name of query in aggregation
+     */
+    private final String name;
+    /**
+     * SQL of query, e.g. SELECT EMPLID, DEPTID, JOBCODE FROM PS_CURRENT_JOB
+     */
+    private final String sql;
+    /**
+     * Label of key column, e.g. EMPLID. Matched ignoring case
+     */
+    private final String keyColumn;
+    /**
+     * Name of attribute for list of rows. If null, columns of the first row are put as attributes
+     */
+    private final String attribute;
+    /**
+     * Values of query parameters
+     */
+    @Builder.Default
+    private final List<Object> parameters = Collections.emptyList();
+    /**
+     * Count of rows fetched by one round trip
+     */
+    @Builder.Default
+    private final int fetchSize = DEFAULT_FETCH_SIZE;
+}
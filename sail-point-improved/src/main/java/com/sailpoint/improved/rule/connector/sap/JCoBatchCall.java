@@ -0,0 +1,188 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import com.sap.conn.jco.JCoFunction;
+import com.sap.conn.jco.JCoRecordMetaData;
+import com.sap.conn.jco.JCoTable;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch call of function module with table parameters: keys of many records (e.g. user names) are sent as rows of
+ * input table in one call, rows of output table are grouped by key field. Keys are sent by chunks of batch size,
+ * functions are created by cached templates, see {@link JCoFunctionTemplateCache}. Keys are matched after
+ * normalization (see {@link #normalizeKey(String)}), so padded or NUMC keys of output table match keys of records.
+ * Optional key list function lists keys of all records (e.g. BAPI_USER_GETLIST), so keys of next records can be
+ * prefetched by {@link JCoBatchPrefetcher}
+ */
+@Slf4j
+@Data
+@Builder
+public class JCoBatchCall {
+
+    /**
+     * Default max count of keys in one call
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Name of function module
+     */
+    private final String functionName;
+    /**
+     * Name of input table parameter
+     */
+    private final String inputTable;
+    /**
+     * Name of key field of input table
+     */
+    private final String inputField;
+    /**
+     * Name of output table parameter
+     */
+    private final String outputTable;
+    /**
+     * Name of key field of output table
+     */
+    private final String outputField;
+    /**
+     * Name of function module which lists keys of all records. Optional
+     */
+    private final String keyListFunction;
+    /**
+     * Name of output table parameter of key list function
+     */
+    private final String keyListTable;
+    /**
+     * Name of key field of key list table
+     */
+    private final String keyListField;
+    /**
+     * Import parameters of each call
+     */
+    @Builder.Default
+    private final Map<String, Object> importParameters = Collections.emptyMap();
+    /**
+     * Max count of keys in one call
+     */
+    @Builder.Default
+    private final int batchSize = DEFAULT_BATCH_SIZE;
+
+    /**
+     * Execute calls for keys
+     *
+     * @param destination - SAP destination
+     * @param keys        - keys of records, duplicates and nulls are ignored
+     * @return rows of output table by keys of records as they are given, keys without rows are missing
+     * @throws JCoException - call error
+     */
+    public Map<String, List<Map<String, Object>>> execute(JCoDestination destination, Collection<String> keys)
+            throws JCoException {
+        Map<String, Set<String>> keysByNormalizedKey = new LinkedHashMap<>();
+        for (String key : keys) {
+            String normalizedKey = normalizeKey(key);
+            if (normalizedKey != null) {
+                keysByNormalizedKey.computeIfAbsent(normalizedKey, newKey -> new LinkedHashSet<>()).add(key);
+            }
+        }
+        List<String> distinctKeys = new ArrayList<>(keysByNormalizedKey.keySet());
+        Map<String, List<Map<String, Object>>> rowsByKey = new HashMap<>();
+        for (int from = 0; from < distinctKeys.size(); from += batchSize) {
+            List<String> chunk = distinctKeys.subList(from, Math.min(from + batchSize, distinctKeys.size()));
+            JCoFunction function = JCoFunctionTemplateCache.createFunction(destination, functionName);
+            for (Map.Entry<String, Object> importParameter : importParameters.entrySet()) {
+                function.getImportParameterList().setValue(importParameter.getKey(), importParameter.getValue());
+            }
+            JCoTable input = function.getTableParameterList().getTable(inputTable);
+            for (String normalizedKey : chunk) {
+                input.appendRow();
+                input.setValue(inputField, keysByNormalizedKey.get(normalizedKey).iterator().next().trim());
+            }
+            long start = System.currentTimeMillis();
+            function.execute(destination);
+            JCoTable output = function.getTableParameterList().getTable(outputTable);
+            JCoRecordMetaData metaData = output.getRecordMetaData();
+            for (int row = 0; row < output.getNumRows(); row++) {
+                output.setRow(row);
+                Set<String> rowKeys = keysByNormalizedKey.get(normalizeKey(output.getString(outputField)));
+                if (rowKeys == null) {
+                    log.trace("Row of not requested key is skipped");
+                    continue;
+                }
+                Map<String, Object> values = new HashMap<>();
+                for (int field = 0; field < metaData.getFieldCount(); field++) {
+                    values.put(metaData.getName(field), output.getValue(field));
+                }
+                for (String key : rowKeys) {
+                    rowsByKey.computeIfAbsent(key, newKey -> new ArrayList<>()).add(values);
+                }
+            }
+            log.debug("Function:[{}], keys:[{}], rows:[{}], time:[{}] ms", functionName, chunk.size(),
+                    output.getNumRows(), System.currentTimeMillis() - start);
+        }
+        return rowsByKey;
+    }
+
+    /**
+     * Load keys of all records by key list function
+     *
+     * @param destination - SAP destination
+     * @return keys of all records in order of key list table. Empty if key list function is not set
+     * @throws JCoException - call error
+     */
+    public List<String> loadKeys(JCoDestination destination) throws JCoException {
+        if (keyListFunction == null) {
+            return Collections.emptyList();
+        }
+        JCoFunction function = JCoFunctionTemplateCache.createFunction(destination, keyListFunction);
+        function.execute(destination);
+        JCoTable keyList = function.getTableParameterList().getTable(keyListTable);
+        List<String> keys = new ArrayList<>(keyList.getNumRows());
+        for (int row = 0; row < keyList.getNumRows(); row++) {
+            keyList.setRow(row);
+            keys.add(keyList.getString(keyListField));
+        }
+        log.debug("Function:[{}], keys:[{}]", keyListFunction, keys.size());
+        return keys;
+    }
+
+    /**
+     * Normalize key for matching: value is trimmed, leading zeros of numeric value (NUMC) are removed
+     *
+     * @param key - key of record or row
+     * @return normalized key, null for null or blank key
+     */
+    public static String normalizeKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        String normalizedKey = key.trim();
+        if (normalizedKey.isEmpty()) {
+            return null;
+        }
+        int index = 0;
+        while (index < normalizedKey.length() && Character.isDigit(normalizedKey.charAt(index))) {
+            index++;
+        }
+        if (index < normalizedKey.length()) {
+            return normalizedKey;
+        }
+        int zeros = 0;
+        while (zeros < normalizedKey.length() - 1 && normalizedKey.charAt(zeros) == '0') {
+            zeros++;
+        }
+        return normalizedKey.substring(zeros);
+    }
+}
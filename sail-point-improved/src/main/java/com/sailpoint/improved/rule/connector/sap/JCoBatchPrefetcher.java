@@ -0,0 +1,91 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefetcher of rows of batch call for records which are read one by one (e.g. per-object SAPBuildMap rule). Keys of
+ * all records are listed once by key list function of batch call, on miss rows of current key and of next keys of
+ * list (up to batch size) are fetched by one call. Rows are removed when they are taken, so prefetcher keeps at most
+ * one batch when records are read in order of key list. Prefetcher is kept in state of aggregation, it is not
+ * thread-safe. Without key list function each record is fetched by own call
+ */
+@Slf4j
+public class JCoBatchPrefetcher {
+
+    /**
+     * Batch call of rows
+     */
+    private final JCoBatchCall batchCall;
+    /**
+     * Prefetched rows by normalized key, keys without rows have empty list
+     */
+    private final Map<String, List<Map<String, Object>>> prefetchedRows = new HashMap<>();
+    /**
+     * Iterator of keys which are not prefetched. Null until the first miss
+     */
+    private Iterator<String> nextKeys;
+
+    /**
+     * Constructor with batch call
+     *
+     * @param batchCall - batch call of rows
+     */
+    public JCoBatchPrefetcher(JCoBatchCall batchCall) {
+        this.batchCall = batchCall;
+    }
+
+    /**
+     * Get rows of key. On miss rows of key and of next keys of key list are fetched by one call
+     *
+     * @param destination - SAP destination
+     * @param key         - key of record
+     * @return rows of output table of key, empty if key has no rows
+     * @throws JCoException - call error
+     */
+    public List<Map<String, Object>> getRows(JCoDestination destination, String key) throws JCoException {
+        String normalizedKey = JCoBatchCall.normalizeKey(key);
+        if (normalizedKey == null) {
+            return Collections.emptyList();
+        }
+        List<Map<String, Object>> rows = prefetchedRows.remove(normalizedKey);
+        if (rows != null) {
+            return rows;
+        }
+        if (nextKeys == null) {
+            nextKeys = batchCall.loadKeys(destination).iterator();
+        }
+        if (prefetchedRows.size() >= batchCall.getBatchSize()) {
+            log.debug("Function:[{}], records are not read in order of key list, prefetched rows are dropped",
+                    batchCall.getFunctionName());
+            prefetchedRows.clear();
+        }
+        List<String> batchKeys = new ArrayList<>(batchCall.getBatchSize());
+        batchKeys.add(key);
+        while (batchKeys.size() < batchCall.getBatchSize() && nextKeys.hasNext()) {
+            String nextKey = nextKeys.next();
+            String normalizedNextKey = JCoBatchCall.normalizeKey(nextKey);
+            if (normalizedNextKey != null && !normalizedNextKey.equals(normalizedKey)
+                    && !prefetchedRows.containsKey(normalizedNextKey)) {
+                batchKeys.add(nextKey);
+            }
+        }
+        log.trace("Function:[{}], prefetch rows of keys:[{}]", batchCall.getFunctionName(), batchKeys.size());
+        Map<String, List<Map<String, Object>>> rowsByKey = batchCall.execute(destination, batchKeys);
+        for (int index = 1; index < batchKeys.size(); index++) {
+            List<Map<String, Object>> keyRows = rowsByKey.get(batchKeys.get(index));
+            prefetchedRows.put(JCoBatchCall.normalizeKey(batchKeys.get(index)),
+                    keyRows == null ? Collections.emptyList() : keyRows);
+        }
+        rows = rowsByKey.get(key);
+        return rows == null ? Collections.emptyList() : rows;
+    }
+}
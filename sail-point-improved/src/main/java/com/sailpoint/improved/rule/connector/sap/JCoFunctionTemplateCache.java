@@ -0,0 +1,73 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import com.sap.conn.jco.JCoFunction;
+import com.sap.conn.jco.JCoFunctionTemplate;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of function templates by destination and function name. Repository lookup of function metadata is done
+ * once, each call gets new function instance created by cached template
+ */
+@Slf4j
+public final class JCoFunctionTemplateCache {
+
+    /**
+     * Function not found error message. Parameters:
+     * 0 - function name
+     * 1 - destination name
+     */
+    public static final String FUNCTION_ERROR_MESSAGE = "Function:[{0}] is not found in destination:[{1}]";
+    /**
+     * Key pattern. Parameters:
+     * 0 - destination name
+     * 1 - function name
+     */
+    private static final String KEY_PATTERN = "{0}/{1}";
+    /**
+     * Templates by key of destination and function
+     */
+    private static final ConcurrentMap<String, JCoFunctionTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * Utility class
+     */
+    private JCoFunctionTemplateCache() {
+    }
+
+    /**
+     * Create new function by cached template
+     *
+     * @param destination  - SAP destination
+     * @param functionName - name of function module
+     * @return new function
+     * @throws JCoException - template can not be loaded from repository or function is not found
+     */
+    public static JCoFunction createFunction(JCoDestination destination, String functionName) throws JCoException {
+        String key = MessageFormat.format(KEY_PATTERN, destination.getDestinationName(), functionName);
+        JCoFunctionTemplate template = TEMPLATES.get(key);
+        if (template == null) {
+            log.debug("Load function template:[{}]", key);
+            template = destination.getRepository().getFunctionTemplate(functionName);
+            if (template == null) {
+                throw new JCoException(JCoException.JCO_ERROR_FUNCTION_NOT_FOUND, MessageFormat.format(
+                        FUNCTION_ERROR_MESSAGE, functionName, destination.getDestinationName()));
+            }
+            JCoFunctionTemplate existingTemplate = TEMPLATES.putIfAbsent(key, template);
+            template = existingTemplate == null ? template : existingTemplate;
+        }
+        return template.getFunction();
+    }
+
+    /**
+     * Remove all templates, e.g. after change of function modules
+     */
+    public static void clear() {
+        TEMPLATES.clear();
+    }
+}
@@ -0,0 +1,250 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import com.sap.conn.jco.JCoFunction;
+import com.sap.conn.jco.JCoTable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of SAP HR org structure for manager lookup. Relationships of objects (table HRP1001) are read in
+ * bulk by one RFC_READ_TABLE call:
+ * - 008 (S - P): position is held by person
+ * - 003 (S - O): position belongs to org unit
+ * - 012 (O - S): org unit is managed by position
+ * - 002 (O - O): org unit reports to org unit
+ * Manager of person is holder of chief position of org unit of person's position. If person is chief of own org unit,
+ * chief of superior org unit is used.
+ */
+@Slf4j
+public class OrgStructureIndex {
+
+    /**
+     * Name of function module of table reading
+     */
+    public static final String READ_TABLE_FUNCTION = "RFC_READ_TABLE";
+    /**
+     * Table of relationships
+     */
+    public static final String RELATIONSHIP_TABLE = "HRP1001";
+    /**
+     * Default plan version
+     */
+    public static final String DEFAULT_PLAN_VERSION = "01";
+    /**
+     * Where clause of relationships. Parameters:
+     * 0 - plan version
+     * 1 - key date
+     */
+    public static final String WHERE_CLAUSE_PATTERN = "PLVAR = ''{0}'' AND BEGDA <= ''{1}'' AND ENDDA >= ''{1}''"
+            + " AND RSIGN = ''A'' AND RELAT IN (''002'', ''003'', ''008'', ''012'')";
+    /**
+     * Read fields of relationships
+     */
+    public static final List<String> FIELDS = Collections.unmodifiableList(
+            Arrays.asList("OTYPE", "OBJID", "RSIGN", "RELAT", "SCLAS", "SOBID"));
+    /**
+     * Delimiter of fields in rows of table reading
+     */
+    private static final String DELIMITER = "|";
+    /**
+     * Max length of option line of table reading
+     */
+    private static final int OPTION_LENGTH = 72;
+    /**
+     * Max depth of org units to search chief
+     */
+    private static final int MAX_DEPTH = 64;
+    /**
+     * Object type of person
+     */
+    private static final String TYPE_PERSON = "P";
+    /**
+     * Object type of position
+     */
+    private static final String TYPE_POSITION = "S";
+    /**
+     * Object type of org unit
+     */
+    private static final String TYPE_ORG_UNIT = "O";
+
+    /**
+     * Positions by person
+     */
+    private final Map<String, List<String>> personPositions = new HashMap<>();
+    /**
+     * Persons by position
+     */
+    private final Map<String, List<String>> positionHolders = new HashMap<>();
+    /**
+     * Org unit by position
+     */
+    private final Map<String, String> positionOrgUnits = new HashMap<>();
+    /**
+     * Chief positions by org unit
+     */
+    private final Map<String, List<String>> orgUnitChiefs = new HashMap<>();
+    /**
+     * Superior org unit by org unit
+     */
+    private final Map<String, String> superiorOrgUnits = new HashMap<>();
+
+    /**
+     * Load index by relationships of SAP HR valid on key date
+     *
+     * @param destination - SAP destination
+     * @param planVersion - plan version
+     * @param keyDate     - key date of relationships
+     * @return loaded index
+     * @throws JCoException - table can not be read
+     */
+    public static OrgStructureIndex load(JCoDestination destination, String planVersion, Date keyDate)
+            throws JCoException {
+        JCoFunction function = JCoFunctionTemplateCache.createFunction(destination, READ_TABLE_FUNCTION);
+        function.getImportParameterList().setValue("QUERY_TABLE", RELATIONSHIP_TABLE);
+        function.getImportParameterList().setValue("DELIMITER", DELIMITER);
+        JCoTable fields = function.getTableParameterList().getTable("FIELDS");
+        for (String field : FIELDS) {
+            fields.appendRow();
+            fields.setValue("FIELDNAME", field);
+        }
+        JCoTable options = function.getTableParameterList().getTable("OPTIONS");
+        String whereClause = MessageFormat.format(WHERE_CLAUSE_PATTERN, planVersion,
+                new SimpleDateFormat("yyyyMMdd").format(keyDate));
+        for (String line : splitOptions(whereClause)) {
+            options.appendRow();
+            options.setValue("TEXT", line);
+        }
+        long start = System.currentTimeMillis();
+        function.execute(destination);
+        JCoTable data = function.getTableParameterList().getTable("DATA");
+        OrgStructureIndex orgStructureIndex = new OrgStructureIndex();
+        for (int row = 0; row < data.getNumRows(); row++) {
+            data.setRow(row);
+            String[] values = data.getString("WA").split(Pattern.quote(DELIMITER), -1);
+            if (values.length == FIELDS.size()) {
+                orgStructureIndex.addRelationship(values[0].trim(), values[1].trim(), values[2].trim(),
+                        values[3].trim(), values[4].trim(), values[5].trim());
+            }
+        }
+        log.debug("Org structure index is loaded, relationships:[{}], time:[{}] ms", data.getNumRows(),
+                System.currentTimeMillis() - start);
+        return orgStructureIndex;
+    }
+
+    /**
+     * Add relationship of objects
+     *
+     * @param objectType   - type of object (OTYPE)
+     * @param objectId     - id of object (OBJID)
+     * @param direction    - direction of relationship (RSIGN): A - bottom up, B - top down
+     * @param relationship - relationship (RELAT)
+     * @param relatedType  - type of related object (SCLAS)
+     * @param relatedId    - id of related object (SOBID)
+     */
+    public void addRelationship(String objectType, String objectId, String direction, String relationship,
+                                String relatedType, String relatedId) {
+        String relationshipKey = objectType + direction + relationship + relatedType;
+        switch (relationshipKey) {
+            case "SA008P":
+            case "PB008S":
+                String position = TYPE_POSITION.equals(objectType) ? objectId : relatedId;
+                String person = TYPE_PERSON.equals(objectType) ? objectId : relatedId;
+                add(personPositions, person, position);
+                add(positionHolders, position, person);
+                break;
+            case "SA003O":
+                positionOrgUnits.put(objectId, relatedId);
+                break;
+            case "OB003S":
+                positionOrgUnits.put(relatedId, objectId);
+                break;
+            case "OB012S":
+                add(orgUnitChiefs, objectId, relatedId);
+                break;
+            case "SA012O":
+                add(orgUnitChiefs, relatedId, objectId);
+                break;
+            case "OA002O":
+                superiorOrgUnits.put(objectId, relatedId);
+                break;
+            case "OB002O":
+                superiorOrgUnits.put(relatedId, objectId);
+                break;
+            default:
+                log.trace("Skip relationship:[{}] of object:[{}]", relationshipKey, objectId);
+        }
+    }
+
+    /**
+     * Get manager of person: holder of chief position of person's org unit or of the nearest superior org unit
+     * which has other chief
+     *
+     * @param personnelNumber - personnel number of person
+     * @return personnel number of manager or null if manager is not found
+     */
+    public String getManager(String personnelNumber) {
+        for (String position : personPositions.getOrDefault(personnelNumber, Collections.emptyList())) {
+            String orgUnit = positionOrgUnits.get(position);
+            Set<String> visitedOrgUnits = new HashSet<>();
+            while (orgUnit != null && visitedOrgUnits.add(orgUnit) && visitedOrgUnits.size() <= MAX_DEPTH) {
+                for (String chiefPosition : orgUnitChiefs.getOrDefault(orgUnit, Collections.emptyList())) {
+                    for (String chief : positionHolders.getOrDefault(chiefPosition, Collections.emptyList())) {
+                        if (!chief.equals(personnelNumber)) {
+                            return chief;
+                        }
+                    }
+                }
+                orgUnit = superiorOrgUnits.get(orgUnit);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Split where clause to option lines of table reading
+     *
+     * @param whereClause - where clause
+     * @return option lines, not longer than {@link #OPTION_LENGTH}
+     */
+    private static List<String> splitOptions(String whereClause) {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : whereClause.split(" ")) {
+            if (line.length() > 0 && line.length() + word.length() + 1 > OPTION_LENGTH) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+            line.append(line.length() > 0 ? " " : "").append(word);
+        }
+        lines.add(line.toString());
+        return lines;
+    }
+
+    /**
+     * Add value to list of key
+     *
+     * @param map   - map of lists
+     * @param key   - key
+     * @param value - value
+     */
+    private static void add(Map<String, List<String>> map, String key, String value) {
+        List<String> values = map.computeIfAbsent(key, newKey -> new ArrayList<>(1));
+        if (!values.contains(value)) {
+            values.add(value);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of org structure indexes by application name. Index is loaded on the first use in aggregation: it is bound
+ * to connector instance of aggregation and loaded again for other connector or after {@link #MAX_AGE_MILLIS}.
+ * Concurrent callers wait for one loading
+ */
+@Slf4j
+public final class OrgStructureIndexCache {
+
+    /**
+     * Max age of index - 1 hour
+     */
+    public static final long MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(1);
+    /**
+     * Entries by application name
+     */
+    private static final ConcurrentMap<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    /**
+     * Utility class
+     */
+    private OrgStructureIndexCache() {
+    }
+
+    /**
+     * Get index of application for connector, load it if it is missing, loaded for other connector or expired
+     *
+     * @param applicationName - application name
+     * @param connector       - connector of current aggregation
+     * @param indexLoader     - loader of index
+     * @return index of application
+     * @throws JCoException - index can not be loaded
+     */
+    public static OrgStructureIndex get(String applicationName, Object connector, IndexLoader indexLoader)
+            throws JCoException {
+        Entry entry = ENTRIES.computeIfAbsent(applicationName, name -> new Entry());
+        Snapshot snapshot = entry.snapshot;
+        if (snapshot != null && snapshot.isValidFor(connector)) {
+            return snapshot.index;
+        }
+        synchronized (entry) {
+            snapshot = entry.snapshot;
+            if (snapshot == null || !snapshot.isValidFor(connector)) {
+                log.debug("Load org structure index of application:[{}]", applicationName);
+                snapshot = new Snapshot(indexLoader.load(), connector);
+                entry.snapshot = snapshot;
+            }
+            return snapshot.index;
+        }
+    }
+
+    /**
+     * Remove index of application
+     *
+     * @param applicationName - application name
+     */
+    public static void clear(String applicationName) {
+        ENTRIES.remove(applicationName);
+    }
+
+    /**
+     * Loader of index
+     */
+    @FunctionalInterface
+    public interface IndexLoader {
+
+        /**
+         * Load index
+         *
+         * @return loaded index
+         * @throws JCoException - index can not be loaded
+         */
+        OrgStructureIndex load() throws JCoException;
+    }
+
+    /**
+     * Entry of application
+     */
+    private static class Entry {
+
+        /**
+         * Current snapshot of index
+         */
+        private volatile Snapshot snapshot;
+    }
+
+    /**
+     * Loaded index with its connector and load time
+     */
+    private static class Snapshot {
+
+        /**
+         * Loaded index
+         */
+        private final OrgStructureIndex index;
+        /**
+         * Connector of aggregation, weak reference to not keep connector after aggregation
+         */
+        private final WeakReference<Object> connector;
+        /**
+         * Load time
+         */
+        private final long loadedAt = System.currentTimeMillis();
+
+        /**
+         * Constructor with index and connector
+         *
+         * @param index     - loaded index
+         * @param connector - connector of aggregation
+         */
+        private Snapshot(OrgStructureIndex index, Object connector) {
+            this.index = index;
+            this.connector = new WeakReference<>(connector);
+        }
+
+        /**
+         * Check that index is loaded for connector and it is not expired
+         *
+         * @param currentConnector - connector of current aggregation
+         * @return true - index is valid
+         */
+        private boolean isValidFor(Object currentConnector) {
+            return connector.get() == currentConnector && System.currentTimeMillis() - loadedAt < MAX_AGE_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.tools.GeneralException;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe cache of credential headers (e.g. OAuth token or signed headers) by key of application and end point.
+ * Missing or expired credential is loaded by the first caller, concurrent callers wait for the same load. Credential
+ * which expires soon is refreshed in background while callers get current one. Failed background refresh is retried
+ * after {@link #RETRY_INTERVAL_MILLIS}
+ */
+@Slf4j
+public class CredentialCache {
+
+    /**
+     * Worker name pattern. Parameters:
+     * 0 - worker number
+     */
+    public static final String WORKER_NAME_PATTERN = "CredentialCache-{0}";
+    /**
+     * Credential loading error message. Parameters:
+     * 0 - key of credential
+     */
+    public static final String CREDENTIAL_ERROR_MESSAGE = "Credential:[{0}] can not be loaded";
+    /**
+     * Waiting of credential is interrupted error message. Parameters:
+     * 0 - key of credential
+     */
+    public static final String INTERRUPTED_ERROR_MESSAGE = "Waiting of credential:[{0}] is interrupted";
+    /**
+     * Default time before expiration to refresh credential in background - 1 minute
+     */
+    public static final long DEFAULT_REFRESH_AHEAD_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    /**
+     * Time between failed background refresh and the next one - 5 seconds
+     */
+    public static final long RETRY_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    /**
+     * Max count of threads of background refresh
+     */
+    public static final int REFRESH_THREADS = 4;
+    /**
+     * Key pattern. Parameters:
+     * 0 - application name
+     * 1 - end point name
+     */
+    private static final String KEY_PATTERN = "{0}/{1}";
+    /**
+     * Cache shared by all rules of JVM
+     */
+    private static final CredentialCache SHARED_INSTANCE = new CredentialCache(DEFAULT_REFRESH_AHEAD_MILLIS);
+
+    /**
+     * Number of the last created worker
+     */
+    private final AtomicInteger workerCounter = new AtomicInteger();
+    /**
+     * Entries by key
+     */
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Time before expiration to refresh credential in background
+     */
+    private final long refreshAheadMillis;
+    /**
+     * Pool of background refresh workers
+     */
+    private final ThreadPoolExecutor executorService;
+
+    /**
+     * Constructor with time before expiration to refresh credential in background
+     *
+     * @param refreshAheadMillis - time before expiration to refresh credential in background
+     */
+    public CredentialCache(long refreshAheadMillis) {
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.executorService = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), this::createWorker);
+        this.executorService.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Get cache shared by all rules of JVM
+     *
+     * @return shared cache
+     */
+    public static CredentialCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Build key of credential
+     *
+     * @param applicationName - application name
+     * @param endPointName    - end point name, null - credential is shared by all end points of application
+     * @return key of credential
+     */
+    public static String buildKey(String applicationName, String endPointName) {
+        return endPointName == null ? applicationName
+                : MessageFormat.format(KEY_PATTERN, applicationName, endPointName);
+    }
+
+    /**
+     * Get headers of valid credential, load it if it is missing or expired
+     *
+     * @param key              - key of credential
+     * @param credentialLoader - loader of credential
+     * @return headers of credential
+     * @throws GeneralException - credential can not be loaded or waiting is interrupted
+     */
+    public Map<String, String> get(String key, CredentialLoader credentialLoader) throws GeneralException {
+        Entry entry = entries.computeIfAbsent(key, Entry::new);
+        long now = System.currentTimeMillis();
+        Credential credential = entry.credential;
+        if (credential != null && now < credential.getExpiresAt()) {
+            if (now >= credential.getExpiresAt() - refreshAheadMillis && now >= entry.retryAt) {
+                refresh(entry, credentialLoader, true);
+            }
+            return credential.getHeaders();
+        }
+        log.debug("Credential:[{}] is missing or expired, load it", key);
+        return await(entry, refresh(entry, credentialLoader, false)).getHeaders();
+    }
+
+    /**
+     * Remove credential, e.g. if it is rejected by target system
+     *
+     * @param key - key of credential
+     */
+    public void invalidate(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            log.debug("Invalidate credential:[{}]", key);
+            entry.credential = null;
+        }
+    }
+
+    /**
+     * Start loading of credential if it is not in progress
+     *
+     * @param entry            - entry of credential
+     * @param credentialLoader - loader of credential
+     * @param background       - load by background worker, otherwise by current thread
+     * @return future of loaded credential
+     */
+    private CompletableFuture<Credential> refresh(Entry entry, CredentialLoader credentialLoader,
+                                                  boolean background) {
+        CompletableFuture<Credential> future;
+        synchronized (entry) {
+            if (entry.loading != null) {
+                return entry.loading;
+            }
+            future = new CompletableFuture<>();
+            entry.loading = future;
+        }
+        if (background) {
+            log.debug("Refresh credential:[{}] in background", entry.key);
+            executorService.execute(() -> load(entry, credentialLoader, future));
+        } else {
+            load(entry, credentialLoader, future);
+        }
+        return future;
+    }
+
+    /**
+     * Load credential and complete future
+     *
+     * @param entry            - entry of credential
+     * @param credentialLoader - loader of credential
+     * @param future           - future of loaded credential
+     */
+    private void load(Entry entry, CredentialLoader credentialLoader, CompletableFuture<Credential> future) {
+        try {
+            Credential credential = credentialLoader.load();
+            entry.credential = credential;
+            synchronized (entry) {
+                entry.loading = null;
+            }
+            future.complete(credential);
+        } catch (Exception | Error ex) {
+            log.warn("Credential:[{}] can not be loaded:[{}]", entry.key, ex.getMessage());
+            entry.retryAt = System.currentTimeMillis() + RETRY_INTERVAL_MILLIS;
+            synchronized (entry) {
+                entry.loading = null;
+            }
+            future.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Wait for loaded credential
+     *
+     * @param entry  - entry of credential
+     * @param future - future of loaded credential
+     * @return loaded credential
+     * @throws GeneralException - credential can not be loaded or waiting is interrupted
+     */
+    private Credential await(Entry entry, CompletableFuture<Credential> future) throws GeneralException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(MessageFormat.format(INTERRUPTED_ERROR_MESSAGE, entry.key), ex);
+        } catch (ExecutionException ex) {
+            throw new GeneralException(MessageFormat.format(CREDENTIAL_ERROR_MESSAGE, entry.key), ex.getCause());
+        }
+    }
+
+    /**
+     * Create daemon worker thread
+     *
+     * @param runnable - worker runnable of pool
+     * @return worker thread
+     */
+    private Thread createWorker(Runnable runnable) {
+        Thread worker = new Thread(runnable, MessageFormat.format(WORKER_NAME_PATTERN,
+                workerCounter.incrementAndGet()));
+        worker.setDaemon(true);
+        return worker;
+    }
+
+    /**
+     * Loader of credential, e.g. request of OAuth token
+     */
+    @FunctionalInterface
+    public interface CredentialLoader {
+
+        /**
+         * Load credential
+         *
+         * @return loaded credential
+         * @throws Exception - credential can not be loaded
+         */
+        Credential load() throws Exception;
+    }
+
+    /**
+     * Credential headers with expiration time
+     */
+    @Data
+    public static class Credential {
+
+        /**
+         * Name of authorization header
+         */
+        public static final String AUTHORIZATION_HEADER = "Authorization";
+        /**
+         * Prefix of bearer token
+         */
+        public static final String BEARER_PREFIX = "Bearer ";
+
+        /**
+         * Headers of credential
+         */
+        private final Map<String, String> headers;
+        /**
+         * Expiration time in milliseconds
+         */
+        private final long expiresAt;
+
+        /**
+         * Create credential of bearer token
+         *
+         * @param accessToken      - access token
+         * @param expiresInSeconds - lifetime of token in seconds
+         * @return credential of bearer token
+         */
+        public static Credential bearer(String accessToken, long expiresInSeconds) {
+            return new Credential(Collections.singletonMap(AUTHORIZATION_HEADER, BEARER_PREFIX + accessToken),
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expiresInSeconds));
+        }
+    }
+
+    /**
+     * Entry of cache
+     */
+    private static class Entry {
+
+        /**
+         * Key of credential
+         */
+        private final String key;
+        /**
+         * Current credential
+         */
+        private volatile Credential credential;
+        /**
+         * Loading in progress
+         */
+        private CompletableFuture<Credential> loading;
+        /**
+         * Time of the next background refresh after failed one
+         */
+        private volatile long retryAt;
+
+        /**
+         * Constructor with key
+         *
+         * @param key - key of credential
+         */
+        private Entry(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.tools.GeneralException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming reader of JSON records. Reader is moved to array of records by root path (e.g. "$.Resources" or
+ * "data.users") without building of skipped values, then records are read one at a time. If root path leads to
+ * object, it is the only record. Values of records are: {@link String}, {@link Long}, {@link BigDecimal} for big
+ * integers, {@link Double}, {@link Boolean}, null, {@link Map} and {@link List}
+ */
+@Slf4j
+public class JsonRecordReader implements Closeable {
+
+    /**
+     * Default size of char buffer
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    /**
+     * Invalid JSON error message. Parameters:
+     * 0 - position of char
+     * 1 - expected value
+     */
+    public static final String SYNTAX_ERROR_MESSAGE = "Invalid JSON at position:[{0}], expected:[{1}]";
+    /**
+     * Prefix of root path
+     */
+    private static final String ROOT_PATH_PREFIX = "$";
+    /**
+     * Suffix of array in root path
+     */
+    private static final String ARRAY_PATH_SUFFIX = "[*]";
+
+    /**
+     * Source reader
+     */
+    private final Reader reader;
+    /**
+     * Names of properties of root path
+     */
+    private final List<String> rootPath;
+    /**
+     * Char buffer
+     */
+    private final char[] buffer;
+    /**
+     * Position of the next char in buffer
+     */
+    private int position;
+    /**
+     * Count of chars in buffer
+     */
+    private int limit;
+    /**
+     * Count of chars before buffer
+     */
+    private long offset;
+    /**
+     * Reader is moved to records
+     */
+    private boolean started;
+    /**
+     * All records are read
+     */
+    private boolean finished;
+    /**
+     * Records are elements of array
+     */
+    private boolean array;
+    /**
+     * The first element of array is not read
+     */
+    private boolean firstElement = true;
+
+    /**
+     * Constructor with reader and root path
+     *
+     * @param reader   - source reader
+     * @param rootPath - path of records, null or empty - records are root value
+     */
+    public JsonRecordReader(Reader reader, String rootPath) {
+        this(reader, rootPath, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor with reader, root path and buffer size
+     *
+     * @param reader     - source reader
+     * @param rootPath   - path of records, null or empty - records are root value
+     * @param bufferSize - size of char buffer
+     */
+    public JsonRecordReader(Reader reader, String rootPath, int bufferSize) {
+        this.reader = reader;
+        this.rootPath = parseRootPath(rootPath);
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * Read next record. Elements of array which are not objects are skipped
+     *
+     * @return next record or null if all records are read
+     * @throws IOException - read error or invalid JSON
+     */
+    public Map<String, Object> next() throws IOException {
+        if (!started) {
+            started = true;
+            finished = !moveToRecords();
+        }
+        while (!finished) {
+            if (!array) {
+                finished = true;
+                return readObject();
+            }
+            int next = peek();
+            if (next == ']') {
+                read();
+                finished = true;
+                return null;
+            }
+            if (!firstElement) {
+                expect(',');
+            }
+            firstElement = false;
+            Object value = readValue();
+            if (value instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> record = (Map<String, Object>) value;
+                return record;
+            }
+            log.warn("Element:[{}] of records is not object, skip it", value);
+        }
+        return null;
+    }
+
+    /**
+     * Close source reader
+     *
+     * @throws IOException - close error
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Move reader to records by root path
+     *
+     * @return false - root path is not found
+     * @throws IOException - read error or invalid JSON
+     */
+    private boolean moveToRecords() throws IOException {
+        for (String property : rootPath) {
+            if (!moveToProperty(property)) {
+                log.debug("Property:[{}] of root path:[{}] is not found", property, rootPath);
+                return false;
+            }
+        }
+        int next = peek();
+        if (next == '[') {
+            read();
+            array = true;
+            return true;
+        }
+        return next == '{';
+    }
+
+    /**
+     * Move reader to value of property of current object, other properties are skipped
+     *
+     * @param property - name of property
+     * @return false - current value is not object or it has no property
+     * @throws IOException - read error or invalid JSON
+     */
+    private boolean moveToProperty(String property) throws IOException {
+        if (peek() != '{') {
+            return false;
+        }
+        read();
+        if (peek() == '}') {
+            return false;
+        }
+        while (true) {
+            String name = readString();
+            expect(':');
+            if (property.equals(name)) {
+                return true;
+            }
+            skipValue();
+            if (!readSeparator(',', '}')) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Read any value
+     *
+     * @return value
+     * @throws IOException - read error or invalid JSON
+     */
+    private Object readValue() throws IOException {
+        int next = peek();
+        switch (next) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                readLiteral("true");
+                return Boolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return Boolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return null;
+            default:
+                return readNumber();
+        }
+    }
+
+    /**
+     * Read object
+     *
+     * @return map of object properties
+     * @throws IOException - read error or invalid JSON
+     */
+    private Map<String, Object> readObject() throws IOException {
+        expect('{');
+        Map<String, Object> object = new LinkedHashMap<>();
+        if (peek() == '}') {
+            read();
+            return object;
+        }
+        do {
+            String name = readString();
+            expect(':');
+            object.put(name, readValue());
+        } while (readSeparator(',', '}'));
+        return object;
+    }
+
+    /**
+     * Read array
+     *
+     * @return list of array elements
+     * @throws IOException - read error or invalid JSON
+     */
+    private List<Object> readArray() throws IOException {
+        expect('[');
+        List<Object> elements = new ArrayList<>();
+        if (peek() == ']') {
+            read();
+            return elements;
+        }
+        do {
+            elements.add(readValue());
+        } while (readSeparator(',', ']'));
+        return elements;
+    }
+
+    /**
+     * Skip any value without building of it
+     *
+     * @throws IOException - read error or invalid JSON
+     */
+    private void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            int next = peek();
+            if (next == '"') {
+                readString();
+            } else if (next == '{' || next == '[') {
+                read();
+                depth++;
+            } else if (next == '}' || next == ']') {
+                read();
+                depth--;
+            } else if (next == ',' || next == ':') {
+                read();
+            } else if (next < 0) {
+                throw syntaxError("value");
+            } else {
+                skipPrimitive();
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Skip number or literal without parsing of it
+     *
+     * @throws IOException - read error
+     */
+    private void skipPrimitive() throws IOException {
+        while (position < limit || fill()) {
+            char next = buffer[position];
+            if (next == ',' || next == ':' || next == '}' || next == ']' || next == '"' || next == '{' || next == '['
+                    || Character.isWhitespace(next)) {
+                return;
+            }
+            position++;
+        }
+    }
+
+    /**
+     * Read string with escapes
+     *
+     * @return string value
+     * @throws IOException - read error or invalid JSON
+     */
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            if (position == limit && !fill()) {
+                throw syntaxError("\"");
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '"' && buffer[position] != '\\') {
+                position++;
+            }
+            builder.append(buffer, start, position - start);
+            if (position == limit) {
+                continue;
+            }
+            if (buffer[position++] == '"') {
+                return builder.toString();
+            }
+            builder.append(readEscape());
+        }
+    }
+
+    /**
+     * Read escaped char after backslash
+     *
+     * @return escaped char
+     * @throws IOException - read error or invalid JSON
+     */
+    private char readEscape() throws IOException {
+        int escape = nextChar();
+        switch (escape) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int code = 0;
+                for (int index = 0; index < 4; index++) {
+                    int digit = Character.digit(nextChar(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("hex digit");
+                    }
+                    code = code * 16 + digit;
+                }
+                return (char) code;
+            case '"':
+            case '\\':
+            case '/':
+                return (char) escape;
+            default:
+                throw syntaxError("escape");
+        }
+    }
+
+    /**
+     * Read number
+     *
+     * @return {@link Long}, {@link BigDecimal} for big integer or {@link Double}
+     * @throws IOException - read error or invalid JSON
+     */
+    private Object readNumber() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        boolean integer = true;
+        while (position < limit || fill()) {
+            char next = buffer[position];
+            if ((next < '0' || next > '9') && next != '-' && next != '+' && next != '.' && next != 'e'
+                    && next != 'E') {
+                break;
+            }
+            integer &= next != '.' && next != 'e' && next != 'E';
+            builder.append(next);
+            position++;
+        }
+        String number = builder.toString();
+        try {
+            if (!integer) {
+                return Double.valueOf(number);
+            }
+            try {
+                return Long.valueOf(number);
+            } catch (NumberFormatException ex) {
+                return new BigDecimal(number);
+            }
+        } catch (NumberFormatException ex) {
+            throw syntaxError("value");
+        }
+    }
+
+    /**
+     * Read literal
+     *
+     * @param literal - expected literal
+     * @throws IOException - read error or invalid JSON
+     */
+    private void readLiteral(String literal) throws IOException {
+        for (int index = 0; index < literal.length(); index++) {
+            if (nextChar() != literal.charAt(index)) {
+                throw syntaxError(literal);
+            }
+        }
+    }
+
+    /**
+     * Read separator of elements or end of container
+     *
+     * @param separator - separator of elements
+     * @param end       - end of container
+     * @return true - separator is read, false - end is read
+     * @throws IOException - read error or other char
+     */
+    private boolean readSeparator(char separator, char end) throws IOException {
+        int next = peek();
+        if (next != separator && next != end) {
+            throw syntaxError(separator + " or " + end);
+        }
+        position++;
+        return next == separator;
+    }
+
+    /**
+     * Read expected char after whitespaces
+     *
+     * @param expected - expected char
+     * @throws IOException - read error or other char
+     */
+    private void expect(char expected) throws IOException {
+        if (peek() != expected) {
+            throw syntaxError(String.valueOf(expected));
+        }
+        position++;
+    }
+
+    /**
+     * Read next char after whitespaces
+     *
+     * @return next char or -1 at the end of reader
+     * @throws IOException - read error
+     */
+    private int read() throws IOException {
+        int next = peek();
+        if (next >= 0) {
+            position++;
+        }
+        return next;
+    }
+
+    /**
+     * Skip whitespaces and get next char without consuming it
+     *
+     * @return next char or -1 at the end of reader
+     * @throws IOException - read error
+     */
+    private int peek() throws IOException {
+        while (position < limit || fill()) {
+            char next = buffer[position];
+            if (next != ' ' && next != '\n' && next != '\r' && next != '\t') {
+                return next;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    /**
+     * Read next char as is
+     *
+     * @return next char
+     * @throws IOException - read error or end of reader
+     */
+    private int nextChar() throws IOException {
+        if (position == limit && !fill()) {
+            throw syntaxError("char");
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Fill buffer by next chars of reader
+     *
+     * @return false - end of reader
+     * @throws IOException - read error
+     */
+    private boolean fill() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = 0;
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    /**
+     * Create syntax error at current position
+     *
+     * @param expected - expected value
+     * @return syntax error
+     */
+    private IOException syntaxError(String expected) {
+        return new IOException(MessageFormat.format(SYNTAX_ERROR_MESSAGE, offset + position, expected));
+    }
+
+    /**
+     * Parse root path to names of properties
+     *
+     * @param rootPath - root path, e.g. "$.Resources"
+     * @return names of properties
+     */
+    private static List<String> parseRootPath(String rootPath) {
+        List<String> properties = new ArrayList<>();
+        if (rootPath == null) {
+            return properties;
+        }
+        for (String property : rootPath.split("\\.")) {
+            if (property.endsWith(ARRAY_PATH_SUFFIX)) {
+                property = property.substring(0, property.length() - ARRAY_PATH_SUFFIX.length());
+            }
+            if (!property.isEmpty() && !ROOT_PATH_PREFIX.equals(property)) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Processor of read records
+     */
+    @FunctionalInterface
+    public interface RecordProcessor {
+
+        /**
+         * Transform or filter record
+         *
+         * @param record - read record
+         * @return transformed record or null to skip record
+         * @throws GeneralException - record can not be processed
+         */
+        Map<String, Object> process(Map<String, Object> record) throws GeneralException;
+    }
+}
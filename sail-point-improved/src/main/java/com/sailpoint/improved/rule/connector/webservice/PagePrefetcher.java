@@ -0,0 +1,237 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.tools.GeneralException;
+
+import java.io.Closeable;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prefetcher of pages of paged REST endpoint. Urls of next pages are predicted by {@link PageUrlBuilder}, up to
+ * concurrency cap pages are requested concurrently and responses are handed to consumer in page order. When consumer
+ * stops paging, requests of pages after the last one are cancelled, already sent requests are wasted. Page fetcher is
+ * called by worker threads, so it must be thread-safe
+ */
+@Slf4j
+public class PagePrefetcher implements Closeable {
+
+    /**
+     * Worker name pattern. Parameters:
+     * 0 - worker number
+     */
+    public static final String WORKER_NAME_PATTERN = "PagePrefetcher-{0}";
+    /**
+     * Invalid concurrency error message. Parameters:
+     * 0 - concurrency
+     */
+    public static final String CONCURRENCY_ERROR_MESSAGE = "Concurrency:[{0}] must be positive";
+    /**
+     * Page fetching error message. Parameters:
+     * 0 - url of page
+     */
+    public static final String PAGE_ERROR_MESSAGE = "Page:[{0}] can not be fetched";
+    /**
+     * Waiting of page is interrupted error message. Parameters:
+     * 0 - url of page
+     */
+    public static final String INTERRUPTED_ERROR_MESSAGE = "Waiting of page:[{0}] is interrupted";
+
+    /**
+     * Number of the last created worker
+     */
+    private final AtomicInteger workerCounter = new AtomicInteger();
+    /**
+     * Builder of page urls
+     */
+    private final PageUrlBuilder pageUrlBuilder;
+    /**
+     * Thread-safe fetcher of pages
+     */
+    private final PageFetcher pageFetcher;
+    /**
+     * Max count of concurrent requests
+     */
+    private final int concurrency;
+    /**
+     * Pool of workers
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Constructor with page url builder, page fetcher and concurrency cap
+     *
+     * @param pageUrlBuilder - builder of page urls
+     * @param pageFetcher    - thread-safe fetcher of pages
+     * @param concurrency    - max count of concurrent requests
+     */
+    public PagePrefetcher(PageUrlBuilder pageUrlBuilder, PageFetcher pageFetcher, int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException(MessageFormat.format(CONCURRENCY_ERROR_MESSAGE, concurrency));
+        }
+        this.pageUrlBuilder = pageUrlBuilder;
+        this.pageFetcher = pageFetcher;
+        this.concurrency = concurrency;
+        this.executorService = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), this::createWorker);
+    }
+
+    /**
+     * Fetch pages starting from page index until consumer stops paging
+     *
+     * @param firstPageUrl   - url of the first page
+     * @param startPageIndex - index of the first fetched page
+     * @param pageConsumer   - consumer of pages in page order
+     * @return count of consumed pages
+     * @throws GeneralException - page can not be fetched or consumed, waiting is interrupted
+     */
+    public int fetch(String firstPageUrl, int startPageIndex, PageConsumer pageConsumer) throws GeneralException {
+        Deque<PageRequest> pageRequests = new ArrayDeque<>(concurrency);
+        int nextPageIndex = startPageIndex;
+        int consumedCount = 0;
+        try {
+            while (pageRequests.size() < concurrency) {
+                pageRequests.addLast(submit(firstPageUrl, nextPageIndex++));
+            }
+            while (true) {
+                PageRequest pageRequest = pageRequests.removeFirst();
+                String response = await(pageRequest);
+                consumedCount++;
+                if (!pageConsumer.accept(pageRequest.pageIndex, response)) {
+                    log.debug("Paging is stopped on page:[{}], consumed pages:[{}]", pageRequest.url, consumedCount);
+                    return consumedCount;
+                }
+                pageRequests.addLast(submit(firstPageUrl, nextPageIndex++));
+            }
+        } finally {
+            for (PageRequest pageRequest : pageRequests) {
+                pageRequest.future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Stop workers, requests in progress are interrupted
+     */
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Submit request of page
+     *
+     * @param firstPageUrl - url of the first page
+     * @param pageIndex    - index of page
+     * @return request of page
+     */
+    private PageRequest submit(String firstPageUrl, int pageIndex) {
+        String url = pageUrlBuilder.build(firstPageUrl, pageIndex);
+        log.trace("Submit page:[{}], index:[{}]", url, pageIndex);
+        return new PageRequest(pageIndex, url, executorService.submit(() -> pageFetcher.fetch(url)));
+    }
+
+    /**
+     * Wait for response of page
+     *
+     * @param pageRequest - request of page
+     * @return response of page
+     * @throws GeneralException - page can not be fetched or waiting is interrupted
+     */
+    private String await(PageRequest pageRequest) throws GeneralException {
+        try {
+            return pageRequest.future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(MessageFormat.format(INTERRUPTED_ERROR_MESSAGE, pageRequest.url), ex);
+        } catch (ExecutionException ex) {
+            throw new GeneralException(MessageFormat.format(PAGE_ERROR_MESSAGE, pageRequest.url), ex.getCause());
+        }
+    }
+
+    /**
+     * Create daemon worker thread
+     *
+     * @param runnable - worker runnable of pool
+     * @return worker thread
+     */
+    private Thread createWorker(Runnable runnable) {
+        Thread worker = new Thread(runnable, MessageFormat.format(WORKER_NAME_PATTERN,
+                workerCounter.incrementAndGet()));
+        worker.setDaemon(true);
+        return worker;
+    }
+
+    /**
+     * Fetcher of page response by url
+     */
+    @FunctionalInterface
+    public interface PageFetcher {
+
+        /**
+         * Fetch page
+         *
+         * @param url - url of page
+         * @return raw response of page
+         * @throws Exception - request error
+         */
+        String fetch(String url) throws Exception;
+    }
+
+    /**
+     * Consumer of page responses
+     */
+    @FunctionalInterface
+    public interface PageConsumer {
+
+        /**
+         * Consume page
+         *
+         * @param pageIndex - index of page
+         * @param response  - raw response of page
+         * @return true - fetch next page, false - stop paging
+         * @throws GeneralException - page can not be consumed
+         */
+        boolean accept(int pageIndex, String response) throws GeneralException;
+    }
+
+    /**
+     * Submitted request of page
+     */
+    private static class PageRequest {
+
+        /**
+         * Index of page
+         */
+        private final int pageIndex;
+        /**
+         * Url of page
+         */
+        private final String url;
+        /**
+         * Future of page response
+         */
+        private final Future<String> future;
+
+        /**
+         * Constructor with page and future
+         *
+         * @param pageIndex - index of page
+         * @param url       - url of page
+         * @param future    - future of page response
+         */
+        private PageRequest(int pageIndex, String url, Future<String> future) {
+            this.pageIndex = pageIndex;
+            this.url = url;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builder of url of page by index of page. Page urls must be predictable without previous response, so cursor paging
+ * can not be prefetched
+ */
+@FunctionalInterface
+public interface PageUrlBuilder {
+
+    /**
+     * Build url of page
+     *
+     * @param firstPageUrl - url of the first page
+     * @param pageIndex    - index of page, 0 - the first page
+     * @return url of page
+     */
+    String build(String firstPageUrl, int pageIndex);
+
+    /**
+     * Create builder of offset/limit paging
+     *
+     * @param offsetParameter - name of offset query parameter
+     * @param limitParameter  - name of limit query parameter
+     * @param initialOffset   - offset of the first page
+     * @param pageSize        - size of page
+     * @return builder of offset/limit paging
+     */
+    static PageUrlBuilder offsetLimit(String offsetParameter, String limitParameter, long initialOffset,
+                                      int pageSize) {
+        return (firstPageUrl, pageIndex) -> withParameter(
+                withParameter(firstPageUrl, limitParameter, String.valueOf(pageSize)),
+                offsetParameter, String.valueOf(initialOffset + (long) pageIndex * pageSize));
+    }
+
+    /**
+     * Create builder of page number paging
+     *
+     * @param pageParameter - name of page number query parameter
+     * @param firstPage     - number of the first page
+     * @return builder of page number paging
+     */
+    static PageUrlBuilder pageNumber(String pageParameter, int firstPage) {
+        return (firstPageUrl, pageIndex) -> withParameter(firstPageUrl, pageParameter,
+                String.valueOf(firstPage + pageIndex));
+    }
+
+    /**
+     * Replace value of query parameter of url or add query parameter
+     *
+     * @param url   - url
+     * @param name  - name of query parameter
+     * @param value - value of query parameter
+     * @return url with query parameter
+     */
+    static String withParameter(String url, String name, String value) {
+        String encodedValue;
+        try {
+            encodedValue = URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException ex) {
+            throw new IllegalStateException(ex);
+        }
+        Matcher matcher = Pattern.compile("([?&]" + Pattern.quote(name) + "=)[^&#]*").matcher(url);
+        if (matcher.find()) {
+            return url.substring(0, matcher.end(1)) + encodedValue + url.substring(matcher.end());
+        }
+        int fragmentIndex = url.indexOf('#');
+        String path = fragmentIndex < 0 ? url : url.substring(0, fragmentIndex);
+        String fragment = fragmentIndex < 0 ? "" : url.substring(fragmentIndex);
+        return path + (path.indexOf('?') < 0 ? '?' : '&') + name + "=" + encodedValue + fragment;
+    }
+}
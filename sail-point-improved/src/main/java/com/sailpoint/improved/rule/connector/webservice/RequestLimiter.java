@@ -0,0 +1,287 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.Application;
+import sailpoint.tools.Util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limiter of outbound requests of application: token bucket limits rate of requests, AIMD limiter limits count of
+ * concurrent requests. Concurrency limit is increased by 1/limit on each successful response and halved on throttled
+ * response (429, 503), not more often than once per {@link #DECREASE_INTERVAL_MILLIS}. Permit is bound to thread: it is
+ * acquired before request and released after response by the same thread. If response is not released (e.g. connector
+ * does not call after operation rule for failed request), the next acquire of thread releases it without adapting of
+ * concurrency limit: failure is unknown, it is not treated as throttling. Permits of dead threads and permits older
+ * than lease timeout (config attribute {@link #CONFIG_PERMIT_LEASE_TIMEOUT}) are reclaimed
+ */
+@Slf4j
+public class RequestLimiter {
+
+    /**
+     * Config attribute of max count of requests per second of application, 0 - unlimited
+     */
+    public static final String CONFIG_REQUEST_RATE = "requestRate";
+    /**
+     * Config attribute of max count of requests in burst of application
+     */
+    public static final String CONFIG_REQUEST_BURST = "requestBurst";
+    /**
+     * Config attribute of max count of concurrent requests of application
+     */
+    public static final String CONFIG_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+    /**
+     * Default max count of concurrent requests
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 16;
+    /**
+     * Too many requests status code
+     */
+    public static final int STATUS_TOO_MANY_REQUESTS = 429;
+    /**
+     * Service unavailable status code
+     */
+    public static final int STATUS_SERVICE_UNAVAILABLE = 503;
+    /**
+     * Factor of concurrency limit on throttled response
+     */
+    public static final double DECREASE_FACTOR = 0.5;
+    /**
+     * Min time between decreases of concurrency limit - 1 second
+     */
+    public static final long DECREASE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    /**
+     * Config attribute of time in seconds after which not released permit is reclaimed
+     */
+    public static final String CONFIG_PERMIT_LEASE_TIMEOUT = "requestPermitLeaseTimeout";
+    /**
+     * Default time after which not released permit is reclaimed - 30 seconds
+     */
+    public static final long DEFAULT_PERMIT_LEASE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    /**
+     * Time of waiting for released permit before reclaiming of permits
+     */
+    private static final long WAIT_MILLIS = 100;
+    /**
+     * Limiters by application name
+     */
+    private static final ConcurrentMap<String, RequestLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    /**
+     * Max count of requests per second, 0 - unlimited
+     */
+    private final int rate;
+    /**
+     * Max count of tokens in bucket
+     */
+    private final int burst;
+    /**
+     * Max count of concurrent requests
+     */
+    private final int maxConcurrency;
+    /**
+     * Time after which not released permit is reclaimed
+     */
+    private final long leaseTimeoutMillis;
+    /**
+     * Acquire time of permits by thread
+     */
+    private final Map<Thread, Long> permits = new HashMap<>();
+    /**
+     * Count of tokens in bucket, negative - tokens are reserved by waiting threads
+     */
+    private double tokens;
+    /**
+     * Time of the last refill of bucket in nanoseconds
+     */
+    private long refilledAt;
+    /**
+     * Current limit of concurrent requests
+     */
+    private double concurrencyLimit;
+    /**
+     * Time of the last decrease of concurrency limit
+     */
+    private long decreasedAt;
+
+    /**
+     * Constructor with rate and concurrency, permit lease timeout - {@link #DEFAULT_PERMIT_LEASE_TIMEOUT_MILLIS}
+     *
+     * @param rate           - max count of requests per second, 0 - unlimited
+     * @param burst          - max count of requests in burst
+     * @param maxConcurrency - max count of concurrent requests
+     */
+    public RequestLimiter(int rate, int burst, int maxConcurrency) {
+        this(rate, burst, maxConcurrency, DEFAULT_PERMIT_LEASE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructor with rate, concurrency and permit lease timeout
+     *
+     * @param rate               - max count of requests per second, 0 - unlimited
+     * @param burst              - max count of requests in burst
+     * @param maxConcurrency     - max count of concurrent requests
+     * @param leaseTimeoutMillis - time after which not released permit is reclaimed
+     */
+    public RequestLimiter(int rate, int burst, int maxConcurrency, long leaseTimeoutMillis) {
+        this.rate = rate;
+        this.burst = Math.max(burst, 1);
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.leaseTimeoutMillis = leaseTimeoutMillis > 0 ? leaseTimeoutMillis : DEFAULT_PERMIT_LEASE_TIMEOUT_MILLIS;
+        this.tokens = this.burst;
+        this.refilledAt = System.nanoTime();
+        this.concurrencyLimit = this.maxConcurrency;
+    }
+
+    /**
+     * Get limiter of application shared by all rules of JVM. Limiter is created by config attributes of application:
+     * {@link #CONFIG_REQUEST_RATE}, {@link #CONFIG_REQUEST_BURST} (default - rate),
+     * {@link #CONFIG_MAX_CONCURRENT_REQUESTS} (default - {@link #DEFAULT_MAX_CONCURRENT_REQUESTS}),
+     * {@link #CONFIG_PERMIT_LEASE_TIMEOUT} (default - {@link #DEFAULT_PERMIT_LEASE_TIMEOUT_MILLIS}). Limiter is
+     * rebuilt when config attributes of application are changed, permits of previous limiter are dropped
+     *
+     * @param application - application
+     * @return limiter of application
+     */
+    public static RequestLimiter of(Application application) {
+        int rate = Util.otoi(application.getAttributeValue(CONFIG_REQUEST_RATE));
+        int configBurst = Util.otoi(application.getAttributeValue(CONFIG_REQUEST_BURST));
+        int burst = configBurst > 0 ? configBurst : rate;
+        int configConcurrency = Util.otoi(application.getAttributeValue(CONFIG_MAX_CONCURRENT_REQUESTS));
+        int maxConcurrency = configConcurrency > 0 ? configConcurrency : DEFAULT_MAX_CONCURRENT_REQUESTS;
+        long leaseTimeoutMillis = TimeUnit.SECONDS.toMillis(
+                Util.otoi(application.getAttributeValue(CONFIG_PERMIT_LEASE_TIMEOUT)));
+        RequestLimiter current = LIMITERS.get(application.getName());
+        if (current != null && current.hasConfig(rate, burst, maxConcurrency, leaseTimeoutMillis)) {
+            return current;
+        }
+        return LIMITERS.compute(application.getName(), (name, previous) -> {
+            if (previous != null && previous.hasConfig(rate, burst, maxConcurrency, leaseTimeoutMillis)) {
+                return previous;
+            }
+            log.debug("Create request limiter of application:[{}], rate:[{}], burst:[{}], concurrency:[{}], "
+                    + "lease timeout:[{}]", name, rate, burst, maxConcurrency, leaseTimeoutMillis);
+            return new RequestLimiter(rate, burst, maxConcurrency, leaseTimeoutMillis);
+        });
+    }
+
+    /**
+     * Acquire permit of request for current thread: wait for free concurrency slot, then for token of bucket
+     *
+     * @throws InterruptedException - waiting is interrupted
+     */
+    public void acquire() throws InterruptedException {
+        Thread thread = Thread.currentThread();
+        synchronized (this) {
+            if (permits.remove(thread) != null) {
+                log.debug("Permit of thread:[{}] is not released, release it", thread.getName());
+                notifyAll();
+            }
+            while (permits.size() >= (int) concurrencyLimit) {
+                wait(WAIT_MILLIS);
+                reclaimPermits();
+            }
+            permits.put(thread, System.currentTimeMillis());
+        }
+        try {
+            long waitNanos = reserveToken();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } catch (InterruptedException ex) {
+            release(0);
+            throw ex;
+        }
+    }
+
+    /**
+     * Release permit of current thread and adapt concurrency limit by status code of response
+     *
+     * @param statusCode - status code of response
+     */
+    public synchronized void release(int statusCode) {
+        if (permits.remove(Thread.currentThread()) == null) {
+            log.trace("Thread has no permit");
+            return;
+        }
+        if (statusCode == STATUS_TOO_MANY_REQUESTS || statusCode == STATUS_SERVICE_UNAVAILABLE) {
+            onThrottled();
+        } else {
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1 / concurrencyLimit);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Get current limit of concurrent requests
+     *
+     * @return current limit of concurrent requests
+     */
+    public synchronized int getConcurrencyLimit() {
+        return (int) concurrencyLimit;
+    }
+
+    /**
+     * Check is limiter created by config
+     *
+     * @param rate               - max count of requests per second, 0 - unlimited
+     * @param burst              - max count of requests in burst
+     * @param maxConcurrency     - max count of concurrent requests
+     * @param leaseTimeoutMillis - time after which not released permit is reclaimed
+     * @return true - limiter has the same config
+     */
+    private boolean hasConfig(int rate, int burst, int maxConcurrency, long leaseTimeoutMillis) {
+        return this.rate == rate && this.burst == Math.max(burst, 1)
+                && this.maxConcurrency == Math.max(maxConcurrency, 1)
+                && this.leaseTimeoutMillis == (leaseTimeoutMillis > 0 ? leaseTimeoutMillis
+                : DEFAULT_PERMIT_LEASE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Decrease concurrency limit on throttled response
+     */
+    private void onThrottled() {
+        long now = System.currentTimeMillis();
+        if (now - decreasedAt >= DECREASE_INTERVAL_MILLIS) {
+            decreasedAt = now;
+            concurrencyLimit = Math.max(1, concurrencyLimit * DECREASE_FACTOR);
+            log.debug("Request is throttled, concurrency limit:[{}]", (int) concurrencyLimit);
+        }
+    }
+
+    /**
+     * Reclaim permits of dead threads and expired permits
+     */
+    private void reclaimPermits() {
+        long expiredAt = System.currentTimeMillis() - leaseTimeoutMillis;
+        Iterator<Map.Entry<Thread, Long>> iterator = permits.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Thread, Long> permit = iterator.next();
+            if (!permit.getKey().isAlive() || permit.getValue() < expiredAt) {
+                log.warn("Reclaim permit of thread:[{}]", permit.getKey().getName());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Reserve token of bucket
+     *
+     * @return time to wait for reserved token in nanoseconds
+     */
+    private synchronized long reserveToken() {
+        if (rate <= 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * rate / (double) TimeUnit.SECONDS.toNanos(1));
+        refilledAt = now;
+        tokens--;
+        return tokens >= 0 ? 0 : (long) (-tokens * TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+}
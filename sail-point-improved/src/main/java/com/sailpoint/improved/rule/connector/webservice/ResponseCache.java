@@ -0,0 +1,469 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.Application;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.Util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of responses of GET requests with validators (ETag, Last-Modified) for conditional requests. The last used
+ * responses are kept in memory, all responses are written to cache directory as JSON (file per url, written
+ * atomically) and loaded from it after restart or eviction. Cache directory and files are accessible by owner only,
+ * cache directory which is accessible by others is not used. Responses with values which can not be written as JSON
+ * (values other than strings, numbers, booleans, maps and lists) are cached in memory only. Integer numbers are
+ * loaded as {@link Long}
+ */
+@Slf4j
+public class ResponseCache {
+
+    /**
+     * Config attribute of cache directory of application
+     */
+    public static final String CONFIG_RESPONSE_CACHE_DIRECTORY = "responseCacheDirectory";
+    /**
+     * Config attribute of max count of responses in memory of application
+     */
+    public static final String CONFIG_RESPONSE_CACHE_SIZE = "responseCacheSize";
+    /**
+     * Default max count of responses in memory
+     */
+    public static final int DEFAULT_RESPONSE_CACHE_SIZE = 256;
+    /**
+     * Cache directory is not configured error message. Parameters:
+     * 0 - application name
+     */
+    public static final String NO_DIRECTORY_ERROR_MESSAGE = "Attribute:[" + CONFIG_RESPONSE_CACHE_DIRECTORY
+            + "] of application:[{0}] is required for response cache";
+    /**
+     * Suffix of cache file
+     */
+    public static final String CACHE_FILE_SUFFIX = ".response";
+    /**
+     * Suffix of temporary file
+     */
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    /**
+     * Permissions of cache directory: owner only
+     */
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = PosixFilePermissions
+            .fromString("rwx------");
+    /**
+     * Permissions of cache file: owner only
+     */
+    private static final Set<PosixFilePermission> FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+    /**
+     * Permissions of group and others
+     */
+    private static final Set<PosixFilePermission> NOT_OWNER_PERMISSIONS = EnumSet.of(
+            PosixFilePermission.GROUP_READ, PosixFilePermission.GROUP_WRITE, PosixFilePermission.GROUP_EXECUTE,
+            PosixFilePermission.OTHERS_READ, PosixFilePermission.OTHERS_WRITE, PosixFilePermission.OTHERS_EXECUTE);
+    /**
+     * Property of url in cache file
+     */
+    private static final String URL_PROPERTY = "url";
+    /**
+     * Property of ETag in cache file
+     */
+    private static final String ENTITY_TAG_PROPERTY = "entityTag";
+    /**
+     * Property of Last-Modified in cache file
+     */
+    private static final String LAST_MODIFIED_PROPERTY = "lastModified";
+    /**
+     * Property of records in cache file
+     */
+    private static final String DATA_PROPERTY = "data";
+    /**
+     * Caches by application name
+     */
+    private static final ConcurrentMap<String, ResponseCache> CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * Cache directory
+     */
+    private final Path directory;
+    /**
+     * The last used responses by url
+     */
+    private final Map<String, CachedResponse> responses;
+
+    /**
+     * Constructor with cache directory and memory size
+     *
+     * @param directory - cache directory, created with owner only permissions on the first write
+     * @param size      - max count of responses in memory
+     */
+    public ResponseCache(Path directory, int size) {
+        this.directory = directory;
+        this.responses = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    /**
+     * Get cache of application shared by all rules of JVM. Cache is created by config attributes of application:
+     * {@link #CONFIG_RESPONSE_CACHE_DIRECTORY} (required),
+     * {@link #CONFIG_RESPONSE_CACHE_SIZE} (default - {@link #DEFAULT_RESPONSE_CACHE_SIZE})
+     *
+     * @param application - application
+     * @return cache of application
+     * @throws GeneralException - cache directory is not configured
+     */
+    public static ResponseCache of(Application application) throws GeneralException {
+        ResponseCache responseCache = CACHES.get(application.getName());
+        if (responseCache != null) {
+            return responseCache;
+        }
+        String directory = (String) application.getAttributeValue(CONFIG_RESPONSE_CACHE_DIRECTORY);
+        if (Util.isNullOrEmpty(directory)) {
+            throw new GeneralException(MessageFormat.format(NO_DIRECTORY_ERROR_MESSAGE, application.getName()));
+        }
+        return CACHES.computeIfAbsent(application.getName(), name -> {
+            int size = Util.otoi(application.getAttributeValue(CONFIG_RESPONSE_CACHE_SIZE));
+            log.debug("Create response cache of application:[{}], directory:[{}], size:[{}]", name, directory, size);
+            return new ResponseCache(Paths.get(directory), size > 0 ? size : DEFAULT_RESPONSE_CACHE_SIZE);
+        });
+    }
+
+    /**
+     * Get cached response of url from memory or from cache directory
+     *
+     * @param url - url of request
+     * @return cached response or null if it is not cached
+     */
+    public CachedResponse get(String url) {
+        synchronized (responses) {
+            CachedResponse cachedResponse = responses.get(url);
+            if (cachedResponse != null) {
+                return cachedResponse;
+            }
+        }
+        CachedResponse cachedResponse = read(url);
+        if (cachedResponse != null) {
+            synchronized (responses) {
+                responses.put(url, cachedResponse);
+            }
+        }
+        return cachedResponse;
+    }
+
+    /**
+     * Put response of url to memory and to cache directory
+     *
+     * @param url            - url of request
+     * @param cachedResponse - response with validators
+     */
+    public void put(String url, CachedResponse cachedResponse) {
+        synchronized (responses) {
+            responses.put(url, cachedResponse);
+        }
+        write(url, cachedResponse);
+    }
+
+    /**
+     * Read response from cache file of url
+     *
+     * @param url - url of request
+     * @return cached response or null if there is no valid cache file
+     */
+    private CachedResponse read(String url) {
+        Path cacheFile = directory.resolve(getFileName(url));
+        if (!Files.exists(cacheFile) || !isOwnerOnly(directory)) {
+            return null;
+        }
+        try (JsonRecordReader reader = new JsonRecordReader(Files.newBufferedReader(cacheFile,
+                StandardCharsets.UTF_8), null)) {
+            Map<String, Object> cacheRecord = reader.next();
+            if (cacheRecord == null || !url.equals(cacheRecord.get(URL_PROPERTY))
+                    || !(cacheRecord.get(DATA_PROPERTY) instanceof List)) {
+                return null;
+            }
+            List<Map<String, Object>> data = new ArrayList<>();
+            for (Object record : (List<?>) cacheRecord.get(DATA_PROPERTY)) {
+                if (!(record instanceof Map)) {
+                    return null;
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> dataRecord = (Map<String, Object>) record;
+                data.add(dataRecord);
+            }
+            return new CachedResponse(url, Util.otos(cacheRecord.get(ENTITY_TAG_PROPERTY)),
+                    Util.otos(cacheRecord.get(LAST_MODIFIED_PROPERTY)), data);
+        } catch (IOException ex) {
+            log.warn("Cache file:[{}] can not be read:[{}]", cacheFile, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write response to cache file of url atomically
+     *
+     * @param url            - url of request
+     * @param cachedResponse - response with validators
+     */
+    private void write(String url, CachedResponse cachedResponse) {
+        Path cacheFile = directory.resolve(getFileName(url));
+        Path tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + TEMP_FILE_SUFFIX
+                + Thread.currentThread().getId());
+        try {
+            createDirectory();
+            Files.deleteIfExists(tempFile);
+            createFile(tempFile);
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                Map<String, Object> cacheRecord = new LinkedHashMap<>();
+                cacheRecord.put(URL_PROPERTY, cachedResponse.getUrl());
+                cacheRecord.put(ENTITY_TAG_PROPERTY, cachedResponse.getEntityTag());
+                cacheRecord.put(LAST_MODIFIED_PROPERTY, cachedResponse.getLastModified());
+                cacheRecord.put(DATA_PROPERTY, cachedResponse.getData());
+                writeValue(writer, cacheRecord);
+            }
+            try {
+                Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            log.warn("Response of:[{}] is cached in memory only:[{}]", url, ex.getMessage());
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteEx) {
+                log.warn("Temporary file:[{}] can not be deleted", tempFile);
+            }
+        }
+    }
+
+    /**
+     * Create cache directory with owner only permissions if it does not exist
+     *
+     * @throws IOException - directory can not be created or it is accessible by others
+     */
+    private void createDirectory() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            if (directory.getParent() != null) {
+                Files.createDirectories(directory.getParent());
+            }
+            Files.createDirectory(directory, ownerOnly(DIRECTORY_PERMISSIONS));
+        }
+        if (!isOwnerOnly(directory)) {
+            throw new IOException("Cache directory:[" + directory + "] is accessible by others");
+        }
+    }
+
+    /**
+     * Create file with owner only permissions
+     *
+     * @param file - file
+     * @throws IOException - file can not be created
+     */
+    private void createFile(Path file) throws IOException {
+        Files.createFile(file, ownerOnly(FILE_PERMISSIONS));
+    }
+
+    /**
+     * Build attributes of owner only permissions if file system supports POSIX permissions
+     *
+     * @param permissions - owner only permissions
+     * @return file attributes
+     */
+    private FileAttribute<?>[] ownerOnly(Set<PosixFilePermission> permissions) {
+        return isPosix()
+                ? new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(permissions)}
+                : new FileAttribute<?>[0];
+    }
+
+    /**
+     * Check that path is not accessible by group and others. Path is owner only for file system without POSIX
+     * permissions
+     *
+     * @param path - path
+     * @return true - path is accessible by owner only
+     */
+    private boolean isOwnerOnly(Path path) {
+        if (!isPosix()) {
+            return true;
+        }
+        try {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path);
+            if (permissions.stream().noneMatch(NOT_OWNER_PERMISSIONS::contains)) {
+                return true;
+            }
+            log.warn("Cache directory:[{}] is accessible by others, it is not used", path);
+        } catch (IOException ex) {
+            log.warn("Permissions of:[{}] can not be read:[{}]", path, ex.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Check that file system of cache directory supports POSIX permissions
+     *
+     * @return true - POSIX permissions are supported
+     */
+    private boolean isPosix() {
+        return directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    /**
+     * Write value as JSON
+     *
+     * @param writer - writer
+     * @param value  - string, number, boolean, map, collection or null
+     * @throws IOException - write error or value can not be written as JSON
+     */
+    private static void writeValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof String) {
+            writeString(writer, (String) value);
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof BigInteger
+                || value instanceof BigDecimal) {
+            writer.write(value.toString());
+        } else if ((value instanceof Double || value instanceof Float)
+                && !Double.isNaN(((Number) value).doubleValue())
+                && !Double.isInfinite(((Number) value).doubleValue())) {
+            writer.write(value.toString());
+        } else if (value instanceof Map) {
+            writer.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String)) {
+                    throw new IOException("Key:[" + entry.getKey() + "] can not be written as JSON");
+                }
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeString(writer, (String) entry.getKey());
+                writer.write(':');
+                writeValue(writer, entry.getValue());
+            }
+            writer.write('}');
+        } else if (value instanceof Collection) {
+            writer.write('[');
+            boolean first = true;
+            for (Object element : (Collection<?>) value) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writeValue(writer, element);
+            }
+            writer.write(']');
+        } else {
+            throw new IOException("Value of type:[" + value.getClass().getName() + "] can not be written as JSON");
+        }
+    }
+
+    /**
+     * Write string as JSON string
+     *
+     * @param writer - writer
+     * @param value  - string
+     * @throws IOException - write error
+     */
+    private static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int index = 0; index < value.length(); index++) {
+            char valueChar = value.charAt(index);
+            switch (valueChar) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (valueChar < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) valueChar));
+                    } else {
+                        writer.write(valueChar);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * Get name of cache file of url: SHA-256 of url
+     *
+     * @param url - url of request
+     * @return name of cache file
+     */
+    private static String getFileName(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            StringBuilder fileName = new StringBuilder();
+            for (byte digestByte : digest) {
+                fileName.append(String.format("%02x", digestByte));
+            }
+            return fileName.append(CACHE_FILE_SUFFIX).toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Cached response with validators
+     */
+    @Data
+    public static class CachedResponse {
+
+        /**
+         * Url of request
+         */
+        private final String url;
+        /**
+         * ETag of response
+         */
+        private final String entityTag;
+        /**
+         * Last-Modified of response
+         */
+        private final String lastModified;
+        /**
+         * Processed records of response
+         */
+        private final List<Map<String, Object>> data;
+    }
+}
@@ -3,15 +3,12 @@ package com.sailpoint.improved.rule.form;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Field;
 import sailpoint.object.Form;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -54,26 +51,8 @@ public abstract class AllowedValuesRule
      * Default constructor
      */
     public AllowedValuesRule() {
-        super(Rule.Type.AllowedValues.name(), AllowedValuesRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected AllowedValuesRule.AllowedValuesRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return AllowedValuesRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AllowedValuesRule.ARG_IDENTITY))
-                .form((Form) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AllowedValuesRule.ARG_FORM))
-                .field((Field) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AllowedValuesRule.ARG_FIELD))
-                .build();
+        super(Rule.Type.AllowedValues.name(), AllowedValuesRule.NONE_NULL_ARGUMENTS_NAME,
+                AllowedValuesRule_AllowedValuesRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.form;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -43,22 +40,8 @@ public abstract class FieldValueRule
      * Default constructor
      */
     public FieldValueRule() {
-        super(Rule.Type.FieldValue.name(), FieldValueRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected FieldValueRule.FieldValueRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return FieldValueRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, FieldValueRule.ARG_IDENTITY))
-                .build();
+        super(Rule.Type.FieldValue.name(), FieldValueRule.NONE_NULL_ARGUMENTS_NAME,
+                FieldValueRule_FieldValueRuleArgumentsBinder.INSTANCE);
     }
 
     /**
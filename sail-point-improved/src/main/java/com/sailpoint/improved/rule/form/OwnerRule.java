@@ -3,17 +3,14 @@ package com.sailpoint.improved.rule.form;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Bundle;
 import sailpoint.object.Field;
 import sailpoint.object.Form;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Template;
 
@@ -74,30 +71,7 @@ public abstract class OwnerRule
      * Default constructor
      */
     public OwnerRule() {
-        super(Rule.Type.Owner.name(), OwnerRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected OwnerRule.OwnerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return OwnerRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, OwnerRule.ARG_IDENTITY))
-                .role((Bundle) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, OwnerRule.ARG_ROLE))
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, OwnerRule.ARG_APPLICATION))
-                .template((Template) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, OwnerRule.ARG_TEMPLATE))
-                .field((Field) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, OwnerRule.ARG_FIELD))
-                .build();
+        super(Rule.Type.Owner.name(), OwnerRule.NONE_NULL_ARGUMENTS_NAME, OwnerRule_OwnerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
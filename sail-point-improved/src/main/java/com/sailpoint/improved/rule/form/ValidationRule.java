@@ -3,16 +3,13 @@ package com.sailpoint.improved.rule.form;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Field;
 import sailpoint.object.Form;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.tools.Message;
 
@@ -69,29 +66,8 @@ public abstract class ValidationRule
      * Default constructor
      */
     public ValidationRule() {
-        super(Rule.Type.Validation.name(), ValidationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ValidationRule.ValidationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ValidationRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ValidationRule.ARG_IDENTITY))
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ValidationRule.ARG_APPLICATION))
-                .form((Form) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ValidationRule.ARG_FORM))
-                .field((Field) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ValidationRule.ARG_FIELD))
-                .value(JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext, ValidationRule.ARG_VALUE))
-                .build();
+        super(Rule.Type.Validation.name(), ValidationRule.NONE_NULL_ARGUMENTS_NAME,
+                ValidationRule_ValidationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.logical;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.Rule;
 
@@ -53,24 +50,8 @@ public abstract class CompositeAccountRule
      * Default constructor
      */
     public CompositeAccountRule() {
-        super(Rule.Type.CompositeAccount.name(), CompositeAccountRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CompositeAccountRule.CompositeAccountRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CompositeAccountRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeAccountRule.ARG_IDENTITY))
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeAccountRule.ARG_APPLICATION))
-                .build();
+        super(Rule.Type.CompositeAccount.name(), CompositeAccountRule.NONE_NULL_ARGUMENTS_NAME,
+                CompositeAccountRule_CompositeAccountRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.logical;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.Rule;
 
@@ -58,26 +55,8 @@ public abstract class CompositeRemediationRule
      * Default constructor
      */
     public CompositeRemediationRule() {
-        super(Rule.Type.CompositeRemediation.name(), CompositeRemediationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CompositeRemediationRule.CompositeRemediationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CompositeRemediationRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeRemediationRule.ARG_IDENTITY))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeRemediationRule.ARG_PLAN))
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeRemediationRule.ARG_APPLICATION))
-                .build();
+        super(Rule.Type.CompositeRemediation.name(), CompositeRemediationRule.NONE_NULL_ARGUMENTS_NAME,
+                CompositeRemediationRule_CompositeRemediationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
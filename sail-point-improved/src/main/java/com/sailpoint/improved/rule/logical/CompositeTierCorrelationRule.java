@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.logical;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.Rule;
 
@@ -56,26 +53,8 @@ public abstract class CompositeTierCorrelationRule
      * Default constructor
      */
     public CompositeTierCorrelationRule() {
-        super(Rule.Type.CompositeTierCorrelation.name(), CompositeTierCorrelationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected CompositeTierCorrelationRule.CompositeTierCorrelationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return CompositeTierCorrelationRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeTierCorrelationRule.ARG_IDENTITY))
-                .tierApplication((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeTierCorrelationRule.ARG_TIER_APPLICATION))
-                .primaryLink((Link) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, CompositeTierCorrelationRule.ARG_PRIMARY_LINK))
-                .build();
+        super(Rule.Type.CompositeTierCorrelation.name(), CompositeTierCorrelationRule.NONE_NULL_ARGUMENTS_NAME,
+                CompositeTierCorrelationRule_CompositeTierCorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
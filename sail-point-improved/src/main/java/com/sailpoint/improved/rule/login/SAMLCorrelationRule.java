@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.login;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -49,22 +46,8 @@ public abstract class SAMLCorrelationRule<T>
      * Default constructor
      */
     public SAMLCorrelationRule() {
-        super(Rule.Type.SAMLCorrelation.name(), SAMLCorrelationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected SAMLCorrelationRule.SAMLCorrelationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return SAMLCorrelationRuleArguments.builder()
-                .assertionAttributes((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SAMLCorrelationRule.ARG_ASSERTION_ATTRIBUTES))
-                .build();
+        super(Rule.Type.SAMLCorrelation.name(), SAMLCorrelationRule.NONE_NULL_ARGUMENTS_NAME,
+                SAMLCorrelationRule_SAMLCorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.login;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -46,22 +43,8 @@ public abstract class SSOAuthenticationRule<T>
      * Default constructor
      */
     public SSOAuthenticationRule() {
-        super(Rule.Type.SSOAuthentication.name(), SSOAuthenticationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected SSOAuthenticationRule.SSOAuthenticationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return SSOAuthenticationRuleArguments.builder()
-                .httpRequest((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SSOAuthenticationRule.ARG_HTTP_REQUEST))
-                .build();
+        super(Rule.Type.SSOAuthentication.name(), SSOAuthenticationRule.NONE_NULL_ARGUMENTS_NAME,
+                SSOAuthenticationRule_SSOAuthenticationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
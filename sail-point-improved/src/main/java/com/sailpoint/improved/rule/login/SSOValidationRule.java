@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.login;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -44,22 +41,8 @@ public abstract class SSOValidationRule
      * Default constructor
      */
     public SSOValidationRule() {
-        super(Rule.Type.SSOValidation.name(), SSOValidationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected SSOValidationRule.SSOValidationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return SSOValidationRuleArguments.builder()
-                .httpRequest((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SSOValidationRule.ARG_HTTP_REQUEST))
-                .build();
+        super(Rule.Type.SSOValidation.name(), SSOValidationRule.NONE_NULL_ARGUMENTS_NAME,
+                SSOValidationRule_SSOValidationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,15 +3,12 @@ package com.sailpoint.improved.rule.mapping;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.AttributeDefinition;
 import sailpoint.object.AttributeSource;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.Rule;
 
@@ -70,32 +67,8 @@ public abstract class IdentityAttributeRule
      * Default constructor
      */
     public IdentityAttributeRule() {
-        super(Rule.Type.IdentityAttribute.name(), IdentityAttributeRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected IdentityAttributeRule.IdentityAttributeRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return IdentityAttributeRuleArguments.builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeRule.ARG_ENVIRONMENT))
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeRule.ARG_IDENTITY))
-                .attributeDefinition((AttributeDefinition) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeRule.ARG_ATTRIBUTE_DEFINITION))
-                .link((Link) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeRule.ARG_LINK))
-                .attributeSource((AttributeSource) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeRule.ARG_ATTRIBUTE_SOURCE))
-                .oldValue(JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeRule.ARG_OLD_VALUE))
-                .build();
+        super(Rule.Type.IdentityAttribute.name(), IdentityAttributeRule.NONE_NULL_ARGUMENTS_NAME,
+                IdentityAttributeRule_IdentityAttributeRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.mapping;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.AttributeTarget;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ObjectAttribute;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningProject;
@@ -76,37 +73,8 @@ public abstract class IdentityAttributeTargetRule
      * Default constructor
      */
     public IdentityAttributeTargetRule() {
-        super(Rule.Type.IdentityAttributeTarget.name(), IdentityAttributeTargetRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected IdentityAttributeTargetRule.IdentityAttributeTargetRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return IdentityAttributeTargetRuleArguments.builder()
-                .value(JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeTargetRule.ARG_VALUE))
-                .sourceIdentityAttribute((ObjectAttribute) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                IdentityAttributeTargetRule.ARG_SOURCE_IDENTITY_ATTRIBUTE))
-                .sourceIdentityAttributeName((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                IdentityAttributeTargetRule.ARG_SOURCE_IDENTITY_ATTRIBUTE_NAME))
-                .sourceAttributeRequest((ProvisioningPlan.AttributeRequest) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                IdentityAttributeTargetRule.ARG_SOURCE_ATTRIBUTE_REQUEST))
-                .target((AttributeTarget) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeTargetRule.ARG_TARGET))
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeTargetRule.ARG_IDENTITY))
-                .project((ProvisioningProject) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IdentityAttributeTargetRule.ARG_PROJECT))
-                .build();
+        super(Rule.Type.IdentityAttributeTarget.name(), IdentityAttributeTargetRule.NONE_NULL_ARGUMENTS_NAME,
+                IdentityAttributeTargetRule_IdentityAttributeTargetRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.mapping;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Link;
 import sailpoint.object.Rule;
 
@@ -48,24 +45,8 @@ public abstract class LinkAttributeRule
      * Default constructor
      */
     public LinkAttributeRule() {
-        super(Rule.Type.LinkAttribute.name(), LinkAttributeRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected LinkAttributeRule.LinkAttributeRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return LinkAttributeRuleArguments.builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, LinkAttributeRule.ARG_ENVIRONMENT))
-                .link((Link) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, LinkAttributeRule.ARG_LINK))
-                .build();
+        super(Rule.Type.LinkAttribute.name(), LinkAttributeRule.NONE_NULL_ARGUMENTS_NAME,
+                LinkAttributeRule_LinkAttributeRuleArgumentsBinder.INSTANCE);
     }
 
     /**
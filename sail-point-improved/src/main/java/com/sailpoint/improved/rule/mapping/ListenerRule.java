@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.mapping;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ObjectAttribute;
 import sailpoint.object.Rule;
 
@@ -72,32 +69,8 @@ public abstract class ListenerRule extends AbstractNoneOutputJavaRuleExecutor<Li
      * Default constructor
      */
     public ListenerRule() {
-        super(Rule.Type.Listener.name(), ListenerRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ListenerRule.ListenerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ListenerRuleArguments.builder()
-                .environment((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ListenerRule.ARG_ENVIRONMENT))
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ListenerRule.ARG_IDENTITY))
-                .object((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ListenerRule.ARG_OBJECT))
-                .attributeDefinition((ObjectAttribute) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ListenerRule.ARG_ATTRIBUTE_DEFINITION))
-                .attributeName((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ListenerRule.ARG_ATTRIBUTE_NAME))
-                .oldValue(JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext, ListenerRule.ARG_OLD_VALUE))
-                .newValue(JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext, ListenerRule.ARG_NEW_VALUE))
-                .build();
+        super(Rule.Type.Listener.name(), ListenerRule.NONE_NULL_ARGUMENTS_NAME,
+                ListenerRule_ListenerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
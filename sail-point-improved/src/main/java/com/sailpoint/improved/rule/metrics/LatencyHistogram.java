@@ -0,0 +1,163 @@
+package com.sailpoint.improved.rule.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets.
+ * Values less than {@link LatencyHistogram#LINEAR_BUCKETS} are stored exactly, all others are stored in
+ * {@link LatencyHistogram#SUB_BUCKETS} buckets per power of two, so relative error of percentile is not more than 12.5%.
+ */
+public class LatencyHistogram {
+
+    /**
+     * Count of buckets with exact values
+     */
+    private static final int LINEAR_BUCKETS = 16;
+    /**
+     * Power of two of {@link LatencyHistogram#LINEAR_BUCKETS}
+     */
+    private static final int LINEAR_BUCKETS_BITS = 4;
+    /**
+     * Bits count of sub buckets per power of two
+     */
+    private static final int SUB_BUCKETS_BITS = 3;
+    /**
+     * Count of sub buckets per power of two
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKETS_BITS;
+    /**
+     * Count of all buckets: linear + sub buckets for all powers of two of positive long
+     */
+    private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - LINEAR_BUCKETS_BITS) * SUB_BUCKETS;
+
+    /**
+     * Counts of values per bucket
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    /**
+     * Count of all values
+     */
+    private final LongAdder count = new LongAdder();
+    /**
+     * Sum of all values
+     */
+    private final LongAdder sum = new LongAdder();
+    /**
+     * Max value
+     */
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * Record value. Negative values are recorded as 0
+     *
+     * @param value - value to record
+     */
+    public void record(long value) {
+        long normalizedValue = Math.max(value, 0L);
+        buckets.incrementAndGet(bucketIndex(normalizedValue));
+        count.increment();
+        sum.add(normalizedValue);
+        max.accumulate(normalizedValue);
+    }
+
+    /**
+     * Get count of recorded values
+     *
+     * @return count of values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get mean of recorded values
+     *
+     * @return mean value, 0 if there is no values
+     */
+    public long getMean() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0L : sum.sum() / currentCount;
+    }
+
+    /**
+     * Get max recorded value
+     *
+     * @return max value
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get value at percentile. Result is upper bound of bucket, but not more than max value
+     *
+     * @param percentile - percentile value from 0 to 100
+     * @return value at percentile, 0 if there is no values
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            snapshot[index] = buckets.get(index);
+            total += snapshot[index];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * Math.min(Math.max(percentile, 0D), 100D) / 100D));
+        long cumulative = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            cumulative += snapshot[index];
+            if (cumulative >= rank) {
+                return Math.min(bucketUpperBound(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Reset all recorded values
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            buckets.set(index, 0L);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Get bucket index for value
+     *
+     * @param value - not negative value
+     * @return bucket index
+     */
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKETS_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - LINEAR_BUCKETS_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get max value which can be stored in bucket
+     *
+     * @param index - bucket index
+     * @return upper bound of bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BUCKETS_BITS;
+        int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKETS_BITS;
+        long lowerBound = ((long) (SUB_BUCKETS + subBucket)) << shift;
+        return lowerBound + ((1L << shift) - 1);
+    }
+}
@@ -0,0 +1,68 @@
+package com.sailpoint.improved.rule.metrics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.beans.ConstructorProperties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of {@link LatencyHistogram}. All latency values are in microseconds
+ */
+@Getter
+@ToString
+public class LatencySnapshot {
+
+    /**
+     * Count of recorded values
+     */
+    private final long count;
+    /**
+     * Mean latency
+     */
+    private final long meanMicros;
+    /**
+     * 50th percentile of latency
+     */
+    private final long p50Micros;
+    /**
+     * 99th percentile of latency
+     */
+    private final long p99Micros;
+    /**
+     * Max latency
+     */
+    private final long maxMicros;
+
+    /**
+     * Constructor with all values. Used by JMX for reconstruction
+     *
+     * @param count      - count of recorded values
+     * @param meanMicros - mean latency
+     * @param p50Micros  - 50th percentile of latency
+     * @param p99Micros  - 99th percentile of latency
+     * @param maxMicros  - max latency
+     */
+    @ConstructorProperties({"count", "meanMicros", "p50Micros", "p99Micros", "maxMicros"})
+    public LatencySnapshot(long count, long meanMicros, long p50Micros, long p99Micros, long maxMicros) {
+        this.count = count;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    /**
+     * Build snapshot of histogram with values in nanoseconds
+     *
+     * @param histogram - histogram of latency in nanoseconds
+     * @return snapshot of histogram
+     */
+    public static LatencySnapshot of(LatencyHistogram histogram) {
+        return new LatencySnapshot(histogram.getCount(),
+                TimeUnit.NANOSECONDS.toMicros(histogram.getMean()),
+                TimeUnit.NANOSECONDS.toMicros(histogram.getPercentile(50D)),
+                TimeUnit.NANOSECONDS.toMicros(histogram.getPercentile(99D)),
+                TimeUnit.NANOSECONDS.toMicros(histogram.getMax()));
+    }
+}
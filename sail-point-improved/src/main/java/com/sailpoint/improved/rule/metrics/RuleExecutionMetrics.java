@@ -0,0 +1,69 @@
+package com.sailpoint.improved.rule.metrics;
+
+/**
+ * Metrics recorder of one rule executor: records the same values to rule class and rule type metrics.
+ * All latency values are in nanoseconds
+ */
+public class RuleExecutionMetrics {
+
+    /**
+     * Metrics of rule class
+     */
+    private final RuleMetrics ruleClassMetrics;
+    /**
+     * Metrics of rule type
+     */
+    private final RuleMetrics ruleTypeMetrics;
+
+    /**
+     * Constructor with metrics
+     *
+     * @param ruleClassMetrics - metrics of rule class
+     * @param ruleTypeMetrics  - metrics of rule type
+     */
+    public RuleExecutionMetrics(RuleMetrics ruleClassMetrics, RuleMetrics ruleTypeMetrics) {
+        this.ruleClassMetrics = ruleClassMetrics;
+        this.ruleTypeMetrics = ruleTypeMetrics;
+    }
+
+    /**
+     * Record validation stage latency
+     *
+     * @param latency - stage latency
+     */
+    public void recordValidation(long latency) {
+        ruleClassMetrics.getValidation().record(latency);
+        ruleTypeMetrics.getValidation().record(latency);
+    }
+
+    /**
+     * Record arguments container building stage latency
+     *
+     * @param latency - stage latency
+     */
+    public void recordContainerBuild(long latency) {
+        ruleClassMetrics.getContainerBuild().record(latency);
+        ruleTypeMetrics.getContainerBuild().record(latency);
+    }
+
+    /**
+     * Record internal execution stage latency
+     *
+     * @param latency - stage latency
+     */
+    public void recordExecution(long latency) {
+        ruleClassMetrics.getExecution().record(latency);
+        ruleTypeMetrics.getExecution().record(latency);
+    }
+
+    /**
+     * Record rule call
+     *
+     * @param latency - latency of whole call
+     * @param failed  - true - call was finished with error
+     */
+    public void recordCall(long latency, boolean failed) {
+        ruleClassMetrics.recordCall(latency, failed);
+        ruleTypeMetrics.recordCall(latency, failed);
+    }
+}
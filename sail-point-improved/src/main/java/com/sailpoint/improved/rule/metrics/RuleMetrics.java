@@ -0,0 +1,90 @@
+package com.sailpoint.improved.rule.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution metrics of one rule class or one rule type: calls, errors and latency per execution stage.
+ * All latency values are in nanoseconds
+ */
+@Getter
+public class RuleMetrics {
+
+    /**
+     * Rule class name or rule type
+     */
+    private final String name;
+    /**
+     * Count of rule calls
+     */
+    private final LongAdder calls = new LongAdder();
+    /**
+     * Count of failed rule calls
+     */
+    private final LongAdder errors = new LongAdder();
+    /**
+     * Latency of whole rule call
+     */
+    private final LatencyHistogram total = new LatencyHistogram();
+    /**
+     * Latency of rule context and arguments validation
+     */
+    private final LatencyHistogram validation = new LatencyHistogram();
+    /**
+     * Latency of arguments container building
+     */
+    private final LatencyHistogram containerBuild = new LatencyHistogram();
+    /**
+     * Latency of internal rule execution
+     */
+    private final LatencyHistogram execution = new LatencyHistogram();
+
+    /**
+     * Constructor with name
+     *
+     * @param name - rule class name or rule type
+     */
+    public RuleMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record rule call
+     *
+     * @param latency - latency of whole call
+     * @param failed  - true - call was finished with error
+     */
+    public void recordCall(long latency, boolean failed) {
+        calls.increment();
+        if (failed) {
+            errors.increment();
+        }
+        total.record(latency);
+    }
+
+    /**
+     * Build snapshot of current metrics
+     *
+     * @return metrics snapshot
+     */
+    public RuleMetricsSnapshot snapshot() {
+        return new RuleMetricsSnapshot(name, calls.sum(), errors.sum(),
+                LatencySnapshot.of(total),
+                LatencySnapshot.of(validation),
+                LatencySnapshot.of(containerBuild),
+                LatencySnapshot.of(execution));
+    }
+
+    /**
+     * Reset all metrics values
+     */
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        total.reset();
+        validation.reset();
+        containerBuild.reset();
+        execution.reset();
+    }
+}
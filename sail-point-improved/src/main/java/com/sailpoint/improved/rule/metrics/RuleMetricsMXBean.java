@@ -0,0 +1,42 @@
+package com.sailpoint.improved.rule.metrics;
+
+import java.util.List;
+
+/**
+ * JMX interface of rule execution metrics
+ */
+public interface RuleMetricsMXBean {
+
+    /**
+     * Check is metrics collecting enabled
+     *
+     * @return true - metrics are collected
+     */
+    boolean isEnabled();
+
+    /**
+     * Enable or disable metrics collecting
+     *
+     * @param enabled - true - collect metrics
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Get metrics snapshots per rule class
+     *
+     * @return metrics snapshots ordered by rule class name
+     */
+    List<RuleMetricsSnapshot> getRuleClassMetrics();
+
+    /**
+     * Get metrics snapshots per rule type
+     *
+     * @return metrics snapshots ordered by rule type
+     */
+    List<RuleMetricsSnapshot> getRuleTypeMetrics();
+
+    /**
+     * Reset all collected metrics
+     */
+    void reset();
+}
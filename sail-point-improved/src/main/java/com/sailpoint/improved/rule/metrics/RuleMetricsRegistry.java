@@ -0,0 +1,189 @@
+package com.sailpoint.improved.rule.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide registry of rule execution metrics per rule class and per rule type.
+ * Metrics are lock-free: counters and histograms are updated without any synchronization.
+ */
+@Slf4j
+public class RuleMetricsRegistry implements RuleMetricsMXBean {
+
+    /**
+     * JMX object name of registry
+     */
+    public static final String OBJECT_NAME = "com.sailpoint.improved:type=RuleMetrics";
+
+    /**
+     * Name of metrics for unknown rule class or rule type
+     */
+    public static final String UNKNOWN_NAME = "unknown";
+
+    /**
+     * Registry instance
+     */
+    private static final RuleMetricsRegistry INSTANCE = new RuleMetricsRegistry();
+
+    /**
+     * Metrics per rule class. Key - rule class name
+     */
+    private final ConcurrentMap<String, RuleMetrics> ruleClassMetrics = new ConcurrentHashMap<>();
+    /**
+     * Metrics per rule type. Key - rule type
+     */
+    private final ConcurrentMap<String, RuleMetrics> ruleTypeMetrics = new ConcurrentHashMap<>();
+    /**
+     * Metrics collecting flag
+     */
+    private volatile boolean enabled = true;
+
+    /**
+     * Get registry instance
+     *
+     * @return registry instance
+     */
+    public static RuleMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get metrics recorder for rule executor. Metrics are created only once per rule class and rule type
+     *
+     * @param ruleClassName - rule executor class name
+     * @param ruleType      - rule type
+     * @return metrics recorder
+     */
+    public RuleExecutionMetrics getExecutionMetrics(String ruleClassName, String ruleType) {
+        log.debug("Get execution metrics for rule class:[{}], rule type:[{}]", ruleClassName, ruleType);
+        return new RuleExecutionMetrics(getMetrics(ruleClassMetrics, ruleClassName),
+                getMetrics(ruleTypeMetrics, ruleType));
+    }
+
+    /**
+     * Get metrics of rule class
+     *
+     * @param ruleClassName - rule executor class name
+     * @return metrics of rule class
+     */
+    public RuleMetrics getMetricsOfRuleClass(String ruleClassName) {
+        return getMetrics(ruleClassMetrics, ruleClassName);
+    }
+
+    /**
+     * Get metrics of rule type
+     *
+     * @param ruleType - rule type
+     * @return metrics of rule type
+     */
+    public RuleMetrics getMetricsOfRuleType(String ruleType) {
+        return getMetrics(ruleTypeMetrics, ruleType);
+    }
+
+    /**
+     * Register registry in platform MBean server. Does nothing if registry is already registered.
+     * Registration errors are logged only: metrics are not required for rules execution
+     */
+    public void registerMBean() {
+        registerMBean(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Register registry in MBean server. Does nothing if registry is already registered.
+     * Registration errors are logged only: metrics are not required for rules execution
+     *
+     * @param mBeanServer - MBean server
+     */
+    public synchronized void registerMBean(MBeanServer mBeanServer) {
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (mBeanServer.isRegistered(objectName)) {
+                log.debug("Rule metrics MBean:[{}] is already registered", OBJECT_NAME);
+                return;
+            }
+            mBeanServer.registerMBean(this, objectName);
+            log.debug("Rule metrics MBean:[{}] is registered", OBJECT_NAME);
+        } catch (JMException | RuntimeException ex) {
+            log.warn("Rule metrics MBean:[{}] can not be registered:[{}]", OBJECT_NAME, ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnabled(boolean enabled) {
+        log.debug("Set rule metrics enabled:[{}]", enabled);
+        this.enabled = enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RuleMetricsSnapshot> getRuleClassMetrics() {
+        return snapshot(ruleClassMetrics);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RuleMetricsSnapshot> getRuleTypeMetrics() {
+        return snapshot(ruleTypeMetrics);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Metrics instances are kept, so executors still record to the same metrics after reset.
+     */
+    @Override
+    public void reset() {
+        log.debug("Reset rule metrics");
+        ruleClassMetrics.values().forEach(RuleMetrics::reset);
+        ruleTypeMetrics.values().forEach(RuleMetrics::reset);
+    }
+
+    /**
+     * Get or create metrics by name
+     *
+     * @param storage - metrics storage
+     * @param name    - metrics name. Null name is stored as {@link RuleMetricsRegistry#UNKNOWN_NAME}
+     * @return metrics
+     */
+    private RuleMetrics getMetrics(ConcurrentMap<String, RuleMetrics> storage, String name) {
+        String metricsName = name == null ? UNKNOWN_NAME : name;
+        RuleMetrics metrics = storage.get(metricsName);
+        return metrics != null ? metrics : storage.computeIfAbsent(metricsName, RuleMetrics::new);
+    }
+
+    /**
+     * Build snapshots of all metrics in storage
+     *
+     * @param storage - metrics storage
+     * @return snapshots ordered by name
+     */
+    private List<RuleMetricsSnapshot> snapshot(ConcurrentMap<String, RuleMetrics> storage) {
+        List<RuleMetricsSnapshot> result = new ArrayList<>();
+        storage.values().forEach(metrics -> result.add(metrics.snapshot()));
+        result.sort(Comparator.comparing(RuleMetricsSnapshot::getName));
+        return result;
+    }
+}
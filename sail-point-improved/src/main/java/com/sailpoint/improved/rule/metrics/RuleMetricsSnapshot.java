@@ -0,0 +1,67 @@
+package com.sailpoint.improved.rule.metrics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Immutable snapshot of {@link RuleMetrics}. Exposed via JMX as composite data
+ */
+@Getter
+@ToString
+public class RuleMetricsSnapshot {
+
+    /**
+     * Rule class name or rule type
+     */
+    private final String name;
+    /**
+     * Count of rule calls
+     */
+    private final long calls;
+    /**
+     * Count of failed rule calls
+     */
+    private final long errors;
+    /**
+     * Latency of whole rule call
+     */
+    private final LatencySnapshot total;
+    /**
+     * Latency of rule context and arguments validation
+     */
+    private final LatencySnapshot validation;
+    /**
+     * Latency of arguments container building
+     */
+    private final LatencySnapshot containerBuild;
+    /**
+     * Latency of internal rule execution
+     */
+    private final LatencySnapshot execution;
+
+    /**
+     * Constructor with all values. Used by JMX for reconstruction
+     *
+     * @param name           - rule class name or rule type
+     * @param calls          - count of rule calls
+     * @param errors         - count of failed rule calls
+     * @param total          - latency of whole rule call
+     * @param validation     - latency of validation
+     * @param containerBuild - latency of arguments container building
+     * @param execution      - latency of internal rule execution
+     */
+    @ConstructorProperties({"name", "calls", "errors", "total", "validation", "containerBuild", "execution"})
+    public RuleMetricsSnapshot(String name, long calls, long errors, LatencySnapshot total,
+                               LatencySnapshot validation, LatencySnapshot containerBuild,
+                               LatencySnapshot execution) {
+        this.name = name;
+        this.calls = calls;
+        this.errors = errors;
+        this.total = total;
+        this.validation = validation;
+        this.containerBuild = containerBuild;
+        this.execution = execution;
+    }
+}
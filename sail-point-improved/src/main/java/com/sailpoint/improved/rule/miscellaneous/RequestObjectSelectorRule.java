@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.miscellaneous;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.ScopeService;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.QueryInfo;
 import sailpoint.object.Rule;
 
@@ -56,24 +53,8 @@ public abstract class RequestObjectSelectorRule
      * Default constructor
      */
     public RequestObjectSelectorRule() {
-        super(Rule.Type.RequestObjectSelector.name(), RequestObjectSelectorRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected RequestObjectSelectorRule.RequestObjectSelectorRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return RequestObjectSelectorRuleArguments.builder()
-                .requestor((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, RequestObjectSelectorRule.ARG_REQUESTOR))
-                .requestee((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, RequestObjectSelectorRule.ARG_REQUESTEE))
-                .build();
+        super(Rule.Type.RequestObjectSelector.name(), RequestObjectSelectorRule.NONE_NULL_ARGUMENTS_NAME,
+                RequestObjectSelectorRule_RequestObjectSelectorRuleArgumentsBinder.INSTANCE);
     }
 
     /**
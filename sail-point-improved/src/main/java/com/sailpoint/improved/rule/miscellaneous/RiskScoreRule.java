@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.miscellaneous;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -45,22 +42,8 @@ public abstract class RiskScoreRule
      * Default constructor
      */
     public RiskScoreRule() {
-        super(Rule.Type.RiskScore.name(), RiskScoreRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected RiskScoreRule.RiskScoreRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return RiskScoreRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, RiskScoreRule.ARG_IDENTITY))
-                .build();
+        super(Rule.Type.RiskScore.name(), RiskScoreRule.NONE_NULL_ARGUMENTS_NAME,
+                RiskScoreRule_RiskScoreRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.miscellaneous;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.TaskResult;
 
@@ -51,22 +48,8 @@ public abstract class TaskCompletionRule
      * Default constructor
      */
     public TaskCompletionRule() {
-        super(Rule.Type.TaskCompletion.name(), TaskCompletionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected TaskCompletionRule.TaskCompletionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return TaskCompletionRuleArguments.builder()
-                .taskResult((TaskResult) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TaskCompletionRule.ARG_TASK_RESULT))
-                .build();
+        super(Rule.Type.TaskCompletion.name(), TaskCompletionRule.NONE_NULL_ARGUMENTS_NAME,
+                TaskCompletionRule_TaskCompletionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
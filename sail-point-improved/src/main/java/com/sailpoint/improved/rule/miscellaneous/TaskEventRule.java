@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.miscellaneous;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.TaskEvent;
 import sailpoint.object.TaskResult;
@@ -56,24 +53,8 @@ public abstract class TaskEventRule
      * Default constructor
      */
     public TaskEventRule() {
-        super(Rule.Type.TaskEventRule.name(), TaskEventRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected TaskEventRule.TaskEventRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return TaskEventRuleArguments.builder()
-                .taskResult((TaskResult) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TaskEventRule.ARG_TASK_RESULT))
-                .event((TaskEvent) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TaskEventRule.ARG_EVENT))
-                .build();
+        super(Rule.Type.TaskEventRule.name(), TaskEventRule.NONE_NULL_ARGUMENTS_NAME,
+                TaskEventRule_TaskEventRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.notification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.ApprovalSet;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Workflow;
 
@@ -56,24 +53,8 @@ public abstract class ApprovalAssignmentRule
      * Default constructor
      */
     public ApprovalAssignmentRule() {
-        super(Rule.Type.ApprovalAssignment.name(), ApprovalAssignmentRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ApprovalAssignmentRule.ApprovalAssignmentRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ApprovalAssignmentRuleArguments.builder()
-                .approvals((List<Workflow.Approval>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ApprovalAssignmentRule.ARG_APPROVALS))
-                .approvalSet((ApprovalSet) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ApprovalAssignmentRule.ARG_APPROVAL_SET))
-                .build();
+        super(Rule.Type.ApprovalAssignment.name(), ApprovalAssignmentRule.NONE_NULL_ARGUMENTS_NAME,
+                ApprovalAssignmentRule_ApprovalAssignmentRuleArgumentsBinder.INSTANCE);
     }
 
     /**
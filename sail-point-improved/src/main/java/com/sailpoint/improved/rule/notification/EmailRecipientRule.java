@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.notification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Notifiable;
 import sailpoint.object.Rule;
 
@@ -42,22 +39,8 @@ public abstract class EmailRecipientRule
      * Default constructor
      */
     public EmailRecipientRule() {
-        super(Rule.Type.EmailRecipient.name(), EmailRecipientRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected EmailRecipientRule.EmailRecipientRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return EmailRecipientRuleArguments.builder()
-                .item((Notifiable) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, EmailRecipientRule.ARG_ITEM))
-                .build();
+        super(Rule.Type.EmailRecipient.name(), EmailRecipientRule.NONE_NULL_ARGUMENTS_NAME,
+                EmailRecipientRule_EmailRecipientRuleArgumentsBinder.INSTANCE);
     }
 
     /**
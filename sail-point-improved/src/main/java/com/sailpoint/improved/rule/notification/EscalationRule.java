@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.notification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Notifiable;
 import sailpoint.object.Rule;
 
@@ -51,22 +48,8 @@ public abstract class EscalationRule
      * Default constructor
      */
     public EscalationRule() {
-        super(Rule.Type.Escalation.name(), EscalationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected EscalationRule.EscalationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return EscalationRuleArguments.builder()
-                .item((Notifiable) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, EscalationRule.ARG_ITEM))
-                .build();
+        super(Rule.Type.Escalation.name(), EscalationRule.NONE_NULL_ARGUMENTS_NAME,
+                EscalationRule_EscalationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.notification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Certification;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.WorkItem;
 
@@ -73,33 +70,8 @@ public abstract class FallbackWorkItemForwardRule
      * Default constructor
      */
     public FallbackWorkItemForwardRule() {
-        super(Rule.Type.FallbackWorkItemForward.name(), FallbackWorkItemForwardRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected FallbackWorkItemForwardRule.FallbackWorkItemForwardRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return FallbackWorkItemForwardRuleArguments.builder()
-                .item((WorkItem) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, FallbackWorkItemForwardRule.ARG_ITEM))
-                .owner((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, FallbackWorkItemForwardRule.ARG_OWNER))
-                .creator((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, FallbackWorkItemForwardRule.ARG_CREATOR))
-                .certifiers((List<String>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, FallbackWorkItemForwardRule.ARG_CERTIFIERS))
-                .certificationName((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                FallbackWorkItemForwardRule.ARG_CERTIFICATION_NAME))
-                .certificationType((Certification.Type) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, FallbackWorkItemForwardRule.ARG_CERTIFICATION_TYPE))
-                .build();
+        super(Rule.Type.FallbackWorkItemForward.name(), FallbackWorkItemForwardRule.NONE_NULL_ARGUMENTS_NAME,
+                FallbackWorkItemForwardRule_FallbackWorkItemForwardRuleArgumentsBinder.INSTANCE);
     }
 
     /**
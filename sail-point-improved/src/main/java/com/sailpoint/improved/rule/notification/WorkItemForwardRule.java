@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.notification;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.WorkItem;
 
@@ -55,26 +52,8 @@ public abstract class WorkItemForwardRule
      * Default constructor
      */
     public WorkItemForwardRule() {
-        super(Rule.Type.WorkItemForward.name(), WorkItemForwardRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected WorkItemForwardRule.WorkItemForwardRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return WorkItemForwardRuleArguments.builder()
-                .item((WorkItem) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkItemForwardRule.ARG_ITEM))
-                .owner((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkItemForwardRule.ARG_OWNER))
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkItemForwardRule.ARG_IDENTITY))
-                .build();
+        super(Rule.Type.WorkItemForward.name(), WorkItemForwardRule.NONE_NULL_ARGUMENTS_NAME,
+                WorkItemForwardRule_WorkItemForwardRuleArgumentsBinder.INSTANCE);
     }
 
     /**
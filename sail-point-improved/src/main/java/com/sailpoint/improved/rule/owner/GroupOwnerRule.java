@@ -3,15 +3,12 @@ package com.sailpoint.improved.rule.owner;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.GroupDefinition;
 import sailpoint.object.GroupFactory;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -48,24 +45,8 @@ public abstract class GroupOwnerRule
      * Default constructor
      */
     public GroupOwnerRule() {
-        super(Rule.Type.GroupOwner.name(), GroupOwnerRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected GroupOwnerRule.GroupOwnerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return GroupOwnerRuleArguments.builder()
-                .factory((GroupFactory) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, GroupOwnerRule.ARG_FACTORY))
-                .group((GroupDefinition) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, GroupOwnerRule.ARG_GROUP))
-                .build();
+        super(Rule.Type.GroupOwner.name(), GroupOwnerRule.NONE_NULL_ARGUMENTS_NAME,
+                GroupOwnerRule_GroupOwnerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.policy;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Attributes;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Policy;
 import sailpoint.object.PolicyViolation;
 import sailpoint.object.Rule;
@@ -56,26 +53,8 @@ public abstract class PolicyNotificationRule
      * Default constructor
      */
     public PolicyNotificationRule() {
-        super(Rule.Type.PolicyNotification.name(), PolicyNotificationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected PolicyNotificationRule.PolicyNotificationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return PolicyNotificationRuleArguments.builder()
-                .environment((Attributes) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyNotificationRule.ARG_ENVIRONMENT))
-                .policy((Policy) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyNotificationRule.ARG_POLICY))
-                .violation((PolicyViolation) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyNotificationRule.ARG_VIOLATION))
-                .build();
+        super(Rule.Type.PolicyNotification.name(), PolicyNotificationRule.NONE_NULL_ARGUMENTS_NAME,
+                PolicyNotificationRule_PolicyNotificationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.policy;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.BaseConstraint;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Policy;
 import sailpoint.object.Rule;
 
@@ -54,26 +51,8 @@ public abstract class PolicyOwnerRule
      * Default constructor
      */
     public PolicyOwnerRule() {
-        super(Rule.Type.PolicyOwner.name(), PolicyOwnerRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected PolicyOwnerRule.PolicyOwnerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return PolicyOwnerRule.PolicyOwnerRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyOwnerRule.ARG_IDENTITY))
-                .policy((Policy) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyOwnerRule.ARG_POLICY))
-                .constraint((BaseConstraint) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyOwnerRule.ARG_CONSTRAINT))
-                .build();
+        super(Rule.Type.PolicyOwner.name(), PolicyOwnerRule.NONE_NULL_ARGUMENTS_NAME,
+                PolicyOwnerRule_PolicyOwnerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.policy;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.BaseConstraint;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Policy;
 import sailpoint.object.PolicyViolation;
 import sailpoint.object.Rule;
@@ -62,26 +59,8 @@ public abstract class PolicyRule
      * Default constructor
      */
     public PolicyRule() {
-        super(Rule.Type.Policy.name(), PolicyRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected PolicyRule.PolicyRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return PolicyRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyRule.ARG_IDENTITY))
-                .policy((Policy) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyRule.ARG_POLICY))
-                .constraint((BaseConstraint) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PolicyRule.ARG_CONSTRAINT))
-                .build();
+        super(Rule.Type.Policy.name(), PolicyRule.NONE_NULL_ARGUMENTS_NAME,
+                PolicyRule_PolicyRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.policy;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.BaseConstraint;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Policy;
 import sailpoint.object.PolicyViolation;
 import sailpoint.object.Rule;
@@ -68,30 +65,8 @@ public abstract class ViolationRule
      * Default constructor
      */
     public ViolationRule() {
-        super(Rule.Type.Violation.name(), ViolationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ViolationRule.ViolationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ViolationRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ViolationRule.ARG_IDENTITY))
-                .policy((Policy) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ViolationRule.ARG_POLICY))
-                .constraint((BaseConstraint) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ViolationRule.ARG_CONSTRAINT))
-                .violation((PolicyViolation) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ViolationRule.ARG_VIOLATION))
-                .state((Map<String, Object>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ViolationRule.ARG_STATE))
-                .build();
+        super(Rule.Type.Violation.name(), ViolationRule.NONE_NULL_ARGUMENTS_NAME,
+                ViolationRule_ViolationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -129,7 +104,7 @@ public abstract class ViolationRule
         /**
          * A Map that can be used to store and share data between executions of this rule
          */
-        @Argument(name = ViolationRule.ARG_VIOLATION)
+        @Argument(name = ViolationRule.ARG_STATE)
         private final Map<String, Object> state;
 
     }
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -57,26 +54,8 @@ public abstract class AfterProvisioningRule
      * Default constructor
      */
     public AfterProvisioningRule() {
-        super(Rule.Type.AfterProvisioning.name(), AfterProvisioningRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected AfterProvisioningRule.AfterProvisioningRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return AfterProvisioningRuleArguments.builder()
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AfterProvisioningRule.ARG_PLAN))
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AfterProvisioningRule.ARG_APPLICATION))
-                .result((ProvisioningResult) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, AfterProvisioningRule.ARG_RESULT))
-                .build();
+        super(Rule.Type.AfterProvisioning.name(), AfterProvisioningRule.NONE_NULL_ARGUMENTS_NAME,
+                AfterProvisioningRule_AfterProvisioningRuleArgumentsBinder.INSTANCE);
     }
 
     /**
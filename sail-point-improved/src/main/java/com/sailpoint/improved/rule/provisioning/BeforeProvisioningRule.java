@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.Rule;
 
@@ -50,24 +47,8 @@ public abstract class BeforeProvisioningRule
      * Default constructor
      */
     public BeforeProvisioningRule() {
-        super(Rule.Type.BeforeProvisioning.name(), BeforeProvisioningRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected BeforeProvisioningRule.BeforeProvisioningRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return BeforeProvisioningRuleArguments.builder()
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, BeforeProvisioningRule.ARG_PLAN))
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, BeforeProvisioningRule.ARG_APPLICATION))
-                .build();
+        super(Rule.Type.BeforeProvisioning.name(), BeforeProvisioningRule.NONE_NULL_ARGUMENTS_NAME,
+                BeforeProvisioningRule_BeforeProvisioningRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
 import sailpoint.object.IntegrationConfig;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -59,27 +56,8 @@ public abstract class IntegrationRule
      * Default constructor
      */
     public IntegrationRule() {
-        super(Rule.Type.Integration.name(), IntegrationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected IntegrationRule.IntegrationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return IntegrationRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IntegrationRule.ARG_IDENTITY))
-                .integration((IntegrationConfig) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IntegrationRule.ARG_INTEGRATION))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, IntegrationRule.ARG_PLAN))
-
-                .build();
+        super(Rule.Type.Integration.name(), IntegrationRule.NONE_NULL_ARGUMENTS_NAME,
+                IntegrationRule_IntegrationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -73,30 +70,8 @@ public abstract class JDBCOperationProvisioningRule
      * Default constructor
      */
     public JDBCOperationProvisioningRule() {
-        super(Rule.Type.JDBCOperationProvisioning.name(), JDBCOperationProvisioningRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected JDBCOperationProvisioningRule.JDBCOperationProvisioningRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return JDBCOperationProvisioningRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCOperationProvisioningRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCOperationProvisioningRule.ARG_SCHEMA))
-                .connection((Connection) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCOperationProvisioningRule.ARG_CONNECTION))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCOperationProvisioningRule.ARG_PLAN))
-                .request((ProvisioningPlan.AbstractRequest) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCOperationProvisioningRule.ARG_REQUEST))
-                .build();
+        super(Rule.Type.JDBCOperationProvisioning.name(), JDBCOperationProvisioningRule.NONE_NULL_ARGUMENTS_NAME,
+                JDBCOperationProvisioningRule_JDBCOperationProvisioningRuleArgumentsBinder.INSTANCE);
     }
 
     /**
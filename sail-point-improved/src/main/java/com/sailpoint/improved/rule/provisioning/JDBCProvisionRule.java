@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -64,28 +61,8 @@ public abstract class JDBCProvisionRule
      * Default constructor
      */
     public JDBCProvisionRule() {
-        super(Rule.Type.JDBCProvision.name(), JDBCProvisionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected JDBCProvisionRule.JDBCProvisionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return JDBCProvisionRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCProvisionRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCProvisionRule.ARG_SCHEMA))
-                .connection((Connection) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCProvisionRule.ARG_CONNECTION))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, JDBCProvisionRule.ARG_PLAN))
-                .build();
+        super(Rule.Type.JDBCProvision.name(), JDBCProvisionRule.NONE_NULL_ARGUMENTS_NAME,
+                JDBCProvisionRule_JDBCProvisionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.PeopleSoftHRMSConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -78,36 +75,9 @@ public abstract class PeopleSoftHRMSOperationProvisioningRule
      */
     public PeopleSoftHRMSOperationProvisioningRule() {
         super(Rule.Type.PeopleSoftHRMSOperationProvisioning.name(),
-                PeopleSoftHRMSOperationProvisioningRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected PeopleSoftHRMSOperationProvisioningRule.PeopleSoftHRMSOperationProvisioningRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return PeopleSoftHRMSOperationProvisioningRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                PeopleSoftHRMSOperationProvisioningRule.ARG_APPLICATION))
-                .session(JavaRuleExecutorUtil.getArgumentValueByName(javaRuleContext,
-                        PeopleSoftHRMSOperationProvisioningRule.ARG_SESSION))
-                .schema((Schema) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                PeopleSoftHRMSOperationProvisioningRule.ARG_SCHEMA))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PeopleSoftHRMSOperationProvisioningRule.ARG_PLAN))
-                .request((ProvisioningPlan.AbstractRequest) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                PeopleSoftHRMSOperationProvisioningRule.ARG_REQUEST))
-                .connector((PeopleSoftHRMSConnector) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                PeopleSoftHRMSOperationProvisioningRule.ARG_CONNECTOR))
-                .build();
+                PeopleSoftHRMSOperationProvisioningRule.NONE_NULL_ARGUMENTS_NAME,
+                PeopleSoftHRMSOperationProvisioningRule_PeopleSoftHRMSOperationProvisioningRuleArgumentsBinder
+                        .INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.PeopleSoftHRMSConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -73,30 +70,8 @@ public abstract class PeopleSoftHRMSProvisionRule
      * Default constructor
      */
     public PeopleSoftHRMSProvisionRule() {
-        super(Rule.Type.PeopleSoftHRMSProvision.name(), PeopleSoftHRMSProvisionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected PeopleSoftHRMSProvisionRule.PeopleSoftHRMSProvisionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return PeopleSoftHRMSProvisionRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PeopleSoftHRMSProvisionRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PeopleSoftHRMSProvisionRule.ARG_SCHEMA))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PeopleSoftHRMSProvisionRule.ARG_PLAN))
-                .request((ProvisioningPlan.AbstractRequest) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PeopleSoftHRMSProvisionRule.ARG_REQUEST))
-                .connector((PeopleSoftHRMSConnector) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, PeopleSoftHRMSProvisionRule.ARG_CONNECTOR))
-                .build();
+        super(Rule.Type.PeopleSoftHRMSProvision.name(), PeopleSoftHRMSProvisionRule.NONE_NULL_ARGUMENTS_NAME,
+                PeopleSoftHRMSProvisionRule_PeopleSoftHRMSProvisionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import com.sap.conn.jco.JCoDestination;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -76,32 +73,8 @@ public abstract class SapHrOperationProvisioningRule
      * Default constructor
      */
     public SapHrOperationProvisioningRule() {
-        super(Rule.Type.SapHrOperationProvisioning.name(), SapHrOperationProvisioningRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected SapHrOperationProvisioningRule.SapHrOperationProvisioningRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return SapHrOperationProvisioningRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrOperationProvisioningRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrOperationProvisioningRule.ARG_SCHEMA))
-                .destination((JCoDestination) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrOperationProvisioningRule.ARG_DESTINATION))
-                .connection((Connection) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrOperationProvisioningRule.ARG_CONNECTION))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrOperationProvisioningRule.ARG_PLAN))
-                .request((ProvisioningPlan.AbstractRequest) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrOperationProvisioningRule.ARG_REQUEST))
-                .build();
+        super(Rule.Type.SapHrOperationProvisioning.name(), SapHrOperationProvisioningRule.NONE_NULL_ARGUMENTS_NAME,
+                SapHrOperationProvisioningRule_SapHrOperationProvisioningRuleArgumentsBinder.INSTANCE);
     }
 
     /**
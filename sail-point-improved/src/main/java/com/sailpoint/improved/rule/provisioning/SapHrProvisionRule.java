@@ -3,15 +3,12 @@ package com.sailpoint.improved.rule.provisioning;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import com.sap.conn.jco.JCoDestination;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.connector.SAPHRConnector;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.ProvisioningPlan;
 import sailpoint.object.ProvisioningResult;
 import sailpoint.object.Rule;
@@ -76,32 +73,8 @@ public abstract class SapHrProvisionRule
      * Default constructor
      */
     public SapHrProvisionRule() {
-        super(Rule.Type.SapHrProvision.name(), SapHrProvisionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected SapHrProvisionRule.SapHrProvisionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return SapHrProvisionRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrProvisionRule.ARG_APPLICATION))
-                .schema((Schema) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrProvisionRule.ARG_SCHEMA))
-                .destination((JCoDestination) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrProvisionRule.ARG_DESTINATION))
-                .plan((ProvisioningPlan) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrProvisionRule.ARG_PLAN))
-                .request((ProvisioningPlan.AbstractRequest) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrProvisionRule.ARG_REQUEST))
-                .connector((SAPHRConnector) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, SapHrProvisionRule.ARG_CONNECTOR))
-                .build();
+        super(Rule.Type.SapHrProvision.name(), SapHrProvisionRule.NONE_NULL_ARGUMENTS_NAME,
+                SapHrProvisionRule_SapHrProvisionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
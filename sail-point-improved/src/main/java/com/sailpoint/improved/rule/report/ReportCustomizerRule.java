@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.report;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractNoneOutputJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.LiveReport;
 import sailpoint.object.Rule;
 import sailpoint.object.TaskDefinition;
@@ -58,26 +55,8 @@ public abstract class ReportCustomizerRule
      * Default constructor
      */
     public ReportCustomizerRule() {
-        super(Rule.Type.ReportCustomizer.name(), ReportCustomizerRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ReportCustomizerRule.ReportCustomizerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ReportCustomizerRuleArguments.builder()
-                .taskDefinition((TaskDefinition) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportCustomizerRule.ARG_TASK_DEFINITION))
-                .report((LiveReport) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportCustomizerRule.ARG_REPORT))
-                .locale((Locale) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportCustomizerRule.ARG_LOCALE))
-                .build();
+        super(Rule.Type.ReportCustomizer.name(), ReportCustomizerRule.NONE_NULL_ARGUMENTS_NAME,
+                ReportCustomizerRule_ReportCustomizerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.report;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Attributes;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.QueryOptions;
 import sailpoint.object.Rule;
 
@@ -56,26 +53,8 @@ public abstract class ReportParameterQueryRule
      * Default constructor
      */
     public ReportParameterQueryRule() {
-        super(Rule.Type.ReportParameterQuery.name(), ReportParameterQueryRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ReportParameterQueryRule.ReportParameterQueryRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ReportParameterQueryRuleArguments.builder()
-                .value(JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportParameterQueryRule.ARG_VALUE))
-                .arguments((Attributes) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportParameterQueryRule.ARG_ARGUMENTS))
-                .queryOptions((QueryOptions) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportParameterQueryRule.ARG_QUERY_OPTIONS))
-                .build();
+        super(Rule.Type.ReportParameterQuery.name(), ReportParameterQueryRule.NONE_NULL_ARGUMENTS_NAME,
+                ReportParameterQueryRule_ReportParameterQueryRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.report;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Attributes;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 
 import java.util.Arrays;
@@ -49,24 +46,8 @@ public abstract class ReportParameterValueRule
      * Default constructor
      */
     public ReportParameterValueRule() {
-        super(Rule.Type.ReportParameterValue.name(), ReportParameterValueRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ReportParameterValueRule.ReportParameterValueRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ReportParameterValueRuleArguments.builder()
-                .value(JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportParameterValueRule.ARG_VALUE))
-                .arguments((Attributes) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportParameterValueRule.ARG_ARGUMENTS))
-                .build();
+        super(Rule.Type.ReportParameterValue.name(), ReportParameterValueRule.NONE_NULL_ARGUMENTS_NAME,
+                ReportParameterValueRule_ReportParameterValueRuleArgumentsBinder.INSTANCE);
     }
 
     /**
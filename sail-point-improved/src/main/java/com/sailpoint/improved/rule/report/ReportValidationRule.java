@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.report;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Form;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.LiveReport;
 import sailpoint.object.Rule;
 import sailpoint.tools.Message;
@@ -57,26 +54,8 @@ public abstract class ReportValidationRule
      * Default constructor
      */
     public ReportValidationRule() {
-        super(Rule.Type.ReportValidator.name(), ReportValidationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ReportValidationRule.ReportValidationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ReportValidationRuleArguments.builder()
-                .report((LiveReport) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportValidationRule.ARG_REPORT))
-                .form((Form) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportValidationRule.ARG_FORM))
-                .locale((Locale) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ReportValidationRule.ARG_LOCALE))
-                .build();
+        super(Rule.Type.ReportValidator.name(), ReportValidationRule.NONE_NULL_ARGUMENTS_NAME,
+                ReportValidationRule_ReportValidationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -1,6 +1,10 @@
 package com.sailpoint.improved.rule.runner;
 
+import com.sailpoint.annotation.RuleScope;
+import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
+import com.sailpoint.improved.rule.metrics.RuleMetricsRegistry;
 import lombok.extern.slf4j.Slf4j;
+import sailpoint.api.SailPointContext;
 import sailpoint.api.SailPointFactory;
 import sailpoint.object.JavaRuleContext;
 import sailpoint.object.JavaRuleExecutor;
@@ -10,15 +14,26 @@ import sailpoint.tools.GeneralException;
 import sailpoint.tools.Util;
 
 import java.text.MessageFormat;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * Improved java rule runner,
  * After finding class of rule:
  * 1 - get it instance by calling static method getInstance
  * 2 - call execute method of class
+ * Registers rule execution metrics MBean ({@link RuleMetricsRegistry#OBJECT_NAME}) on creation.
+ * Rules from {@link RuleRegistry} are created via generated factories without reflection. If system property
+ * {@link #WARM_UP_THREADS_PROPERTY} is positive, all indexed rules are warmed up in background on creation.
+ * Rule executor instances are shared between threads according to {@link RuleScope} of rule executor class.
  */
 @Slf4j
 public class JavaRuleRunner<T extends JavaRuleExecutor> extends BSFRuleRunner {
@@ -31,9 +46,90 @@ public class JavaRuleRunner<T extends JavaRuleExecutor> extends BSFRuleRunner {
     public static final String VALIDATION_RULE_ERROR_MESSAGE = "Rule:[{0}], validation error:[{1}]";
 
     /**
-     * Rules instances storage
+     * Rule executor initialization error message. Parameters:
+     * 0 - rule executor class name
+     * 1 - initialization error message
      */
-    private final Map<Class<T>, T> storage = new HashMap<>();
+    public static final String RULE_EXECUTOR_INIT_ERROR_MESSAGE = "Rule executor:[{0}] can not be initialized:[{1}]";
+
+    /**
+     * System property with count of threads of warm-up on runner creation. Warm-up is disabled if it is not positive
+     */
+    public static final String WARM_UP_THREADS_PROPERTY = "sailpoint.improved.rule.warmup.threads";
+
+    /**
+     * System property of priming during warm-up on runner creation: arguments binders of rules are warmed up, see
+     * {@link AbstractJavaRuleExecutor#warmUp()}
+     */
+    public static final String WARM_UP_PRIMING_PROPERTY = "sailpoint.improved.rule.warmup.priming";
+
+    /**
+     * Name of background warm-up thread
+     */
+    public static final String WARM_UP_THREAD_NAME = "JavaRuleRunner-WarmUp";
+
+    /**
+     * System property with time in milliseconds after which failed rule source is resolved again
+     */
+    public static final String FAILED_RETRY_MILLIS_PROPERTY = "sailpoint.improved.rule.failed.retry.millis";
+
+    /**
+     * Default time in milliseconds after which failed rule source is resolved again
+     */
+    public static final long DEFAULT_FAILED_RETRY_MILLIS = 60000L;
+
+    /**
+     * Rules instances providers storage. Key - rule source (rule executor class name)
+     */
+    private final ConcurrentMap<String, RuleExecutorProvider<T>> storage = new ConcurrentHashMap<>();
+
+    /**
+     * Rules sources which could not be resolved to rule executor instance. Key - rule source, value - failure.
+     * Failures are expired after {@link #failedRetryMillis}, so transient errors and later deployed rules are resolved
+     */
+    private final ConcurrentMap<String, FailedResolving> failedStorage = new ConcurrentHashMap<>();
+
+    /**
+     * Time in milliseconds after which failed rule source is resolved again
+     */
+    private final long failedRetryMillis;
+
+    /**
+     * Registry of indexed rules
+     */
+    private final RuleRegistry ruleRegistry;
+
+    /**
+     * Default constructor. Registers rule execution metrics MBean and starts warm-up if it is enabled
+     */
+    public JavaRuleRunner() {
+        this(RuleRegistry.getInstance());
+        int warmUpThreads = Integer.getInteger(WARM_UP_THREADS_PROPERTY, 0);
+        if (warmUpThreads > 0) {
+            startWarmUp(warmUpThreads, Boolean.getBoolean(WARM_UP_PRIMING_PROPERTY));
+        }
+    }
+
+    /**
+     * Constructor with rule registry. Registers rule execution metrics MBean
+     *
+     * @param ruleRegistry - registry of indexed rules
+     */
+    public JavaRuleRunner(RuleRegistry ruleRegistry) {
+        this(ruleRegistry, Long.getLong(FAILED_RETRY_MILLIS_PROPERTY, DEFAULT_FAILED_RETRY_MILLIS));
+    }
+
+    /**
+     * Constructor with rule registry and retry time of failed rule sources. Registers rule execution metrics MBean
+     *
+     * @param ruleRegistry      - registry of indexed rules
+     * @param failedRetryMillis - time in milliseconds after which failed rule source is resolved again
+     */
+    public JavaRuleRunner(RuleRegistry ruleRegistry, long failedRetryMillis) {
+        this.ruleRegistry = ruleRegistry;
+        this.failedRetryMillis = failedRetryMillis;
+        RuleMetricsRegistry.getInstance().registerMBean();
+    }
 
     /**
      * Override only run java rule
@@ -57,40 +153,230 @@ public class JavaRuleRunner<T extends JavaRuleExecutor> extends BSFRuleRunner {
         try {
             String className = rule.getSource();
             log.debug("Try to init rule class by name. Rule:[{}], class name:[{}]", rule.getName(), className);
-            T ruleExecutor = getRuleExecutor(className);
-            log.debug("Create rule context and run it");
-            return ruleExecutor.execute(new JavaRuleContext(SailPointFactory.getCurrentContext(), parameters));
+            RuleExecutorProvider<T> ruleExecutorProvider = getRuleExecutorProvider(className);
+            T ruleExecutor = ruleExecutorProvider.acquire();
+            try {
+                log.debug("Create rule context and run it");
+                return ruleExecutor.execute(new JavaRuleContext(SailPointFactory.getCurrentContext(), parameters));
+            } finally {
+                ruleExecutorProvider.release(ruleExecutor);
+            }
         } catch (GeneralException ex) {
             log.error("Got general exception:[{}]", ex.getMessage(), ex);
             throw ex;
         } catch (Throwable ex) {
             log.error("Got unknown exception:[{}]", ex.getMessage(), ex);
-            throw new GeneralException(ex.getMessage());
+            throw new GeneralException(ex.getMessage(), ex);
         }
     }
 
     /**
-     * Get java rule executor instance via reflection in class by className
+     * Run java rule for batch of parameters, e.g. for all records of aggregation page.
+     * Rule executor is resolved once per batch. Executors based on {@link AbstractJavaRuleExecutor} are run via
+     * {@link AbstractJavaRuleExecutor#executeBatch(SailPointContext, List)}, others are run for each parameters.
      *
-     * @param ruleExecutorClassName - rule executor class name value
-     * @return instance of rule executor
+     * @param rule            - rule to run
+     * @param parametersBatch - parameters of records
+     * @return results of records in the same order as parameters
+     * @throws GeneralException - error while execute rule
      */
-    protected T getRuleExecutor(String ruleExecutorClassName) throws GeneralException {
+    public List<Object> runJavaRuleBatch(Rule rule, List<Map<String, Object>> parametersBatch)
+            throws GeneralException {
+        log.debug("Run java rule for batch");
+        log.trace("Rule:[{}], parameters batch:[{}]", rule, parametersBatch);
+
+        log.debug("Validate input parameters");
+        validateRule(rule);
+
         try {
-            log.debug("Try to initialize class of rule executor by name:[{}]", ruleExecutorClassName);
-            Class<T> ruleExecutorClass = (Class<T>) Class.forName(ruleExecutorClassName);
-            if (!storage.containsKey(ruleExecutorClass)) {
-                synchronized (this) {
-                    if (!storage.containsKey(ruleExecutorClass)) {
-                        log.debug("Instance of rule executor not found. Put it to storage.");
-                        storage.put(ruleExecutorClass, ruleExecutorClass.newInstance());
+            String className = rule.getSource();
+            log.debug("Try to init rule class by name. Rule:[{}], class name:[{}]", rule.getName(), className);
+            RuleExecutorProvider<T> ruleExecutorProvider = getRuleExecutorProvider(className);
+            T ruleExecutor = ruleExecutorProvider.acquire();
+            try {
+                SailPointContext sailPointContext = SailPointFactory.getCurrentContext();
+                if (ruleExecutor instanceof AbstractJavaRuleExecutor) {
+                    log.debug("Run rule batch via abstract java rule executor");
+                    return new ArrayList<>(((AbstractJavaRuleExecutor<?, ?>) ruleExecutor)
+                            .executeBatch(sailPointContext, parametersBatch));
+                }
+                log.debug("Run rule for each parameters of batch");
+                List<Object> results = new ArrayList<>();
+                if (parametersBatch != null) {
+                    for (Map<String, Object> parameters : parametersBatch) {
+                        results.add(ruleExecutor.execute(new JavaRuleContext(sailPointContext, parameters)));
                     }
                 }
+                return results;
+            } finally {
+                ruleExecutorProvider.release(ruleExecutor);
+            }
+        } catch (GeneralException ex) {
+            log.error("Got general exception:[{}]", ex.getMessage(), ex);
+            throw ex;
+        } catch (Throwable ex) {
+            log.error("Got unknown exception:[{}]", ex.getMessage(), ex);
+            throw new GeneralException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Get java rule executor instances provider by className. Read path does not take any lock:
+     * provider is taken from storage. Class resolving and the first instantiating is done only once per className,
+     * failed resolving is stored too, so the same invalid source does not call reflection again until failure is
+     * expired.
+     *
+     * @param ruleExecutorClassName - rule executor class name value
+     * @return provider of rule executor instances
+     */
+    protected RuleExecutorProvider<T> getRuleExecutorProvider(String ruleExecutorClassName) throws GeneralException {
+        RuleExecutorProvider<T> ruleExecutorProvider = storage.get(ruleExecutorClassName);
+        if (ruleExecutorProvider != null) {
+            return ruleExecutorProvider;
+        }
+        FailedResolving failedResolving = failedStorage.get(ruleExecutorClassName);
+        if (failedResolving != null) {
+            if (System.currentTimeMillis() - failedResolving.failedAt < failedRetryMillis) {
+                log.debug("Rule executor:[{}] was already failed to initialize", ruleExecutorClassName);
+                throw new GeneralException(failedResolving.errorMessage);
+            }
+            log.debug("Failure of rule executor:[{}] is expired, resolve it again", ruleExecutorClassName);
+            failedStorage.remove(ruleExecutorClassName, failedResolving);
+        }
+        synchronized (this) {
+            ruleExecutorProvider = storage.get(ruleExecutorClassName);
+            if (ruleExecutorProvider == null) {
+                log.debug("Instance of rule executor:[{}] not found. Put it to storage.", ruleExecutorClassName);
+                ruleExecutorProvider = createRuleExecutorProvider(ruleExecutorClassName,
+                        createRuleExecutor(ruleExecutorClassName));
+                storage.put(ruleExecutorClassName, ruleExecutorProvider);
+            }
+            return ruleExecutorProvider;
+        }
+    }
+
+    /**
+     * Create provider of rule executor instances by {@link RuleScope} of rule executor class
+     *
+     * @param ruleExecutorClassName - rule executor class name value
+     * @param ruleExecutor          - the first created rule executor instance
+     * @return provider of rule executor instances
+     */
+    protected RuleExecutorProvider<T> createRuleExecutorProvider(String ruleExecutorClassName, T ruleExecutor) {
+        return RuleExecutorProvider.of(ruleExecutor, () -> createRuleExecutor(ruleExecutorClassName));
+    }
+
+    /**
+     * Warm up all indexed rules: instantiate them in parallel and put to storage. With priming arguments binder of
+     * each rule based on {@link AbstractJavaRuleExecutor} is warmed up by {@link AbstractJavaRuleExecutor#warmUp()},
+     * errors of priming are ignored. Rule logic is never called by warm-up.
+     *
+     * @param threads - count of warm-up threads
+     * @param priming - warm up arguments binders of rules
+     * @return count of rules in storage after warm-up
+     * @throws GeneralException - warm-up is interrupted
+     */
+    public int warmUp(int threads, boolean priming) throws GeneralException {
+        log.debug("Warm up:[{}] indexed rules, threads:[{}], priming:[{}]",
+                ruleRegistry.getRuleSources().size(), threads, priming);
+        List<Future<T>> futures = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            for (String ruleSource : ruleRegistry.getRuleSources()) {
+                futures.add(executorService.submit(() -> warmUpRuleExecutor(ruleSource, priming)));
+            }
+            int warmedUpCount = 0;
+            for (Future<T> future : futures) {
+                try {
+                    future.get();
+                    warmedUpCount++;
+                } catch (ExecutionException ex) {
+                    log.warn("Rule can not be warmed up:[{}]", ex.getCause().getMessage());
+                }
+            }
+            return warmedUpCount;
+        } catch (InterruptedException ex) {
+            log.warn("Warm up of rules is interrupted");
+            Thread.currentThread().interrupt();
+            throw new GeneralException(RuleExecutionService.INTERRUPTED_ERROR_MESSAGE, ex);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Start warm-up of all indexed rules in background daemon thread
+     *
+     * @param threads - count of warm-up threads
+     * @param priming - warm up arguments binders of rules
+     */
+    protected void startWarmUp(int threads, boolean priming) {
+        log.debug("Start warm up in background, threads:[{}], priming:[{}]", threads, priming);
+        Thread warmUpThread = new Thread(() -> {
+            try {
+                log.debug("Warmed up:[{}] rules", warmUp(threads, priming));
+            } catch (Exception ex) {
+                log.error("Got:[{}] while warm up rules", ex.getMessage(), ex);
+            }
+        }, WARM_UP_THREAD_NAME);
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    /**
+     * Create rule executor instance for warm-up and put its provider to storage. Creation is done without lock,
+     * so instance is dropped if rule executor was created by concurrent rule run.
+     *
+     * @param ruleExecutorClassName - rule executor class name value
+     * @param priming               - warm up arguments binder of rule
+     * @return the first instance of rule executor from storage
+     * @throws GeneralException - rule executor could not be instantiated
+     */
+    private T warmUpRuleExecutor(String ruleExecutorClassName, boolean priming) throws GeneralException {
+        RuleExecutorProvider<T> ruleExecutorProvider = storage.get(ruleExecutorClassName);
+        if (ruleExecutorProvider == null) {
+            RuleExecutorProvider<T> createdProvider = createRuleExecutorProvider(ruleExecutorClassName,
+                    createRuleExecutor(ruleExecutorClassName));
+            synchronized (this) {
+                RuleExecutorProvider<T> storedProvider = storage.putIfAbsent(ruleExecutorClassName, createdProvider);
+                ruleExecutorProvider = storedProvider == null ? createdProvider : storedProvider;
+            }
+        }
+        T ruleExecutor = ruleExecutorProvider.getRuleExecutor();
+        if (priming && ruleExecutor instanceof AbstractJavaRuleExecutor) {
+            try {
+                ((AbstractJavaRuleExecutor<?, ?>) ruleExecutor).warmUp();
+            } catch (Exception ex) {
+                log.trace("Priming of rule:[{}] failed:[{}]", ruleExecutorClassName, ex.getMessage());
+            }
+        }
+        return ruleExecutor;
+    }
+
+    /**
+     * Create java rule executor instance via factory of rule registry or via reflection in class by className.
+     * In case of error - store error message to failed storage.
+     *
+     * @param ruleExecutorClassName - rule executor class name value
+     * @return new instance of rule executor
+     * @throws GeneralException - class not found or could not be instantiated
+     */
+    protected T createRuleExecutor(String ruleExecutorClassName) throws GeneralException {
+        try {
+            Supplier<Object> ruleFactory = ruleRegistry.getRuleFactory(ruleExecutorClassName);
+            if (ruleFactory != null) {
+                log.debug("Create rule executor:[{}] via rule index", ruleExecutorClassName);
+                return (T) ruleFactory.get();
             }
-            return storage.get(ruleExecutorClass);
-        } catch (Exception ex) {
+            log.debug("Try to initialize class of rule executor by name:[{}]", ruleExecutorClassName);
+            Class<T> ruleExecutorClass = (Class<T>) Class.forName(ruleExecutorClassName);
+            return ruleExecutorClass.newInstance();
+        } catch (Exception | LinkageError ex) {
             log.error("Got:[{}] while initialize rule executor instance", ex.getMessage(), ex);
-            throw new GeneralException(ex);
+            String errorMessage = MessageFormat
+                    .format(RULE_EXECUTOR_INIT_ERROR_MESSAGE, ruleExecutorClassName, ex.getMessage());
+            failedStorage.put(ruleExecutorClassName, new FailedResolving(errorMessage, System.currentTimeMillis()));
+            throw new GeneralException(errorMessage, ex);
         }
     }
 
@@ -103,7 +389,7 @@ public class JavaRuleRunner<T extends JavaRuleExecutor> extends BSFRuleRunner {
     protected void validateRule(Rule rule) throws GeneralException {
         log.debug("Validate rule");
         Object className = rule.getSource();
-        if (className != null && Util.isNullOrEmpty(className.toString())) {
+        if (className == null || Util.isNullOrEmpty(className.toString())) {
             String errorMessage = MessageFormat.format(
                     JavaRuleRunner.VALIDATION_RULE_ERROR_MESSAGE, rule.getName(),
                     "Java rule must contains source with class name value");
@@ -112,4 +398,29 @@ public class JavaRuleRunner<T extends JavaRuleExecutor> extends BSFRuleRunner {
         }
     }
 
+    /**
+     * Failure of rule source resolving
+     */
+    private static final class FailedResolving {
+
+        /**
+         * Error message of resolving
+         */
+        private final String errorMessage;
+        /**
+         * Time of failure in milliseconds
+         */
+        private final long failedAt;
+
+        /**
+         * Constructor with all fields
+         *
+         * @param errorMessage - error message of resolving
+         * @param failedAt     - time of failure in milliseconds
+         */
+        private FailedResolving(String errorMessage, long failedAt) {
+            this.errorMessage = errorMessage;
+            this.failedAt = failedAt;
+        }
+    }
 }
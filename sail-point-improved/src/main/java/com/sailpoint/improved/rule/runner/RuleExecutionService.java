@@ -0,0 +1,308 @@
+package com.sailpoint.improved.rule.runner;
+
+import com.sailpoint.annotation.RuleScope;
+import com.sailpoint.annotation.common.ExecutorScope;
+import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.tools.GeneralException;
+import sailpoint.tools.Util;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service for running independent invocations of java rules on bounded worker pool.
+ * Each worker thread creates own {@link SailPointContext} via {@link SailPointFactory#createContext(String)} on the
+ * first rule execution and releases it via {@link SailPointFactory#releaseContext(SailPointContext)} when worker
+ * is stopped. Context is decached after each invocation, so objects loaded by one invocation are not kept in session
+ * of worker and are not returned to next invocations. Rule invocations must not share sailpoint objects, because each
+ * worker has own context.
+ * Rule executor is acquired from {@link RuleExecutorProvider} on worker thread for each invocation, so
+ * {@link RuleScope} of rule is honored: thread rule has own instance on each worker, pooled rule instance is used by
+ * one invocation at a time. Rule executor instance can be passed directly only for singleton rules.
+ */
+@Slf4j
+public class RuleExecutionService implements AutoCloseable {
+
+    /**
+     * Name pattern of worker thread and its sailpoint context. Parameters:
+     * 0 - worker number
+     */
+    public static final String WORKER_NAME_PATTERN = "RuleExecutionService-{0}";
+
+    /**
+     * Invalid threads count error message. Parameters:
+     * 0 - threads count
+     */
+    public static final String THREADS_COUNT_ERROR_MESSAGE = "Threads count:[{0}] must be positive";
+
+    /**
+     * Rule execution error message. Parameters:
+     * 0 - rule type
+     * 1 - invocation index
+     * 2 - error message
+     */
+    public static final String RULE_EXECUTION_ERROR_MESSAGE = "Rule:[{0}], invocation:[{1}] failed:[{2}]";
+
+    /**
+     * Service is interrupted error message
+     */
+    public static final String INTERRUPTED_ERROR_MESSAGE = "Rule execution service is interrupted";
+
+    /**
+     * Not singleton rule executor is passed without provider error message. Parameters:
+     * 0 - rule executor class name
+     * 1 - rule executor scope
+     */
+    public static final String RULE_SCOPE_ERROR_MESSAGE = "Rule executor:[{0}] of scope:[{1}] requires provider";
+
+    /**
+     * Time to wait running invocations on close, in seconds
+     */
+    private static final long CLOSE_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Sailpoint context of current worker thread
+     */
+    private final ThreadLocal<SailPointContext> workerContext = new ThreadLocal<>();
+    /**
+     * Counter of worker threads
+     */
+    private final AtomicInteger workerCounter = new AtomicInteger();
+    /**
+     * Worker pool
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Constructor with count of worker threads
+     *
+     * @param threads - count of worker threads
+     */
+    public RuleExecutionService(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(MessageFormat.format(THREADS_COUNT_ERROR_MESSAGE, threads));
+        }
+        log.debug("Create rule execution service with:[{}] threads", threads);
+        this.executorService = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), this::createWorker);
+    }
+
+    /**
+     * Submit one invocation of singleton rule
+     *
+     * @param ruleExecutor - rule executor, must not be marked by not singleton {@link RuleScope}
+     * @param arguments    - rule arguments
+     * @param <T>          - type of rule result
+     * @return future of rule result
+     */
+    public <T> Future<T> submit(AbstractJavaRuleExecutor<T, ?> ruleExecutor, Map<String, Object> arguments) {
+        return submit(createSingletonProvider(ruleExecutor), arguments);
+    }
+
+    /**
+     * Submit one rule invocation. Rule executor is acquired from provider on worker thread and released after
+     * invocation
+     *
+     * @param ruleExecutorProvider - provider of rule executor instances
+     * @param arguments            - rule arguments
+     * @param <T>                  - type of rule result
+     * @param <E>                  - type of rule executor
+     * @return future of rule result
+     */
+    public <T, E extends AbstractJavaRuleExecutor<T, ?>> Future<T> submit(RuleExecutorProvider<E> ruleExecutorProvider,
+                                                                         Map<String, Object> arguments) {
+        log.trace("Submit rule:[{}], arguments:[{}]", ruleExecutorProvider.getRuleExecutor().getRuleType(), arguments);
+        return executorService.submit(() -> {
+            E ruleExecutor = ruleExecutorProvider.acquire();
+            try {
+                return ruleExecutor.execute(new JavaRuleContext(getWorkerContext(), arguments));
+            } finally {
+                ruleExecutorProvider.release(ruleExecutor);
+                decacheWorkerContext();
+            }
+        });
+    }
+
+    /**
+     * Run singleton rule for each arguments on worker pool and wait all results
+     *
+     * @param ruleExecutor   - rule executor, must not be marked by not singleton {@link RuleScope}
+     * @param argumentsBatch - arguments of invocations
+     * @param <T>            - type of rule result
+     * @return results in the same order as arguments
+     * @throws GeneralException - error of any invocation or waiting is interrupted
+     */
+    public <T> List<T> executeAll(AbstractJavaRuleExecutor<T, ?> ruleExecutor,
+                                  List<Map<String, Object>> argumentsBatch) throws GeneralException {
+        return executeAll(createSingletonProvider(ruleExecutor), argumentsBatch);
+    }
+
+    /**
+     * Run rule for each arguments on worker pool and wait all results. Rule executor is acquired from provider on
+     * worker thread for each invocation. In case of any error not started invocations are cancelled.
+     *
+     * @param ruleExecutorProvider - provider of rule executor instances
+     * @param argumentsBatch       - arguments of invocations, null or empty batch has no results
+     * @param <T>                  - type of rule result
+     * @param <E>                  - type of rule executor
+     * @return results in the same order as arguments
+     * @throws GeneralException - error of any invocation or waiting is interrupted
+     */
+    public <T, E extends AbstractJavaRuleExecutor<T, ?>> List<T> executeAll(RuleExecutorProvider<E>
+                                                                                    ruleExecutorProvider,
+                                                                            List<Map<String, Object>> argumentsBatch)
+            throws GeneralException {
+        String ruleType = ruleExecutorProvider.getRuleExecutor().getRuleType();
+        if (Util.isEmpty(argumentsBatch)) {
+            log.debug("Rule:[{}], batch is empty", ruleType);
+            return Collections.emptyList();
+        }
+        log.debug("Rule:[{}], execute:[{}] invocations", ruleType, argumentsBatch.size());
+        List<Future<T>> futures = new ArrayList<>(argumentsBatch.size());
+        for (Map<String, Object> arguments : argumentsBatch) {
+            futures.add(submit(ruleExecutorProvider, arguments));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (int index = 0; index < futures.size(); index++) {
+                try {
+                    results.add(futures.get(index).get());
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    log.error("Rule:[{}], invocation:[{}] failed", ruleType, index, cause);
+                    throw new GeneralException(MessageFormat.format(RULE_EXECUTION_ERROR_MESSAGE,
+                            ruleType, index, cause.getMessage()), cause);
+                }
+            }
+        } catch (InterruptedException ex) {
+            log.warn("Waiting of rule:[{}] results is interrupted", ruleType);
+            Thread.currentThread().interrupt();
+            throw new GeneralException(INTERRUPTED_ERROR_MESSAGE, ex);
+        } finally {
+            if (results.size() != futures.size()) {
+                futures.forEach(future -> future.cancel(false));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Stop worker pool: wait running invocations and release sailpoint contexts of workers
+     */
+    @Override
+    public void close() {
+        log.debug("Close rule execution service");
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Rule execution service is not terminated in:[{}] seconds", CLOSE_TIMEOUT_SECONDS);
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            log.warn("Closing of rule execution service is interrupted");
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get sailpoint context of current worker. Context is created on the first call
+     *
+     * @return sailpoint context of worker
+     * @throws GeneralException - context can not be created
+     */
+    protected SailPointContext getWorkerContext() throws GeneralException {
+        SailPointContext sailPointContext = workerContext.get();
+        if (sailPointContext == null) {
+            String contextName = Thread.currentThread().getName();
+            log.debug("Create sailpoint context:[{}]", contextName);
+            sailPointContext = SailPointFactory.createContext(contextName);
+            workerContext.set(sailPointContext);
+        }
+        return sailPointContext;
+    }
+
+    /**
+     * Decache sailpoint context of current worker if it was created: clear session cache after invocation
+     */
+    protected void decacheWorkerContext() {
+        SailPointContext sailPointContext = workerContext.get();
+        if (sailPointContext == null) {
+            return;
+        }
+        try {
+            log.trace("Decache sailpoint context:[{}]", Thread.currentThread().getName());
+            sailPointContext.decache();
+        } catch (GeneralException ex) {
+            log.error("Sailpoint context:[{}] can not be decached", Thread.currentThread().getName(), ex);
+        }
+    }
+
+    /**
+     * Release sailpoint context of current worker if it was created
+     */
+    protected void releaseWorkerContext() {
+        SailPointContext sailPointContext = workerContext.get();
+        if (sailPointContext == null) {
+            return;
+        }
+        workerContext.remove();
+        try {
+            log.debug("Release sailpoint context:[{}]", Thread.currentThread().getName());
+            SailPointFactory.releaseContext(sailPointContext);
+        } catch (GeneralException ex) {
+            log.error("Sailpoint context:[{}] can not be released", Thread.currentThread().getName(), ex);
+        }
+    }
+
+    /**
+     * Create provider of singleton rule executor
+     *
+     * @param ruleExecutor - rule executor
+     * @param <E>          - type of rule executor
+     * @return provider of shared rule executor instance
+     * @throws IllegalArgumentException - rule executor is marked by not singleton {@link RuleScope}
+     */
+    private static <E extends AbstractJavaRuleExecutor<?, ?>> RuleExecutorProvider<E> createSingletonProvider(
+            E ruleExecutor) {
+        RuleScope ruleScope = ruleExecutor.getClass().getAnnotation(RuleScope.class);
+        if (ruleScope != null && !ExecutorScope.SINGLETON.equals(ruleScope.value())) {
+            throw new IllegalArgumentException(MessageFormat.format(RULE_SCOPE_ERROR_MESSAGE,
+                    ruleExecutor.getClass().getName(), ruleScope.value()));
+        }
+        return new RuleExecutorProvider.SingletonRuleExecutorProvider<>(ruleExecutor);
+    }
+
+    /**
+     * Create worker thread which releases own sailpoint context on exit
+     *
+     * @param runnable - worker runnable of pool
+     * @return worker thread
+     */
+    private Thread createWorker(Runnable runnable) {
+        String workerName = MessageFormat.format(WORKER_NAME_PATTERN, workerCounter.incrementAndGet());
+        Thread worker = new Thread(() -> {
+            try {
+                runnable.run();
+            } finally {
+                releaseWorkerContext();
+            }
+        }, workerName);
+        worker.setDaemon(true);
+        return worker;
+    }
+}
@@ -0,0 +1,343 @@
+package com.sailpoint.improved.rule.runner;
+
+import com.sailpoint.annotation.RuleScope;
+import com.sailpoint.annotation.common.ExecutorScope;
+import lombok.extern.slf4j.Slf4j;
+import sailpoint.object.JavaRuleExecutor;
+import sailpoint.tools.GeneralException;
+
+import java.text.MessageFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provider of rule executor instances according to {@link RuleScope} of rule executor class.
+ * Each call must acquire instance and release it after execution.
+ *
+ * @param <T> - type of rule executor
+ */
+@Slf4j
+public abstract class RuleExecutorProvider<T extends JavaRuleExecutor> {
+
+    /**
+     * Invalid pool size error message. Parameters:
+     * 0 - rule executor class name
+     * 1 - pool size
+     */
+    public static final String POOL_SIZE_ERROR_MESSAGE = "Rule executor:[{0}], pool size:[{1}] must be positive";
+
+    /**
+     * Waiting of pooled rule executor is interrupted error message. Parameters:
+     * 0 - rule executor class name
+     */
+    public static final String POOL_INTERRUPTED_ERROR_MESSAGE = "Waiting of rule executor:[{0}] is interrupted";
+
+    /**
+     * Waiting of pooled rule executor is expired error message. Parameters:
+     * 0 - rule executor class name
+     * 1 - pool size
+     * 2 - waiting time in milliseconds
+     */
+    public static final String POOL_TIMEOUT_ERROR_MESSAGE =
+            "Rule executor:[{0}], all:[{1}] pooled instances are in use after waiting:[{2}] ms";
+
+    /**
+     * Default max time of waiting for pooled rule executor, see {@link RuleScope#poolTimeout()}
+     */
+    public static final long DEFAULT_POOL_TIMEOUT_SECONDS = 60;
+
+    /**
+     * The first created rule executor instance
+     */
+    protected final T ruleExecutor;
+
+    /**
+     * Constructor with the first created rule executor instance
+     *
+     * @param ruleExecutor - rule executor instance
+     */
+    protected RuleExecutorProvider(T ruleExecutor) {
+        this.ruleExecutor = ruleExecutor;
+    }
+
+    /**
+     * Create provider by {@link RuleScope} of rule executor class
+     *
+     * @param ruleExecutor - the first created rule executor instance
+     * @param factory      - factory of next rule executor instances
+     * @param <T>          - type of rule executor
+     * @return rule executor provider
+     */
+    public static <T extends JavaRuleExecutor> RuleExecutorProvider<T> of(T ruleExecutor,
+                                                                         RuleExecutorFactory<T> factory) {
+        RuleScope ruleScope = ruleExecutor.getClass().getAnnotation(RuleScope.class);
+        ExecutorScope executorScope = ruleScope == null ? ExecutorScope.SINGLETON : ruleScope.value();
+        log.debug("Rule executor:[{}], scope:[{}]", ruleExecutor.getClass().getName(), executorScope);
+        switch (executorScope) {
+            case THREAD:
+                return new ThreadRuleExecutorProvider<>(ruleExecutor, factory);
+            case POOLED:
+                return new PooledRuleExecutorProvider<>(ruleExecutor, factory, ruleScope.poolSize(),
+                        ruleScope.poolTimeoutUnit().toNanos(ruleScope.poolTimeout()));
+            default:
+                return new SingletonRuleExecutorProvider<>(ruleExecutor);
+        }
+    }
+
+    /**
+     * Get the first created rule executor instance, e.g. for warm-up
+     *
+     * @return rule executor instance
+     */
+    public T getRuleExecutor() {
+        return ruleExecutor;
+    }
+
+    /**
+     * Acquire rule executor instance for current call
+     *
+     * @return rule executor instance
+     * @throws GeneralException - instance can not be created, waiting is interrupted or expired
+     */
+    public abstract T acquire() throws GeneralException;
+
+    /**
+     * Release rule executor instance after current call
+     *
+     * @param acquiredRuleExecutor - acquired rule executor instance
+     */
+    public abstract void release(T acquiredRuleExecutor);
+
+    /**
+     * Factory of rule executor instances
+     *
+     * @param <T> - type of rule executor
+     */
+    @FunctionalInterface
+    public interface RuleExecutorFactory<T> {
+
+        /**
+         * Create new rule executor instance
+         *
+         * @return new rule executor instance
+         * @throws GeneralException - instance can not be created
+         */
+        T create() throws GeneralException;
+    }
+
+    /**
+     * Provider of one instance shared by all threads
+     *
+     * @param <T> - type of rule executor
+     */
+    public static class SingletonRuleExecutorProvider<T extends JavaRuleExecutor> extends RuleExecutorProvider<T> {
+
+        /**
+         * Constructor with rule executor instance
+         *
+         * @param ruleExecutor - rule executor instance
+         */
+        public SingletonRuleExecutorProvider(T ruleExecutor) {
+            super(ruleExecutor);
+        }
+
+        /**
+         * Get shared instance
+         *
+         * @return rule executor instance
+         */
+        @Override
+        public T acquire() {
+            return ruleExecutor;
+        }
+
+        /**
+         * Nothing to release for shared instance
+         *
+         * @param acquiredRuleExecutor - acquired rule executor instance
+         */
+        @Override
+        public void release(T acquiredRuleExecutor) {
+            log.trace("Shared rule executor is not released");
+        }
+    }
+
+    /**
+     * Provider of own instance for each thread. The first created instance is given to the first thread
+     *
+     * @param <T> - type of rule executor
+     */
+    public static class ThreadRuleExecutorProvider<T extends JavaRuleExecutor> extends RuleExecutorProvider<T> {
+
+        /**
+         * Factory of next rule executor instances
+         */
+        private final RuleExecutorFactory<T> factory;
+        /**
+         * Rule executor instance of current thread
+         */
+        private final ThreadLocal<T> threadRuleExecutor = new ThreadLocal<>();
+        /**
+         * The first created instance is already given to thread
+         */
+        private final AtomicBoolean ruleExecutorTaken = new AtomicBoolean();
+
+        /**
+         * Constructor with the first created instance and factory
+         *
+         * @param ruleExecutor - the first created rule executor instance
+         * @param factory      - factory of next rule executor instances
+         */
+        public ThreadRuleExecutorProvider(T ruleExecutor, RuleExecutorFactory<T> factory) {
+            super(ruleExecutor);
+            this.factory = factory;
+        }
+
+        /**
+         * Get instance of current thread, create it on the first call of thread
+         *
+         * @return rule executor instance of current thread
+         * @throws GeneralException - instance can not be created
+         */
+        @Override
+        public T acquire() throws GeneralException {
+            T acquiredRuleExecutor = threadRuleExecutor.get();
+            if (acquiredRuleExecutor == null) {
+                log.debug("Create rule executor:[{}] for thread:[{}]", ruleExecutor.getClass().getName(),
+                        Thread.currentThread().getName());
+                acquiredRuleExecutor = ruleExecutorTaken.compareAndSet(false, true) ? ruleExecutor : factory.create();
+                threadRuleExecutor.set(acquiredRuleExecutor);
+            }
+            return acquiredRuleExecutor;
+        }
+
+        /**
+         * Instance stays bound to thread
+         *
+         * @param acquiredRuleExecutor - acquired rule executor instance
+         */
+        @Override
+        public void release(T acquiredRuleExecutor) {
+            log.trace("Thread rule executor is not released");
+        }
+    }
+
+    /**
+     * Provider of bounded pool of instances. Instances are created on demand up to pool size, then callers wait
+     * for released instance up to pool timeout, so not released instance or nested call of the same rule fails
+     * instead of hanging.
+     *
+     * @param <T> - type of rule executor
+     */
+    public static class PooledRuleExecutorProvider<T extends JavaRuleExecutor> extends RuleExecutorProvider<T> {
+
+        /**
+         * Factory of next rule executor instances
+         */
+        private final RuleExecutorFactory<T> factory;
+        /**
+         * Max count of instances
+         */
+        private final int poolSize;
+        /**
+         * Max time of waiting for released instance in nanoseconds
+         */
+        private final long poolTimeoutNanos;
+        /**
+         * Count of created instances
+         */
+        private final AtomicInteger createdCount = new AtomicInteger(1);
+        /**
+         * Released instances
+         */
+        private final BlockingQueue<T> idleRuleExecutors;
+
+        /**
+         * Constructor with the first created instance, factory and pool size. Waiting timeout is taken from default
+         * value of {@link RuleScope#poolTimeout()}
+         *
+         * @param ruleExecutor - the first created rule executor instance
+         * @param factory      - factory of next rule executor instances
+         * @param poolSize     - max count of instances
+         */
+        public PooledRuleExecutorProvider(T ruleExecutor, RuleExecutorFactory<T> factory, int poolSize) {
+            this(ruleExecutor, factory, poolSize, TimeUnit.SECONDS.toNanos(DEFAULT_POOL_TIMEOUT_SECONDS));
+        }
+
+        /**
+         * Constructor with the first created instance, factory, pool size and waiting timeout
+         *
+         * @param ruleExecutor     - the first created rule executor instance
+         * @param factory          - factory of next rule executor instances
+         * @param poolSize         - max count of instances
+         * @param poolTimeoutNanos - max time of waiting for released instance in nanoseconds
+         */
+        public PooledRuleExecutorProvider(T ruleExecutor, RuleExecutorFactory<T> factory, int poolSize,
+                                          long poolTimeoutNanos) {
+            super(ruleExecutor);
+            if (poolSize <= 0) {
+                throw new IllegalArgumentException(MessageFormat.format(POOL_SIZE_ERROR_MESSAGE,
+                        ruleExecutor.getClass().getName(), poolSize));
+            }
+            this.factory = factory;
+            this.poolSize = poolSize;
+            this.poolTimeoutNanos = Math.max(poolTimeoutNanos, 0L);
+            this.idleRuleExecutors = new ArrayBlockingQueue<>(poolSize);
+            this.idleRuleExecutors.offer(ruleExecutor);
+        }
+
+        /**
+         * Get released instance, create new one if pool is not full or wait for released instance up to pool timeout
+         *
+         * @return rule executor instance
+         * @throws GeneralException - instance can not be created, waiting is interrupted or expired
+         */
+        @Override
+        public T acquire() throws GeneralException {
+            T acquiredRuleExecutor = idleRuleExecutors.poll();
+            if (acquiredRuleExecutor != null) {
+                return acquiredRuleExecutor;
+            }
+            if (createdCount.incrementAndGet() <= poolSize) {
+                log.debug("Create pooled rule executor:[{}]", ruleExecutor.getClass().getName());
+                try {
+                    return factory.create();
+                } catch (GeneralException | RuntimeException ex) {
+                    createdCount.decrementAndGet();
+                    throw ex;
+                }
+            }
+            createdCount.decrementAndGet();
+            log.debug("Pool of rule executor:[{}] is exhausted, wait for released instance",
+                    ruleExecutor.getClass().getName());
+            try {
+                acquiredRuleExecutor = idleRuleExecutors.poll(poolTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new GeneralException(MessageFormat.format(POOL_INTERRUPTED_ERROR_MESSAGE,
+                        ruleExecutor.getClass().getName()), ex);
+            }
+            if (acquiredRuleExecutor == null) {
+                throw new GeneralException(MessageFormat.format(POOL_TIMEOUT_ERROR_MESSAGE,
+                        ruleExecutor.getClass().getName(), poolSize,
+                        TimeUnit.NANOSECONDS.toMillis(poolTimeoutNanos)));
+            }
+            return acquiredRuleExecutor;
+        }
+
+        /**
+         * Return instance to pool
+         *
+         * @param acquiredRuleExecutor - acquired rule executor instance
+         */
+        @Override
+        public void release(T acquiredRuleExecutor) {
+            if (!idleRuleExecutors.offer(acquiredRuleExecutor)) {
+                log.warn("Rule executor:[{}] is released more than once", ruleExecutor.getClass().getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sailpoint.improved.rule.runner;
+
+import com.sailpoint.annotation.common.RuleIndex;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Registry of java rules of classpath. Rules are taken from all {@link RuleIndex} services, which are generated by
+ * annotation processor for classes marked by {@link com.sailpoint.annotation.Rule}. Registry gives rule factories
+ * which create rule instances without reflection.
+ */
+@Slf4j
+public class RuleRegistry {
+
+    /**
+     * Rule factories of all indexes. Key - rule source (rule class name)
+     */
+    private final Map<String, Supplier<Object>> ruleFactories;
+
+    /**
+     * Constructor with rule indexes. In case of the same rule source in several indexes the first one is used.
+     * Indexes which can not be loaded (e.g. stale index of deleted rules) are skipped
+     *
+     * @param ruleIndexes - rule indexes
+     */
+    public RuleRegistry(Iterable<RuleIndex> ruleIndexes) {
+        Map<String, Supplier<Object>> factories = new LinkedHashMap<>();
+        Iterator<RuleIndex> ruleIndexIterator = ruleIndexes.iterator();
+        while (true) {
+            try {
+                if (!ruleIndexIterator.hasNext()) {
+                    break;
+                }
+                RuleIndex ruleIndex = ruleIndexIterator.next();
+                log.debug("Add rule index:[{}]", ruleIndex.getClass().getName());
+                ruleIndex.getRuleFactories().forEach((ruleSource, ruleFactory) -> {
+                    if (factories.putIfAbsent(ruleSource, ruleFactory) != null) {
+                        log.debug("Rule:[{}] is already added from other index", ruleSource);
+                    }
+                });
+            } catch (ServiceConfigurationError | LinkageError ex) {
+                log.warn("Rule index can not be loaded:[{}]", ex.getMessage());
+            }
+        }
+        log.debug("Rule registry contains:[{}] rules", factories.size());
+        this.ruleFactories = Collections.unmodifiableMap(factories);
+    }
+
+    /**
+     * Get registry of rule indexes of current classpath
+     *
+     * @return rule registry instance
+     */
+    public static RuleRegistry getInstance() {
+        return RuleRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Load registry from rule index services of class loader
+     *
+     * @param classLoader - class loader of rule indexes
+     * @return new rule registry
+     */
+    public static RuleRegistry load(ClassLoader classLoader) {
+        log.debug("Load rule indexes via class loader:[{}]", classLoader);
+        return new RuleRegistry(ServiceLoader.load(RuleIndex.class, classLoader));
+    }
+
+    /**
+     * Get rule factory by rule source
+     *
+     * @param ruleSource - rule source (rule class name)
+     * @return rule factory or null if rule is not indexed
+     */
+    public Supplier<Object> getRuleFactory(String ruleSource) {
+        return ruleFactories.get(ruleSource);
+    }
+
+    /**
+     * Get sources of all indexed rules
+     *
+     * @return rule sources
+     */
+    public Set<String> getRuleSources() {
+        return ruleFactories.keySet();
+    }
+
+    /**
+     * Lazy holder of registry of current classpath
+     */
+    private static class RuleRegistryHolder {
+
+        /**
+         * Registry of rule indexes loaded via class loader of registry
+         */
+        private static final RuleRegistry INSTANCE = load(RuleRegistry.class.getClassLoader());
+    }
+}
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.scoping;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Scope;
 
@@ -53,28 +50,8 @@ public abstract class ScopeCorrelationRule
      * Default constructor
      */
     public ScopeCorrelationRule() {
-        super(Rule.Type.ScopeCorrelation.name(), ScopeCorrelationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ScopeCorrelationRule.ScopeCorrelationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ScopeCorrelationRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ScopeCorrelationRule.ARG_IDENTITY))
-                .scopeCorrelationAttribute((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                ScopeCorrelationRule.ARG_SCOPE_CORRELATION_ATTRIBUTE))
-                .scopeCorrelationAttributeValue((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                ScopeCorrelationRule.ARG_SCOPE_CORRELATION_ATTRIBUTE_VALUE))
-                .build();
+        super(Rule.Type.ScopeCorrelation.name(), ScopeCorrelationRule.NONE_NULL_ARGUMENTS_NAME,
+                ScopeCorrelationRule_ScopeCorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.scoping;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Identity;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Scope;
 
@@ -58,30 +55,8 @@ public abstract class ScopeSelectionRule
      * Default constructor
      */
     public ScopeSelectionRule() {
-        super(Rule.Type.ScopeSelection.name(), ScopeSelectionRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected ScopeSelectionRule.ScopeSelectionRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return ScopeSelectionRuleArguments.builder()
-                .identity((Identity) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ScopeSelectionRule.ARG_IDENTITY))
-                .scopeCorrelationAttribute((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                ScopeSelectionRule.ARG_SCOPE_CORRELATION_ATTRIBUTE))
-                .scopeCorrelationAttributeValue((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext,
-                                ScopeSelectionRule.ARG_SCOPE_CORRELATION_ATTRIBUTE_VALUE))
-                .candidateScopes((List<Scope>) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, ScopeSelectionRule.ARG_CANDIDATE_SCOPES))
-                .build();
+        super(Rule.Type.ScopeSelection.name(), ScopeSelectionRule.NONE_NULL_ARGUMENTS_NAME,
+                ScopeSelectionRule_ScopeSelectionRuleArgumentsBinder.INSTANCE);
     }
 
     /**
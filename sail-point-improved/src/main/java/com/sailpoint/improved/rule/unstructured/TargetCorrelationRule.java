@@ -3,14 +3,11 @@ package com.sailpoint.improved.rule.unstructured;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.api.Correlator;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Target;
 
@@ -81,30 +78,8 @@ public abstract class TargetCorrelationRule
      * Default constructor
      */
     public TargetCorrelationRule() {
-        super(Rule.Type.TargetCorrelation.name(), TargetCorrelationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected TargetCorrelationRule.TargetCorrelationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return TargetCorrelationRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCorrelationRule.ARG_APPLICATION))
-                .nativeId((String) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCorrelationRule.ARG_NATIVE_ID))
-                .target((Target) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCorrelationRule.ARG_TARGET))
-                .targetSource((Target) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCorrelationRule.ARG_TARGET_SOURCE))
-                .isGroup((Boolean) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCorrelationRule.ARG_IS_GROUP))
-                .build();
+        super(Rule.Type.TargetCorrelation.name(), TargetCorrelationRule.NONE_NULL_ARGUMENTS_NAME,
+                TargetCorrelationRule_TargetCorrelationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
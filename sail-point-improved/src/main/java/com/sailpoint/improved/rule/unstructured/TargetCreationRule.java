@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.unstructured;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Target;
 
@@ -59,26 +56,8 @@ public abstract class TargetCreationRule
      * Default constructor
      */
     public TargetCreationRule() {
-        super(Rule.Type.TargetCreation.name(), TargetCreationRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected TargetCreationRule.TargetCreationRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return TargetCreationRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCreationRule.ARG_APPLICATION))
-                .target((Target) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCreationRule.ARG_TARGET))
-                .targetSource((Target) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetCreationRule.ARG_TARGET_SOURCE))
-                .build();
+        super(Rule.Type.TargetCreation.name(), TargetCreationRule.NONE_NULL_ARGUMENTS_NAME,
+                TargetCreationRule_TargetCreationRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -3,13 +3,10 @@ package com.sailpoint.improved.rule.unstructured;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.Application;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Target;
 
@@ -54,26 +51,8 @@ public abstract class TargetTransformerRule
      * Default constructor
      */
     public TargetTransformerRule() {
-        super(Rule.Type.TargetTransformer.name(), TargetTransformerRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected TargetTransformerRule.TargetTransformerRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return TargetTransformerRuleArguments.builder()
-                .application((Application) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetTransformerRule.ARG_APPLICATION))
-                .target((Target) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetTransformerRule.ARG_TARGET))
-                .targetSource((Target) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, TargetTransformerRule.ARG_TARGET_SOURCE))
-                .build();
+        super(Rule.Type.TargetTransformer.name(), TargetTransformerRule.NONE_NULL_ARGUMENTS_NAME,
+                TargetTransformerRule_TargetTransformerRuleArgumentsBinder.INSTANCE);
     }
 
     /**
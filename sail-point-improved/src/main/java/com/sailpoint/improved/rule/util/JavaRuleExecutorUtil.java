@@ -1,5 +1,6 @@
 package com.sailpoint.improved.rule.util;
 
+import com.sailpoint.annotation.common.ArgumentsBinder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import sailpoint.object.JavaRuleContext;
@@ -18,7 +19,7 @@ public final class JavaRuleExecutorUtil {
      * Argument not null check error message. Parameters:
      * 0 - argument name
      */
-    public static final String NOT_NULL_ARGUMENT_ERROR_MESSAGE = "Argument:[{0}] is null in rule context";
+    public static final String NOT_NULL_ARGUMENT_ERROR_MESSAGE = ArgumentsBinder.NOT_NULL_ARGUMENT_ERROR_MESSAGE;
 
     /**
      * It is utils class, no need to instantiate it
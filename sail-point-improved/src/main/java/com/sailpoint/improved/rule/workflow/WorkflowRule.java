@@ -3,12 +3,9 @@ package com.sailpoint.improved.rule.workflow;
 import com.sailpoint.annotation.common.Argument;
 import com.sailpoint.annotation.common.ArgumentsContainer;
 import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
-import com.sailpoint.improved.rule.util.JavaRuleExecutorUtil;
 import lombok.Builder;
 import lombok.Data;
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.WorkItem;
 import sailpoint.object.Workflow;
@@ -70,32 +67,8 @@ public abstract class WorkflowRule
      * Default constructor
      */
     public WorkflowRule() {
-        super(Rule.Type.Workflow.name(), WorkflowRule.NONE_NULL_ARGUMENTS_NAME);
-    }
-
-    /**
-     * Build arguments container for current rule
-     *
-     * @param javaRuleContext - current rule context
-     * @return argument container instance
-     */
-    @Override
-    protected WorkflowRule.WorkflowRuleArguments buildContainerArguments(
-            @NonNull JavaRuleContext javaRuleContext) {
-        return WorkflowRuleArguments.builder()
-                .workflowContext((WorkflowContext) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkflowRule.ARG_WORKFLOW_CONTEXT))
-                .handler((WorkflowHandler) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkflowRule.ARG_HANDLER))
-                .workflow((Workflow) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkflowRule.ARG_WORKFLOW))
-                .step((Workflow.Step) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkflowRule.ARG_STEP))
-                .approval((Workflow.Approval) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkflowRule.ARG_APPROVAL))
-                .item((WorkItem) JavaRuleExecutorUtil
-                        .getArgumentValueByName(javaRuleContext, WorkflowRule.ARG_ITEM))
-                .build();
+        super(Rule.Type.Workflow.name(), WorkflowRule.NONE_NULL_ARGUMENTS_NAME,
+                WorkflowRule_WorkflowRuleArgumentsBinder.INSTANCE);
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.sailpoint.improved.rule;
 
+import com.sailpoint.annotation.Memoized;
+import com.sailpoint.annotation.ReusableArguments;
+import com.sailpoint.annotation.common.ArgumentsBinder;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -10,17 +13,26 @@ import sailpoint.api.SailPointFactory;
 import sailpoint.object.JavaRuleContext;
 import sailpoint.tools.GeneralException;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * Test for {@link AbstractJavaRuleExecutor} class
@@ -64,6 +76,7 @@ public class AbstractJavaRuleExecutorTest {
         String testValue = UUID.randomUUID().toString();
         JavaRuleContext javaRuleContext = new JavaRuleContext(this.sailPointContext, Collections.emptyMap());
         when(abstractJavaRuleExecutor.internalExecute(eq(javaRuleContext), any())).thenReturn(testValue);
+        doReturn(null).when(abstractJavaRuleExecutor).buildContainerArguments(eq(javaRuleContext));
 
         assertEquals("Expected result of rule execution is not match", testValue,
                 this.abstractJavaRuleExecutor.execute(javaRuleContext));
@@ -92,4 +105,296 @@ public class AbstractJavaRuleExecutorTest {
         verify(abstractJavaRuleExecutor, never()).internalExecute(any(), any());
     }
 
+    /**
+     * Test of execution with arguments binder
+     * Input:
+     * - valid java rule context
+     * - binder binds only first none-null argument
+     * Output
+     * - test data
+     * Expectation:
+     * - call binder with all none-null arguments
+     * - pass container from binder to internalExecute
+     */
+    @Test
+    public void argumentsBinderTest() throws GeneralException {
+        String boundArgument = UUID.randomUUID().toString();
+        String unboundArgument = UUID.randomUUID().toString();
+        List<String> noneNullArguments = Arrays.asList(boundArgument, unboundArgument);
+        ArgumentsBinder<Object> argumentsBinder = mock(ArgumentsBinder.class);
+        when(argumentsBinder.getArgumentNames()).thenReturn(Collections.singleton(boundArgument));
+        AbstractJavaRuleExecutor<Object, Object> binderRuleExecutor = mock(AbstractJavaRuleExecutor.class,
+                withSettings().useConstructor(UUID.randomUUID().toString(), noneNullArguments, argumentsBinder)
+                        .defaultAnswer(Mockito.CALLS_REAL_METHODS));
+
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put(unboundArgument, UUID.randomUUID().toString());
+        JavaRuleContext javaRuleContext = new JavaRuleContext(this.sailPointContext, arguments);
+        Object container = new Object();
+        String testValue = UUID.randomUUID().toString();
+        when(argumentsBinder.bind(eq(arguments), eq(noneNullArguments))).thenReturn(container);
+        when(binderRuleExecutor.internalExecute(eq(javaRuleContext), eq(container))).thenReturn(testValue);
+
+        assertEquals("Expected result of rule execution is not match", testValue,
+                binderRuleExecutor.execute(javaRuleContext));
+        verify(argumentsBinder).bind(eq(arguments), eq(noneNullArguments));
+    }
+
+    /**
+     * Test of execution with arguments binder and null unbound none-null argument
+     * Input:
+     * - java rule context without argument which is not bound by binder
+     * Output
+     * - General exception
+     * Expectation:
+     * - NOT call binder
+     * - NOT call internalExecute
+     */
+    @Test
+    public void argumentsBinderUnboundNullArgumentTest() throws GeneralException {
+        String boundArgument = UUID.randomUUID().toString();
+        String unboundArgument = UUID.randomUUID().toString();
+        ArgumentsBinder<Object> argumentsBinder = mock(ArgumentsBinder.class);
+        when(argumentsBinder.getArgumentNames()).thenReturn(Collections.singleton(boundArgument));
+        AbstractJavaRuleExecutor<Object, Object> binderRuleExecutor = mock(AbstractJavaRuleExecutor.class,
+                withSettings().useConstructor(UUID.randomUUID().toString(),
+                        Arrays.asList(boundArgument, unboundArgument), argumentsBinder)
+                        .defaultAnswer(Mockito.CALLS_REAL_METHODS));
+
+        JavaRuleContext javaRuleContext = new JavaRuleContext(this.sailPointContext, new HashMap<>());
+        assertThrows(GeneralException.class, () -> binderRuleExecutor.execute(javaRuleContext));
+        verify(argumentsBinder, never()).bind(any(), any());
+        verify(binderRuleExecutor, never()).internalExecute(any(), any());
+    }
+
+    /**
+     * Test of execution of reusable arguments rule with binder of immutable container
+     * Input:
+     * - rule marked by {@link ReusableArguments}
+     * - binder is not refillable
+     * Output
+     * - test data for each call
+     * Expectation:
+     * - container is bound for each call
+     * - NOT call refill
+     */
+    @Test
+    public void notRefillableReusableArgumentsTest() throws GeneralException {
+        ArgumentsBinder<Object> argumentsBinder = mock(ArgumentsBinder.class);
+        when(argumentsBinder.isRefillable()).thenReturn(false);
+        ReusableRule reusableRule = mock(ReusableRule.class,
+                withSettings().useConstructor(UUID.randomUUID().toString(), null, argumentsBinder)
+                        .defaultAnswer(Mockito.CALLS_REAL_METHODS));
+
+        JavaRuleContext javaRuleContext = new JavaRuleContext(this.sailPointContext, new HashMap<>());
+        Object container = new Object();
+        String testValue = UUID.randomUUID().toString();
+        when(argumentsBinder.bind(any(), any())).thenReturn(container);
+        when(reusableRule.internalExecute(eq(javaRuleContext), eq(container))).thenReturn(testValue);
+
+        assertEquals("Expected result of first call is not match", testValue, reusableRule.execute(javaRuleContext));
+        assertEquals("Expected result of second call is not match", testValue,
+                reusableRule.execute(javaRuleContext));
+        verify(argumentsBinder, times(2)).bind(any(), any());
+        verify(argumentsBinder, never()).refill(any(), any(), any());
+    }
+
+    /**
+     * Test of execution without arguments binder and without building container implementation
+     * Input:
+     * - valid java rule context
+     * Output
+     * - General exception
+     * Expectation:
+     * - NOT call internalExecute
+     */
+    @Test
+    public void withoutArgumentsBinderTest() throws GeneralException {
+        JavaRuleContext javaRuleContext = new JavaRuleContext(this.sailPointContext, Collections.emptyMap());
+        assertThrows(GeneralException.class, () -> this.abstractJavaRuleExecutor.execute(javaRuleContext));
+        verify(abstractJavaRuleExecutor, never()).internalExecute(any(), any());
+    }
+
+    /**
+     * Test of batch execution
+     * Input:
+     * - valid sailpoint context
+     * - batch of 3 arguments
+     * Output
+     * - results of internalExecute for each record
+     * Expectation:
+     * - call validation only once
+     * - call arguments validation for each record
+     * - results are in the same order as arguments
+     */
+    @Test
+    public void executeBatchTest() throws GeneralException {
+        List<Map<String, Object>> argumentsBatch = Arrays.asList(
+                Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()),
+                Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()),
+                Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+        doAnswer(invocation -> ((JavaRuleContext) invocation.getArgument(0)).getArguments())
+                .when(abstractJavaRuleExecutor).buildContainerArguments(any());
+        doAnswer(invocation -> invocation.getArgument(1))
+                .when(abstractJavaRuleExecutor).internalExecute(any(), any());
+
+        assertEquals("Expected results of batch execution are not match", argumentsBatch,
+                this.abstractJavaRuleExecutor.executeBatch(this.sailPointContext, argumentsBatch));
+        verify(abstractJavaRuleExecutor).validate(any());
+        verify(abstractJavaRuleExecutor, times(argumentsBatch.size())).validateArguments(any());
+        verify(abstractJavaRuleExecutor, times(argumentsBatch.size())).internalExecute(any(), any());
+    }
+
+    /**
+     * Test of empty batch execution
+     * Input:
+     * - empty batch
+     * Output
+     * - empty result
+     * Expectation:
+     * - NOT call validation
+     * - NOT call internalExecute
+     */
+    @Test
+    public void executeEmptyBatchTest() throws GeneralException {
+        assertEquals("Result of empty batch is not empty", Collections.emptyList(),
+                this.abstractJavaRuleExecutor.executeBatch(this.sailPointContext, Collections.emptyList()));
+        verify(abstractJavaRuleExecutor, never()).validate(any());
+        verify(abstractJavaRuleExecutor, never()).internalExecute(any(), any());
+    }
+
+    /**
+     * Test of batch execution with invalid sailpoint context
+     * Input:
+     * - null sailpoint context
+     * Output
+     * - Null pointer exception
+     * Expectation:
+     * - NOT call arguments validation
+     * - NOT call internalExecute
+     */
+    @Test
+    public void executeBatchNullSailPointContextTest() throws GeneralException {
+        List<Map<String, Object>> argumentsBatch = Collections.singletonList(Collections.emptyMap());
+        assertThrows(NullPointerException.class,
+                () -> this.abstractJavaRuleExecutor.executeBatch(null, argumentsBatch));
+        verify(abstractJavaRuleExecutor, never()).validateArguments(any());
+        verify(abstractJavaRuleExecutor, never()).internalExecute(any(), any());
+    }
+
+    /**
+     * Test of batch execution with wrong count of results
+     * Input:
+     * - batch of 2 arguments
+     * - internalExecuteBatch returns empty list
+     * Output
+     * - General exception
+     */
+    @Test
+    public void executeBatchResultSizeTest() throws GeneralException {
+        List<Map<String, Object>> argumentsBatch = Arrays.asList(Collections.emptyMap(), Collections.emptyMap());
+        doReturn(null).when(abstractJavaRuleExecutor).buildContainerArguments(any());
+        doReturn(Collections.emptyList()).when(abstractJavaRuleExecutor).internalExecuteBatch(any(), any());
+        assertThrows(GeneralException.class,
+                () -> this.abstractJavaRuleExecutor.executeBatch(this.sailPointContext, argumentsBatch));
+    }
+
+    /**
+     * Test of memoized rule execution
+     * Input:
+     * - rule marked by {@link Memoized} with key argument
+     * - 2 calls with the same key argument and different other argument
+     * - 1 call with other key argument
+     * Output
+     * - rule results
+     * Expectation:
+     * - internal execution is called once per key argument
+     * - 1 cache hit and 2 misses
+     */
+    @Test
+    public void memoizedRuleTest() throws GeneralException {
+        MemoizedRule memoizedRule = new MemoizedRule();
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put(MemoizedRule.ARG_KEY, UUID.randomUUID().toString());
+        arguments.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        Object result = memoizedRule.execute(new JavaRuleContext(this.sailPointContext, arguments));
+        arguments.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        assertEquals("Cached result is not match", result,
+                memoizedRule.execute(new JavaRuleContext(this.sailPointContext, arguments)));
+        assertEquals("Internal execution is called more than once", 1, memoizedRule.executions);
+
+        arguments.put(MemoizedRule.ARG_KEY, UUID.randomUUID().toString());
+        memoizedRule.execute(new JavaRuleContext(this.sailPointContext, arguments));
+        assertEquals("Internal execution is not called for new key", 2, memoizedRule.executions);
+        assertEquals("Cache hits are not match", 1, memoizedRule.getResultCache().getStats().getHits());
+        assertEquals("Cache misses are not match", 2, memoizedRule.getResultCache().getStats().getMisses());
+        assertNull("Not memoized rule has cache", this.abstractJavaRuleExecutor.getResultCache());
+    }
+
+    /**
+     * Test rule with reusable arguments container
+     */
+    @ReusableArguments
+    public abstract static class ReusableRule extends AbstractJavaRuleExecutor<Object, Object> {
+
+        /**
+         * Constructor with arguments binder
+         *
+         * @param ruleType          - rule type value
+         * @param noneNullArguments - list of arguments for none null checking
+         * @param argumentsBinder   - arguments container binder
+         */
+        public ReusableRule(String ruleType, List<String> noneNullArguments, ArgumentsBinder<Object> argumentsBinder) {
+            super(ruleType, noneNullArguments, argumentsBinder);
+        }
+    }
+
+    /**
+     * Test memoized rule: returns new object for each internal execution
+     */
+    @Memoized(arguments = MemoizedRule.ARG_KEY)
+    public static class MemoizedRule extends AbstractJavaRuleExecutor<Object, Map<String, Object>> {
+
+        /**
+         * Name of key argument
+         */
+        public static final String ARG_KEY = "key";
+
+        /**
+         * Count of internal executions
+         */
+        private int executions;
+
+        /**
+         * Default constructor
+         */
+        public MemoizedRule() {
+            super(MemoizedRule.class.getSimpleName(), null);
+        }
+
+        /**
+         * Use raw arguments as container
+         *
+         * @param javaRuleContext - current rule context
+         * @return raw arguments
+         */
+        @Override
+        protected Map<String, Object> buildContainerArguments(JavaRuleContext javaRuleContext) {
+            return javaRuleContext.getArguments();
+        }
+
+        /**
+         * Return new object
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return new object
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext, Map<String, Object> containerArguments) {
+            executions++;
+            return new Object();
+        }
+    }
 }
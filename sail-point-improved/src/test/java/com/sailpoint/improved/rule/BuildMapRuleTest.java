@@ -1,6 +1,8 @@
 package com.sailpoint.improved.rule;
 
 import com.sailpoint.improved.rule.connector.BuildMapRule;
+import com.sailpoint.improved.rule.connector.delta.DeltaAggregation;
+import com.sailpoint.improved.rule.connector.file.SchemaRecordMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -12,6 +14,9 @@ import sailpoint.object.Rule;
 import sailpoint.object.Schema;
 import sailpoint.tools.GeneralException;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +24,10 @@ import java.util.UUID;
 
 import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
@@ -135,6 +144,108 @@ public class BuildMapRuleTest {
         assertEquals("Rule type is not match", Rule.Type.BuildMap.name(), buildMapRule.getRuleType());
     }
 
+    /**
+     * Test of record mapper caching
+     * Input:
+     * - rule which builds map by record mapper
+     * - 2 calls with the same schema and columns, 1 call with new columns
+     * Output:
+     * - maps of records
+     * Expectation:
+     * - mapper is compiled once for the same schema and columns and put to state
+     * - mapper is compiled again for new columns
+     */
+    @Test
+    public void recordMapperTest() throws GeneralException {
+        BuildMapRule testRule = new RecordMapperRule();
+        Map<String, Object> state = new HashMap<>();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        testRuleContext.getArguments().put(BuildMapRule.ARG_STATE, state);
+        testRuleContext.getArguments().put(BuildMapRule.ARG_COLUMNS, Collections.singletonList("id"));
+        testRuleContext.getArguments().put(BuildMapRule.ARG_RECORD, Collections.singletonList("1"));
+
+        assertEquals("Map is not match", Collections.singletonMap("id", "1"), testRule.execute(testRuleContext));
+        Object recordMapper = state.get(BuildMapRule.STATE_RECORD_MAPPER);
+        assertTrue("Mapper is not in state", recordMapper instanceof SchemaRecordMapper);
+        assertEquals("Map is not match", Collections.singletonMap("id", "1"), testRule.execute(testRuleContext));
+        assertSame("Mapper is compiled again", recordMapper, state.get(BuildMapRule.STATE_RECORD_MAPPER));
+
+        testRuleContext.getArguments().put(BuildMapRule.ARG_COLUMNS, Collections.singletonList("name"));
+        assertEquals("Map is not match", Collections.singletonMap("name", "1"), testRule.execute(testRuleContext));
+        assertNotSame("Mapper is not compiled for new columns", recordMapper,
+                state.get(BuildMapRule.STATE_RECORD_MAPPER));
+    }
+
+    /**
+     * Test of skipping unchanged records by delta aggregation
+     * Input:
+     * - rule which returns null for unchanged record
+     * - delta aggregation with empty index, the same record checked in the next aggregation
+     * Output:
+     * - map in the first aggregation, null in the second one
+     */
+    @Test
+    public void unchangedRecordTest() throws GeneralException, IOException {
+        File indexFile = File.createTempFile("delta", ".idx");
+        indexFile.deleteOnExit();
+        Files.delete(indexFile.toPath());
+        BuildMapRule testRule = new DeltaRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        Schema schema = new Schema();
+        schema.setIdentityAttribute("id");
+        testRuleContext.getArguments().put(BuildMapRule.ARG_APPLICATION, application);
+        testRuleContext.getArguments().put(BuildMapRule.ARG_SCHEMA, schema);
+        testRuleContext.getArguments().put(BuildMapRule.ARG_STATE, new HashMap<>());
+        testRuleContext.getArguments().put(BuildMapRule.ARG_COLUMNS, Collections.singletonList("id"));
+        testRuleContext.getArguments().put(BuildMapRule.ARG_RECORD, Collections.singletonList("1"));
+
+        DeltaAggregation.begin(application.getName(), indexFile.toPath());
+        assertEquals("Map is not match", Collections.singletonMap("id", "1"), testRule.execute(testRuleContext));
+        DeltaAggregation.end(application.getName()).commit();
+
+        DeltaAggregation.begin(application.getName(), indexFile.toPath());
+        assertNull("Unchanged record is not skipped", testRule.execute(testRuleContext));
+        DeltaAggregation.end(application.getName());
+    }
+
+    /**
+     * Test of failed record of delta aggregation
+     * Input:
+     * - rule which fails after check of record
+     * - delta aggregation with empty index, the same record checked in the next aggregation
+     * Output:
+     * - General exception in the first aggregation, map in the second one
+     * Expectation:
+     * - fingerprint of failed record is not committed
+     */
+    @Test
+    public void failedRecordTest() throws GeneralException, IOException {
+        File indexFile = File.createTempFile("delta", ".idx");
+        indexFile.deleteOnExit();
+        Files.delete(indexFile.toPath());
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        Schema schema = new Schema();
+        schema.setIdentityAttribute("id");
+        testRuleContext.getArguments().put(BuildMapRule.ARG_APPLICATION, application);
+        testRuleContext.getArguments().put(BuildMapRule.ARG_SCHEMA, schema);
+        testRuleContext.getArguments().put(BuildMapRule.ARG_STATE, new HashMap<>());
+        testRuleContext.getArguments().put(BuildMapRule.ARG_COLUMNS, Collections.singletonList("id"));
+        testRuleContext.getArguments().put(BuildMapRule.ARG_RECORD, Collections.singletonList("1"));
+
+        DeltaAggregation.begin(application.getName(), indexFile.toPath());
+        assertThrows(GeneralException.class, () -> new FailedDeltaRule().execute(testRuleContext));
+        DeltaAggregation.end(application.getName()).commit();
+
+        DeltaAggregation.begin(application.getName(), indexFile.toPath());
+        assertEquals("Failed record is skipped", Collections.singletonMap("id", "1"),
+                new DeltaRule().execute(testRuleContext));
+        DeltaAggregation.end(application.getName());
+    }
+
     /**
      * Create valid java rule context for current rule
      *
@@ -149,4 +260,64 @@ public class BuildMapRuleTest {
         ruleParameters.put(BuildMapRule.ARG_COLUMNS, Collections.singletonList(UUID.randomUUID().toString()));
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Test rule which builds map by record mapper
+     */
+    public static class RecordMapperRule extends BuildMapRule {
+
+        /**
+         * Build map of current record
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return map of current record
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      BuildMapRuleArguments containerArguments) {
+            return buildMapFromRecord(containerArguments);
+        }
+    }
+
+    /**
+     * Test rule which skips unchanged records
+     */
+    public static class DeltaRule extends BuildMapRule {
+
+        /**
+         * Build map of changed record
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return map of changed record or null for unchanged one
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      BuildMapRuleArguments containerArguments) {
+            return isUnchangedRecord(containerArguments) ? null : buildMapFromRecord(containerArguments);
+        }
+    }
+
+    /**
+     * Test rule which fails after check of record
+     */
+    public static class FailedDeltaRule extends BuildMapRule {
+
+        /**
+         * Check record and fail
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return nothing
+         * @throws GeneralException - always
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      BuildMapRuleArguments containerArguments)
+                throws GeneralException {
+            isUnchangedRecord(containerArguments);
+            throw new GeneralException("Map can not be built");
+        }
+    }
 }
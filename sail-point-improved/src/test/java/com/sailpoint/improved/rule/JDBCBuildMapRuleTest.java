@@ -1,6 +1,7 @@
 package com.sailpoint.improved.rule;
 
 import com.sailpoint.improved.rule.connector.JDBCBuildMapRule;
+import com.sailpoint.improved.rule.connector.jdbc.ResultSetMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -14,6 +15,8 @@ import sailpoint.tools.GeneralException;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,13 +24,16 @@ import java.util.UUID;
 
 import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for {@link JDBCBuildMapRule} class
@@ -210,6 +216,53 @@ public class JDBCBuildMapRuleTest {
         assertEquals("Rule type is not match", Rule.Type.JDBCBuildMap.name(), jdbcBuildMapRule.getRuleType());
     }
 
+    /**
+     * Test of result set mapper caching
+     * Input:
+     * - rule which builds map by result set mapper
+     * - 2 calls with the same result set, 1 call with new result set
+     * Output:
+     * - maps of rows
+     * Expectation:
+     * - mapper is put to state
+     * - metadata of the same result set is read once
+     */
+    @Test
+    public void resultSetMapperTest() throws GeneralException, SQLException {
+        JDBCBuildMapRule testRule = new ResultSetMapperRule();
+        Map<String, Object> state = new HashMap<>();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        testRuleContext.getArguments().put(JDBCBuildMapRule.ARG_STATE, state);
+        ResultSet resultSet = buildTestResultSet();
+        testRuleContext.getArguments().put(JDBCBuildMapRule.ARG_RESULT_SET, resultSet);
+
+        assertEquals("Map is not match", Collections.singletonMap("id", "1"), testRule.execute(testRuleContext));
+        assertEquals("Map is not match", Collections.singletonMap("id", "1"), testRule.execute(testRuleContext));
+        assertTrue("Mapper is not in state", state.get(JDBCBuildMapRule.STATE_RESULT_SET_MAPPER) instanceof
+                ResultSetMapper);
+        verify(resultSet, times(1)).getMetaData();
+
+        ResultSet newResultSet = buildTestResultSet();
+        testRuleContext.getArguments().put(JDBCBuildMapRule.ARG_RESULT_SET, newResultSet);
+        assertEquals("Map is not match", Collections.singletonMap("id", "1"), testRule.execute(testRuleContext));
+        verify(newResultSet, times(1)).getMetaData();
+    }
+
+    /**
+     * Create mock of result set with one column "id"
+     *
+     * @return mock of result set
+     */
+    private ResultSet buildTestResultSet() throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("id");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.getString(1)).thenReturn("1");
+        return resultSet;
+    }
+
     /**
      * Create valid java rule context for current rule
      *
@@ -224,4 +277,25 @@ public class JDBCBuildMapRuleTest {
         ruleParameters.put(JDBCBuildMapRule.ARG_CONNECTION, mock(Connection.class));
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Test rule which builds map by result set mapper
+     */
+    public static class ResultSetMapperRule extends JDBCBuildMapRule {
+
+        /**
+         * Build map of current row
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return map of current row
+         * @throws GeneralException - row can not be mapped
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      JDBCBuildMapRuleArguments containerArguments)
+                throws GeneralException {
+            return buildMapFromResultSet(containerArguments);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.sailpoint.improved.rule;
 
 import com.sailpoint.improved.rule.connector.PeopleSoftHRMSBuildMapRule;
+import com.sailpoint.improved.rule.connector.peoplesoft.PrefetchQuery;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -14,8 +15,14 @@ import sailpoint.object.Schema;
 import sailpoint.tools.GeneralException;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -23,11 +30,15 @@ import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for {@link PeopleSoftHRMSBuildMapRule} class
@@ -144,6 +155,72 @@ public class PeopleSoftHRMSBuildMapRuleTest {
         assertEquals("Rule type is not match", Rule.Type.PeopleSoftHRMSBuildMap.name(), testRule.getRuleType());
     }
 
+    /**
+     * Test of prefetched tables
+     * Input:
+     * - table with one row of employee 1 and two rows of employee 2
+     * - rule which puts department of the first row and list of jobs
+     * Output:
+     * - maps of employees
+     * Expectation:
+     * - each query is executed once for two executions
+     */
+    @Test
+    public void prefetchTest() throws GeneralException, SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> buildJobStatement());
+        Map<String, Object> state = new HashMap<>();
+        PeopleSoftHRMSBuildMapRule testRule = new PrefetchRule();
+
+        Map<String, Object> firstMap = testRule.execute(buildPrefetchRuleContext(connection, state, "1"));
+        assertEquals("Department is not match", "IT", firstMap.get("DEPTID"));
+        assertEquals("Jobs count is not match", 1, ((List) firstMap.get(PrefetchRule.JOBS_ATTRIBUTE)).size());
+        Map<String, Object> secondMap = testRule.execute(buildPrefetchRuleContext(connection, state, "2"));
+        assertEquals("Department is not match", "HR", secondMap.get("DEPTID"));
+        assertEquals("Jobs count is not match", 2, ((List) secondMap.get(PrefetchRule.JOBS_ATTRIBUTE)).size());
+        verify(connection, times(2)).prepareStatement(anyString(), anyInt(), anyInt());
+    }
+
+    /**
+     * Create statement of job table with one row of employee 1 and two rows of employee 2
+     *
+     * @return mock of statement
+     * @throws SQLException - never
+     */
+    private PreparedStatement buildJobStatement() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("EMPLID");
+        when(metaData.getColumnLabel(2)).thenReturn("DEPTID");
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("1", "2", "2");
+        when(resultSet.getObject(2)).thenReturn("IT", "HR", "QA");
+        return statement;
+    }
+
+    /**
+     * Create rule context of prefetch rule
+     *
+     * @param connection - database connection
+     * @param state      - state of aggregation
+     * @param identity   - name of identity
+     * @return rule context with mutable map
+     */
+    private JavaRuleContext buildPrefetchRuleContext(Connection connection, Map<String, Object> state,
+                                                     String identity) {
+        JavaRuleContext javaRuleContext = buildTestJavaRuleContext();
+        javaRuleContext.getArguments().put(PeopleSoftHRMSBuildMapRule.ARG_CONNECTION, connection);
+        javaRuleContext.getArguments().put(PeopleSoftHRMSBuildMapRule.ARG_STATE, state);
+        javaRuleContext.getArguments().put(PeopleSoftHRMSBuildMapRule.ARG_IDENTITY, identity);
+        javaRuleContext.getArguments().put(PeopleSoftHRMSBuildMapRule.ARG_MAP, new HashMap<>());
+        return javaRuleContext;
+    }
+
     /**
      * Create valid java rule context for current rule
      *
@@ -162,4 +239,45 @@ public class PeopleSoftHRMSBuildMapRuleTest {
                 Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID()));
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Rule which puts department of the first job row and list of job rows
+     */
+    public static class PrefetchRule extends PeopleSoftHRMSBuildMapRule {
+
+        /**
+         * Name of jobs attribute
+         */
+        public static final String JOBS_ATTRIBUTE = "jobs";
+        /**
+         * Queries of prefetched tables
+         */
+        private static final List<PrefetchQuery> PREFETCH_QUERIES = Arrays.asList(
+                PrefetchQuery.builder()
+                        .name("department")
+                        .sql("SELECT EMPLID, DEPTID FROM PS_JOB")
+                        .keyColumn("EMPLID")
+                        .build(),
+                PrefetchQuery.builder()
+                        .name(JOBS_ATTRIBUTE)
+                        .sql("SELECT EMPLID, DEPTID FROM PS_JOB")
+                        .keyColumn("EMPLID")
+                        .attribute(JOBS_ATTRIBUTE)
+                        .build());
+
+        /**
+         * Build map from prefetched tables
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return map of identity
+         * @throws GeneralException - tables can not be prefetched
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      PeopleSoftHRMSBuildMapRuleArguments containerArguments)
+                throws GeneralException {
+            return buildMapFromPrefetched(containerArguments, PREFETCH_QUERIES);
+        }
+    }
 }
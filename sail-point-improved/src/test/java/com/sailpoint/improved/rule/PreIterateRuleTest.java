@@ -1,6 +1,7 @@
 package com.sailpoint.improved.rule;
 
 import com.sailpoint.improved.rule.connector.PreIterateRule;
+import com.sailpoint.improved.rule.connector.delta.DeltaAggregation;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -10,15 +11,18 @@ import sailpoint.object.Application;
 import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.object.Schema;
+import sailpoint.object.TaskDefinition;
 import sailpoint.tools.GeneralException;
 
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
@@ -26,6 +30,7 @@ import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for {@link PreIterateRule} class
@@ -124,6 +129,55 @@ public class PreIterateRuleTest {
         assertEquals("Rule type is not match", Rule.Type.PreIterate.name(), testRule.getRuleType());
     }
 
+    /**
+     * Test of delta aggregation of application with detection of deleted accounts
+     * Input:
+     * - aggregation task of application which detects deleted accounts
+     * Output:
+     * - General exception
+     * Expectation:
+     * - delta aggregation is not begun
+     */
+    @Test
+    public void deleteDetectionTest() throws GeneralException {
+        PreIterateRule testRule = new DeltaRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        testRuleContext.getArguments().put(PreIterateRule.ARG_APPLICATION, application);
+        TaskDefinition taskDefinition = new TaskDefinition();
+        taskDefinition.setName("Aggregation");
+        taskDefinition.setArgument(PreIterateRule.TASK_ARG_APPLICATIONS, "Other," + application.getName());
+        taskDefinition.setArgument(PreIterateRule.TASK_ARG_CHECK_DELETED, "true");
+        when(sailPointContext.getObjects(eq(TaskDefinition.class), any()))
+                .thenReturn(Collections.singletonList(taskDefinition));
+
+        assertThrows(GeneralException.class, () -> testRule.execute(testRuleContext));
+        assertNull("Delta aggregation is begun", DeltaAggregation.get(application.getName()));
+    }
+
+    /**
+     * Test of delta aggregation of application with merged rows
+     * Input:
+     * - application which merges rows of the same identity
+     * Output:
+     * - General exception
+     * Expectation:
+     * - delta aggregation is not begun
+     */
+    @Test
+    public void mergeRowsTest() throws GeneralException {
+        PreIterateRule testRule = new DeltaRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        application.setAttribute(PreIterateRule.CONFIG_MERGE_ROWS, true);
+        testRuleContext.getArguments().put(PreIterateRule.ARG_APPLICATION, application);
+
+        assertThrows(GeneralException.class, () -> testRule.execute(testRuleContext));
+        assertNull("Delta aggregation is begun", DeltaAggregation.get(application.getName()));
+    }
+
     /**
      * Create valid java rule context for current rule
      *
@@ -136,4 +190,25 @@ public class PreIterateRuleTest {
         ruleParameters.put(PreIterateRule.ARG_STATS, Collections.emptyMap());
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Test rule which begins delta aggregation
+     */
+    public static class DeltaRule extends PreIterateRule {
+
+        /**
+         * Begin delta aggregation
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return null, input stream is not replaced
+         * @throws GeneralException - delta aggregation can not be begun
+         */
+        @Override
+        protected InputStream internalExecute(JavaRuleContext javaRuleContext,
+                                              PreIterateRuleArguments containerArguments) throws GeneralException {
+            beginDeltaAggregation(javaRuleContext, containerArguments);
+            return null;
+        }
+    }
 }
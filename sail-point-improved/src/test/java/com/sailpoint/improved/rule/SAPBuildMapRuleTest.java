@@ -1,7 +1,9 @@
 package com.sailpoint.improved.rule;
 
 import com.sailpoint.improved.rule.connector.SAPBuildMapRule;
+import com.sailpoint.improved.rule.connector.sap.JCoBatchCall;
 import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -15,8 +17,11 @@ import sailpoint.object.Rule;
 import sailpoint.object.Schema;
 import sailpoint.tools.GeneralException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.sailpoint.improved.JUnit4Helper.assertThrows;
@@ -28,6 +33,7 @@ import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for {@link SAPBuildMapRule} class
@@ -140,6 +146,106 @@ public class SAPBuildMapRuleTest {
         assertEquals("Rule type is not match", Rule.Type.SAPBuildMap.name(), testRule.getRuleType());
     }
 
+    /**
+     * Test of batch call
+     * Input:
+     * - batch of two objects with user names
+     * - rule which puts roles of batch call to objects
+     * Output:
+     * - objects with roles
+     * Expectation:
+     * - one batch call with user names of all objects
+     */
+    @Test
+    public void batchCallTest() throws GeneralException, JCoException {
+        JCoBatchCall batchCall = mock(JCoBatchCall.class);
+        List<Map<String, Object>> argumentsBatch = new ArrayList<>();
+        List<Attributes> objects = new ArrayList<>();
+        for (String userName : Arrays.asList("1", "2")) {
+            Attributes object = mock(Attributes.class);
+            when(object.getString(BatchCallRule.KEY_ATTRIBUTE)).thenReturn(userName);
+            objects.add(object);
+            Map<String, Object> ruleParameters = buildTestJavaRuleContext().getArguments();
+            ruleParameters.put(SAPBuildMapRule.ARG_OBJECT, object);
+            argumentsBatch.add(ruleParameters);
+        }
+        List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("ROLE", "admins"));
+        when(batchCall.execute(any(), eq(Arrays.asList("1", "2")))).thenReturn(Collections.singletonMap("1", rows));
+
+        assertEquals("Objects are not match", objects,
+                new BatchCallRule(batchCall).executeBatch(sailPointContext, argumentsBatch));
+        verify(objects.get(0)).put(BatchCallRule.ROLES_ATTRIBUTE, rows);
+        verify(objects.get(1), never()).put(eq(BatchCallRule.ROLES_ATTRIBUTE), any());
+        verify(batchCall).execute(any(), any());
+    }
+
+    /**
+     * Test of prefetched batch call of objects executed one by one
+     * Input:
+     * - two objects with user names executed one by one with the same state
+     * - batch call with key list of both user names
+     * Output:
+     * - objects with roles
+     * Expectation:
+     * - one batch call with user names of both objects
+     */
+    @Test
+    public void prefetchCallTest() throws GeneralException, JCoException {
+        JCoBatchCall batchCall = mock(JCoBatchCall.class);
+        List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("ROLE", "admins"));
+        when(batchCall.getFunctionName()).thenReturn("Z_USER_ROLES");
+        when(batchCall.getBatchSize()).thenReturn(JCoBatchCall.DEFAULT_BATCH_SIZE);
+        when(batchCall.loadKeys(any())).thenReturn(Arrays.asList("1", "2"));
+        when(batchCall.execute(any(), eq(Arrays.asList("1", "2")))).thenReturn(Collections.singletonMap("2", rows));
+        BatchCallRule batchCallRule = new BatchCallRule(batchCall);
+        Map<String, Object> state = new HashMap<>();
+        List<Attributes> objects = new ArrayList<>();
+        for (String userName : Arrays.asList("1", "2")) {
+            Attributes object = mock(Attributes.class);
+            when(object.getString(BatchCallRule.KEY_ATTRIBUTE)).thenReturn(userName);
+            objects.add(object);
+            JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+            testRuleContext.getArguments().put(SAPBuildMapRule.ARG_STATE, state);
+            testRuleContext.getArguments().put(SAPBuildMapRule.ARG_OBJECT, object);
+            batchCallRule.execute(testRuleContext);
+        }
+
+        verify(objects.get(0)).put(BatchCallRule.ROLES_ATTRIBUTE, Collections.emptyList());
+        verify(objects.get(1)).put(BatchCallRule.ROLES_ATTRIBUTE, rows);
+        verify(batchCall).execute(any(), any());
+    }
+
+    /**
+     * Test of prefetched batch calls of the same function with other configuration
+     * Input:
+     * - two batch calls of the same function with own key lists executed with the same state
+     * Output:
+     * - object with rows of each batch call
+     * Expectation:
+     * - each batch call is executed by own prefetcher
+     */
+    @Test
+    public void prefetchCallsOfSameFunctionTest() throws GeneralException, JCoException {
+        Map<String, Object> state = new HashMap<>();
+        Attributes object = mock(Attributes.class);
+        when(object.getString(BatchCallRule.KEY_ATTRIBUTE)).thenReturn("1");
+        for (String role : Arrays.asList("admins", "users")) {
+            JCoBatchCall batchCall = mock(JCoBatchCall.class);
+            List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("ROLE", role));
+            when(batchCall.getFunctionName()).thenReturn("Z_USER_ROLES");
+            when(batchCall.getBatchSize()).thenReturn(JCoBatchCall.DEFAULT_BATCH_SIZE);
+            when(batchCall.loadKeys(any())).thenReturn(Collections.singletonList("1"));
+            when(batchCall.execute(any(), any())).thenReturn(Collections.singletonMap("1", rows));
+            JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+            testRuleContext.getArguments().put(SAPBuildMapRule.ARG_STATE, state);
+            testRuleContext.getArguments().put(SAPBuildMapRule.ARG_OBJECT, object);
+            new BatchCallRule(batchCall).execute(testRuleContext);
+
+            verify(object).put(BatchCallRule.ROLES_ATTRIBUTE, rows);
+            verify(batchCall).execute(any(), any());
+        }
+    }
+
     /**
      * Create valid java rule context for current rule
      *
@@ -155,4 +261,74 @@ public class SAPBuildMapRuleTest {
         ruleParameters.put(SAPBuildMapRule.ARG_CONNECTOR, mock(SAPInternalConnector.class));
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Rule which puts roles of batch call to objects
+     */
+    public static class BatchCallRule extends SAPBuildMapRule {
+
+        /**
+         * Name of key attribute
+         */
+        public static final String KEY_ATTRIBUTE = "userName";
+        /**
+         * Name of roles attribute
+         */
+        public static final String ROLES_ATTRIBUTE = "roles";
+
+        /**
+         * Batch call of roles
+         */
+        private final JCoBatchCall batchCall;
+
+        /**
+         * Constructor with batch call
+         *
+         * @param batchCall - batch call of roles
+         */
+        public BatchCallRule(JCoBatchCall batchCall) {
+            this.batchCall = batchCall;
+        }
+
+        /**
+         * Put roles of single call to object
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return object with roles
+         * @throws GeneralException - call error
+         */
+        @Override
+        protected Attributes internalExecute(JavaRuleContext javaRuleContext,
+                                             SAPBuildMapRuleArguments containerArguments) throws GeneralException {
+            containerArguments.getObject().put(ROLES_ATTRIBUTE,
+                    executeBatchCall(containerArguments, batchCall, KEY_ATTRIBUTE));
+            return containerArguments.getObject();
+        }
+
+        /**
+         * Put roles of batch call to objects
+         *
+         * @param javaRuleContexts    - java rule contexts of batch
+         * @param containersArguments - argument containers of batch
+         * @return objects with roles
+         * @throws GeneralException - call error
+         */
+        @Override
+        protected List<Attributes> internalExecuteBatch(List<JavaRuleContext> javaRuleContexts,
+                                                        List<SAPBuildMapRuleArguments> containersArguments)
+                throws GeneralException {
+            Map<String, List<Map<String, Object>>> rowsByKey = executeBatchCall(containersArguments, batchCall,
+                    KEY_ATTRIBUTE);
+            List<Attributes> objects = new ArrayList<>();
+            for (SAPBuildMapRuleArguments containerArguments : containersArguments) {
+                List<Map<String, Object>> rows = rowsByKey.get(containerArguments.getObject().getString(KEY_ATTRIBUTE));
+                if (rows != null) {
+                    containerArguments.getObject().put(ROLES_ATTRIBUTE, rows);
+                }
+                objects.add(containerArguments.getObject());
+            }
+            return objects;
+        }
+    }
 }
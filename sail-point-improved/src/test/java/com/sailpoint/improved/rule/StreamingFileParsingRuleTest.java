@@ -0,0 +1,379 @@
+package com.sailpoint.improved.rule;
+
+import com.sailpoint.improved.rule.connector.FileParsingRule;
+import com.sailpoint.improved.rule.connector.StreamingFileParsingRule;
+import com.sailpoint.improved.rule.connector.file.RecordCursor;
+import com.sailpoint.improved.rule.connector.file.StreamingFileParser;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Application;
+import sailpoint.object.Attributes;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.object.Schema;
+import sailpoint.tools.GeneralException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link StreamingFileParsingRule} class
+ */
+public class StreamingFileParsingRuleTest {
+
+    /**
+     * Test file content
+     */
+    private static final String TEST_CONTENT = "id|name|department\n1|\"Smith| John\"|IT\n2|Jane|HR\n";
+
+    /**
+     * Test instance of {@link StreamingFileParsingRule}
+     */
+    private StreamingFileParsingRule testRule;
+
+    /**
+     * Mock of {@link SailPointContext}
+     */
+    private SailPointContext sailPointContext;
+
+    /**
+     * Init {@link StreamingFileParsingRuleTest#testRule} and {@link StreamingFileParsingRuleTest#sailPointContext}
+     */
+    @Before
+    public void init() {
+        this.sailPointContext = mock(SailPointContext.class);
+        this.testRule = mock(StreamingFileParsingRule.class,
+                Mockito.withSettings().useConstructor().defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+    /**
+     * Test of local file parsing
+     * Input:
+     * - local file with header and '|' delimiter
+     * - schema with attributes: id, name
+     * Output:
+     * - records of file, then null
+     * Expectation:
+     * - only schema attributes are in records
+     * - parser is removed from state after the last record
+     */
+    @Test
+    public void localFileTest() throws GeneralException, IOException {
+        File file = File.createTempFile("streaming", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), TEST_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Attributes<String, Object> config = buildTestConfig();
+        config.put(StreamingFileParsingRule.CONFIG_FILE, file.getAbsolutePath());
+        config.put(StreamingFileParsingRule.CONFIG_MAP_LOCAL_FILE, true);
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext(config);
+
+        assertEquals("Record is not match", buildRecord("1", "Smith| John"), testRule.execute(testRuleContext));
+        assertTrue("Parser is not in state", getState(testRuleContext)
+                .containsKey(StreamingFileParsingRule.STATE_PARSER));
+        assertEquals("Record is not match", buildRecord("2", "Jane"), testRule.execute(testRuleContext));
+        assertNull("Record after end of file", testRule.execute(testRuleContext));
+        assertFalse("Parser is not removed from state", getState(testRuleContext)
+                .containsKey(StreamingFileParsingRule.STATE_PARSER));
+    }
+
+    /**
+     * Test of parallel parsing of local file
+     * Input:
+     * - local file with header and '|' delimiter
+     * - 2 threads for parallel parsing
+     * Output:
+     * - records of file in file order, then null
+     * Expectation:
+     * - parser is removed from state after the last record
+     */
+    @Test
+    public void parallelTest() throws GeneralException, IOException {
+        File file = File.createTempFile("streaming", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), TEST_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Attributes<String, Object> config = buildTestConfig();
+        config.put(StreamingFileParsingRule.CONFIG_FILE, file.getAbsolutePath());
+        config.put(StreamingFileParsingRule.CONFIG_MAP_LOCAL_FILE, true);
+        config.put(StreamingFileParsingRule.CONFIG_PARALLEL_THREADS, 2);
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext(config);
+
+        assertEquals("Record is not match", buildRecord("1", "Smith| John"), testRule.execute(testRuleContext));
+        assertEquals("Record is not match", buildRecord("2", "Jane"), testRule.execute(testRuleContext));
+        assertNull("Record after end of file", testRule.execute(testRuleContext));
+        assertFalse("Parser is not removed from state", getState(testRuleContext)
+                .containsKey(StreamingFileParsingRule.STATE_PARSER));
+    }
+
+    /**
+     * Test of closing parser of stopped iteration
+     * Input:
+     * - parser with more records
+     * - iteration is stopped after the first record
+     * Output:
+     * - the first record
+     * Expectation:
+     * - parser is not closed by the first record
+     * - parser is closed by application name, e.g. by PostIterate rule
+     * - parser of other application is not closed
+     * - parser is closed by state
+     */
+    @Test
+    public void stoppedIterationTest() throws GeneralException, IOException {
+        StreamingFileParser parser = mock(StreamingFileParser.class);
+        when(parser.next()).thenReturn(mock(RecordCursor.class));
+        StreamingFileParsingRule stoppedRule = new MockParserRule(parser, buildRecord("1", "Smith| John"));
+        Application application = new Application();
+        application.setName("StreamingFileParsingRuleTest");
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext(buildTestConfig());
+        testRuleContext.getArguments().put(FileParsingRule.ARG_APPLICATION, application);
+
+        assertEquals("Record is not match", buildRecord("1", "Smith| John"),
+                stoppedRule.execute(testRuleContext));
+        verify(parser, never()).close();
+        StreamingFileParsingRule.closeStreamingParser("OtherApplication");
+        verify(parser, never()).close();
+        StreamingFileParsingRule.closeStreamingParser(application.getName());
+        verify(parser).close();
+
+        StreamingFileParsingRule.closeStreamingParser(getState(testRuleContext));
+        verify(parser, times(2)).close();
+        assertFalse("Parser is not removed from state", getState(testRuleContext)
+                .containsKey(StreamingFileParsingRule.STATE_PARSER));
+    }
+
+    /**
+     * Test of not local file parsing
+     * Input:
+     * - not local file transport
+     * - content in input stream
+     * Output:
+     * - records of input stream, then null
+     */
+    @Test
+    public void inputStreamTest() throws GeneralException {
+        Attributes<String, Object> config = buildTestConfig();
+        config.put(StreamingFileParsingRule.CONFIG_FILE, "/remote/file.csv");
+        config.put(StreamingFileParsingRule.CONFIG_FILE_TRANSPORT, "sftp");
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext(config);
+
+        assertEquals("Record is not match", buildRecord("1", "Smith| John"), testRule.execute(testRuleContext));
+        assertEquals("Record is not match", buildRecord("2", "Jane"), testRule.execute(testRuleContext));
+        assertNull("Record after end of file", testRule.execute(testRuleContext));
+    }
+
+    /**
+     * Test of local file of application with PreIterate rule
+     * Input:
+     * - local file with other records, mapping of local file is enabled
+     * - PreIterate rule of application
+     * - content in input stream
+     * Output:
+     * - records of input stream, then null
+     */
+    @Test
+    public void preIterateRuleTest() throws GeneralException, IOException {
+        File file = File.createTempFile("streaming", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "id|name\n3|Other\n".getBytes(StandardCharsets.UTF_8));
+        Attributes<String, Object> config = buildTestConfig();
+        config.put(StreamingFileParsingRule.CONFIG_FILE, file.getAbsolutePath());
+        config.put(StreamingFileParsingRule.CONFIG_MAP_LOCAL_FILE, true);
+        config.put(StreamingFileParsingRule.CONFIG_PRE_ITERATE_RULE, "PipelinePreIterateRule");
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext(config);
+
+        assertEquals("Record is not match", buildRecord("1", "Smith| John"), testRule.execute(testRuleContext));
+        assertEquals("Record is not match", buildRecord("2", "Jane"), testRule.execute(testRuleContext));
+        assertNull("Record after end of file", testRule.execute(testRuleContext));
+    }
+
+    /**
+     * Test of charset with ASCII bytes in multibyte sequences
+     * Input:
+     * - file encodings: UTF-16, UTF-32, Shift_JIS, GBK, Big5, unknown
+     * Output:
+     * - General exception
+     */
+    @Test
+    public void invalidCharsetTest() {
+        for (String encoding : Arrays.asList("UTF-16", "UTF-32", "Shift_JIS", "GBK", "Big5", "unknown-charset")) {
+            Attributes<String, Object> config = buildTestConfig();
+            config.put(StreamingFileParsingRule.CONFIG_FILE_ENCODING, encoding);
+
+            assertThrows(GeneralException.class, () -> testRule.execute(buildTestJavaRuleContext(config)));
+        }
+    }
+
+    /**
+     * Test of supported charsets
+     * Input:
+     * - local file
+     * - file encodings: UTF-8, US-ASCII, ISO-8859-15, windows-1252
+     * Output:
+     * - records of file
+     */
+    @Test
+    public void charsetTest() throws GeneralException, IOException {
+        File file = File.createTempFile("streaming", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), TEST_CONTENT.getBytes(StandardCharsets.UTF_8));
+        for (String encoding : Arrays.asList("UTF-8", "US-ASCII", "ISO-8859-15", "windows-1252")) {
+            Attributes<String, Object> config = buildTestConfig();
+            config.put(StreamingFileParsingRule.CONFIG_FILE, file.getAbsolutePath());
+            config.put(StreamingFileParsingRule.CONFIG_MAP_LOCAL_FILE, true);
+            config.put(StreamingFileParsingRule.CONFIG_FILE_ENCODING, encoding);
+            JavaRuleContext testRuleContext = buildTestJavaRuleContext(config);
+
+            assertEquals("Record is not match", buildRecord("1", "Smith| John"), testRule.execute(testRuleContext));
+            assertEquals("Record is not match", buildRecord("2", "Jane"), testRule.execute(testRuleContext));
+            assertNull("Record after end of file", testRule.execute(testRuleContext));
+        }
+    }
+
+    /**
+     * Test of invalid delimiter
+     * Input:
+     * - delimiter of several characters
+     * Output:
+     * - General exception
+     */
+    @Test
+    public void invalidDelimiterTest() {
+        Attributes<String, Object> config = buildTestConfig();
+        config.put(StreamingFileParsingRule.CONFIG_DELIMITER, "||");
+
+        assertThrows(GeneralException.class, () -> testRule.execute(buildTestJavaRuleContext(config)));
+    }
+
+    /**
+     * Build test config: '|' delimiter, header
+     *
+     * @return test config
+     */
+    private Attributes<String, Object> buildTestConfig() {
+        Attributes<String, Object> config = new Attributes<>();
+        config.put(StreamingFileParsingRule.CONFIG_DELIMITER, "|");
+        config.put(StreamingFileParsingRule.CONFIG_HAS_HEADER, true);
+        return config;
+    }
+
+    /**
+     * Build expected record
+     *
+     * @param id   - id value
+     * @param name - name value
+     * @return record map
+     */
+    private Map<String, Object> buildRecord(String id, String name) {
+        Map<String, Object> record = new HashMap<>();
+        record.put("id", id);
+        record.put("name", name);
+        return record;
+    }
+
+    /**
+     * Get state of rule context
+     *
+     * @param javaRuleContext - rule context
+     * @return state map
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getState(JavaRuleContext javaRuleContext) {
+        return (Map<String, Object>) javaRuleContext.getArguments().get(FileParsingRule.ARG_STATE);
+    }
+
+    /**
+     * Create valid java rule context with config, test content in input stream and schema with id, name attributes
+     *
+     * @param config - application config
+     * @return valid rule context
+     */
+    private JavaRuleContext buildTestJavaRuleContext(Attributes<String, Object> config) {
+        Schema schema = mock(Schema.class);
+        when(schema.getAttributeNames()).thenReturn(Arrays.asList("id", "name"));
+        BufferedInputStream inputStream = new BufferedInputStream(
+                new ByteArrayInputStream(TEST_CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        Map<String, Object> ruleParameters = new HashMap<>();
+        ruleParameters.put(FileParsingRule.ARG_APPLICATION, new Application());
+        ruleParameters.put(FileParsingRule.ARG_SCHEMA, schema);
+        ruleParameters.put(FileParsingRule.ARG_CONFIG, config);
+        ruleParameters.put(FileParsingRule.ARG_INPUT_STREAM, inputStream);
+        ruleParameters.put(FileParsingRule.ARG_READER, new BufferedReader(new InputStreamReader(inputStream)));
+        ruleParameters.put(FileParsingRule.ARG_STATE, new HashMap<>());
+        return new JavaRuleContext(this.sailPointContext, ruleParameters);
+    }
+
+    /**
+     * Test rule with given parser: builds the same record for each cursor
+     */
+    private static class MockParserRule extends StreamingFileParsingRule {
+
+        /**
+         * Parser of rule
+         */
+        private final StreamingFileParser parser;
+        /**
+         * Record of each cursor
+         */
+        private final Map<String, Object> record;
+
+        /**
+         * Constructor with parser and record
+         *
+         * @param parser - parser of rule
+         * @param record - record of each cursor
+         */
+        private MockParserRule(StreamingFileParser parser, Map<String, Object> record) {
+            this.parser = parser;
+            this.record = record;
+        }
+
+        /**
+         * Get parser of rule
+         *
+         * @param containerArguments - argument container for current rule
+         * @param threads            - count of threads for parallel parsing
+         * @return parser of rule
+         */
+        @Override
+        protected Closeable openParser(FileParsingRuleArguments containerArguments, int threads) {
+            return parser;
+        }
+
+        /**
+         * Get record of rule
+         *
+         * @param containerArguments - argument container for current rule
+         * @param recordCursor       - cursor of current record
+         * @return record of rule
+         */
+        @Override
+        protected Map<String, Object> buildRecord(FileParsingRuleArguments containerArguments,
+                                                  RecordCursor recordCursor) {
+            return record;
+        }
+    }
+}
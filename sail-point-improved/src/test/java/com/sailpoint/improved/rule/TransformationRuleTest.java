@@ -1,5 +1,6 @@
 package com.sailpoint.improved.rule;
 
+import com.sailpoint.annotation.ReusableArguments;
 import com.sailpoint.improved.rule.connector.TransformationRule;
 import org.junit.Before;
 import org.junit.Test;
@@ -13,13 +14,17 @@ import sailpoint.object.Rule;
 import sailpoint.object.Schema;
 import sailpoint.tools.GeneralException;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
@@ -116,6 +121,41 @@ public class TransformationRuleTest {
         }
     }
 
+    /**
+     * Test execution of rule with reusable arguments container
+     * Input:
+     * - two valid rule contexts
+     * - rule context without none-null argument
+     * Output:
+     * - General exception for rule context without none-null argument
+     * Expectation:
+     * - the same arguments container is refilled for each call
+     * - arguments container is cleared after call
+     */
+    @Test
+    public void reusableArgumentsTest() throws GeneralException {
+        ReusableTransformationRule reusableRule = new ReusableTransformationRule();
+        JavaRuleContext firstRuleContext = buildTestJavaRuleContext();
+        JavaRuleContext secondRuleContext = buildTestJavaRuleContext();
+
+        reusableRule.execute(firstRuleContext);
+        reusableRule.execute(secondRuleContext);
+
+        assertSame("Arguments container is not reused", reusableRule.containers.get(0),
+                reusableRule.containers.get(1));
+        assertEquals("Object of first call is not match",
+                firstRuleContext.getArguments().get(TransformationRule.ARG_OBJECT), reusableRule.objects.get(0));
+        assertEquals("Object of second call is not match",
+                secondRuleContext.getArguments().get(TransformationRule.ARG_OBJECT), reusableRule.objects.get(1));
+        assertNull("Arguments container is not cleared", reusableRule.containers.get(0).getApplication());
+        assertNull("Arguments container is not cleared", reusableRule.containers.get(0).getObject());
+
+        JavaRuleContext invalidRuleContext = buildTestJavaRuleContext();
+        invalidRuleContext.getArguments().remove(TransformationRule.ARG_OBJECT);
+        assertThrows(GeneralException.class, () -> reusableRule.execute(invalidRuleContext));
+        assertEquals("Internal execution is called for invalid arguments", 2, reusableRule.objects.size());
+    }
+
     /**
      * Test rule type
      * Input:
@@ -141,4 +181,35 @@ public class TransformationRuleTest {
                 Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID()));
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Test rule with reusable arguments container: stores container and object of each call
+     */
+    @ReusableArguments
+    public static class ReusableTransformationRule extends TransformationRule {
+
+        /**
+         * Arguments containers of calls
+         */
+        private final List<TransformationRuleArguments> containers = new ArrayList<>();
+        /**
+         * Objects of calls
+         */
+        private final List<Map<String, Object>> objects = new ArrayList<>();
+
+        /**
+         * Store container and object of current call
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return null
+         */
+        @Override
+        protected ResourceObject internalExecute(JavaRuleContext javaRuleContext,
+                                                 TransformationRuleArguments containerArguments) {
+            containers.add(containerArguments);
+            objects.add(containerArguments.getObject());
+            return null;
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.sailpoint.improved.rule;
 
 import com.sailpoint.improved.rule.connector.WebServiceAfterOperationRule;
+import com.sailpoint.improved.rule.connector.webservice.PageUrlBuilder;
+import com.sailpoint.improved.rule.connector.webservice.ResponseCache;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -13,8 +15,14 @@ import sailpoint.object.JavaRuleContext;
 import sailpoint.object.Rule;
 import sailpoint.tools.GeneralException;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,11 +30,13 @@ import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for {@link WebServiceAfterOperationRule} class
@@ -135,6 +145,114 @@ public class WebServiceAfterOperationRuleTest {
         assertEquals("Rule type is not match", Rule.Type.WebServiceAfterOperationRule.name(), testRule.getRuleType());
     }
 
+    /**
+     * Test of page prefetching
+     * Input:
+     * - request end point of the first page with offset/limit paging
+     * - rest client returns 3 next pages and empty page after them
+     * Output:
+     * - responses of next pages
+     * Expectation:
+     * - pages are consumed in page order until empty page
+     */
+    @Test
+    public void prefetchPagesTest() throws Exception {
+        WebServiceAfterOperationRule testRule = new PrefetchRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        EndPoint requestEndPoint = (EndPoint) testRuleContext.getArguments()
+                .get(WebServiceAfterOperationRule.ARG_REQUEST_END_POINT);
+        WebServicesClient restClient = (WebServicesClient) testRuleContext.getArguments()
+                .get(WebServiceAfterOperationRule.ARG_REST_CLIENT);
+        when(requestEndPoint.getFullUrl()).thenReturn("http://localhost/users?offset=0&limit=10");
+        when(restClient.executeGet(anyString(), any(), any())).thenAnswer(invocation -> {
+            String url = (String) invocation.getArguments()[0];
+            return url.contains("offset=40") || url.contains("offset=50") || url.contains("offset=60")
+                    ? "[]" : url;
+        });
+
+        assertEquals("Pages are not match", Collections.singletonMap(PrefetchRule.PAGES, Arrays.asList(
+                "http://localhost/users?offset=10&limit=10",
+                "http://localhost/users?offset=20&limit=10",
+                "http://localhost/users?offset=30&limit=10")), testRule.execute(testRuleContext));
+    }
+
+    /**
+     * Test of raw response processing
+     * Input:
+     * - raw response with 3 records
+     * - rule which skips inactive records and keeps only id
+     * Output:
+     * - processed records by key {@link WebServiceAfterOperationRule#RESULT_DATA}
+     */
+    @Test
+    public void processRawResponseTest() throws GeneralException {
+        WebServiceAfterOperationRule testRule = new FilterRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        testRuleContext.getArguments().put(WebServiceAfterOperationRule.ARG_RAW_RESPONSE_OBJECT,
+                "{\"Resources\": [{\"id\": \"1\", \"active\": true}, {\"id\": \"2\", \"active\": false},"
+                        + " {\"id\": \"3\", \"active\": true}]}");
+
+        assertEquals("Records are not match", Collections.singletonMap(WebServiceAfterOperationRule.RESULT_DATA,
+                Arrays.asList(Collections.singletonMap("id", "1"), Collections.singletonMap("id", "3"))),
+                testRule.execute(testRuleContext));
+    }
+
+    /**
+     * Test of response cache
+     * Input:
+     * - GET response with ETag, then not modified response without records
+     * Output:
+     * - records of response for both executions
+     * Expectation:
+     * - records of not modified response are replayed from cache
+     */
+    @Test
+    public void responseCacheTest() throws GeneralException, IOException {
+        WebServiceAfterOperationRule testRule = new ResponseCacheRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        Path cacheDirectory = Files.createTempDirectory("response-cache");
+        cacheDirectory.toFile().deleteOnExit();
+        application.setAttribute(ResponseCache.CONFIG_RESPONSE_CACHE_DIRECTORY,
+                cacheDirectory.resolve("cache").toString());
+        testRuleContext.getArguments().put(WebServiceAfterOperationRule.ARG_APPLICATION, application);
+        EndPoint requestEndPoint = (EndPoint) testRuleContext.getArguments()
+                .get(WebServiceAfterOperationRule.ARG_REQUEST_END_POINT);
+        when(requestEndPoint.getFullUrl()).thenReturn("http://localhost/groups");
+        List<Map<String, Object>> records = Collections.singletonList(Collections.singletonMap("name", "admins"));
+        testRuleContext.getArguments().put(WebServiceAfterOperationRule.ARG_PROCESSED_RESPONSE_OBJECT, records);
+        testRuleContext.getArguments().put(ResponseCacheRule.STATUS_CODE, 200);
+
+        assertEquals("Records are not match", Collections.singletonMap(WebServiceAfterOperationRule.RESULT_DATA,
+                records), testRule.execute(testRuleContext));
+        testRuleContext.getArguments().put(WebServiceAfterOperationRule.ARG_PROCESSED_RESPONSE_OBJECT,
+                Collections.emptyList());
+        testRuleContext.getArguments().put(ResponseCacheRule.STATUS_CODE,
+                WebServiceAfterOperationRule.STATUS_NOT_MODIFIED);
+        assertEquals("Records are not replayed", Collections.singletonMap(WebServiceAfterOperationRule.RESULT_DATA,
+                records), testRule.execute(testRuleContext));
+    }
+
+    /**
+     * Test of response cache without cache directory
+     * Input:
+     * - application without cache directory
+     * Output:
+     * - General exception
+     */
+    @Test
+    public void responseCacheWithoutDirectoryTest() {
+        WebServiceAfterOperationRule testRule = new ResponseCacheRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        testRuleContext.getArguments().put(WebServiceAfterOperationRule.ARG_APPLICATION, application);
+        testRuleContext.getArguments().put(ResponseCacheRule.STATUS_CODE, 200);
+
+        assertThrows(GeneralException.class, () -> testRule.execute(testRuleContext));
+    }
+
     /**
      * Create valid java rule context for current rule
      *
@@ -150,4 +268,82 @@ public class WebServiceAfterOperationRuleTest {
         ruleParameters.put(WebServiceAfterOperationRule.ARG_REST_CLIENT, mock(WebServicesClient.class));
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Test rule which collects next pages
+     */
+    public static class PrefetchRule extends WebServiceAfterOperationRule {
+
+        /**
+         * Key of collected pages in result
+         */
+        public static final String PAGES = "pages";
+
+        /**
+         * Collect next pages until empty page
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return map with collected pages
+         * @throws GeneralException - page can not be fetched
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      WebServiceAfterOperationRuleArguments containerArguments)
+                throws GeneralException {
+            List<String> pages = new ArrayList<>();
+            prefetchPages(containerArguments, PageUrlBuilder.offsetLimit("offset", "limit", 0, 10),
+                    (pageIndex, response) -> !"[]".equals(response) && pages.add(response));
+            return Collections.singletonMap(PAGES, pages);
+        }
+    }
+
+    /**
+     * Test rule which skips inactive records
+     */
+    public static class FilterRule extends WebServiceAfterOperationRule {
+
+        /**
+         * Process records of active users
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return map with id of active users
+         * @throws GeneralException - raw response can not be read
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      WebServiceAfterOperationRuleArguments containerArguments)
+                throws GeneralException {
+            return processRawResponse(containerArguments, "$.Resources", record -> Boolean.TRUE
+                    .equals(record.get("active")) ? Collections.singletonMap("id", record.get("id")) : null);
+        }
+    }
+
+    /**
+     * Test rule which caches responses
+     */
+    public static class ResponseCacheRule extends WebServiceAfterOperationRule {
+
+        /**
+         * Name of status code argument of test
+         */
+        public static final String STATUS_CODE = "statusCode";
+
+        /**
+         * Cache response with ETag
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return map with processed or cached records
+         * @throws GeneralException - response cache is not configured
+         */
+        @Override
+        protected Map<String, Object> internalExecute(JavaRuleContext javaRuleContext,
+                                                      WebServiceAfterOperationRuleArguments containerArguments)
+                throws GeneralException {
+            return applyResponseCache(containerArguments, (Integer) javaRuleContext.getArguments().get(STATUS_CODE),
+                    Collections.singletonMap("etag", "\"v1\""));
+        }
+    }
 }
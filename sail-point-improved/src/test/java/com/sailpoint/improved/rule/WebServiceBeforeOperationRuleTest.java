@@ -1,6 +1,7 @@
 package com.sailpoint.improved.rule;
 
 import com.sailpoint.improved.rule.connector.WebServiceBeforeOperationRule;
+import com.sailpoint.improved.rule.connector.webservice.CredentialCache;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -26,7 +27,9 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Test for {@link WebServiceBeforeOperationRule} class
@@ -131,6 +134,35 @@ public class WebServiceBeforeOperationRuleTest {
         assertEquals("Rule type is not match", Rule.Type.WebServiceBeforeOperationRule.name(), testRule.getRuleType());
     }
 
+    /**
+     * Test of cached credential
+     * Input:
+     * - request end point with header
+     * - rule which applies bearer token of loader
+     * Output:
+     * - request end point with header and token
+     * Expectation:
+     * - token is loaded once for two executions
+     */
+    @Test
+    public void cachedCredentialTest() throws GeneralException {
+        WebServiceBeforeOperationRule testRule = new CredentialRule();
+        JavaRuleContext testRuleContext = buildTestJavaRuleContext();
+        Application application = new Application();
+        application.setName(UUID.randomUUID().toString());
+        testRuleContext.getArguments().put(WebServiceBeforeOperationRule.ARG_APPLICATION, application);
+        EndPoint requestEndPoint = (EndPoint) testRuleContext.getArguments()
+                .get(WebServiceBeforeOperationRule.ARG_REQUEST_END_POINT);
+        when(requestEndPoint.getHeader()).thenReturn(Collections.singletonMap("Accept", "application/json"));
+        Map<String, String> expectedHeaders = new HashMap<>();
+        expectedHeaders.put("Accept", "application/json");
+        expectedHeaders.put(CredentialCache.Credential.AUTHORIZATION_HEADER, "Bearer token1");
+
+        assertEquals("End point is not match", requestEndPoint, testRule.execute(testRuleContext));
+        assertEquals("End point is not match", requestEndPoint, testRule.execute(testRuleContext));
+        verify(requestEndPoint, times(2)).setHeader(eq(expectedHeaders));
+    }
+
     /**
      * Create valid java rule context for current rule
      *
@@ -145,4 +177,31 @@ public class WebServiceBeforeOperationRuleTest {
         ruleParameters.put(WebServiceBeforeOperationRule.ARG_REST_CLIENT, mock(WebServicesClient.class));
         return new JavaRuleContext(this.sailPointContext, ruleParameters);
     }
+
+    /**
+     * Test rule which applies bearer token
+     */
+    public static class CredentialRule extends WebServiceBeforeOperationRule {
+
+        /**
+         * Count of loaded tokens
+         */
+        private int loadCount;
+
+        /**
+         * Apply cached bearer token to request end point
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return request end point with token
+         * @throws GeneralException - token can not be loaded
+         */
+        @Override
+        protected EndPoint internalExecute(JavaRuleContext javaRuleContext,
+                                           WebServiceBeforeOperationRuleArguments containerArguments)
+                throws GeneralException {
+            return applyCachedCredential(containerArguments, null,
+                    () -> CredentialCache.Credential.bearer("token" + (++loadCount), 3600));
+        }
+    }
 }
@@ -0,0 +1,226 @@
+package com.sailpoint.improved.rule.cache;
+
+import com.sailpoint.annotation.Memoized;
+import org.junit.Test;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.Identity;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link RuleResultCache} class
+ */
+public class RuleResultCacheTest {
+
+    /**
+     * Test of least recently used eviction
+     * Input:
+     * - cache with max size 2
+     * - 3 results, first result is read before putting third
+     * Output:
+     * - cached results and statistics
+     * Expectation:
+     * - second result is evicted
+     * - first and third results are cached
+     */
+    @Test
+    public void lruEvictionTest() {
+        RuleResultCache<String> cache = new RuleResultCache<>(UUID.randomUUID().toString(), 2, 0L,
+                Collections.singletonList("key"));
+        cache.put("first", "1");
+        cache.put("second", "2");
+        assertNotNull("First result is not cached", cache.get("first"));
+        cache.put("third", "3");
+
+        assertNull("Second result is not evicted", cache.get("second"));
+        assertEquals("First result is not match", "1", cache.get("first").getValue());
+        assertEquals("Third result is not match", "3", cache.get("third").getValue());
+
+        RuleResultCacheStats stats = cache.getStats();
+        assertEquals("Size is not match", 2, stats.getSize());
+        assertEquals("Hits are not match", 3, stats.getHits());
+        assertEquals("Misses are not match", 1, stats.getMisses());
+        assertEquals("Evictions are not match", 1, stats.getEvictions());
+    }
+
+    /**
+     * Test of time to live
+     * Input:
+     * - cache with ttl 10 nanoseconds and manual time source
+     * Output:
+     * - cached result before and after ttl
+     * Expectation:
+     * - result is returned before ttl
+     * - result is expired after ttl
+     */
+    @Test
+    public void ttlTest() {
+        AtomicLong now = new AtomicLong();
+        RuleResultCache<String> cache = new RuleResultCache<>(UUID.randomUUID().toString(), 10, 10L,
+                Collections.singletonList("key"), now::get);
+        cache.put("key", null);
+
+        now.set(9L);
+        RuleResultCache.CachedResult<String> cachedResult = cache.get("key");
+        assertNotNull("Null result is not cached", cachedResult);
+        assertNull("Cached result is not null", cachedResult.getValue());
+
+        now.set(10L);
+        assertNull("Result is not expired", cache.get("key"));
+        assertEquals("Expired result is not removed", 0, cache.getStats().getSize());
+    }
+
+    /**
+     * Test of cache key building
+     * Input:
+     * - key arguments: identity and value
+     * - arguments with different not key arguments
+     * - arguments with different identity instances with the same id
+     * - modified identity, not saved identity, list value
+     * Output:
+     * - cache keys
+     * Expectation:
+     * - not key arguments are ignored
+     * - identities with the same id give the same key
+     * - different values give different keys
+     * - modified identity gives different key
+     * - no key for not saved identity
+     * - no key for list value
+     */
+    @Test
+    public void buildKeyTest() {
+        RuleResultCache<String> cache = new RuleResultCache<>(UUID.randomUUID().toString(), 10, 0L,
+                Arrays.asList("identity", "value"));
+        String identityId = UUID.randomUUID().toString();
+
+        Identity firstIdentity = new Identity();
+        firstIdentity.setId(identityId);
+        Map<String, Object> firstArguments = new HashMap<>();
+        firstArguments.put("identity", firstIdentity);
+        firstArguments.put("value", "value");
+        firstArguments.put("other", UUID.randomUUID().toString());
+
+        Identity secondIdentity = new Identity();
+        secondIdentity.setId(identityId);
+        Map<String, Object> secondArguments = new HashMap<>();
+        secondArguments.put("identity", secondIdentity);
+        secondArguments.put("value", "value");
+        secondArguments.put("other", UUID.randomUUID().toString());
+
+        assertEquals("Keys are not match", cache.buildKey(firstArguments), cache.buildKey(secondArguments));
+        secondArguments.put("value", UUID.randomUUID().toString());
+        assertNotEquals("Keys are match", cache.buildKey(firstArguments), cache.buildKey(secondArguments));
+
+        secondArguments.put("value", "value");
+        secondIdentity.setModified(new Date());
+        assertNotEquals("Keys of modified identity are match", cache.buildKey(firstArguments),
+                cache.buildKey(secondArguments));
+        secondArguments.put("identity", new Identity());
+        assertNull("Key of not saved identity is built", cache.buildKey(secondArguments));
+        secondArguments.put("identity", firstIdentity);
+        secondArguments.put("value", new ArrayList<>(Collections.singletonList("value")));
+        assertNull("Key of list value is built", cache.buildKey(secondArguments));
+        secondArguments.put("value", Collections.singletonMap("value", "value"));
+        assertNull("Key of map value is built", cache.buildKey(secondArguments));
+    }
+
+    /**
+     * Test of sailpoint object result
+     * Input:
+     * - saved identity result
+     * - not saved identity result
+     * Output:
+     * - identity loaded by context of caller
+     * Expectation:
+     * - saved identity is cached by id
+     * - not saved identity is not cached
+     */
+    @Test
+    public void sailPointObjectResultTest() throws GeneralException {
+        RuleResultCache<Identity> cache = new RuleResultCache<>(UUID.randomUUID().toString(), 10, 0L,
+                Collections.singletonList("key"));
+        Identity identity = new Identity();
+        identity.setId(UUID.randomUUID().toString());
+        Identity loadedIdentity = new Identity();
+        SailPointContext sailPointContext = mock(SailPointContext.class);
+        when(sailPointContext.getObjectById(Identity.class, identity.getId())).thenReturn(loadedIdentity);
+        cache.put("saved", identity);
+        cache.put("notSaved", new Identity());
+
+        RuleResultCache.CachedResult<Identity> cachedResult = cache.get("saved");
+        assertTrue("Identity is not cached by id", cachedResult.isSailPointObject());
+        assertNull("Identity is cached", cachedResult.getValue());
+        assertSame("Identity is not loaded", loadedIdentity, cachedResult.load(sailPointContext));
+        assertNull("Not saved identity is cached", cache.get("notSaved"));
+    }
+
+    /**
+     * Test of cache without key arguments
+     * Input:
+     * - empty key arguments
+     * Output:
+     * - illegal argument exception
+     */
+    @Test
+    public void noKeyArgumentsTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RuleResultCache<>(UUID.randomUUID().toString(), 10, 0L, Collections.emptyList()));
+    }
+
+    /**
+     * Test of creating cache for rule class
+     * Input:
+     * - class marked by {@link Memoized}
+     * - class without annotation
+     * Output:
+     * - cache for marked class
+     * - null for not marked class
+     */
+    @Test
+    public void forRuleTest() {
+        RuleResultCache<Object> cache = RuleResultCache.forRule(MemoizedClass.class);
+        assertNotNull("Cache is not created", cache);
+        assertEquals("Max size is not match", 5, cache.getMaxSize());
+        assertEquals("Name is not match", MemoizedClass.class.getName(), cache.getName());
+        assertNull("Cache is created for not memoized class", RuleResultCache.forRule(Object.class));
+    }
+
+    /**
+     * Test of invalid max size
+     * Input:
+     * - max size 0
+     * Output:
+     * - illegal argument exception
+     */
+    @Test
+    public void invalidMaxSizeTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RuleResultCache<>(UUID.randomUUID().toString(), 0, 0L, null));
+    }
+
+    /**
+     * Test class marked by {@link Memoized}
+     */
+    @Memoized(arguments = "value", maxSize = 5, ttl = 1, ttlUnit = TimeUnit.MINUTES)
+    private static class MemoizedClass {
+    }
+}
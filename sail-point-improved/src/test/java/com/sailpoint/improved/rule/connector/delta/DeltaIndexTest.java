@@ -0,0 +1,170 @@
+package com.sailpoint.improved.rule.connector.delta;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link DeltaIndex}, {@link FingerprintTable} and {@link DeltaAggregation} classes
+ */
+public class DeltaIndexTest {
+
+    /**
+     * Index file for test
+     */
+    private Path indexFile;
+
+    /**
+     * Init not existing index file
+     */
+    @Before
+    public void init() throws IOException {
+        File file = File.createTempFile("delta", ".idx");
+        file.deleteOnExit();
+        this.indexFile = file.toPath();
+        Files.delete(indexFile);
+    }
+
+    /**
+     * Test of two aggregations
+     * Input:
+     * - the first aggregation: records 1, 2, 3
+     * - the second aggregation: record 1 unchanged, record 2 changed, record 4 new, record 3 removed
+     * Output:
+     * - check results and counts
+     * Expectation:
+     * - all records of the first aggregation are new
+     * - only unchanged record of the second aggregation is skipped
+     * - temporary file is not left
+     */
+    @Test
+    public void aggregationsTest() throws IOException {
+        DeltaIndex firstIndex = DeltaIndex.load(indexFile);
+        assertFalse("New record is unchanged", firstIndex.check("1", Arrays.asList("1", "John", null)));
+        assertFalse("New record is unchanged", firstIndex.check("2", Arrays.asList("2", "Jane", "IT")));
+        assertFalse("New record is unchanged", firstIndex.check("3", Arrays.asList("3", "Ivan", "HR")));
+        assertEquals("Added count is not match", 3, firstIndex.getAddedCount());
+        firstIndex.commit();
+
+        DeltaIndex secondIndex = DeltaIndex.load(indexFile);
+        assertTrue("Unchanged record is changed", secondIndex.check("1", Arrays.asList("1", "John", null)));
+        assertFalse("Changed record is unchanged", secondIndex.check("2", Arrays.asList("2", "Jane", "HR")));
+        assertFalse("New record is unchanged", secondIndex.check("4", Arrays.asList("4", "Anna", "IT")));
+        assertEquals("Unchanged count is not match", 1, secondIndex.getUnchangedCount());
+        assertEquals("Changed count is not match", 1, secondIndex.getChangedCount());
+        assertEquals("Added count is not match", 1, secondIndex.getAddedCount());
+        assertEquals("Removed count is not match", 1, secondIndex.getRemovedCount());
+        secondIndex.commit();
+        assertFalse("Temporary file is left", Files.exists(indexFile.resolveSibling(indexFile.getFileName()
+                + DeltaIndex.TEMP_FILE_SUFFIX)));
+
+        DeltaIndex thirdIndex = DeltaIndex.load(indexFile);
+        assertTrue("Changed record is not committed", thirdIndex.check("2", Arrays.asList("2", "Jane", "HR")));
+        assertFalse("Removed record is committed", thirdIndex.check("3", Arrays.asList("3", "Ivan", "HR")));
+    }
+
+    /**
+     * Test of single-row record which gains the second row
+     * Input:
+     * - record 1 has one row in the first aggregation
+     * - record 1 has the same row and the new row in the second aggregation
+     * Output:
+     * - the first row is unchanged, the new row is changed in the second aggregation
+     * - record 1 is new in the third aggregation
+     * Expectation:
+     * - fingerprint of not unique identity is not committed, so both rows are processed by the next aggregation
+     */
+    @Test
+    public void multiRowTest() throws IOException {
+        DeltaIndex firstIndex = DeltaIndex.load(indexFile);
+        firstIndex.check("1", Arrays.asList("1", "admins"));
+        firstIndex.commit();
+
+        DeltaIndex secondIndex = DeltaIndex.load(indexFile);
+        assertTrue("Unchanged row is changed", secondIndex.check("1", Arrays.asList("1", "admins")));
+        assertFalse("The next row is unchanged", secondIndex.check("1", Arrays.asList("1", "users")));
+        assertFalse("The next row is unchanged", secondIndex.check("1", Arrays.asList("1", "admins")));
+        secondIndex.commit();
+
+        DeltaIndex thirdIndex = DeltaIndex.load(indexFile);
+        assertFalse("Not unique record is committed", thirdIndex.check("1", Arrays.asList("1", "admins")));
+        assertEquals("Added count is not match", 1, thirdIndex.getAddedCount());
+    }
+
+    /**
+     * Test of invalidated fingerprint
+     * Input:
+     * - records 1, 2, fingerprint of record 2 is invalidated
+     * Output:
+     * - the next row of record 2 is changed
+     * - record 1 is unchanged, record 2 is new in the next aggregation
+     */
+    @Test
+    public void invalidateTest() throws IOException {
+        DeltaIndex firstIndex = DeltaIndex.load(indexFile);
+        firstIndex.check("1", Arrays.asList("1", "John"));
+        firstIndex.check("2", Arrays.asList("2", "Jane"));
+        firstIndex.invalidate("2");
+        assertFalse("The next row is unchanged", firstIndex.check("2", Arrays.asList("2", "Jane")));
+        firstIndex.commit();
+
+        DeltaIndex secondIndex = DeltaIndex.load(indexFile);
+        assertTrue("Valid record is changed", secondIndex.check("1", Arrays.asList("1", "John")));
+        assertFalse("Invalidated record is unchanged", secondIndex.check("2", Arrays.asList("2", "Jane")));
+        assertEquals("Added count is not match", 1, secondIndex.getAddedCount());
+    }
+
+    /**
+     * Test of many fingerprints
+     * Input:
+     * - 100000 records
+     * Output:
+     * - all records are unchanged in the next aggregation
+     */
+    @Test
+    public void manyRecordsTest() throws IOException {
+        DeltaIndex firstIndex = DeltaIndex.load(indexFile);
+        for (int index = 0; index < 100000; index++) {
+            firstIndex.check(String.valueOf(index), Arrays.asList(index, "value" + index));
+        }
+        firstIndex.commit();
+
+        DeltaIndex secondIndex = DeltaIndex.load(indexFile);
+        for (int index = 0; index < 100000; index++) {
+            assertTrue("Record is changed", secondIndex.check(String.valueOf(index),
+                    Arrays.asList(index, "value" + index)));
+        }
+        assertEquals("Removed count is not match", 0, secondIndex.getRemovedCount());
+    }
+
+    /**
+     * Test of invalid index file
+     * Input:
+     * - index file with invalid content
+     * Output:
+     * - IO exception on load
+     * - empty index on begin of delta aggregation
+     */
+    @Test
+    public void invalidFileTest() throws IOException {
+        Files.write(indexFile, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        assertThrows(IOException.class, () -> DeltaIndex.load(indexFile));
+        DeltaIndex deltaIndex = DeltaAggregation.begin("invalidFileTest", indexFile);
+        assertFalse("Record of invalid index is unchanged", deltaIndex.check("1", Arrays.asList("1")));
+        assertSame("Index is not registered", deltaIndex, DeltaAggregation.end("invalidFileTest"));
+        assertNull("Index is not removed", DeltaAggregation.get("invalidFileTest"));
+    }
+}
@@ -0,0 +1,170 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link FileInputPipeline} and {@link TranscodingInputStream} classes
+ */
+public class FileInputPipelineTest {
+
+    /**
+     * Content of test file
+     */
+    private static final String CONTENT = "id,name,department\n1,Иван,ИТ\n2,Jane,HR\n";
+
+    /**
+     * Test file
+     */
+    private Path testFile;
+
+    /**
+     * Init test file
+     */
+    @Before
+    public void init() throws IOException {
+        File file = File.createTempFile("pipeline", ".csv");
+        file.deleteOnExit();
+        this.testFile = file.toPath();
+    }
+
+    /**
+     * Test of file with UTF-8 byte order mark
+     * Input:
+     * - UTF-8 file with byte order mark
+     * Output:
+     * - content without byte order mark
+     * Expectation:
+     * - stream is not transcoded
+     */
+    @Test
+    public void utf8ByteOrderMarkTest() throws IOException {
+        Files.write(testFile, concat(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF},
+                CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream inputStream = FileInputPipeline.open(testFile, StandardCharsets.UTF_8,
+                StandardCharsets.UTF_8, FileInputPipeline.DEFAULT_BUFFER_SIZE)) {
+            assertFalse("Stream is transcoded", inputStream instanceof TranscodingInputStream);
+            assertEquals("Content is not match", CONTENT, read(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Test of gzip file with UTF-16LE byte order mark
+     * Input:
+     * - gzip of UTF-16LE file with byte order mark
+     * Output:
+     * - content in UTF-8 without byte order mark
+     * Expectation:
+     * - stream is transcoded
+     */
+    @Test
+    public void gzipUtf16Test() throws IOException {
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(testFile))) {
+            outputStream.write(new byte[]{(byte) 0xFF, (byte) 0xFE});
+            outputStream.write(CONTENT.getBytes(StandardCharsets.UTF_16LE));
+        }
+
+        try (InputStream inputStream = FileInputPipeline.open(testFile, StandardCharsets.UTF_8,
+                StandardCharsets.UTF_8, FileInputPipeline.DEFAULT_BUFFER_SIZE)) {
+            assertTrue("Stream is not transcoded", inputStream instanceof TranscodingInputStream);
+            assertEquals("Content is not match", CONTENT, read(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Test of detected charset
+     * Input:
+     * - large windows-1251 file without byte order mark
+     * Output:
+     * - content in UTF-8
+     * Expectation:
+     * - charset is detected by sample
+     */
+    @Test
+    public void detectedCharsetTest() throws IOException {
+        Charset windows1251 = Charset.forName("windows-1251");
+        StringBuilder content = new StringBuilder("id,name,department\n");
+        for (int index = 0; index < 10000; index++) {
+            content.append(index).append(",Сотрудник отдела номер ").append(index).append(",Бухгалтерия\n");
+        }
+        Files.write(testFile, content.toString().getBytes(windows1251));
+
+        assertEquals("Charset is not detected", windows1251,
+                FileInputPipeline.detectCharset(Files.readAllBytes(testFile), StandardCharsets.UTF_8));
+        try (InputStream inputStream = FileInputPipeline.open(testFile, StandardCharsets.UTF_8,
+                StandardCharsets.UTF_8, FileInputPipeline.DEFAULT_BUFFER_SIZE)) {
+            assertEquals("Content is not match", content.toString(), read(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Test of transcoding by small buffers
+     * Input:
+     * - UTF-16BE bytes with surrogate pairs, buffers of min size
+     * Output:
+     * - content in UTF-8
+     * Expectation:
+     * - characters split between buffers are not broken
+     */
+    @Test
+    public void smallBufferTranscodingTest() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < 50; index++) {
+            builder.append(CONTENT).append("😀");
+        }
+        String content = builder.toString();
+        try (InputStream inputStream = new TranscodingInputStream(Channels.newChannel(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_16BE))), StandardCharsets.UTF_16BE, StandardCharsets.UTF_8, 1)) {
+            assertEquals("Content is not match", content, read(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Read all bytes of stream to string
+     *
+     * @param inputStream - input stream
+     * @param charset     - charset of bytes
+     * @return content of stream
+     */
+    private static String read(InputStream inputStream, Charset charset) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        int read;
+        while ((read = inputStream.read(buffer)) >= 0) {
+            outputStream.write(buffer, 0, read);
+        }
+        return new String(outputStream.toByteArray(), charset);
+    }
+
+    /**
+     * Concat two arrays
+     *
+     * @param first  - the first array
+     * @param second - the second array
+     * @return concatenated array
+     */
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,213 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import org.junit.Before;
+import org.junit.Test;
+import sailpoint.tools.GeneralException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link ParallelFileParser} and {@link RecordChunker} classes
+ */
+public class ParallelFileParserTest {
+
+    /**
+     * Count of records in test file
+     */
+    private static final int RECORDS_COUNT = 20000;
+    /**
+     * Window size for test
+     */
+    private static final int WINDOW_SIZE = 64 * 1024;
+
+    /**
+     * Test file: header and records with quoted multi-line values
+     */
+    private File file;
+    /**
+     * Offset of the first data record
+     */
+    private long start;
+    /**
+     * Layout of test file
+     */
+    private RecordLayout recordLayout;
+    /**
+     * Records of test file parsed sequentially
+     */
+    private List<Map<String, Object>> expectedRecords;
+
+    /**
+     * Create test file and parse it sequentially
+     */
+    @Before
+    public void init() throws IOException {
+        StringBuilder content = new StringBuilder("id,comment,name\n");
+        for (int index = 0; index < RECORDS_COUNT; index++) {
+            content.append(index).append(",\"line,\n\"\"").append(index).append("\"\"\nend\",name").append(index)
+                    .append(index % 2 == 0 ? "\r\n" : "\n");
+        }
+        this.file = File.createTempFile("parallel", ".csv");
+        this.file.deleteOnExit();
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        this.expectedRecords = new ArrayList<>();
+        FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try (StreamingFileParser parser = new StreamingFileParser(
+                new MappedFileByteSource(fileChannel, 0, fileChannel.size(), WINDOW_SIZE, true),
+                RecordFormat.builder().build(), null, true, null)) {
+            this.start = parser.getOffset();
+            this.recordLayout = parser.getLayout();
+            Map<String, Object> record;
+            while ((record = parser.nextMap()) != null) {
+                expectedRecords.add(record);
+            }
+        }
+        assertEquals("Records count is not match", RECORDS_COUNT, expectedRecords.size());
+    }
+
+    /**
+     * Test of chunks splitting
+     * Input:
+     * - test file with quoted multi-line values
+     * - 8 chunks
+     * Output:
+     * - several chunks
+     * Expectation:
+     * - chunks are continuous and cover all records
+     * - each chunk starts at the beginning of record
+     */
+    @Test
+    public void chunksTest() throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            List<RecordChunker.Chunk> chunks = new RecordChunker(RecordFormat.builder().build(), WINDOW_SIZE)
+                    .split(fileChannel, start, fileChannel.size(), 8);
+
+            assertTrue("File is not split", chunks.size() > 1);
+            long chunkStart = start;
+            int recordsCount = 0;
+            for (RecordChunker.Chunk chunk : chunks) {
+                assertEquals("Chunks are not continuous", chunkStart, chunk.getStart());
+                StreamingFileParser parser = new StreamingFileParser(new MappedFileByteSource(fileChannel,
+                        chunk.getStart(), chunk.getEnd(), WINDOW_SIZE, false), RecordFormat.builder().build(),
+                        recordLayout);
+                Map<String, Object> record;
+                while ((record = parser.nextMap()) != null) {
+                    assertEquals("Record is not match", expectedRecords.get(recordsCount++), record);
+                }
+                chunkStart = chunk.getEnd();
+            }
+            assertEquals("Chunks do not cover file", fileChannel.size(), chunkStart);
+            assertEquals("Records count is not match", RECORDS_COUNT, recordsCount);
+        }
+    }
+
+    /**
+     * Test of ordered parallel parsing
+     * Input:
+     * - test file, 4 threads, ordered
+     * Output:
+     * - all records
+     * Expectation:
+     * - records are the same and in the same order as sequentially parsed
+     */
+    @Test
+    public void orderedTest() throws IOException {
+        assertEquals("Records are not match", expectedRecords, parseAll(true));
+    }
+
+    /**
+     * Test of unordered parallel parsing
+     * Input:
+     * - test file, 4 threads, unordered
+     * Output:
+     * - all records
+     * Expectation:
+     * - records are the same as sequentially parsed
+     */
+    @Test
+    public void unorderedTest() throws IOException {
+        List<Map<String, Object>> records = parseAll(false);
+
+        assertEquals("Records count is not match", expectedRecords.size(), records.size());
+        assertEquals("Records are not match", new HashSet<>(expectedRecords), new HashSet<>(records));
+    }
+
+    /**
+     * Test of record builder error
+     * Input:
+     * - record builder throws exception
+     * Output:
+     * - IO exception
+     */
+    @Test
+    public void builderErrorTest() throws IOException {
+        try (ParallelFileParser parser = openParser(true, recordCursor -> {
+            throw new GeneralException("Test error");
+        })) {
+            assertThrows(IOException.class, parser::next);
+        }
+    }
+
+    /**
+     * Test of close before all records are read
+     * Input:
+     * - the first record is read
+     * Output:
+     * - parser is closed
+     * Expectation:
+     * - blocked workers are stopped, file channel is closed
+     */
+    @Test
+    public void earlyCloseTest() throws IOException {
+        ParallelFileParser parser = openParser(true, recordCursor -> recordCursor.getLayout().toMap(recordCursor));
+        assertEquals("Record is not match", expectedRecords.get(0), parser.next());
+        parser.close();
+    }
+
+    /**
+     * Parse test file in parallel
+     *
+     * @param ordered - return records in file order
+     * @return all records
+     * @throws IOException - parsing error
+     */
+    private List<Map<String, Object>> parseAll(boolean ordered) throws IOException {
+        List<Map<String, Object>> records = new ArrayList<>();
+        try (ParallelFileParser parser = openParser(ordered,
+                recordCursor -> recordCursor.getLayout().toMap(recordCursor))) {
+            Map<String, Object> record;
+            while ((record = parser.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Open parallel parser of test file with 4 threads
+     *
+     * @param ordered       - return records in file order
+     * @param recordBuilder - builder of records
+     * @return parallel parser
+     * @throws IOException - file can not be opened
+     */
+    private ParallelFileParser openParser(boolean ordered, ParallelFileParser.RecordBuilder recordBuilder)
+            throws IOException {
+        return new ParallelFileParser(FileChannel.open(file.toPath(), StandardOpenOption.READ),
+                RecordFormat.builder().build(), recordLayout, start, WINDOW_SIZE, 4, ordered, recordBuilder);
+    }
+}
@@ -0,0 +1,149 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import org.junit.Before;
+import org.junit.Test;
+import sailpoint.object.AttributeDefinition;
+import sailpoint.object.Schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link SchemaRecordMapper} class
+ */
+public class SchemaRecordMapperTest {
+
+    /**
+     * Test columns: id, groups, count, active, other
+     */
+    private static final List<String> TEST_COLUMNS = Arrays.asList("id", "groups", "count", "active", "other");
+
+    /**
+     * Schema with attributes: id, groups (multi-valued), count (int), active (boolean)
+     */
+    private Schema schema;
+
+    /**
+     * Init schema mock
+     */
+    @Before
+    public void init() {
+        this.schema = mock(Schema.class);
+        when(schema.getAttributes()).thenReturn(Arrays.asList(
+                buildDefinition("id", AttributeDefinition.TYPE_STRING, false),
+                buildDefinition("groups", AttributeDefinition.TYPE_STRING, true),
+                buildDefinition("count", AttributeDefinition.TYPE_INT, false),
+                buildDefinition("active", AttributeDefinition.TYPE_BOOLEAN, false)));
+    }
+
+    /**
+     * Test of record mapping
+     * Input:
+     * - record with values of all columns
+     * Output:
+     * - record map
+     * Expectation:
+     * - values are coerced to schema types, not matched column is string
+     * - multi-valued value is list
+     */
+    @Test
+    public void mapTest() {
+        SchemaRecordMapper recordMapper = new SchemaRecordMapper(schema, TEST_COLUMNS);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("id", "1");
+        expected.put("groups", Collections.singletonList("admins"));
+        expected.put("count", 10);
+        expected.put("active", true);
+        expected.put("other", "value");
+        assertEquals("Record is not match", expected,
+                recordMapper.map(Arrays.asList("1", "admins", " 10 ", "true", "value")));
+    }
+
+    /**
+     * Test of record with empty, missing and not coercible values
+     * Input:
+     * - record with empty groups, not number count and without the last columns
+     * Output:
+     * - record map
+     * Expectation:
+     * - empty and missing values are not put
+     * - not coercible value is kept as string
+     */
+    @Test
+    public void partialRecordTest() {
+        SchemaRecordMapper recordMapper = new SchemaRecordMapper(schema, TEST_COLUMNS);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("id", "1");
+        expected.put("count", "n/a");
+        assertEquals("Record is not match", expected, recordMapper.map(Arrays.asList("1", "", "n/a")));
+    }
+
+    /**
+     * Test of columns in other case and not boolean value
+     * Input:
+     * - columns in upper case
+     * - record with not boolean active value
+     * Output:
+     * - record map
+     * Expectation:
+     * - columns are matched ignoring case and mapped by attribute names
+     * - not boolean value is kept as string
+     * - column index is found by attribute name
+     */
+    @Test
+    public void columnCaseTest() {
+        SchemaRecordMapper recordMapper = new SchemaRecordMapper(schema, Arrays.asList("ID", "GROUPS", "ACTIVE"));
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("id", "1");
+        expected.put("groups", Collections.singletonList("admins"));
+        expected.put("active", "yes");
+        assertEquals("Record is not match", expected, recordMapper.map(Arrays.asList("1", "admins", "yes")));
+        assertEquals("Boolean is not match", false, recordMapper.map(Arrays.asList("1", "", "FALSE")).get("active"));
+        assertEquals("Column index is not match", 0, recordMapper.getColumnIndex("id"));
+    }
+
+    /**
+     * Test of schema and columns check
+     * Input:
+     * - mapper of schema and columns
+     * Output:
+     * - true for the same schema and equal columns, false for other schema or columns
+     */
+    @Test
+    public void isMapperOfTest() {
+        SchemaRecordMapper recordMapper = new SchemaRecordMapper(schema, TEST_COLUMNS);
+
+        assertTrue("Mapper is not of schema", recordMapper.isMapperOf(schema, new ArrayList<>(TEST_COLUMNS)));
+        assertFalse("Mapper is of other schema", recordMapper.isMapperOf(mock(Schema.class), TEST_COLUMNS));
+        assertFalse("Mapper is of other columns", recordMapper.isMapperOf(schema, Collections.singletonList("id")));
+    }
+
+    /**
+     * Build attribute definition
+     *
+     * @param name  - attribute name
+     * @param type  - attribute type
+     * @param multi - multi-valued flag
+     * @return attribute definition
+     */
+    private AttributeDefinition buildDefinition(String name, String type, boolean multi) {
+        AttributeDefinition definition = new AttributeDefinition();
+        definition.setName(name);
+        definition.setType(type);
+        definition.setMulti(multi);
+        return definition;
+    }
+}
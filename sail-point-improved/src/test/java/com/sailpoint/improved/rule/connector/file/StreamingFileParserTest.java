@@ -0,0 +1,167 @@
+package com.sailpoint.improved.rule.connector.file;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test for {@link StreamingFileParser} class
+ */
+public class StreamingFileParserTest {
+
+    /**
+     * Test file content: header, quoted values with delimiter, escaped quotes, line feed, CRLF and blank line
+     */
+    private static final String DELIMITED_CONTENT = "id,name,comment\r\n"
+            + "1,\"Smith, John\",\"said \"\"hi\"\"\"\r\n"
+            + "\n"
+            + "2,Jane,\"multi\nline\"\n"
+            + "3,,\n"
+            + "4,Ivan,last";
+
+    /**
+     * Test of delimited file from mapped file with small windows
+     * Input:
+     * - delimited content with header
+     * - window size less than record
+     * Output:
+     * - all records
+     * Expectation:
+     * - records are not broken by window boundaries
+     * - quotes are removed and escaped quotes are unescaped
+     * - blank lines are skipped, empty values are not put
+     */
+    @Test
+    public void mappedFileTest() throws IOException {
+        File file = File.createTempFile("streaming", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), DELIMITED_CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try (StreamingFileParser parser = new StreamingFileParser(
+                new MappedFileByteSource(fileChannel, 0, fileChannel.size(), 4, true),
+                RecordFormat.builder().build(), null, true, null)) {
+            assertEquals("Header is not match", Arrays.asList("id", "name", "comment"),
+                    parser.getLayout().getColumnNames());
+            assertRecords(parser);
+        }
+    }
+
+    /**
+     * Test of delimited file from input stream with small buffer
+     * Input:
+     * - delimited content with header
+     * - buffer size less than record
+     * Output:
+     * - all records
+     * Expectation:
+     * - records are the same as from mapped file
+     */
+    @Test
+    public void channelTest() throws IOException {
+        try (StreamingFileParser parser = new StreamingFileParser(new ChannelByteSource(Channels.newChannel(
+                new ByteArrayInputStream(DELIMITED_CONTENT.getBytes(StandardCharsets.UTF_8))), 4),
+                RecordFormat.builder().build(), null, true, null)) {
+            assertRecords(parser);
+        }
+    }
+
+    /**
+     * Test of selected columns
+     * Input:
+     * - delimited content with column names and without header
+     * - selected columns: id, comment
+     * Output:
+     * - records with selected columns only
+     * Expectation:
+     * - not selected column is available by cursor
+     */
+    @Test
+    public void selectedColumnsTest() throws IOException {
+        try (StreamingFileParser parser = new StreamingFileParser(new ChannelByteSource(Channels.newChannel(
+                new ByteArrayInputStream("1;John;first\n2;Jane;second".getBytes(StandardCharsets.UTF_8))), 64),
+                RecordFormat.builder().delimiter((byte) ';').build(), Arrays.asList("id", "name", "comment"), false,
+                Arrays.asList("comment", "id"))) {
+            RecordCursor recordCursor = parser.next();
+            assertEquals("Not selected column is not match", "John", recordCursor.getString("name"));
+            assertEquals("Record is not match", buildRecord("id", "1", "comment", "first"),
+                    recordCursor.getLayout().toMap(recordCursor));
+            assertEquals("Record is not match", buildRecord("id", "2", "comment", "second"), parser.nextMap());
+            assertNull("Record after end of file", parser.next());
+        }
+    }
+
+    /**
+     * Test of fixed-width file
+     * Input:
+     * - fixed-width content, widths: 3, 5, 2, trim
+     * Output:
+     * - all records
+     * Expectation:
+     * - values are split by widths and trimmed
+     * - short record has no last values
+     */
+    @Test
+    public void fixedWidthTest() throws IOException {
+        try (StreamingFileParser parser = new StreamingFileParser(new ChannelByteSource(Channels.newChannel(
+                new ByteArrayInputStream("001John US\r\n002Ann  DE\n003Bob".getBytes(StandardCharsets.UTF_8))), 5),
+                RecordFormat.builder().columnWidths(new int[]{3, 5, 2}).trim(true).build(),
+                Arrays.asList("id", "name", "country"), false, Collections.emptyList())) {
+            assertEquals("Record is not match", buildRecord("id", "001", "name", "John", "country", "US"),
+                    parser.nextMap());
+            assertEquals("Record is not match", buildRecord("id", "002", "name", "Ann", "country", "DE"),
+                    parser.nextMap());
+            assertEquals("Record is not match", buildRecord("id", "003", "name", "Bob"), parser.nextMap());
+            assertNull("Record after end of file", parser.nextMap());
+        }
+    }
+
+    /**
+     * Check records of {@link #DELIMITED_CONTENT}
+     *
+     * @param parser - parser of content
+     * @throws IOException - parsing error
+     */
+    private void assertRecords(StreamingFileParser parser) throws IOException {
+        List<Map<String, Object>> records = new ArrayList<>();
+        Map<String, Object> record;
+        while ((record = parser.nextMap()) != null) {
+            records.add(record);
+        }
+        assertEquals("Records are not match", Arrays.asList(
+                buildRecord("id", "1", "name", "Smith, John", "comment", "said \"hi\""),
+                buildRecord("id", "2", "name", "Jane", "comment", "multi\nline"),
+                buildRecord("id", "3"),
+                buildRecord("id", "4", "name", "Ivan", "comment", "last")), records);
+    }
+
+    /**
+     * Build record map from name-value pairs
+     *
+     * @param namesAndValues - name-value pairs
+     * @return record map
+     */
+    private Map<String, Object> buildRecord(String... namesAndValues) {
+        Map<String, Object> record = new HashMap<>();
+        for (int index = 0; index < namesAndValues.length; index += 2) {
+            record.put(namesAndValues[index], namesAndValues[index + 1]);
+        }
+        return record;
+    }
+}
@@ -0,0 +1,206 @@
+package com.sailpoint.improved.rule.connector.jdbc;
+
+import org.junit.Before;
+import org.junit.Test;
+import sailpoint.object.AttributeDefinition;
+import sailpoint.object.Schema;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link ResultSetMapper} class
+ */
+public class ResultSetMapperTest {
+
+    /**
+     * Mock of result set with columns: ID, groups, count, created, other
+     */
+    private ResultSet resultSet;
+    /**
+     * Mock of result set metadata
+     */
+    private ResultSetMetaData metaData;
+    /**
+     * Schema with attributes: id, groups (multi-valued), count (int), created (date)
+     */
+    private Schema schema;
+
+    /**
+     * Init mocks of result set and schema
+     */
+    @Before
+    public void init() throws SQLException {
+        this.metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(5);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        when(metaData.getColumnLabel(2)).thenReturn("groups");
+        when(metaData.getColumnLabel(3)).thenReturn("count");
+        when(metaData.getColumnLabel(4)).thenReturn("created");
+        when(metaData.getColumnLabel(5)).thenReturn("other");
+        this.resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+
+        this.schema = mock(Schema.class);
+        when(schema.getAttributes()).thenReturn(Arrays.asList(
+                buildDefinition("id", AttributeDefinition.TYPE_STRING, false),
+                buildDefinition("groups", AttributeDefinition.TYPE_STRING, true),
+                buildDefinition("count", AttributeDefinition.TYPE_INT, false),
+                buildDefinition("created", AttributeDefinition.TYPE_DATE, false)));
+    }
+
+    /**
+     * Test of row mapping
+     * Input:
+     * - result set with 2 rows
+     * Output:
+     * - record maps of rows
+     * Expectation:
+     * - columns are mapped to schema attribute names ignoring case, not matched column by label
+     * - values are read by schema types, null values are not put
+     * - multi-valued value is list
+     * - metadata is read only once
+     */
+    @Test
+    public void mapTest() throws SQLException {
+        Timestamp created = new Timestamp(System.currentTimeMillis());
+        when(resultSet.getString(1)).thenReturn("1", "2");
+        when(resultSet.getString(2)).thenReturn("admins", (String) null);
+        when(resultSet.getInt(3)).thenReturn(10, 0);
+        when(resultSet.wasNull()).thenReturn(false, true);
+        when(resultSet.getTimestamp(4)).thenReturn(created, (Timestamp) null);
+        when(resultSet.getString(5)).thenReturn("value", (String) null);
+
+        ResultSetMapper resultSetMapper = new ResultSetMapper(resultSet, schema);
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("id", "1");
+        expected.put("groups", Collections.singletonList("admins"));
+        expected.put("count", 10);
+        expected.put("created", created);
+        expected.put("other", "value");
+        assertEquals("Record is not match", expected, resultSetMapper.map(resultSet));
+        assertEquals("Record is not match", Collections.singletonMap("id", "2"), resultSetMapper.map(resultSet));
+        verify(resultSet, times(1)).getMetaData();
+    }
+
+    /**
+     * Test of merging records of joined rows
+     * Input:
+     * - target record and record of joined row with the same and new groups
+     * Output:
+     * - merged record
+     * Expectation:
+     * - new groups are added without duplicates
+     * - single-valued value of target is not replaced
+     */
+    @Test
+    public void mergeTest() throws SQLException {
+        ResultSetMapper resultSetMapper = new ResultSetMapper(resultSet, schema);
+        Map<String, Object> target = new HashMap<>();
+        target.put("id", "1");
+        target.put("groups", new ArrayList<>(Collections.singletonList("admins")));
+        Map<String, Object> record = new HashMap<>();
+        record.put("id", "2");
+        record.put("count", 5);
+        record.put("groups", Arrays.asList("admins", "users"));
+
+        resultSetMapper.merge(target, record);
+        assertEquals("Id is not match", "1", target.get("id"));
+        assertEquals("Count is not match", 5, target.get("count"));
+        assertEquals("Groups are not match", Arrays.asList("admins", "users"), target.get("groups"));
+    }
+
+    /**
+     * Test of merging records of all joined rows
+     * Input:
+     * - records of 3 joined rows with the same and new groups
+     * Output:
+     * - merged record
+     * Expectation:
+     * - groups are added without duplicates in order of rows
+     * - single-valued value of the first record is kept
+     */
+    @Test
+    public void mergeAllTest() throws SQLException {
+        ResultSetMapper resultSetMapper = new ResultSetMapper(resultSet, schema);
+        Map<String, Object> first = new HashMap<>();
+        first.put("id", "1");
+        first.put("groups", Collections.singletonList("admins"));
+        Map<String, Object> second = new HashMap<>();
+        second.put("id", "2");
+        second.put("groups", Arrays.asList("users", "admins"));
+        Map<String, Object> third = new HashMap<>();
+        third.put("count", 5);
+        third.put("groups", Collections.singletonList("users"));
+
+        Map<String, Object> merged = resultSetMapper.merge(Arrays.asList(first, second, third));
+        assertEquals("Id is not match", "1", merged.get("id"));
+        assertEquals("Count is not match", 5, merged.get("count"));
+        assertEquals("Groups are not match", Arrays.asList("admins", "users"), merged.get("groups"));
+    }
+
+    /**
+     * Test of column without label
+     * Input:
+     * - label of the first column is null, name is ID
+     * Output:
+     * - record map
+     * Expectation:
+     * - column is mapped by name to schema attribute
+     */
+    @Test
+    public void nullLabelTest() throws SQLException {
+        when(metaData.getColumnLabel(1)).thenReturn(null);
+        when(metaData.getColumnName(1)).thenReturn("ID");
+        when(resultSet.getString(1)).thenReturn("1");
+        ResultSetMapper resultSetMapper = new ResultSetMapper(resultSet, schema);
+
+        assertEquals("Id is not match", "1", resultSetMapper.map(resultSet).get("id"));
+    }
+
+    /**
+     * Test of result set check
+     * Input:
+     * - mapper of result set
+     * Output:
+     * - true for the same result set, false for other
+     */
+    @Test
+    public void isMapperOfTest() throws SQLException {
+        ResultSetMapper resultSetMapper = new ResultSetMapper(resultSet, schema);
+
+        assertTrue("Mapper is not of result set", resultSetMapper.isMapperOf(resultSet));
+        assertFalse("Mapper is of other result set", resultSetMapper.isMapperOf(mock(ResultSet.class)));
+    }
+
+    /**
+     * Build attribute definition
+     *
+     * @param name  - attribute name
+     * @param type  - attribute type
+     * @param multi - multi-valued flag
+     * @return attribute definition
+     */
+    private AttributeDefinition buildDefinition(String name, String type, boolean multi) {
+        AttributeDefinition definition = new AttributeDefinition();
+        definition.setName(name);
+        definition.setType(type);
+        definition.setMulti(multi);
+        return definition;
+    }
+}
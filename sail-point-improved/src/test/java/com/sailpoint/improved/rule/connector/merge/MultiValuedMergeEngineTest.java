@@ -0,0 +1,167 @@
+package com.sailpoint.improved.rule.connector.merge;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test for {@link MultiValuedMergeEngine} class
+ */
+public class MultiValuedMergeEngineTest {
+
+    /**
+     * Test of merging rows of one object
+     * Input:
+     * - current map with single group value
+     * - rows with single values, lists and duplicates
+     * Output:
+     * - current map with merged values
+     * Expectation:
+     * - values are merged in insertion order without duplicates
+     * - not merge attributes are not changed
+     * - the same list instance is kept between calls
+     * - values are plain array list
+     */
+    @Test
+    public void mergeTest() {
+        MultiValuedMergeEngine mergeEngine = new MultiValuedMergeEngine();
+        List<String> mergeAttrs = Arrays.asList("groups", "roles");
+        Map<String, Object> current = new HashMap<>();
+        current.put("id", "1");
+        current.put("groups", "admins");
+
+        assertSame("Current map is not returned", current,
+                mergeEngine.merge(current, buildRow("2", "users", null), mergeAttrs));
+        Object groups = current.get("groups");
+        mergeEngine.merge(current, buildRow("3", Arrays.asList("admins", "auditors"), "reader"), mergeAttrs);
+        mergeEngine.merge(current, buildRow("4", "users", "reader"), mergeAttrs);
+
+        assertEquals("Id is not match", "1", current.get("id"));
+        assertEquals("Groups are not match", Arrays.asList("admins", "users", "auditors"), current.get("groups"));
+        assertEquals("Roles are not match", Collections.singletonList("reader"), current.get("roles"));
+        assertSame("List of values is replaced", groups, current.get("groups"));
+        assertEquals("Values are not plain list", ArrayList.class, current.get("groups").getClass());
+    }
+
+    /**
+     * Test of merging of the next object
+     * Input:
+     * - rows of 2 objects merged one after another
+     * Output:
+     * - current maps with own values
+     * Expectation:
+     * - accumulators of the first object are not used for the second one
+     */
+    @Test
+    public void nextObjectTest() {
+        MultiValuedMergeEngine mergeEngine = new MultiValuedMergeEngine();
+        List<String> mergeAttrs = Collections.singletonList("groups");
+        Map<String, Object> firstCurrent = buildRow("1", "admins", null);
+        mergeEngine.merge(firstCurrent, buildRow("1", "users", null), mergeAttrs);
+        Map<String, Object> secondCurrent = buildRow("2", "users", null);
+        mergeEngine.merge(secondCurrent, buildRow("2", "admins", null), mergeAttrs);
+        mergeEngine.merge(secondCurrent, buildRow("2", "auditors", null), mergeAttrs);
+
+        assertEquals("Groups are not match", Arrays.asList("admins", "users"), firstCurrent.get("groups"));
+        assertEquals("Groups are not match", Arrays.asList("users", "admins", "auditors"),
+                secondCurrent.get("groups"));
+    }
+
+    /**
+     * Test of interleaved merging of objects
+     * Input:
+     * - rows of 2 objects merged in turn by one engine
+     * Output:
+     * - current maps with own values
+     * Expectation:
+     * - accumulators are bound to current maps, values are not duplicated after switching of objects
+     */
+    @Test
+    public void interleavedObjectsTest() {
+        MultiValuedMergeEngine mergeEngine = new MultiValuedMergeEngine();
+        List<String> mergeAttrs = Collections.singletonList("groups");
+        Map<String, Object> firstCurrent = buildRow("1", "admins", null);
+        Map<String, Object> secondCurrent = buildRow("2", "users", null);
+        mergeEngine.merge(firstCurrent, buildRow("1", "users", null), mergeAttrs);
+        mergeEngine.merge(secondCurrent, buildRow("2", "admins", null), mergeAttrs);
+        mergeEngine.merge(firstCurrent, buildRow("1", Arrays.asList("admins", "auditors"), null), mergeAttrs);
+        mergeEngine.merge(secondCurrent, buildRow("2", "users", null), mergeAttrs);
+
+        assertEquals("Groups are not match", Arrays.asList("admins", "users", "auditors"),
+                firstCurrent.get("groups"));
+        assertEquals("Groups are not match", Arrays.asList("users", "admins"), secondCurrent.get("groups"));
+    }
+
+    /**
+     * Test of merging of evicted object
+     * Input:
+     * - rows of more than {@link MultiValuedMergeEngine#MAX_MERGED_OBJECTS} objects after the first row of object
+     * - the next row of the first object
+     * Output:
+     * - current map of the first object with merged values
+     * Expectation:
+     * - set of evicted object is rebuilt from its list, values are not duplicated
+     */
+    @Test
+    public void evictedObjectTest() {
+        MultiValuedMergeEngine mergeEngine = new MultiValuedMergeEngine();
+        List<String> mergeAttrs = Collections.singletonList("groups");
+        Map<String, Object> firstCurrent = buildRow("1", "admins", null);
+        mergeEngine.merge(firstCurrent, buildRow("1", "users", null), mergeAttrs);
+        for (int index = 0; index <= MultiValuedMergeEngine.MAX_MERGED_OBJECTS; index++) {
+            mergeEngine.merge(buildRow("2", "admins", null), buildRow("2", "users", null), mergeAttrs);
+        }
+        mergeEngine.merge(firstCurrent, buildRow("1", Arrays.asList("users", "auditors"), null), mergeAttrs);
+
+        assertEquals("Groups are not match", Arrays.asList("admins", "users", "auditors"),
+                firstCurrent.get("groups"));
+    }
+
+    /**
+     * Test of merging many rows
+     * Input:
+     * - 50000 rows with one new group each
+     * Output:
+     * - current map with all groups
+     * Expectation:
+     * - all groups are merged in order
+     */
+    @Test
+    public void manyRowsTest() {
+        MultiValuedMergeEngine mergeEngine = new MultiValuedMergeEngine();
+        List<String> mergeAttrs = Collections.singletonList("groups");
+        Map<String, Object> current = buildRow("1", "group0", null);
+        List<String> expected = new ArrayList<>();
+        expected.add("group0");
+        for (int index = 1; index < 50000; index++) {
+            mergeEngine.merge(current, buildRow("1", "group" + index, null), mergeAttrs);
+            expected.add("group" + index);
+        }
+
+        assertEquals("Groups are not match", expected, current.get("groups"));
+    }
+
+    /**
+     * Build row map
+     *
+     * @param id     - id value
+     * @param groups - groups value
+     * @param roles  - roles value
+     * @return row map
+     */
+    private Map<String, Object> buildRow(String id, Object groups, Object roles) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("groups", groups);
+        row.put("roles", roles);
+        return row;
+    }
+}
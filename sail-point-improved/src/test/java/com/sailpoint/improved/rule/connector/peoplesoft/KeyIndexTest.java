@@ -0,0 +1,143 @@
+package com.sailpoint.improved.rule.connector.peoplesoft;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link KeyIndex} class
+ */
+public class KeyIndexTest {
+
+    /**
+     * Mock of connection
+     */
+    private Connection connection;
+    /**
+     * Mock of statement
+     */
+    private PreparedStatement statement;
+    /**
+     * Mock of result set with columns: EMPLID, DEPTID, JOBCODE
+     */
+    private ResultSet resultSet;
+
+    /**
+     * Init mocks of connection with result set of 3 rows: two rows of employee 1, one row of employee 2
+     */
+    @Before
+    public void init() throws SQLException {
+        this.connection = mock(Connection.class);
+        this.statement = mock(PreparedStatement.class);
+        this.resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(3);
+        when(metaData.getColumnLabel(1)).thenReturn("EMPLID");
+        when(metaData.getColumnLabel(2)).thenReturn("DEPTID");
+        when(metaData.getColumnLabel(3)).thenReturn("JOBCODE");
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("1", "1", "2 ");
+        when(resultSet.getObject(2)).thenReturn(new String("IT"), new String("IT"), "HR");
+        when(resultSet.getObject(3)).thenReturn("DEV", "LEAD", null);
+    }
+
+    /**
+     * Test of index loading
+     * Input:
+     * - query with key column in lower case and parameter
+     * Output:
+     * - index of rows by key
+     * Expectation:
+     * - rows of key in order of result set, key is trimmed on load and on lookup
+     * - equal string values are stored once
+     * - null values are not put
+     * - fetch size and parameters are set
+     */
+    @Test
+    public void loadTest() throws SQLException {
+        PrefetchQuery prefetchQuery = PrefetchQuery.builder()
+                .name("job")
+                .sql("SELECT EMPLID, DEPTID, JOBCODE FROM PS_JOB WHERE EFF_STATUS = ?")
+                .keyColumn("emplid")
+                .parameters(Collections.singletonList("A"))
+                .build();
+
+        KeyIndex keyIndex = KeyIndex.load(connection, prefetchQuery);
+        assertEquals("Keys count is not match", 2, keyIndex.size());
+        assertEquals("Rows count is not match", 3, keyIndex.getRowCount());
+        List<Map<String, Object>> rows = keyIndex.getRows("1");
+        assertEquals("Rows of key are not match", 2, rows.size());
+        assertEquals("Value is not match", "LEAD", rows.get(1).get("JOBCODE"));
+        assertSame("Equal values are not shared", rows.get(0).get("DEPTID"), rows.get(1).get("DEPTID"));
+        assertEquals("Row is not match", Collections.singletonMap("DEPTID", "HR"), keyIndex.getRow("2"));
+        assertEquals("Row of padded key is not match", Collections.singletonMap("DEPTID", "HR"),
+                keyIndex.getRow("2   "));
+        assertEquals("Rows of padded key are not match", 2, keyIndex.getRows(" 1 ").size());
+        assertNull("Row of null key is found", keyIndex.getRow(null));
+        assertTrue("Rows of unknown key are found", keyIndex.getRows("3").isEmpty());
+        assertNull("Row of unknown key is found", keyIndex.getRow("3"));
+        verify(statement).setFetchSize(PrefetchQuery.DEFAULT_FETCH_SIZE);
+        verify(statement).setObject(1, "A");
+    }
+
+    /**
+     * Test of not existing key column
+     * Input:
+     * - query with unknown key column
+     * Output:
+     * - SQL exception
+     */
+    @Test
+    public void unknownKeyColumnTest() {
+        PrefetchQuery prefetchQuery = PrefetchQuery.builder()
+                .name("job")
+                .sql("SELECT EMPLID, DEPTID, JOBCODE FROM PS_JOB")
+                .keyColumn("OPRID")
+                .build();
+
+        assertThrows(SQLException.class, () -> KeyIndex.load(connection, prefetchQuery));
+    }
+
+    /**
+     * Test of rows returned maps
+     * Input:
+     * - row added to index
+     * Output:
+     * - map of row
+     * Expectation:
+     * - changes of returned map do not change index
+     */
+    @Test
+    public void copyTest() {
+        KeyIndex keyIndex = new KeyIndex(new String[]{"DEPTID"});
+        keyIndex.add("1", new Object[]{"IT"});
+
+        keyIndex.getRow("1").put("DEPTID", "HR");
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("DEPTID", "IT");
+        assertEquals("Index is changed", expected, keyIndex.getRow("1"));
+    }
+}
@@ -0,0 +1,238 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import com.sap.conn.jco.JCoFunction;
+import com.sap.conn.jco.JCoFunctionTemplate;
+import com.sap.conn.jco.JCoParameterList;
+import com.sap.conn.jco.JCoRecordMetaData;
+import com.sap.conn.jco.JCoRepository;
+import com.sap.conn.jco.JCoTable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link JCoBatchCall} and {@link JCoFunctionTemplateCache} classes
+ */
+public class JCoBatchCallTest {
+
+    /**
+     * Name of test function
+     */
+    private static final String FUNCTION_NAME = "Z_USER_DETAILS";
+
+    /**
+     * Mock of destination
+     */
+    private JCoDestination destination;
+    /**
+     * Mock of repository
+     */
+    private JCoRepository repository;
+    /**
+     * Mock of function
+     */
+    private JCoFunction function;
+    /**
+     * Mock of import parameters
+     */
+    private JCoParameterList importParameterList;
+    /**
+     * Mock of input table
+     */
+    private JCoTable input;
+
+    /**
+     * Init mocks of function with output rows: two rows of user 1, one row of user 2
+     */
+    @Before
+    public void init() throws JCoException {
+        destination = mock(JCoDestination.class);
+        repository = mock(JCoRepository.class);
+        function = mock(JCoFunction.class);
+        importParameterList = mock(JCoParameterList.class);
+        input = mock(JCoTable.class);
+        JCoFunctionTemplate template = mock(JCoFunctionTemplate.class);
+        JCoParameterList tableParameterList = mock(JCoParameterList.class);
+        JCoTable output = mock(JCoTable.class);
+        JCoRecordMetaData metaData = mock(JCoRecordMetaData.class);
+        when(destination.getDestinationName()).thenReturn(UUID.randomUUID().toString());
+        when(destination.getRepository()).thenReturn(repository);
+        when(repository.getFunctionTemplate(FUNCTION_NAME)).thenReturn(template);
+        when(template.getFunction()).thenReturn(function);
+        when(function.getImportParameterList()).thenReturn(importParameterList);
+        when(function.getTableParameterList()).thenReturn(tableParameterList);
+        when(tableParameterList.getTable("USERS")).thenReturn(input);
+        when(tableParameterList.getTable("ROLES")).thenReturn(output);
+        when(output.getRecordMetaData()).thenReturn(metaData);
+        when(metaData.getFieldCount()).thenReturn(2);
+        when(metaData.getName(0)).thenReturn("USERNAME");
+        when(metaData.getName(1)).thenReturn("ROLE");
+        when(output.getNumRows()).thenReturn(3);
+        when(output.getString("USERNAME")).thenReturn("1", "1", "2 ");
+        when(output.getValue(0)).thenReturn("1", "1", "2 ");
+        when(output.getValue(1)).thenReturn("admins", "users", "users");
+    }
+
+    /**
+     * Test of batch call
+     * Input:
+     * - keys 1, 2, 3 with duplicate and null key
+     * Output:
+     * - rows by key
+     * Expectation:
+     * - one call with distinct keys as rows of input table
+     * - import parameters are set
+     * - key without rows is missing
+     */
+    @Test
+    public void executeTest() throws JCoException {
+        JCoBatchCall batchCall = JCoBatchCall.builder()
+                .functionName(FUNCTION_NAME)
+                .inputTable("USERS")
+                .inputField("USERNAME")
+                .outputTable("ROLES")
+                .outputField("USERNAME")
+                .importParameters(Collections.singletonMap("LANGUAGE", "EN"))
+                .build();
+
+        Map<String, List<Map<String, Object>>> rowsByKey = batchCall.execute(destination,
+                Arrays.asList("1", "2", "1", null, "3"));
+        assertEquals("Rows count of key is not match", 2, rowsByKey.get("1").size());
+        assertEquals("Row value is not match", "users", rowsByKey.get("2").get(0).get("ROLE"));
+        assertFalse("Key without rows is found", rowsByKey.containsKey("3"));
+        verify(input, times(3)).appendRow();
+        verify(input).setValue("USERNAME", "3");
+        verify(importParameterList).setValue("LANGUAGE", "EN");
+        verify(function).execute(destination);
+    }
+
+    /**
+     * Test of keys by chunks
+     * Input:
+     * - 5 keys, batch size 2
+     * Output:
+     * - rows by key
+     * Expectation:
+     * - 3 calls, function template is loaded once
+     */
+    @Test
+    public void chunksTest() throws JCoException {
+        JCoBatchCall batchCall = JCoBatchCall.builder()
+                .functionName(FUNCTION_NAME)
+                .inputTable("USERS")
+                .inputField("USERNAME")
+                .outputTable("ROLES")
+                .outputField("USERNAME")
+                .batchSize(2)
+                .build();
+
+        Map<String, List<Map<String, Object>>> rowsByKey = batchCall.execute(destination,
+                Arrays.asList("1", "2", "3", "4", "5"));
+        assertTrue("Key is not found", rowsByKey.containsKey("1"));
+        verify(function, times(3)).execute(destination);
+        verify(repository).getFunctionTemplate(FUNCTION_NAME);
+    }
+
+    /**
+     * Test of keys matching
+     * Input:
+     * - keys with spaces and NUMC key without leading zeros
+     * - output rows with padded keys
+     * Output:
+     * - rows by keys of records as they are given
+     * Expectation:
+     * - keys are sent trimmed
+     * - keys are matched after normalization
+     */
+    @Test
+    public void normalizedKeysTest() throws JCoException {
+        JCoBatchCall batchCall = JCoBatchCall.builder()
+                .functionName(FUNCTION_NAME)
+                .inputTable("USERS")
+                .inputField("USERNAME")
+                .outputTable("ROLES")
+                .outputField("USERNAME")
+                .build();
+
+        Map<String, List<Map<String, Object>>> rowsByKey = batchCall.execute(destination,
+                Arrays.asList(" 1", "0002"));
+        assertEquals("Rows count of key is not match", 2, rowsByKey.get(" 1").size());
+        assertEquals("Rows count of key is not match", 1, rowsByKey.get("0002").size());
+        verify(input).setValue("USERNAME", "1");
+        verify(input).setValue("USERNAME", "0002");
+    }
+
+    /**
+     * Test of key normalization
+     * Input:
+     * - null, blank, padded, NUMC and alphanumeric keys
+     * Output:
+     * - normalized keys
+     */
+    @Test
+    public void normalizeKeyTest() {
+        assertNull("Null key is not null", JCoBatchCall.normalizeKey(null));
+        assertNull("Blank key is not null", JCoBatchCall.normalizeKey("  "));
+        assertEquals("Padded key is not trimmed", "USER1", JCoBatchCall.normalizeKey(" USER1 "));
+        assertEquals("Leading zeros are not removed", "120", JCoBatchCall.normalizeKey("00000120"));
+        assertEquals("Zero key is not kept", "0", JCoBatchCall.normalizeKey("0000"));
+        assertEquals("Alphanumeric key is changed", "0012A", JCoBatchCall.normalizeKey("0012A"));
+    }
+
+    /**
+     * Test of key list
+     * Input:
+     * - key list function with 2 rows
+     * Output:
+     * - keys of key list table
+     */
+    @Test
+    public void loadKeysTest() throws JCoException {
+        JCoTable keyList = mock(JCoTable.class);
+        JCoParameterList tableParameterList = function.getTableParameterList();
+        JCoFunctionTemplate template = repository.getFunctionTemplate(FUNCTION_NAME);
+        when(tableParameterList.getTable("USERLIST")).thenReturn(keyList);
+        when(keyList.getNumRows()).thenReturn(2);
+        when(keyList.getString("USERNAME")).thenReturn("1", "2");
+        when(repository.getFunctionTemplate("BAPI_USER_GETLIST")).thenReturn(template);
+        JCoBatchCall batchCall = JCoBatchCall.builder()
+                .functionName(FUNCTION_NAME)
+                .keyListFunction("BAPI_USER_GETLIST")
+                .keyListTable("USERLIST")
+                .keyListField("USERNAME")
+                .build();
+
+        assertEquals("Keys are not match", Arrays.asList("1", "2"), batchCall.loadKeys(destination));
+        assertEquals("Keys without key list function are not empty", Collections.emptyList(),
+                JCoBatchCall.builder().functionName(FUNCTION_NAME).build().loadKeys(destination));
+    }
+
+    /**
+     * Test of not found function
+     * Input:
+     * - function without template in repository
+     * Output:
+     * - JCoException
+     */
+    @Test
+    public void functionNotFoundTest() {
+        assertThrows(JCoException.class, () -> JCoFunctionTemplateCache.createFunction(destination, "Z_MISSING"));
+    }
+}
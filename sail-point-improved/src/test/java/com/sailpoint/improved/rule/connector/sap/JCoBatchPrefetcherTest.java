@@ -0,0 +1,80 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link JCoBatchPrefetcher} class
+ */
+public class JCoBatchPrefetcherTest {
+
+    /**
+     * Test of prefetching of next keys
+     * Input:
+     * - key list: 1, 2, 3, batch size 2
+     * - rows of keys 1, 2, 3 are taken one by one, key 2 is NUMC with leading zeros
+     * Output:
+     * - rows of each key
+     * Expectation:
+     * - key list is loaded once
+     * - rows of keys 1 and 2 are fetched by one call, rows of key 3 by another
+     */
+    @Test
+    public void prefetchTest() throws JCoException {
+        JCoDestination destination = mock(JCoDestination.class);
+        JCoBatchCall batchCall = mock(JCoBatchCall.class);
+        List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("ROLE", "admins"));
+        when(batchCall.getBatchSize()).thenReturn(2);
+        when(batchCall.loadKeys(destination)).thenReturn(Arrays.asList("1", "2", "3"));
+        when(batchCall.execute(destination, Arrays.asList("1", "2")))
+                .thenReturn(Collections.singletonMap("2", rows));
+        when(batchCall.execute(destination, Collections.singletonList("3")))
+                .thenReturn(Collections.singletonMap("3", rows));
+        JCoBatchPrefetcher batchPrefetcher = new JCoBatchPrefetcher(batchCall);
+
+        assertTrue("Rows of key without rows are found", batchPrefetcher.getRows(destination, "1").isEmpty());
+        assertEquals("Rows of prefetched key are not match", rows, batchPrefetcher.getRows(destination, "002"));
+        assertEquals("Rows of key are not match", rows, batchPrefetcher.getRows(destination, "3"));
+        verify(batchCall).loadKeys(destination);
+        verify(batchCall, times(2)).execute(any(), any());
+    }
+
+    /**
+     * Test of batch call without key list
+     * Input:
+     * - empty key list
+     * Output:
+     * - rows of key
+     * Expectation:
+     * - each key is fetched by own call
+     */
+    @Test
+    public void withoutKeyListTest() throws JCoException {
+        JCoDestination destination = mock(JCoDestination.class);
+        JCoBatchCall batchCall = mock(JCoBatchCall.class);
+        List<Map<String, Object>> rows = Collections.singletonList(Collections.singletonMap("ROLE", "admins"));
+        when(batchCall.getBatchSize()).thenReturn(2);
+        when(batchCall.loadKeys(destination)).thenReturn(Collections.emptyList());
+        when(batchCall.execute(destination, Collections.singletonList("1")))
+                .thenReturn(Collections.singletonMap("1", rows));
+        JCoBatchPrefetcher batchPrefetcher = new JCoBatchPrefetcher(batchCall);
+
+        assertEquals("Rows of key are not match", rows, batchPrefetcher.getRows(destination, "1"));
+        assertTrue("Rows of key without rows are found", batchPrefetcher.getRows(destination, "2").isEmpty());
+        verify(batchCall, times(2)).execute(any(), any());
+    }
+}
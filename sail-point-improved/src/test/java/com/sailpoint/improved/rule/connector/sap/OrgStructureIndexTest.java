@@ -0,0 +1,139 @@
+package com.sailpoint.improved.rule.connector.sap;
+
+import com.sap.conn.jco.JCoDestination;
+import com.sap.conn.jco.JCoException;
+import com.sap.conn.jco.JCoFunction;
+import com.sap.conn.jco.JCoFunctionTemplate;
+import com.sap.conn.jco.JCoParameterList;
+import com.sap.conn.jco.JCoRepository;
+import com.sap.conn.jco.JCoTable;
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link OrgStructureIndex} and {@link OrgStructureIndexCache} classes
+ */
+public class OrgStructureIndexTest {
+
+    /**
+     * Test of manager lookup
+     * Input:
+     * - org unit 1 (chief position 10 held by person 100) with position 11 held by person 101
+     * - org unit 2 reports to org unit 1, chief position 20 held by person 200, position 21 is vacant
+     * - org unit 3 reports to org unit 2 without chief, position 30 held by person 300
+     * Output:
+     * - manager of each person
+     * Expectation:
+     * - chief of own org unit is manager
+     * - chief is managed by chief of superior org unit
+     * - org unit without chief is managed by chief of superior org unit
+     * - top chief and unknown person have no manager
+     */
+    @Test
+    public void managerTest() {
+        OrgStructureIndex orgStructureIndex = new OrgStructureIndex();
+        orgStructureIndex.addRelationship("S", "10", "A", "008", "P", "100");
+        orgStructureIndex.addRelationship("S", "10", "A", "003", "O", "1");
+        orgStructureIndex.addRelationship("S", "10", "A", "012", "O", "1");
+        orgStructureIndex.addRelationship("S", "11", "A", "008", "P", "101");
+        orgStructureIndex.addRelationship("S", "11", "A", "003", "O", "1");
+        orgStructureIndex.addRelationship("O", "2", "A", "002", "O", "1");
+        orgStructureIndex.addRelationship("S", "20", "A", "008", "P", "200");
+        orgStructureIndex.addRelationship("S", "20", "A", "003", "O", "2");
+        orgStructureIndex.addRelationship("O", "2", "B", "012", "S", "20");
+        orgStructureIndex.addRelationship("S", "21", "A", "003", "O", "2");
+        orgStructureIndex.addRelationship("O", "3", "A", "002", "O", "2");
+        orgStructureIndex.addRelationship("S", "30", "A", "008", "P", "300");
+        orgStructureIndex.addRelationship("S", "30", "A", "003", "O", "3");
+
+        assertEquals("Manager is not match", "100", orgStructureIndex.getManager("101"));
+        assertEquals("Manager is not match", "100", orgStructureIndex.getManager("200"));
+        assertEquals("Manager is not match", "200", orgStructureIndex.getManager("300"));
+        assertNull("Top chief has manager", orgStructureIndex.getManager("100"));
+        assertNull("Unknown person has manager", orgStructureIndex.getManager("999"));
+    }
+
+    /**
+     * Test of index loading
+     * Input:
+     * - rows of table reading: holders, org units and chief position
+     * Output:
+     * - index with relationships of rows
+     * Expectation:
+     * - table, delimiter and fields of reading are set
+     */
+    @Test
+    public void loadTest() throws JCoException {
+        JCoDestination destination = mock(JCoDestination.class);
+        JCoRepository repository = mock(JCoRepository.class);
+        JCoFunctionTemplate template = mock(JCoFunctionTemplate.class);
+        JCoFunction function = mock(JCoFunction.class);
+        JCoParameterList importParameterList = mock(JCoParameterList.class);
+        JCoParameterList tableParameterList = mock(JCoParameterList.class);
+        JCoTable fields = mock(JCoTable.class);
+        JCoTable options = mock(JCoTable.class);
+        JCoTable data = mock(JCoTable.class);
+        when(destination.getDestinationName()).thenReturn(UUID.randomUUID().toString());
+        when(destination.getRepository()).thenReturn(repository);
+        when(repository.getFunctionTemplate(OrgStructureIndex.READ_TABLE_FUNCTION)).thenReturn(template);
+        when(template.getFunction()).thenReturn(function);
+        when(function.getImportParameterList()).thenReturn(importParameterList);
+        when(function.getTableParameterList()).thenReturn(tableParameterList);
+        when(tableParameterList.getTable("FIELDS")).thenReturn(fields);
+        when(tableParameterList.getTable("OPTIONS")).thenReturn(options);
+        when(tableParameterList.getTable("DATA")).thenReturn(data);
+        when(data.getNumRows()).thenReturn(5);
+        when(data.getString("WA")).thenReturn("S |00000010|A|008|P |00000100 ", "S |00000010|A|003|O |00000001 ",
+                "S |00000010|A|012|O |00000001 ", "S |00000011|A|008|P |00000101 ",
+                "S |00000011|A|003|O |00000001 ");
+
+        OrgStructureIndex orgStructureIndex = OrgStructureIndex.load(destination,
+                OrgStructureIndex.DEFAULT_PLAN_VERSION, new Date());
+        assertEquals("Manager is not match", "00000100", orgStructureIndex.getManager("00000101"));
+        verify(importParameterList).setValue(eq("QUERY_TABLE"), eq(OrgStructureIndex.RELATIONSHIP_TABLE));
+        verify(importParameterList).setValue(eq("DELIMITER"), eq("|"));
+        for (String field : OrgStructureIndex.FIELDS) {
+            verify(fields).setValue(eq("FIELDNAME"), eq(field));
+        }
+        verify(function).execute(destination);
+    }
+
+    /**
+     * Test of index cache
+     * Input:
+     * - two calls with the same connector, one call with other connector
+     * Output:
+     * - the same index for the same connector
+     * Expectation:
+     * - index is loaded once for each connector
+     */
+    @Test
+    public void cacheTest() throws JCoException {
+        String applicationName = UUID.randomUUID().toString();
+        Object connector = new Object();
+        AtomicInteger loadCount = new AtomicInteger();
+        OrgStructureIndexCache.IndexLoader indexLoader = () -> {
+            loadCount.incrementAndGet();
+            return new OrgStructureIndex();
+        };
+
+        OrgStructureIndex orgStructureIndex = OrgStructureIndexCache.get(applicationName, connector, indexLoader);
+        assertSame("Index is loaded again", orgStructureIndex,
+                OrgStructureIndexCache.get(applicationName, connector, indexLoader));
+        assertEquals("Load count is not match", 1, loadCount.get());
+        OrgStructureIndexCache.get(applicationName, new Object(), indexLoader);
+        assertEquals("Index is not loaded for other connector", 2, loadCount.get());
+        OrgStructureIndexCache.clear(applicationName);
+    }
+}
@@ -0,0 +1,127 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import org.junit.Test;
+import sailpoint.tools.GeneralException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link CredentialCache} class
+ */
+public class CredentialCacheTest {
+
+    /**
+     * Test of single loading
+     * Input:
+     * - 8 concurrent callers of missing credential, slow loader
+     * Output:
+     * - the same headers for all callers
+     * Expectation:
+     * - loader is called once
+     */
+    @Test
+    public void singleLoadingTest() throws Exception {
+        CredentialCache credentialCache = new CredentialCache(0);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CredentialCache.CredentialLoader credentialLoader = () -> {
+            Thread.sleep(100);
+            return CredentialCache.Credential.bearer("token" + loadCount.incrementAndGet(), 60);
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Map<String, String>>> futures = new ArrayList<>();
+            for (int index = 0; index < 8; index++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return credentialCache.get("application", credentialLoader);
+                }));
+            }
+            startLatch.countDown();
+            for (Future<Map<String, String>> future : futures) {
+                assertEquals("Headers are not match", Collections.singletonMap("Authorization", "Bearer token1"),
+                        future.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals("Load count is not match", 1, loadCount.get());
+    }
+
+    /**
+     * Test of background refresh
+     * Input:
+     * - credential which expires in 1 second, refresh ahead 1 minute
+     * Output:
+     * - current credential, refreshed credential after background refresh
+     * Expectation:
+     * - caller does not wait for refresh
+     */
+    @Test
+    public void backgroundRefreshTest() throws Exception {
+        CredentialCache credentialCache = new CredentialCache(TimeUnit.MINUTES.toMillis(1));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch refreshLatch = new CountDownLatch(1);
+        CredentialCache.CredentialLoader credentialLoader = () -> {
+            if (loadCount.incrementAndGet() > 1) {
+                refreshLatch.await();
+            }
+            return new CredentialCache.Credential(Collections.singletonMap("X-Token", "token" + loadCount.get()),
+                    System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(1));
+        };
+
+        assertEquals("Headers are not match", Collections.singletonMap("X-Token", "token1"),
+                credentialCache.get("application", credentialLoader));
+        assertEquals("Caller waits for refresh", Collections.singletonMap("X-Token", "token1"),
+                credentialCache.get("application", credentialLoader));
+        refreshLatch.countDown();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!"token2".equals(credentialCache.get("application", credentialLoader).get("X-Token"))) {
+            assertTrue("Credential is not refreshed", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Test of loading error and invalidation
+     * Input:
+     * - loader fails on the first call
+     * Output:
+     * - General exception for the first call, headers for the next call
+     * Expectation:
+     * - invalidated credential is loaded again
+     */
+    @Test
+    public void loadingErrorTest() throws GeneralException {
+        CredentialCache credentialCache = new CredentialCache(0);
+        AtomicInteger loadCount = new AtomicInteger();
+        CredentialCache.CredentialLoader credentialLoader = () -> {
+            if (loadCount.incrementAndGet() == 1) {
+                throw new IOException("Token endpoint is not available");
+            }
+            return CredentialCache.Credential.bearer("token" + loadCount.get(), 60);
+        };
+
+        assertThrows(GeneralException.class, () -> credentialCache.get("application", credentialLoader));
+        assertEquals("Headers are not match", "Bearer token2",
+                credentialCache.get("application", credentialLoader).get("Authorization"));
+        credentialCache.invalidate("application");
+        assertEquals("Headers are not match", "Bearer token3",
+                credentialCache.get("application", credentialLoader).get("Authorization"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test for {@link JsonRecordReader} class
+ */
+public class JsonRecordReaderTest {
+
+    /**
+     * Test response with records in nested array
+     */
+    private static final String RESPONSE = "{\"meta\": {\"skip\": [1, -2.5e3, true, null, {\"a\": \"]}\"}]},"
+            + " \"count\": 3, \"data\": {\"users\": [\n"
+            + "  {\"id\": 1, \"name\": \"John \\\"J\\\" \\u0418\", \"active\": true, \"groups\": [\"a\", \"b\"]},\n"
+            + "  \"not object\",\n"
+            + "  {\"id\": 12345678901234567890, \"score\": 1.5, \"manager\": null,"
+            + " \"address\": {\"city\": \"Minsk\"}},\n"
+            + "  {}\n"
+            + "]}, \"tail\": false}";
+
+    /**
+     * Test of records reading
+     * Input:
+     * - response with records by root path "$.data.users[*]"
+     * - buffer sizes from 1 to default
+     * Output:
+     * - 3 records
+     * Expectation:
+     * - skipped properties are not read, element which is not object is skipped
+     * - values are typed, escapes are decoded
+     */
+    @Test
+    public void readTest() throws IOException {
+        Map<String, Object> firstRecord = new LinkedHashMap<>();
+        firstRecord.put("id", 1L);
+        firstRecord.put("name", "John \"J\" \u0418");
+        firstRecord.put("active", true);
+        firstRecord.put("groups", Arrays.asList("a", "b"));
+        Map<String, Object> secondRecord = new LinkedHashMap<>();
+        secondRecord.put("id", new BigDecimal("12345678901234567890"));
+        secondRecord.put("score", 1.5);
+        secondRecord.put("manager", null);
+        secondRecord.put("address", Collections.singletonMap("city", "Minsk"));
+
+        for (int bufferSize : new int[]{1, 2, 7, JsonRecordReader.DEFAULT_BUFFER_SIZE}) {
+            assertEquals("Records are not match", Arrays.asList(firstRecord, secondRecord, Collections.emptyMap()),
+                    readAll(new JsonRecordReader(new StringReader(RESPONSE), "$.data.users[*]", bufferSize)));
+        }
+    }
+
+    /**
+     * Test of root values
+     * Input:
+     * - root array, root object, not found root path
+     * Output:
+     * - records of array, object as the only record, no records
+     */
+    @Test
+    public void rootTest() throws IOException {
+        assertEquals("Records are not match", Arrays.asList(Collections.singletonMap("id", 1L),
+                Collections.singletonMap("id", 2L)),
+                readAll(new JsonRecordReader(new StringReader("[{\"id\": 1}, {\"id\": 2}]"), null)));
+        assertEquals("Records are not match", Collections.singletonList(Collections.singletonMap("id", 1L)),
+                readAll(new JsonRecordReader(new StringReader("{\"id\": 1}"), "$")));
+        assertEquals("Records are not match", Collections.emptyList(),
+                readAll(new JsonRecordReader(new StringReader(RESPONSE), "$.data.groups")));
+    }
+
+    /**
+     * Test of invalid JSON
+     * Input:
+     * - record without closing brace
+     * Output:
+     * - IO exception after valid record
+     */
+    @Test
+    public void invalidJsonTest() throws IOException {
+        JsonRecordReader jsonRecordReader = new JsonRecordReader(
+                new StringReader("[{\"id\": 1}, {\"id\": 2 \"name\": \"x\"}]"), "");
+
+        assertEquals("Record is not match", Collections.singletonMap("id", 1L), jsonRecordReader.next());
+        assertThrows(IOException.class, jsonRecordReader::next);
+    }
+
+    /**
+     * Read all records of reader
+     *
+     * @param jsonRecordReader - reader of records
+     * @return read records
+     */
+    private static List<Map<String, Object>> readAll(JsonRecordReader jsonRecordReader) throws IOException {
+        List<Map<String, Object>> records = new ArrayList<>();
+        try (JsonRecordReader reader = jsonRecordReader) {
+            Map<String, Object> record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+            assertNull("Record after the end", reader.next());
+        }
+        return records;
+    }
+}
@@ -0,0 +1,113 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import org.junit.Test;
+import sailpoint.tools.GeneralException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link PagePrefetcher} and {@link PageUrlBuilder} classes
+ */
+public class PagePrefetcherTest {
+
+    /**
+     * Test of page urls
+     * Input:
+     * - urls with and without query parameters
+     * Output:
+     * - urls of pages
+     * Expectation:
+     * - existing parameters are replaced, missing parameters are added
+     */
+    @Test
+    public void pageUrlTest() {
+        assertEquals("Url is not match", "http://localhost/users?offset=100&limit=50",
+                PageUrlBuilder.offsetLimit("offset", "limit", 0, 50).build("http://localhost/users?offset=0", 2));
+        assertEquals("Url is not match", "http://localhost/users?limit=50&offset=60",
+                PageUrlBuilder.offsetLimit("offset", "limit", 10, 50).build("http://localhost/users", 1));
+        assertEquals("Url is not match", "http://localhost/users?filter=a&page=3",
+                PageUrlBuilder.pageNumber("page", 1).build("http://localhost/users?filter=a&page=1", 2));
+    }
+
+    /**
+     * Test of page order
+     * Input:
+     * - pages with random latency, the 100th page is empty
+     * - concurrency 8
+     * Output:
+     * - consumed pages
+     * Expectation:
+     * - pages are consumed in page order
+     * - count of concurrent requests is not greater than concurrency
+     */
+    @Test
+    public void pageOrderTest() throws GeneralException {
+        AtomicInteger activeCount = new AtomicInteger();
+        AtomicInteger maxActiveCount = new AtomicInteger();
+        PagePrefetcher.PageFetcher pageFetcher = url -> {
+            maxActiveCount.accumulateAndGet(activeCount.incrementAndGet(), Math::max);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+            activeCount.decrementAndGet();
+            return url.endsWith("page=100") ? "" : url;
+        };
+        List<Integer> pageIndexes = new ArrayList<>();
+
+        try (PagePrefetcher pagePrefetcher = new PagePrefetcher(PageUrlBuilder.pageNumber("page", 0),
+                pageFetcher, 8)) {
+            int consumedCount = pagePrefetcher.fetch("http://localhost/users", 1, (pageIndex, response) -> {
+                assertEquals("Response is not match", response.isEmpty() ? "" : "http://localhost/users?page="
+                        + pageIndex, response);
+                pageIndexes.add(pageIndex);
+                return !response.isEmpty();
+            });
+            assertEquals("Consumed count is not match", 100, consumedCount);
+        }
+        for (int index = 0; index < pageIndexes.size(); index++) {
+            assertEquals("Page order is not match", index + 1, (int) pageIndexes.get(index));
+        }
+        assertTrue("Concurrency is exceeded", maxActiveCount.get() <= 8);
+    }
+
+    /**
+     * Test of page error
+     * Input:
+     * - the 3rd page can not be fetched
+     * Output:
+     * - General exception after consuming of the first 2 pages
+     */
+    @Test
+    public void pageErrorTest() {
+        List<Integer> pageIndexes = new ArrayList<>();
+        try (PagePrefetcher pagePrefetcher = new PagePrefetcher(PageUrlBuilder.pageNumber("page", 0), url -> {
+            if (url.endsWith("page=2")) {
+                throw new IOException("Connection reset");
+            }
+            return url;
+        }, 4)) {
+            assertThrows(GeneralException.class, () -> pagePrefetcher.fetch("http://localhost/users", 0,
+                    (pageIndex, response) -> pageIndexes.add(pageIndex)));
+        }
+        assertEquals("Consumed count is not match", 2, pageIndexes.size());
+    }
+
+    /**
+     * Test of invalid concurrency
+     * Input:
+     * - concurrency 0
+     * Output:
+     * - illegal argument exception
+     */
+    @Test
+    public void invalidConcurrencyTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PagePrefetcher(PageUrlBuilder.pageNumber("page", 0), url -> url, 0));
+    }
+}
@@ -0,0 +1,208 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import org.junit.Test;
+import sailpoint.object.Application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link RequestLimiter} class
+ */
+public class RequestLimiterTest {
+
+    /**
+     * Test of rate limit
+     * Input:
+     * - rate 50 requests per second, burst 1
+     * - 26 requests
+     * Output:
+     * - requests take at least 0.5 second
+     */
+    @Test
+    public void rateTest() throws InterruptedException {
+        RequestLimiter requestLimiter = new RequestLimiter(50, 1, 1);
+
+        long start = System.nanoTime();
+        for (int index = 0; index < 26; index++) {
+            requestLimiter.acquire();
+            requestLimiter.release(200);
+        }
+        assertTrue("Rate is exceeded", System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(480));
+    }
+
+    /**
+     * Test of adaptive concurrency
+     * Input:
+     * - max concurrency 8
+     * - throttled response, successful responses
+     * Output:
+     * - concurrency limit is halved on throttled response, increased on successful responses up to max
+     * Expectation:
+     * - the second throttled response in decrease interval does not decrease limit
+     */
+    @Test
+    public void adaptiveConcurrencyTest() throws InterruptedException {
+        RequestLimiter requestLimiter = new RequestLimiter(0, 0, 8);
+
+        requestLimiter.acquire();
+        requestLimiter.release(RequestLimiter.STATUS_TOO_MANY_REQUESTS);
+        assertEquals("Concurrency limit is not decreased", 4, requestLimiter.getConcurrencyLimit());
+        requestLimiter.acquire();
+        requestLimiter.release(RequestLimiter.STATUS_SERVICE_UNAVAILABLE);
+        assertEquals("Concurrency limit is decreased twice", 4, requestLimiter.getConcurrencyLimit());
+        for (int index = 0; index < 100; index++) {
+            requestLimiter.acquire();
+            requestLimiter.release(200);
+        }
+        assertEquals("Concurrency limit is not increased", 8, requestLimiter.getConcurrencyLimit());
+    }
+
+    /**
+     * Test of not released permit
+     * Input:
+     * - max concurrency 1
+     * - permit of current thread is acquired twice
+     * - permit is held by another thread
+     * Output:
+     * - the second acquire of thread does not wait
+     * - acquire of other thread waits for released permit
+     */
+    @Test
+    public void notReleasedPermitTest() throws Exception {
+        RequestLimiter requestLimiter = new RequestLimiter(0, 0, 1);
+
+        requestLimiter.acquire();
+        requestLimiter.acquire();
+        CompletableFuture<Void> waitingAcquire = CompletableFuture.runAsync(() -> {
+            try {
+                requestLimiter.acquire();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> waitingAcquire.get(300, TimeUnit.MILLISECONDS));
+
+        requestLimiter.release(200);
+        waitingAcquire.get(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Test of permit of dead thread
+     * Input:
+     * - max concurrency 1
+     * - permit is acquired by thread which is finished
+     * Output:
+     * - permit is reclaimed for current thread
+     */
+    @Test
+    public void deadThreadPermitTest() throws Exception {
+        RequestLimiter requestLimiter = new RequestLimiter(0, 0, 1);
+        Thread thread = new Thread(() -> {
+            try {
+                requestLimiter.acquire();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                requestLimiter.acquire();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).get(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Test of not released permit of unknown failure
+     * Input:
+     * - max concurrency 8
+     * - permit of current thread is acquired twice
+     * Output:
+     * - concurrency limit is not decreased
+     */
+    @Test
+    public void notReleasedPermitLimitTest() throws InterruptedException {
+        RequestLimiter requestLimiter = new RequestLimiter(0, 0, 8);
+
+        requestLimiter.acquire();
+        requestLimiter.acquire();
+        assertEquals("Not released permit is treated as throttled", 8, requestLimiter.getConcurrencyLimit());
+    }
+
+    /**
+     * Test of permit lease timeout
+     * Input:
+     * - max concurrency 1, lease timeout 200 milliseconds
+     * - permit is held by alive thread
+     * Output:
+     * - permit is reclaimed for current thread after lease timeout
+     */
+    @Test
+    public void leaseTimeoutTest() throws Exception {
+        RequestLimiter requestLimiter = new RequestLimiter(0, 0, 1, 200);
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                requestLimiter.acquire();
+                acquired.countDown();
+                finished.await();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        thread.start();
+        try {
+            acquired.await();
+            CompletableFuture.runAsync(() -> {
+                try {
+                    requestLimiter.acquire();
+                } catch (InterruptedException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }).get(1, TimeUnit.MINUTES);
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    /**
+     * Test of limiter of application
+     * Input:
+     * - application with max concurrent requests 4
+     * - the same config, changed max concurrent requests 8
+     * Output:
+     * - limiter is shared for the same config
+     * - limiter is rebuilt for changed config
+     */
+    @Test
+    public void applicationConfigTest() {
+        Application application = mock(Application.class);
+        when(application.getName()).thenReturn("requestLimiterTestApplication");
+        when(application.getAttributeValue(RequestLimiter.CONFIG_MAX_CONCURRENT_REQUESTS)).thenReturn(4);
+
+        RequestLimiter requestLimiter = RequestLimiter.of(application);
+        assertEquals("Concurrency limit is not match", 4, requestLimiter.getConcurrencyLimit());
+        assertSame("Limiter is not shared", requestLimiter, RequestLimiter.of(application));
+
+        when(application.getAttributeValue(RequestLimiter.CONFIG_MAX_CONCURRENT_REQUESTS)).thenReturn(8);
+        RequestLimiter changedLimiter = RequestLimiter.of(application);
+        assertNotSame("Limiter is not rebuilt", requestLimiter, changedLimiter);
+        assertEquals("Concurrency limit is not match", 8, changedLimiter.getConcurrencyLimit());
+    }
+}
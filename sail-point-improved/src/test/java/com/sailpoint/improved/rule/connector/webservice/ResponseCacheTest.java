@@ -0,0 +1,131 @@
+package com.sailpoint.improved.rule.connector.webservice;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test for {@link ResponseCache} class
+ */
+public class ResponseCacheTest {
+
+    /**
+     * Test records
+     */
+    private static final List<Map<String, Object>> RECORDS = Collections.singletonList(
+            Collections.singletonMap("name", "Administrators"));
+
+    /**
+     * Cache directory for test
+     */
+    private Path directory;
+
+    /**
+     * Init cache directory
+     */
+    @Before
+    public void init() throws IOException {
+        Path parent = Files.createTempDirectory("response-cache");
+        parent.toFile().deleteOnExit();
+        this.directory = parent.resolve("cache");
+    }
+
+    /**
+     * Test of cached response
+     * Input:
+     * - response of url with validators
+     * Output:
+     * - cached response of url, null for other url
+     * Expectation:
+     * - response is loaded from cache directory by new cache
+     * - cache directory is accessible by owner only
+     */
+    @Test
+    public void cachedResponseTest() throws IOException {
+        ResponseCache.CachedResponse cachedResponse = new ResponseCache.CachedResponse(
+                "http://localhost/groups", "\"v1\"", "Wed, 21 Oct 2026 07:28:00 GMT", RECORDS);
+        ResponseCache responseCache = new ResponseCache(directory, 16);
+        responseCache.put("http://localhost/groups", cachedResponse);
+
+        assertEquals("Cached response is not match", cachedResponse, responseCache.get("http://localhost/groups"));
+        assertNull("Response of other url is cached", responseCache.get("http://localhost/roles"));
+        assertEquals("Cached response is not loaded from directory", cachedResponse,
+                new ResponseCache(directory, 16).get("http://localhost/groups"));
+        if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals("Cache directory is accessible by others", PosixFilePermissions.fromString("rwx------"),
+                    Files.getPosixFilePermissions(directory));
+        }
+    }
+
+    /**
+     * Test of response with values which can not be written as JSON
+     * Input:
+     * - response with date value
+     * Output:
+     * - response is cached in memory only
+     */
+    @Test
+    public void notJsonResponseTest() {
+        ResponseCache.CachedResponse cachedResponse = new ResponseCache.CachedResponse("http://localhost/groups",
+                "\"v1\"", null, Collections.singletonList(Collections.singletonMap("created", new Date())));
+        ResponseCache responseCache = new ResponseCache(directory, 16);
+        responseCache.put("http://localhost/groups", cachedResponse);
+
+        assertEquals("Cached response is not match", cachedResponse, responseCache.get("http://localhost/groups"));
+        assertNull("Response is written to directory", new ResponseCache(directory, 16)
+                .get("http://localhost/groups"));
+    }
+
+    /**
+     * Test of cache directory which is accessible by others
+     * Input:
+     * - cache file in directory with read permission of others
+     * Output:
+     * - cache file is not read
+     * Expectation:
+     * - test is skipped for file system without POSIX permissions
+     */
+    @Test
+    public void sharedDirectoryTest() throws IOException {
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        ResponseCache.CachedResponse cachedResponse = new ResponseCache.CachedResponse("http://localhost/groups",
+                "\"v1\"", null, RECORDS);
+        new ResponseCache(directory, 16).put("http://localhost/groups", cachedResponse);
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxr-xr-x"));
+
+        assertNull("Cache file is read from shared directory", new ResponseCache(directory, 16)
+                .get("http://localhost/groups"));
+    }
+
+    /**
+     * Test of evicted response
+     * Input:
+     * - memory size 1, responses of 2 urls
+     * Output:
+     * - evicted response is loaded from cache directory
+     */
+    @Test
+    public void evictedResponseTest() {
+        ResponseCache responseCache = new ResponseCache(directory, 1);
+        ResponseCache.CachedResponse firstResponse = new ResponseCache.CachedResponse("http://localhost/groups",
+                "\"v1\"", null, RECORDS);
+        responseCache.put("http://localhost/groups", firstResponse);
+        responseCache.put("http://localhost/roles", new ResponseCache.CachedResponse("http://localhost/roles",
+                "\"v2\"", null, Collections.emptyList()));
+
+        assertEquals("Evicted response is not loaded", firstResponse, responseCache.get("http://localhost/groups"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.sailpoint.improved.rule.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link LatencyHistogram} class
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Test of bucket bounds
+     * Input:
+     * - values from 0 to 1_000_000
+     * Output:
+     * - bucket index and upper bound of bucket
+     * Expectation:
+     * - value is not more than upper bound of own bucket
+     * - value is more than upper bound of previous bucket
+     * - relative error of upper bound is not more than 12.5%
+     */
+    @Test
+    public void bucketBoundsTest() {
+        for (long value = 0; value < 1_000_000; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertTrue("Value is more than bucket upper bound", value <= upperBound);
+            if (index > 0) {
+                assertTrue("Value is in previous bucket", value > LatencyHistogram.bucketUpperBound(index - 1));
+            }
+            assertTrue("Bucket is too wide", upperBound - value <= value / 8);
+        }
+        int maxIndex = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+        assertEquals("Long max value is not in last bucket", Long.MAX_VALUE,
+                LatencyHistogram.bucketUpperBound(maxIndex));
+    }
+
+    /**
+     * Test of percentiles
+     * Input:
+     * - values from 1 to 1000
+     * Output:
+     * - count, mean, max, p50 and p99
+     * Expectation:
+     * - count is 1000, mean is 500, max is 1000
+     * - p50 and p99 are within 12.5% of exact values
+     * - all values are 0 after reset
+     */
+    @Test
+    public void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        assertEquals("Count is not match", 1000, histogram.getCount());
+        assertEquals("Mean is not match", 500, histogram.getMean());
+        assertEquals("Max is not match", 1000, histogram.getMax());
+        long p50 = histogram.getPercentile(50D);
+        assertTrue("P50 is not match:" + p50, p50 >= 500 && p50 <= 500 + 500 / 8);
+        long p99 = histogram.getPercentile(99D);
+        assertTrue("P99 is not match:" + p99, p99 >= 990 && p99 <= 1000);
+        assertEquals("P100 is not max", histogram.getMax(), histogram.getPercentile(100D));
+
+        histogram.reset();
+        assertEquals("Count is not reset", 0, histogram.getCount());
+        assertEquals("Max is not reset", 0, histogram.getMax());
+        assertEquals("Percentile is not reset", 0, histogram.getPercentile(50D));
+    }
+
+    /**
+     * Test of negative value recording
+     * Input:
+     * - negative value
+     * Output:
+     * - max and percentile
+     * Expectation:
+     * - value is recorded as 0
+     */
+    @Test
+    public void negativeValueTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-10);
+        assertEquals("Count is not match", 1, histogram.getCount());
+        assertEquals("Max is not match", 0, histogram.getMax());
+        assertEquals("Percentile is not match", 0, histogram.getPercentile(99D));
+    }
+}
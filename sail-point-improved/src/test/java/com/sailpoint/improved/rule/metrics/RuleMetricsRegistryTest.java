@@ -0,0 +1,195 @@
+package com.sailpoint.improved.rule.metrics;
+
+import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
+import org.junit.After;
+import org.junit.Test;
+import sailpoint.api.SailPointContext;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.tools.GeneralException;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link RuleMetricsRegistry} class
+ */
+public class RuleMetricsRegistryTest {
+
+    /**
+     * Rule type of test rule
+     */
+    private static final String TEST_RULE_TYPE = "MetricsTestRule";
+
+    /**
+     * Enable and reset metrics after each test
+     */
+    @After
+    public void reset() {
+        RuleMetricsRegistry.getInstance().setEnabled(true);
+        RuleMetricsRegistry.getInstance().reset();
+    }
+
+    /**
+     * Test of recording metrics by rule execution
+     * Input:
+     * - rule executed successfully twice
+     * - rule executed with error once
+     * Output:
+     * - metrics of rule class and rule type
+     * Expectation:
+     * - 3 calls and 1 error for rule class and rule type
+     * - 2 validation, container build and execution latency values
+     */
+    @Test
+    public void executionMetricsTest() throws GeneralException {
+        MetricsTestRule rule = new MetricsTestRule();
+        JavaRuleContext javaRuleContext = new JavaRuleContext(mock(SailPointContext.class), Collections.emptyMap());
+        rule.execute(javaRuleContext);
+        rule.execute(javaRuleContext);
+        rule.fail = true;
+        assertThrows(GeneralException.class, () -> rule.execute(javaRuleContext));
+
+        RuleMetricsRegistry registry = RuleMetricsRegistry.getInstance();
+        for (RuleMetrics metrics : new RuleMetrics[]{
+                registry.getMetricsOfRuleClass(MetricsTestRule.class.getName()),
+                registry.getMetricsOfRuleType(TEST_RULE_TYPE)}) {
+            RuleMetricsSnapshot snapshot = metrics.snapshot();
+            assertEquals("Calls count is not match", 3, snapshot.getCalls());
+            assertEquals("Errors count is not match", 1, snapshot.getErrors());
+            assertEquals("Total latency count is not match", 3, snapshot.getTotal().getCount());
+            assertEquals("Validation latency count is not match", 3, snapshot.getValidation().getCount());
+            assertEquals("Container latency count is not match", 3, snapshot.getContainerBuild().getCount());
+            assertEquals("Execution latency count is not match", 2, snapshot.getExecution().getCount());
+        }
+        assertTrue("Rule type metrics are not found", registry.getRuleTypeMetrics().stream()
+                .anyMatch(snapshot -> TEST_RULE_TYPE.equals(snapshot.getName())));
+    }
+
+    /**
+     * Test of disabled metrics
+     * Input:
+     * - metrics are disabled
+     * Output:
+     * - metrics of rule type
+     * Expectation:
+     * - execution metrics recorder is null
+     * - no calls are recorded
+     */
+    @Test
+    public void disabledMetricsTest() throws GeneralException {
+        RuleMetricsRegistry.getInstance().setEnabled(false);
+        MetricsTestRule rule = new MetricsTestRule();
+        rule.execute(new JavaRuleContext(mock(SailPointContext.class), Collections.emptyMap()));
+
+        assertNull("Metrics recorder is not null", rule.getExecutionMetrics());
+        assertEquals("Calls are recorded", 0, RuleMetricsRegistry.getInstance()
+                .getMetricsOfRuleType(TEST_RULE_TYPE).snapshot().getCalls());
+    }
+
+    /**
+     * Test of metrics instances storage
+     * Input:
+     * - the same rule class, rule type and null names
+     * Output:
+     * - metrics instances
+     * Expectation:
+     * - the same instance is returned for the same name
+     * - null name is stored as unknown
+     */
+    @Test
+    public void metricsStorageTest() {
+        RuleMetricsRegistry registry = RuleMetricsRegistry.getInstance();
+        assertSame("Rule class metrics are not the same", registry.getMetricsOfRuleClass("class"),
+                registry.getMetricsOfRuleClass("class"));
+        assertSame("Rule type metrics are not the same", registry.getMetricsOfRuleType("type"),
+                registry.getMetricsOfRuleType("type"));
+        assertEquals("Null name is not unknown", RuleMetricsRegistry.UNKNOWN_NAME,
+                registry.getMetricsOfRuleType(null).getName());
+    }
+
+    /**
+     * Test of MBean registration
+     * Input:
+     * - new MBean server
+     * - registration is called twice
+     * Output:
+     * - rule type metrics attribute
+     * Expectation:
+     * - MBean is registered
+     * - second registration is ignored
+     * - rule type metrics are available as composite data
+     */
+    @Test
+    public void registerMBeanTest() throws Exception {
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        RuleMetricsRegistry registry = RuleMetricsRegistry.getInstance();
+        registry.getMetricsOfRuleType(TEST_RULE_TYPE).recordCall(1000L, false);
+        registry.registerMBean(mBeanServer);
+        registry.registerMBean(mBeanServer);
+
+        ObjectName objectName = new ObjectName(RuleMetricsRegistry.OBJECT_NAME);
+        assertTrue("MBean is not registered", mBeanServer.isRegistered(objectName));
+        assertEquals("Enabled attribute is not match", true, mBeanServer.getAttribute(objectName, "Enabled"));
+        CompositeData[] ruleTypeMetrics = (CompositeData[]) mBeanServer.getAttribute(objectName, "RuleTypeMetrics");
+        assertTrue("Rule type metrics are not exposed", Arrays.stream(ruleTypeMetrics)
+                .anyMatch(metrics -> TEST_RULE_TYPE.equals(metrics.get("name"))
+                        && Long.valueOf(1L).equals(metrics.get("calls"))));
+    }
+
+    /**
+     * Test rule: returns container value or throws exception
+     */
+    public static class MetricsTestRule extends AbstractJavaRuleExecutor<Object, Object> {
+
+        /**
+         * Fail flag: true - internal execution throws exception
+         */
+        private boolean fail;
+
+        /**
+         * Default constructor
+         */
+        public MetricsTestRule() {
+            super(TEST_RULE_TYPE, null);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RuleExecutionMetrics getExecutionMetrics() {
+            return super.getExecutionMetrics();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object buildContainerArguments(JavaRuleContext javaRuleContext) {
+            return new Object();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext, Object containerArguments)
+                throws GeneralException {
+            if (fail) {
+                throw new GeneralException("Test error");
+            }
+            return containerArguments;
+        }
+    }
+}
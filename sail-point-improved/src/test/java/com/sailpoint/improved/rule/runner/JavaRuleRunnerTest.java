@@ -1,5 +1,9 @@
 package com.sailpoint.improved.rule.runner;
 
+import com.sailpoint.annotation.RuleScope;
+import com.sailpoint.annotation.common.ExecutorScope;
+import com.sailpoint.annotation.common.RuleIndex;
+import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
 import mockit.Mock;
 import mockit.MockUp;
 import org.junit.Before;
@@ -11,16 +15,27 @@ import sailpoint.object.JavaRuleExecutor;
 import sailpoint.object.Rule;
 import sailpoint.tools.GeneralException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static com.sailpoint.improved.JUnit4Helper.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +114,62 @@ public class JavaRuleRunnerTest {
         assertEquals("Instance count after test is not 1", 1, JMockRule.ruleMock.instanceCount);
     }
 
+    /**
+     * Test of java rule executor rules storage from several threads
+     * Input:
+     * - rule with context = {@link JMockRule} class name
+     * Expectation:
+     * - test rule must instantiated only once
+     */
+    @Test
+    public void concurrentRulesInstanceStorageTest() throws Exception {
+        int threads = 8;
+        int executions = 1000;
+        JMockRule.instanceCount = 0;
+
+        JMockRule.ruleMock = mock(JMockRule.class);
+        Rule rule = createTestRule();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < executions; i++) {
+                results.add(executorService.submit(
+                        () -> javaRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList())));
+            }
+            for (Future<Object> result : results) {
+                result.get();
+            }
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        assertEquals("Instance count after test is not 1", 1, JMockRule.instanceCount);
+    }
+
+    /**
+     * Test of rule execution with unknown class in source
+     * Input:
+     * - rule with source of not existed class
+     * Output:
+     * - general exception for each run
+     * Expectation:
+     * - have not called execute in mocked instance
+     */
+    @Test
+    public void unknownClassRuleRun() {
+        JMockRule.ruleMock = mock(JMockRule.class);
+
+        Rule rule = createTestRule();
+        when(rule.getSource()).thenReturn(JMockRule.class.getName() + UUID.randomUUID().toString());
+
+        assertThrows(GeneralException.class,
+                () -> javaRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList()));
+        assertThrows(GeneralException.class,
+                () -> javaRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList()));
+        verify(JMockRule.ruleMock, never()).execute(any());
+    }
+
     /**
      * Test of invalid rule execution
      * Input:
@@ -171,6 +242,220 @@ public class JavaRuleRunnerTest {
 
     }
 
+    /**
+     * Test of batch execution of rule which is not abstract java rule executor
+     * Input:
+     * - rule with context = {@link JMockRule} class name
+     * - batch of 3 parameters
+     * Output:
+     * - results of mocked {@link JMockRule} instance
+     * Expectation:
+     * - call execute in mocked instance for each parameters
+     * - results are in the same order as parameters
+     */
+    @Test
+    public void batchRun() throws Exception {
+        JMockRule.ruleMock = mock(JMockRule.class);
+        when(JMockRule.ruleMock.execute(any())).thenAnswer(
+                invocation -> ((JavaRuleContext) invocation.getArgument(0)).getArguments());
+        List<Map<String, Object>> parametersBatch = createTestBatch();
+
+        List<Object> results = javaRuleRunner.runJavaRuleBatch(createTestRule(), parametersBatch);
+
+        assertEquals("Expected results of batch execution are not match", parametersBatch, results);
+        verify(JMockRule.ruleMock, times(parametersBatch.size())).execute(any());
+    }
+
+    /**
+     * Test of batch execution of abstract java rule executor
+     * Input:
+     * - rule with context = {@link JBatchRule} class name
+     * - batch of 3 parameters
+     * Output:
+     * - results of {@link JBatchRule}: bound arguments
+     * Expectation:
+     * - results are in the same order as parameters
+     */
+    @Test
+    public void abstractJavaRuleExecutorBatchRun() throws Exception {
+        Rule rule = mock(Rule.class);
+        when(rule.getSource()).thenReturn(JBatchRule.class.getName());
+        List<Map<String, Object>> parametersBatch = createTestBatch();
+
+        List<Object> results = javaRuleRunner.runJavaRuleBatch(rule, parametersBatch);
+
+        assertEquals("Expected results of batch execution are not match", parametersBatch, results);
+    }
+
+    /**
+     * Test of execution of indexed rule
+     * Input:
+     * - rule with source which is not class name
+     * - rule registry with factory of {@link JMockRule} for this source
+     * Output:
+     * - result of mocked {@link JMockRule} instance
+     * Expectation:
+     * - rule executor is created by factory of rule registry
+     */
+    @Test
+    public void indexedRuleRun() throws Exception {
+        String expectedResult = UUID.randomUUID().toString();
+        String ruleSource = UUID.randomUUID().toString();
+        JMockRule.ruleMock = mock(JMockRule.class);
+        when(JMockRule.ruleMock.execute(any())).thenReturn(expectedResult);
+        JavaRuleRunner indexedRuleRunner = new JavaRuleRunner(
+                createTestRegistry(Collections.singletonMap(ruleSource, JMockRule::new)));
+
+        Rule rule = createTestRule();
+        when(rule.getSource()).thenReturn(ruleSource);
+        Object actualResult = indexedRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList());
+
+        assertEquals("Expected result of rule execution is not match with actual", expectedResult, actualResult);
+    }
+
+    /**
+     * Test of warm-up of indexed rules
+     * Input:
+     * - rule registry with {@link JMockRule} and rule with failed factory
+     * Output:
+     * - count of warmed up rules
+     * Expectation:
+     * - only {@link JMockRule} is warmed up
+     * - {@link JMockRule} is instantiated only once by warm-up and following runs
+     */
+    @Test
+    public void warmUpTest() throws Exception {
+        JMockRule.instanceCount = 0;
+        JMockRule.ruleMock = mock(JMockRule.class);
+        Map<String, Supplier<Object>> ruleFactories = new LinkedHashMap<>();
+        ruleFactories.put(JMockRule.class.getName(), JMockRule::new);
+        ruleFactories.put(UUID.randomUUID().toString(), () -> {
+            throw new IllegalStateException();
+        });
+        JavaRuleRunner indexedRuleRunner = new JavaRuleRunner(createTestRegistry(ruleFactories));
+
+        assertEquals("Count of warmed up rules is not match", 1, indexedRuleRunner.warmUp(2, false));
+        assertEquals("Instance count after warm-up is not 1", 1, JMockRule.instanceCount);
+        indexedRuleRunner.runJavaRule(createTestRule(), Collections.emptyMap(), Collections.emptyList());
+        assertEquals("Instance count after run is not 1", 1, JMockRule.instanceCount);
+        verify(JMockRule.ruleMock).execute(any());
+    }
+
+    /**
+     * Test of warm-up with priming
+     * Input:
+     * - rule registry with rule based on {@link AbstractJavaRuleExecutor}
+     * Output:
+     * - count of warmed up rules
+     * Expectation:
+     * - rule logic is not called by priming
+     */
+    @Test
+    public void primingTest() throws Exception {
+        JPrimingRule.executionCount.set(0);
+        JavaRuleRunner indexedRuleRunner = new JavaRuleRunner(createTestRegistry(
+                Collections.singletonMap(JPrimingRule.class.getName(), JPrimingRule::new)));
+
+        assertEquals("Count of warmed up rules is not match", 1, indexedRuleRunner.warmUp(2, true));
+        assertEquals("Rule is executed by priming", 0, JPrimingRule.executionCount.get());
+    }
+
+    /**
+     * Test of expiring of failed rule source
+     * Input:
+     * - rule registry with rule factory which fails only on the first call
+     * - runner with retry time 0 and runner with retry time 1 hour
+     * Output:
+     * - general exception of the first run
+     * Expectation:
+     * - the second run is succeeded by runner with retry time 0
+     * - the second run is failed without calling factory by runner with retry time 1 hour
+     */
+    @Test
+    public void failedRetryTest() throws Exception {
+        JMockRule.ruleMock = mock(JMockRule.class);
+        AtomicInteger factoryCalls = new AtomicInteger();
+        Supplier<Object> ruleFactory = () -> {
+            if (factoryCalls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return new JMockRule();
+        };
+        Rule rule = createTestRule();
+
+        JavaRuleRunner retryRuleRunner = new JavaRuleRunner(createTestRegistry(
+                Collections.singletonMap(JMockRule.class.getName(), ruleFactory)), 0);
+        assertThrows(GeneralException.class,
+                () -> retryRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList()));
+        retryRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList());
+        verify(JMockRule.ruleMock).execute(any());
+
+        factoryCalls.set(0);
+        JavaRuleRunner cachedRuleRunner = new JavaRuleRunner(createTestRegistry(
+                Collections.singletonMap(JMockRule.class.getName(), ruleFactory)), TimeUnit.HOURS.toMillis(1));
+        assertThrows(GeneralException.class,
+                () -> cachedRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList()));
+        assertThrows(GeneralException.class,
+                () -> cachedRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList()));
+        assertEquals("Factory is called for failed rule", 1, factoryCalls.get());
+    }
+
+    /**
+     * Test of pooled rule execution from several threads
+     * Input:
+     * - rule with context = {@link JPooledRule} class name, pool size 1
+     * Expectation:
+     * - test rule must instantiated only once
+     * - instance is not executed concurrently
+     */
+    @Test
+    public void pooledRuleRun() throws Exception {
+        int threads = 8;
+        int executions = 200;
+        JPooledRule.instanceCount.set(0);
+        Rule rule = createTestRule();
+        when(rule.getSource()).thenReturn(JPooledRule.class.getName());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < executions; i++) {
+                results.add(executorService.submit(
+                        () -> javaRuleRunner.runJavaRule(rule, Collections.emptyMap(), Collections.emptyList())));
+            }
+            for (Future<Object> result : results) {
+                assertEquals("Pooled rule is executed concurrently", Boolean.TRUE, result.get());
+            }
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        assertEquals("Instance count after test is not 1", 1, JPooledRule.instanceCount.get());
+    }
+
+    /**
+     * Create rule registry of one test index
+     *
+     * @param ruleFactories - rule factories of index
+     * @return rule registry
+     */
+    private RuleRegistry createTestRegistry(Map<String, Supplier<Object>> ruleFactories) {
+        RuleIndex ruleIndex = () -> ruleFactories;
+        return new RuleRegistry(Collections.singletonList(ruleIndex));
+    }
+
+    /**
+     * Create test batch of 3 parameters
+     *
+     * @return parameters batch
+     */
+    private List<Map<String, Object>> createTestBatch() {
+        return Arrays.asList(
+                Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()),
+                Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()),
+                Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+    }
+
     /**
      * Create test rule for mock
      *
@@ -215,4 +500,110 @@ public class JavaRuleRunnerTest {
             return JMockRule.ruleMock.execute(javaRuleContext);
         }
     }
+
+    /**
+     * Test class for testing batch execution of abstract java rule executor: returns raw arguments
+     */
+    public static class JBatchRule extends AbstractJavaRuleExecutor<Object, Map<String, Object>> {
+
+        /**
+         * Default constructor
+         */
+        public JBatchRule() {
+            super(JBatchRule.class.getSimpleName(), null);
+        }
+
+        /**
+         * Use raw arguments as container
+         *
+         * @param javaRuleContext - current rule context
+         * @return raw arguments
+         */
+        @Override
+        protected Map<String, Object> buildContainerArguments(JavaRuleContext javaRuleContext) {
+            return javaRuleContext.getArguments();
+        }
+
+        /**
+         * Return arguments container
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return arguments container
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext, Map<String, Object> containerArguments) {
+            return containerArguments;
+        }
+    }
+
+    /**
+     * Test class for testing pooled rules: checks that instance is not executed concurrently
+     */
+    @RuleScope(value = ExecutorScope.POOLED, poolSize = 1)
+    public static class JPooledRule implements JavaRuleExecutor {
+
+        /**
+         * Count of created instances
+         */
+        private static final AtomicInteger instanceCount = new AtomicInteger();
+
+        /**
+         * Instance is executed now
+         */
+        private final AtomicBoolean executing = new AtomicBoolean();
+
+        /**
+         * Increment count of instances
+         */
+        public JPooledRule() {
+            instanceCount.incrementAndGet();
+        }
+
+        /**
+         * Check that instance is not executed by other thread
+         *
+         * @param javaRuleContext - rule context
+         * @return true - instance is not executed concurrently
+         */
+        @Override
+        public Object execute(JavaRuleContext javaRuleContext) {
+            if (!executing.compareAndSet(false, true)) {
+                return false;
+            }
+            Thread.yield();
+            executing.set(false);
+            return true;
+        }
+    }
+
+    /**
+     * Test rule which counts executions
+     */
+    public static class JPrimingRule extends AbstractJavaRuleExecutor<Object, Map<String, Object>> {
+
+        /**
+         * Count of executions
+         */
+        private static final AtomicInteger executionCount = new AtomicInteger();
+
+        /**
+         * Default constructor
+         */
+        public JPrimingRule() {
+            super(JPrimingRule.class.getSimpleName(), null);
+        }
+
+        /**
+         * Count execution
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return count of executions
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext, Map<String, Object> containerArguments) {
+            return executionCount.incrementAndGet();
+        }
+    }
 }
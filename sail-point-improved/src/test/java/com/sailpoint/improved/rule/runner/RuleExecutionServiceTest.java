@@ -0,0 +1,316 @@
+package com.sailpoint.improved.rule.runner;
+
+import com.sailpoint.annotation.RuleScope;
+import com.sailpoint.annotation.common.ExecutorScope;
+import com.sailpoint.improved.rule.AbstractJavaRuleExecutor;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.Before;
+import org.junit.Test;
+import sailpoint.api.SailPointContext;
+import sailpoint.api.SailPointFactory;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.tools.GeneralException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for {@link RuleExecutionService} class
+ */
+public class RuleExecutionServiceTest {
+
+    /**
+     * Name of argument with value to return
+     */
+    private static final String ARG_VALUE = "value";
+
+    /**
+     * Count of created sailpoint contexts
+     */
+    private AtomicInteger createdContexts;
+    /**
+     * Count of released sailpoint contexts
+     */
+    private AtomicInteger releasedContexts;
+    /**
+     * Count of decache calls of sailpoint contexts
+     */
+    private AtomicInteger decachedContexts;
+    /**
+     * Sailpoint contexts which were passed to rule
+     */
+    private Set<SailPointContext> usedContexts;
+
+    /**
+     * Mock sailpoint factory: create new context mock for each call, decache of context is counted
+     */
+    @Before
+    public void init() {
+        this.createdContexts = new AtomicInteger();
+        this.releasedContexts = new AtomicInteger();
+        this.decachedContexts = new AtomicInteger();
+        this.usedContexts = ConcurrentHashMap.newKeySet();
+        TestRule.usedContexts = this.usedContexts;
+
+        new MockUp<SailPointFactory>() {
+            @Mock
+            public SailPointContext createContext(String name) {
+                createdContexts.incrementAndGet();
+                SailPointContext sailPointContext = mock(SailPointContext.class);
+                try {
+                    doAnswer(invocation -> decachedContexts.incrementAndGet()).when(sailPointContext).decache();
+                } catch (GeneralException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                return sailPointContext;
+            }
+
+            @Mock
+            public void releaseContext(SailPointContext sailPointContext) {
+                releasedContexts.incrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Test of executing all invocations
+     * Input:
+     * - service with 4 threads
+     * - 200 invocations
+     * Output:
+     * - results of invocations
+     * Expectation:
+     * - results are in the same order as arguments
+     * - not more than 4 contexts are created
+     * - all created contexts are released after close
+     * - context is decached after each invocation
+     */
+    @Test
+    public void executeAllTest() throws GeneralException {
+        int threads = 4;
+        List<Map<String, Object>> argumentsBatch = new ArrayList<>();
+        List<Object> expectedResults = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            argumentsBatch.add(Collections.singletonMap(ARG_VALUE, index));
+            expectedResults.add(index);
+        }
+
+        try (RuleExecutionService ruleExecutionService = new RuleExecutionService(threads)) {
+            assertEquals("Results are not match", expectedResults,
+                    ruleExecutionService.executeAll(new TestRule(), argumentsBatch));
+        }
+        assertTrue("Too many contexts are created", createdContexts.get() <= threads);
+        assertEquals("Not all used contexts are created by factory", createdContexts.get(), usedContexts.size());
+        assertEquals("Not all contexts are released", createdContexts.get(), releasedContexts.get());
+        assertEquals("Contexts are not decached after each invocation", 200, decachedContexts.get());
+    }
+
+    /**
+     * Test of failed invocation
+     * Input:
+     * - invocation without value argument
+     * Output:
+     * - general exception
+     * Expectation:
+     * - created contexts are released after close
+     */
+    @Test
+    public void failedInvocationTest() {
+        List<Map<String, Object>> argumentsBatch = new ArrayList<>();
+        argumentsBatch.add(Collections.singletonMap(ARG_VALUE, 1));
+        argumentsBatch.add(Collections.emptyMap());
+
+        try (RuleExecutionService ruleExecutionService = new RuleExecutionService(2)) {
+            assertThrows(GeneralException.class,
+                    () -> ruleExecutionService.executeAll(new TestRule(), argumentsBatch));
+        }
+        assertEquals("Not all contexts are released", createdContexts.get(), releasedContexts.get());
+    }
+
+    /**
+     * Test of thread rule executed by provider
+     * Input:
+     * - service with 4 threads
+     * - provider of rule marked by {@link ExecutorScope#THREAD}, 200 invocations
+     * Output:
+     * - results of invocations
+     * Expectation:
+     * - instance is not executed concurrently
+     * - not more than 4 instances are created
+     */
+    @Test
+    public void threadRuleTest() throws GeneralException {
+        int threads = 4;
+        List<Map<String, Object>> argumentsBatch = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            argumentsBatch.add(Collections.singletonMap(ARG_VALUE, index));
+        }
+        ThreadTestRule.instanceCount.set(0);
+
+        try (RuleExecutionService ruleExecutionService = new RuleExecutionService(threads)) {
+            List<Boolean> results = ruleExecutionService.executeAll(
+                    RuleExecutorProvider.of(new ThreadTestRule(), ThreadTestRule::new), argumentsBatch);
+            assertFalse("Thread rule is executed concurrently", results.contains(Boolean.FALSE));
+        }
+        assertTrue("Too many instances are created", ThreadTestRule.instanceCount.get() <= threads);
+    }
+
+    /**
+     * Test of not singleton rule executed without provider
+     * Input:
+     * - rule marked by {@link ExecutorScope#THREAD}
+     * Output:
+     * - illegal argument exception
+     */
+    @Test
+    public void notSingletonRuleTest() {
+        try (RuleExecutionService ruleExecutionService = new RuleExecutionService(2)) {
+            assertThrows(IllegalArgumentException.class, () -> ruleExecutionService.executeAll(new ThreadTestRule(),
+                    Collections.singletonList(Collections.singletonMap(ARG_VALUE, 1))));
+        }
+    }
+
+    /**
+     * Test of empty batch
+     * Input:
+     * - null and empty batches
+     * Output:
+     * - empty results
+     */
+    @Test
+    public void emptyBatchTest() throws GeneralException {
+        try (RuleExecutionService ruleExecutionService = new RuleExecutionService(2)) {
+            assertTrue("Results of null batch are not empty",
+                    ruleExecutionService.executeAll(new TestRule(), null).isEmpty());
+            assertTrue("Results of empty batch are not empty",
+                    ruleExecutionService.executeAll(new TestRule(), Collections.emptyList()).isEmpty());
+        }
+    }
+
+    /**
+     * Test of invalid threads count
+     * Input:
+     * - 0 threads
+     * Output:
+     * - illegal argument exception
+     */
+    @Test
+    public void invalidThreadsCountTest() {
+        assertThrows(IllegalArgumentException.class, () -> new RuleExecutionService(0));
+    }
+
+    /**
+     * Test rule: returns value argument, throws exception if value is null
+     */
+    public static class TestRule extends AbstractJavaRuleExecutor<Object, Map<String, Object>> {
+
+        /**
+         * Sailpoint contexts which were passed to rule
+         */
+        private static Set<SailPointContext> usedContexts;
+
+        /**
+         * Default constructor
+         */
+        public TestRule() {
+            super(TestRule.class.getSimpleName(), null);
+        }
+
+        /**
+         * Use raw arguments as container
+         *
+         * @param javaRuleContext - current rule context
+         * @return raw arguments
+         */
+        @Override
+        protected Map<String, Object> buildContainerArguments(JavaRuleContext javaRuleContext) {
+            return javaRuleContext.getArguments();
+        }
+
+        /**
+         * Return value argument
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return value argument
+         * @throws GeneralException - value argument is null
+         */
+        @Override
+        protected Object internalExecute(JavaRuleContext javaRuleContext, Map<String, Object> containerArguments)
+                throws GeneralException {
+            usedContexts.add(javaRuleContext.getContext());
+            Object value = containerArguments.get(ARG_VALUE);
+            if (value == null) {
+                throw new GeneralException("Value is null");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Test rule with own instance for each thread: returns false if instance is executed concurrently
+     */
+    @RuleScope(ExecutorScope.THREAD)
+    public static class ThreadTestRule extends AbstractJavaRuleExecutor<Boolean, Map<String, Object>> {
+
+        /**
+         * Count of created instances
+         */
+        private static final AtomicInteger instanceCount = new AtomicInteger();
+
+        /**
+         * Instance is executed now
+         */
+        private final AtomicBoolean executing = new AtomicBoolean();
+
+        /**
+         * Default constructor
+         */
+        public ThreadTestRule() {
+            super(ThreadTestRule.class.getSimpleName(), null);
+            instanceCount.incrementAndGet();
+        }
+
+        /**
+         * Use raw arguments as container
+         *
+         * @param javaRuleContext - current rule context
+         * @return raw arguments
+         */
+        @Override
+        protected Map<String, Object> buildContainerArguments(JavaRuleContext javaRuleContext) {
+            return javaRuleContext.getArguments();
+        }
+
+        /**
+         * Check that instance is not executed concurrently
+         *
+         * @param javaRuleContext    - java rule context
+         * @param containerArguments - argument container for current rule
+         * @return false if instance is executed concurrently
+         */
+        @Override
+        protected Boolean internalExecute(JavaRuleContext javaRuleContext, Map<String, Object> containerArguments) {
+            if (!executing.compareAndSet(false, true)) {
+                return false;
+            }
+            Thread.yield();
+            executing.set(false);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.sailpoint.improved.rule.runner;
+
+import com.sailpoint.annotation.RuleScope;
+import com.sailpoint.annotation.common.ExecutorScope;
+import org.junit.Test;
+import sailpoint.tools.GeneralException;
+import sailpoint.object.JavaRuleContext;
+import sailpoint.object.JavaRuleExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.sailpoint.improved.JUnit4Helper.assertThrows;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link RuleExecutorProvider} class
+ */
+public class RuleExecutorProviderTest {
+
+    /**
+     * Test of rule executor without scope
+     * Input:
+     * - rule executor without {@link RuleScope}
+     * Output:
+     * - singleton provider
+     * Expectation:
+     * - the same instance for each acquire, factory is not called
+     */
+    @Test
+    public void singletonScopeTest() throws Exception {
+        SingletonRule ruleExecutor = new SingletonRule();
+        RuleExecutorProvider<JavaRuleExecutor> provider = RuleExecutorProvider.of(ruleExecutor, () -> {
+            throw new IllegalStateException();
+        });
+
+        assertTrue("Provider is not singleton",
+                provider instanceof RuleExecutorProvider.SingletonRuleExecutorProvider);
+        assertSame("Instance is not shared", ruleExecutor, provider.acquire());
+        assertSame("Instance is not shared", ruleExecutor, provider.acquire());
+    }
+
+    /**
+     * Test of thread scope
+     * Input:
+     * - rule executor with {@link ExecutorScope#THREAD} scope
+     * Output:
+     * - thread provider
+     * Expectation:
+     * - the first instance is given to the first thread
+     * - the same instance for each acquire of thread
+     * - other thread gets new instance
+     */
+    @Test
+    public void threadScopeTest() throws Exception {
+        ThreadRule ruleExecutor = new ThreadRule();
+        RuleExecutorProvider<JavaRuleExecutor> provider = RuleExecutorProvider.of(ruleExecutor, ThreadRule::new);
+
+        assertSame("The first instance is not used", ruleExecutor, provider.acquire());
+        assertSame("Instance of thread is not match", ruleExecutor, provider.acquire());
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            JavaRuleExecutor otherRuleExecutor = executorService.submit(provider::acquire).get();
+            assertNotSame("Instance of other thread is shared", ruleExecutor, otherRuleExecutor);
+            assertSame("Instance of other thread is not match", otherRuleExecutor,
+                    executorService.submit(provider::acquire).get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Test of pooled scope
+     * Input:
+     * - rule executor with {@link ExecutorScope#POOLED} scope and pool size 2
+     * Output:
+     * - pooled provider
+     * Expectation:
+     * - 2 different instances are acquired
+     * - the third acquire waits for released instance
+     */
+    @Test
+    public void pooledScopeTest() throws Exception {
+        PooledRule.instanceCount = 0;
+        PooledRule ruleExecutor = new PooledRule();
+        RuleExecutorProvider<JavaRuleExecutor> provider = RuleExecutorProvider.of(ruleExecutor, PooledRule::new);
+
+        JavaRuleExecutor firstRuleExecutor = provider.acquire();
+        JavaRuleExecutor secondRuleExecutor = provider.acquire();
+        assertSame("The first instance is not used", ruleExecutor, firstRuleExecutor);
+        assertNotSame("Pooled instance is shared", firstRuleExecutor, secondRuleExecutor);
+
+        Future<JavaRuleExecutor> waitingAcquire = CompletableFuture.supplyAsync(() -> {
+            try {
+                return provider.acquire();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThrows(TimeoutException.class, () -> waitingAcquire.get(100, TimeUnit.MILLISECONDS));
+        assertFalse("Acquire does not wait for released instance", waitingAcquire.isDone());
+
+        provider.release(secondRuleExecutor);
+        assertSame("Released instance is not acquired", secondRuleExecutor,
+                waitingAcquire.get(1, TimeUnit.MINUTES));
+        assertEquals("Instances count is not match", 2, PooledRule.instanceCount);
+    }
+
+    /**
+     * Test of expired waiting for pooled instance
+     * Input:
+     * - pool size 1, pool timeout 100 ms
+     * - instance is not released
+     * Output:
+     * - General exception for the second acquire
+     * Expectation:
+     * - acquire does not wait forever
+     * - released instance is acquired again
+     */
+    @Test
+    public void pooledTimeoutTest() throws Exception {
+        PooledRule ruleExecutor = new PooledRule();
+        RuleExecutorProvider<JavaRuleExecutor> provider = new RuleExecutorProvider.PooledRuleExecutorProvider<>(
+                ruleExecutor, PooledRule::new, 1, TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertSame("The first instance is not used", ruleExecutor, provider.acquire());
+        assertThrows(GeneralException.class, provider::acquire);
+
+        provider.release(ruleExecutor);
+        assertSame("Released instance is not acquired", ruleExecutor, provider.acquire());
+    }
+
+    /**
+     * Test of invalid pool size
+     * Input:
+     * - pool size 0
+     * Output:
+     * - illegal argument exception
+     */
+    @Test
+    public void invalidPoolSizeTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RuleExecutorProvider.PooledRuleExecutorProvider<>(new PooledRule(), PooledRule::new, 0));
+    }
+
+    /**
+     * Test rule executor without scope
+     */
+    public static class SingletonRule implements JavaRuleExecutor {
+
+        /**
+         * Empty execution
+         *
+         * @param javaRuleContext - rule context
+         * @return null
+         */
+        @Override
+        public Object execute(JavaRuleContext javaRuleContext) {
+            return null;
+        }
+    }
+
+    /**
+     * Test rule executor with thread scope
+     */
+    @RuleScope(ExecutorScope.THREAD)
+    public static class ThreadRule extends SingletonRule {
+    }
+
+    /**
+     * Test rule executor with pooled scope. Counts created instances
+     */
+    @RuleScope(value = ExecutorScope.POOLED, poolSize = 2)
+    public static class PooledRule extends SingletonRule {
+
+        /**
+         * Count of created instances
+         */
+        private static int instanceCount;
+
+        /**
+         * Increment count of instances
+         */
+        public PooledRule() {
+            instanceCount++;
+        }
+    }
+}